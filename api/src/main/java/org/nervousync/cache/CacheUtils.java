@@ -21,13 +21,21 @@ import org.nervousync.cache.api.CacheManager;
 import org.nervousync.cache.commons.CacheGlobals;
 import org.nervousync.cache.config.CacheConfig;
 import org.nervousync.cache.exceptions.CacheException;
+import org.nervousync.commons.Globals;
 import org.nervousync.configs.ConfigureManager;
 import org.nervousync.utils.LoggerUtils;
 import org.nervousync.utils.ObjectUtils;
 import org.nervousync.utils.StringUtils;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <h2 class="en-US">Cache utilities instance</h2>
@@ -39,12 +47,26 @@ import java.util.ServiceLoader;
 public final class CacheUtils {
 
     private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(CacheUtils.class);
-    private static CacheUtils INSTANCE = null;
+    /**
+     * <span class="en-US">Singleton instance, the volatile field was read without lock after initialized</span>
+     * <span class="zh-CN">单例实例，初始化后无锁读取volatile字段</span>
+     */
+    private static volatile CacheUtils INSTANCE = null;
     /**
      * <span class="en-US">Cache manager instance</span>
      * <span class="zh-CN">缓存管理器实例</span>
      */
     private final CacheManager cacheManager;
+    /**
+     * <span class="en-US">Configure XML of the caches which were registered from configure manager, mapping by cache name</span>
+     * <span class="zh-CN">从配置信息管理器注册的缓存的配置XML与缓存名称的对应关系</span>
+     */
+    private final Map<String, String> watchedConfigs = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">Configure watcher executor, null if configure watching was disabled</span>
+     * <span class="zh-CN">配置监视执行器，如果未启用配置监视则为null</span>
+     */
+    private ScheduledExecutorService watchExecutor = null;
 
     /**
      * <h3 class="en-US">Constructor for cache utilities</h3>
@@ -65,7 +87,8 @@ public final class CacheUtils {
      * <span class="zh-CN">缓存工具类的单例实例</span>
      */
     public static CacheUtils getInstance() {
-        if (CacheUtils.INSTANCE == null) {
+        CacheUtils cacheUtils = CacheUtils.INSTANCE;
+        if (cacheUtils == null) {
             try {
                 CacheUtils.initialize();
             } catch (CacheException e) {
@@ -73,18 +96,19 @@ public final class CacheUtils {
                     LOGGER.debug("Stack_Message_Error", e);
                 }
             }
+            cacheUtils = CacheUtils.INSTANCE;
         }
-        return CacheUtils.INSTANCE;
+        return cacheUtils;
     }
 
     /**
-     * <h3 class="en-US">Initialize cache utilities instance</h3>
-     * <h3 class="zh-CN">初始化缓存工具类</h3>
+     * <h3 class="en-US">Initialize cache utilities instance, the instance was created once by concurrent callers</h3>
+     * <h3 class="zh-CN">初始化缓存工具类，并发调用时实例只创建一次</h3>
      *
      * @throws CacheException <span class="en-US">Not found cache manager implements class</span>
      *                        <span class="zh-CN">未找到缓存管理器的实现类</span>
      */
-    public static void initialize() throws CacheException {
+    public static synchronized void initialize() throws CacheException {
         if (CacheUtils.INSTANCE == null) {
             CacheUtils.INSTANCE = new CacheUtils(ServiceLoader.load(CacheManager.class)
                     .findFirst()
@@ -112,10 +136,119 @@ public final class CacheUtils {
         }
         return Optional.ofNullable(ConfigureManager.getInstance())
                 .map(configureManager -> configureManager.readConfigure(CacheConfig.class, cacheName))
-                .map(cacheConfig -> this.cacheManager.register(cacheName, cacheConfig))
+                .map(cacheConfig -> {
+                    if (!this.cacheManager.register(cacheName, cacheConfig)) {
+                        return Boolean.FALSE;
+                    }
+                    this.watchedConfigs.put(cacheName, cacheConfig.toXML(Boolean.FALSE));
+                    return Boolean.TRUE;
+                })
                 .orElse(Boolean.FALSE);
     }
 
+    /**
+     * <h3 class="en-US">Register the caches with the specified cache identification codes in parallel</h3>
+     * <span class="en-US">
+     *     Read the corresponding cache configuration information from the configuration information manager,
+     *     the caches were connected in parallel, so the startup waits for the slowest connection only.
+     * </span>
+     * <h3 class="zh-CN">使用指定的缓存识别代码并行注册缓存</h3>
+     * <span class="zh-CN">从配置信息管理器中读取相应的缓存配置信息，缓存并行连接，因此启动时仅等待最慢的连接。</span>
+     *
+     * @param cacheNames <span class="en-US">Cache identify names</span>
+     *                   <span class="zh-CN">缓存识别名称</span>
+     * @return <span class="en-US">Register result mapping by cache identify name, Boolean.FALSE if configure not found</span>
+     * <span class="zh-CN">注册结果与缓存识别名称的对应关系，如果未找到配置信息则为Boolean.FALSE</span>
+     */
+    public Map<String, Boolean> register(final Collection<String> cacheNames) {
+        ConfigureManager configureManager = ConfigureManager.getInstance();
+        Map<String, CacheConfig> cacheConfigs = new LinkedHashMap<>();
+        Map<String, Boolean> registerResults = new LinkedHashMap<>();
+        cacheNames.stream()
+                .filter(StringUtils::notBlank)
+                .forEach(cacheName ->
+                        Optional.ofNullable(configureManager)
+                                .map(manager -> manager.readConfigure(CacheConfig.class, cacheName))
+                                .ifPresentOrElse(cacheConfig -> cacheConfigs.put(cacheName, cacheConfig),
+                                        () -> registerResults.put(cacheName, Boolean.FALSE)));
+        this.cacheManager.register(cacheConfigs).forEach((cacheName, registerResult) -> {
+            if (registerResult) {
+                this.watchedConfigs.put(cacheName, cacheConfigs.get(cacheName).toXML(Boolean.FALSE));
+            }
+            registerResults.put(cacheName, registerResult);
+        });
+        return registerResults;
+    }
+
+    /**
+     * <h3 class="en-US">Watch the configures of the caches which were registered from configure manager</h3>
+     * <span class="en-US">
+     *     Configures were read from configure manager every given interval, if the configure of cache was changed, the
+     *     cache was registered again in the watcher thread. The new client was created and connected before it was
+     *     swapped into the registered client instance, the old client serves the calls until the swap, and it was
+     *     destroyed after the calls in flight on it were ended.
+     * </span>
+     * <h3 class="zh-CN">监视从配置信息管理器注册的缓存的配置信息</h3>
+     * <span class="zh-CN">
+     *     按给定的间隔从配置信息管理器读取配置信息，如果缓存的配置信息发生变化，则在监视线程中重新注册缓存。
+     *     新的客户端在替换已注册的客户端实例之前完成创建和连接，旧的客户端在替换前继续处理调用，并在其上正在进行的调用结束后销毁。
+     * </span>
+     *
+     * @param interval <span class="en-US">Watch interval, unit: second, zero or negative value for stop watching</span>
+     *                 <span class="zh-CN">监视间隔，单位：秒，0或负数表示停止监视</span>
+     */
+    public synchronized void watch(final int interval) {
+        if (this.watchExecutor != null) {
+            this.watchExecutor.shutdownNow();
+            this.watchExecutor = null;
+        }
+        if (interval > 0) {
+            this.watchExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Cache-Config-Watcher");
+                thread.setDaemon(Boolean.TRUE);
+                return thread;
+            });
+            this.watchExecutor.scheduleWithFixedDelay(this::reload, interval, interval, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Register the caches again which configure was changed in configure manager</h3>
+     * <span class="en-US">
+     *     If register the changed configure failed, the old client was kept and the configure was checked again in next
+     *     watch interval.
+     * </span>
+     * <h3 class="zh-CN">重新注册配置信息管理器中配置信息已变化的缓存</h3>
+     * <span class="zh-CN">如果使用变化后的配置信息注册失败，则保留旧的客户端，并在下一个监视间隔再次检查配置信息。</span>
+     */
+    public void reload() {
+        ConfigureManager configureManager = ConfigureManager.getInstance();
+        if (configureManager == null) {
+            return;
+        }
+        this.watchedConfigs.forEach((cacheName, configXml) -> {
+            //  Lazy connect cache which was still connecting was reloaded too, only deregistered cache was skipped
+            if (this.cacheManager.client(cacheName) == null) {
+                return;
+            }
+            CacheConfig cacheConfig = configureManager.readConfigure(CacheConfig.class, cacheName);
+            if (cacheConfig == null) {
+                //  Removed configure was ignored, the cache was removed by deregister only
+                return;
+            }
+            String currentXml = cacheConfig.toXML(Boolean.FALSE);
+            if (ObjectUtils.nullSafeEquals(configXml, currentXml)) {
+                return;
+            }
+            LOGGER.info("Reload_Cache_Config", cacheName);
+            if (this.cacheManager.register(cacheName, cacheConfig)) {
+                this.watchedConfigs.replace(cacheName, configXml, currentXml);
+            } else {
+                LOGGER.error("Reload_Cache_Config_Error", cacheName);
+            }
+        });
+    }
+
     /**
      * <h3 class="en-US">Register cache</h3>
      * <h3 class="zh-CN">注册缓存</h3>
@@ -134,15 +267,44 @@ public final class CacheUtils {
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Register_Cache_Debug", cacheName, cacheConfig);
         }
+        //  Given configure was not watched, so it would not be overridden by the configure in configure manager
+        this.watchedConfigs.remove(cacheName);
         return this.cacheManager.register(cacheName, cacheConfig);
     }
 
     /**
-     * <h3 class="en-US">Check given cache name was registered</h3>
-     * <h3 class="zh-CN">使用指定的缓存名称、配置信息注册缓存</h3>
+     * <h3 class="en-US">Register caches in parallel</h3>
+     * <h3 class="zh-CN">并行注册缓存</h3>
+     *
+     * @param cacheConfigs <span class="en-US">Cache configure information mapping by cache identify name</span>
+     *                     <span class="zh-CN">缓存配置信息与缓存识别名称的对应关系</span>
+     * @return <span class="en-US">Register result mapping by cache identify name</span>
+     * <span class="zh-CN">注册结果与缓存识别名称的对应关系</span>
+     */
+    public Map<String, Boolean> register(final Map<String, CacheConfig> cacheConfigs) {
+        Map<String, CacheConfig> registerConfigs = new LinkedHashMap<>();
+        Map<String, Boolean> registerResults = new LinkedHashMap<>();
+        cacheConfigs.forEach((cacheName, cacheConfig) -> {
+            if (StringUtils.isEmpty(cacheName)
+                    || ObjectUtils.nullSafeEquals(CacheGlobals.DEFAULT_CACHE_NAME, cacheName)) {
+                registerResults.put(cacheName, Boolean.FALSE);
+            } else {
+                this.watchedConfigs.remove(cacheName);
+                registerConfigs.put(cacheName, cacheConfig);
+            }
+        });
+        registerResults.putAll(this.cacheManager.register(registerConfigs));
+        return registerResults;
+    }
+
+    /**
+     * <h3 class="en-US">Check given cache name was registered and connected</h3>
+     * <h3 class="zh-CN">检查给定的缓存名称是否已注册并连接</h3>
      *
      * @param cacheName <span class="en-US">Cache identify name</span>
      *                  <span class="zh-CN">缓存识别名称</span>
+     * @return <span class="en-US">Boolean.FALSE if the cache was not registered or the lazy connect cache was not connected</span>
+     * <span class="zh-CN">如果缓存未注册或延迟连接的缓存未连接则返回Boolean.FALSE</span>
      */
     public boolean registered(final String cacheName) {
         if (LOGGER.isDebugEnabled()) {
@@ -157,8 +319,8 @@ public final class CacheUtils {
      *
      * @param cacheName <span class="en-US">Cache identify name</span>
      *                  <span class="zh-CN">缓存识别名称</span>
-     * @return <span class="en-US">CacheClient instance or null if given cache name not registered</span>
-     * <span class="zh-CN">缓存客户端实例，如果给定的缓存识别名称未找到，则返回null</span>
+     * @return <span class="en-US">CacheClient instance or null if given cache name not registered, the instance stays valid when the cache was registered again, so it can be cached by callers</span>
+     * <span class="zh-CN">缓存客户端实例，如果给定的缓存识别名称未找到，则返回null，缓存重新注册时实例仍然有效，因此调用方可以缓存该实例</span>
      */
     public CacheClient client(final String cacheName) {
         return this.cacheManager.client(cacheName);
@@ -172,18 +334,20 @@ public final class CacheUtils {
      *                  <span class="zh-CN">缓存识别名称</span>
      */
     public static void deregister(final String cacheName) {
-        if (CacheUtils.INSTANCE == null) {
-            return;
-        }
-        INSTANCE.cacheManager.deregister(cacheName);
+        Optional.ofNullable(CacheUtils.INSTANCE)
+                .ifPresent(cacheUtils -> {
+                    cacheUtils.watchedConfigs.remove(cacheName);
+                    cacheUtils.cacheManager.deregister(cacheName);
+                });
     }
 
     /**
      * <h3 class="en-US">Destroy singleton instance</h3>
      * <h3 class="zh-CN">取消注册缓存</h3>
      */
-    public static void destroy() {
+    public static synchronized void destroy() {
         if (CacheUtils.INSTANCE != null) {
+            CacheUtils.INSTANCE.watch(Globals.INITIALIZE_INT_VALUE);
             CacheUtils.INSTANCE.cacheManager.destroy();
             CacheUtils.INSTANCE = null;
         }
@@ -16,6 +16,17 @@
  */
 package org.nervousync.cache.api;
 
+import org.nervousync.cache.commons.CacheGlobals;
+import org.nervousync.cache.stats.CacheStatistics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
 /**
  * <h2 class="en-US">Cache client interface</h2>
  * <h2 class="zh-CN">缓存客户端接口</h2>
@@ -30,6 +41,11 @@ public interface CacheClient {
 	 * <span class="zh-CN">默认缓存有效时间</span>
 	 */
 	int DEFAULT_EXPIRE_TIME = -1;
+	/**
+	 * <span class="en-US">Expire time of the key which never expires</span>
+	 * <span class="zh-CN">永不过期的缓存有效时间</span>
+	 */
+	int NEVER_EXPIRE_TIME = 0;
 
 	/**
 	 * <h3 class="en-US">Set key-value to cache server, using default expire time</h3>
@@ -52,10 +68,27 @@ public interface CacheClient {
 	 *                  <span class="zh-CN">缓存键值</span>
 	 * @param value		<span class="en-US">Cache value</span>
 	 *                  <span class="zh-CN">缓存数据</span>
+	 * @param expire	<span class="en-US">Expire time, NEVER_EXPIRE_TIME for never expire</span>
+	 *                  <span class="zh-CN">过期时间，NEVER_EXPIRE_TIME为永不过期</span>
+	 */
+	void set(final String key, final String value, final int expire);
+
+	/**
+	 * <h3 class="en-US">Set key-value to cache server, set expire time and add the key to given tags</h3>
+	 * <span class="en-US">Tag membership was tracked by cache server, all keys of tag can be removed by invalidateTag</span>
+	 * <h3 class="zh-CN">使用指定的过期时间设置缓存信息，并将键添加到给定的标签</h3>
+	 * <span class="zh-CN">标签成员关系由缓存服务器维护，可以通过invalidateTag移除标签的所有键</span>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param value		<span class="en-US">Cache value</span>
+	 *                  <span class="zh-CN">缓存数据</span>
 	 * @param expire	<span class="en-US">Expire time</span>
 	 *                  <span class="zh-CN">过期时间</span>
+	 * @param tags		<span class="en-US">Tag array</span>
+	 *                  <span class="zh-CN">标签数组</span>
 	 */
-	void set(final String key, final String value, final int expire);
+	void set(final String key, final String value, final int expire, final String... tags);
 
 	/**
 	 * <h3 class="en-US">Add a new key-value to cache server, using default expire time</h3>
@@ -65,9 +98,11 @@ public interface CacheClient {
 	 *                  <span class="zh-CN">缓存键值</span>
 	 * @param value		<span class="en-US">Cache value</span>
 	 *                  <span class="zh-CN">缓存数据</span>
+	 * @return <span class="en-US">Boolean.TRUE if the key was not exists and the value was added</span>
+	 * <span class="zh-CN">键不存在且数据添加成功时返回Boolean.TRUE</span>
 	 */
-	default void add(final String key, final String value) {
-		this.add(key, value, DEFAULT_EXPIRE_TIME);
+	default boolean add(final String key, final String value) {
+		return this.add(key, value, DEFAULT_EXPIRE_TIME);
 	}
 
 	/**
@@ -78,10 +113,12 @@ public interface CacheClient {
 	 *                  <span class="zh-CN">缓存键值</span>
 	 * @param value		<span class="en-US">Cache value</span>
 	 *                  <span class="zh-CN">缓存数据</span>
-	 * @param expire	<span class="en-US">Expire time</span>
-	 *                  <span class="zh-CN">过期时间</span>
+	 * @param expire	<span class="en-US">Expire time, NEVER_EXPIRE_TIME for never expire</span>
+	 *                  <span class="zh-CN">过期时间，NEVER_EXPIRE_TIME为永不过期</span>
+	 * @return <span class="en-US">Boolean.TRUE if the key was not exists and the value was added</span>
+	 * <span class="zh-CN">键不存在且数据添加成功时返回Boolean.TRUE</span>
 	 */
-	void add(final String key, final String value, final int expire);
+	boolean add(final String key, final String value, final int expire);
 
 	/**
 	 * <h3 class="en-US">Replace exists value of given key by given value, using default expire time</h3>
@@ -91,9 +128,11 @@ public interface CacheClient {
 	 *                  <span class="zh-CN">缓存键值</span>
 	 * @param value		<span class="en-US">Cache value</span>
 	 *                  <span class="zh-CN">缓存数据</span>
+	 * @return <span class="en-US">Boolean.TRUE if the key was exists and the value was replaced</span>
+	 * <span class="zh-CN">键存在且数据替换成功时返回Boolean.TRUE</span>
 	 */
-	default void replace(final String key, final String value) {
-		this.replace(key, value, DEFAULT_EXPIRE_TIME);
+	default boolean replace(final String key, final String value) {
+		return this.replace(key, value, DEFAULT_EXPIRE_TIME);
 	}
 
 	/**
@@ -104,10 +143,12 @@ public interface CacheClient {
 	 *                  <span class="zh-CN">缓存键值</span>
 	 * @param value		<span class="en-US">Cache value</span>
 	 *                  <span class="zh-CN">缓存数据</span>
-	 * @param expire	<span class="en-US">Expire time</span>
-	 *                  <span class="zh-CN">过期时间</span>
+	 * @param expire	<span class="en-US">Expire time, NEVER_EXPIRE_TIME for never expire</span>
+	 *                  <span class="zh-CN">过期时间，NEVER_EXPIRE_TIME为永不过期</span>
+	 * @return <span class="en-US">Boolean.TRUE if the key was exists and the value was replaced</span>
+	 * <span class="zh-CN">键存在且数据替换成功时返回Boolean.TRUE</span>
 	 */
-	void replace(final String key, final String value, final int expire);
+	boolean replace(final String key, final String value, final int expire);
 
 	/**
 	 * <h3 class="en-US">Set expire time to new given expire value which cache key was given</h3>
@@ -138,6 +179,90 @@ public interface CacheClient {
 	 */
 	void delete(final String key);
 
+	/**
+	 * <h3 class="en-US">Remove given cache keys from cache server in one pipelined batch</h3>
+	 * <h3 class="zh-CN">在一个管道批次中从缓存服务器移除给定的缓存键值</h3>
+	 *
+	 * @param keys      <span class="en-US">Cache keys</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @return <span class="en-US">Count of removed keys</span>
+	 * <span class="zh-CN">已移除的键数量</span>
+	 */
+	long deleteAll(final Collection<String> keys);
+
+	/**
+	 * <h3 class="en-US">Remove cache keys which match given pattern from cache server</h3>
+	 * <span class="en-US">Keys were read by scan and removed batch by batch, never blocks the server by KEYS</span>
+	 * <h3 class="zh-CN">从缓存服务器移除匹配给定模式的缓存键值</h3>
+	 * <span class="zh-CN">通过扫描读取键并分批移除，不使用会阻塞服务器的KEYS命令</span>
+	 *
+	 * @param pattern   <span class="en-US">Glob style pattern</span>
+	 *                  <span class="zh-CN">Glob风格的匹配模式</span>
+	 * @return <span class="en-US">Count of removed keys</span>
+	 * <span class="zh-CN">已移除的键数量</span>
+	 */
+	default long deleteByPattern(final String pattern) {
+		if (pattern == null || pattern.isEmpty()) {
+			return 0L;
+		}
+		long count = 0L;
+		List<String> deleteKeys = new ArrayList<>(CacheGlobals.DELETE_BATCH_SIZE);
+		Iterator<String> iterator = this.scan(pattern, CacheGlobals.DELETE_BATCH_SIZE).iterator();
+		while (iterator.hasNext()) {
+			deleteKeys.add(iterator.next());
+			if (deleteKeys.size() >= CacheGlobals.DELETE_BATCH_SIZE) {
+				count += this.deleteAll(deleteKeys);
+				deleteKeys.clear();
+			}
+		}
+		if (!deleteKeys.isEmpty()) {
+			count += this.deleteAll(deleteKeys);
+		}
+		return count;
+	}
+
+	/**
+	 * <h3 class="en-US">Remove all cache keys of given tag from cache server in one batch</h3>
+	 * <h3 class="zh-CN">在一个批次中从缓存服务器移除给定标签的所有缓存键值</h3>
+	 *
+	 * @param tag       <span class="en-US">Tag</span>
+	 *                  <span class="zh-CN">标签</span>
+	 */
+	void invalidateTag(final String tag);
+
+	/**
+	 * <h3 class="en-US">Scan cache keys which match given pattern, using default batch size</h3>
+	 * <h3 class="zh-CN">使用默认的批次大小扫描匹配给定模式的缓存键值</h3>
+	 *
+	 * @param pattern   <span class="en-US">Glob style pattern</span>
+	 *                  <span class="zh-CN">Glob风格的匹配模式</span>
+	 * @return <span class="en-US">Lazy key stream</span>
+	 * <span class="zh-CN">延迟加载的键值流</span>
+	 */
+	default Stream<String> scan(final String pattern) {
+		return this.scan(pattern, CacheGlobals.DEFAULT_SCAN_BATCH_SIZE);
+	}
+
+	/**
+	 * <h3 class="en-US">Scan cache keys which match given pattern</h3>
+	 * <span class="en-US">
+	 *     Keys were read by SCAN cursor page by page when the stream was consumed, all master nodes were scanned
+	 *     in cluster mode. Same key may be returned more than once.
+	 * </span>
+	 * <h3 class="zh-CN">扫描匹配给定模式的缓存键值</h3>
+	 * <span class="zh-CN">
+	 *     在消费流时使用SCAN游标逐页读取键，集群模式下扫描所有主节点。同一个键可能被返回多次。
+	 * </span>
+	 *
+	 * @param pattern   <span class="en-US">Glob style pattern</span>
+	 *                  <span class="zh-CN">Glob风格的匹配模式</span>
+	 * @param batchSize <span class="en-US">Count hint of keys returned by each SCAN command</span>
+	 *                  <span class="zh-CN">每次SCAN命令返回键数量的提示值</span>
+	 * @return <span class="en-US">Lazy key stream</span>
+	 * <span class="zh-CN">延迟加载的键值流</span>
+	 */
+	Stream<String> scan(final String pattern, final int batchSize);
+
 	/**
 	 * <h3 class="en-US">Read cache value from cache key which cache key was given</h3>
 	 * <h3 class="zh-CN">读取指定缓存键值对应的缓存数据</h3>
@@ -149,6 +274,269 @@ public interface CacheClient {
 	 */
 	String get(final String key);
 
+	/**
+	 * <h3 class="en-US">Read cache value and reset expire time of the key in one round trip, using default expire time</h3>
+	 * <h3 class="zh-CN">在一次往返中读取缓存数据并重置键的过期时间，使用默认的过期时间</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @return  <span class="en-US">Cache value or null if cache key was not exists or it was expired</span>
+	 *          <span class="zh-CN">读取的缓存数据，如果缓存键值不存在或已过期，则返回null</span>
+	 */
+	default String getAndTouch(final String key) {
+		return this.getAndTouch(key, DEFAULT_EXPIRE_TIME);
+	}
+
+	/**
+	 * <h3 class="en-US">Read cache value and reset expire time of the key in one round trip</h3>
+	 * <h3 class="zh-CN">在一次往返中读取缓存数据并重置键的过期时间</h3>
+	 * <span class="en-US">Expire time was not reset if no expire time was given or configured, same as get</span>
+	 * <span class="zh-CN">如果未指定或配置过期时间，则不重置过期时间，与get相同</span>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param expire	<span class="en-US">New expire time</span>
+	 *                  <span class="zh-CN">新的过期时间</span>
+	 * @return  <span class="en-US">Cache value or null if cache key was not exists or it was expired</span>
+	 *          <span class="zh-CN">读取的缓存数据，如果缓存键值不存在或已过期，则返回null</span>
+	 */
+	String getAndTouch(final String key, final int expire);
+
+	/**
+	 * <h3 class="en-US">Read cache value, load and fill the value by given loader if missing, using default expire time</h3>
+	 * <h3 class="zh-CN">读取缓存数据，如果缺失则使用给定的加载器加载并填充数据，使用默认的过期时间</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param loader	<span class="en-US">Value loader</span>
+	 *                  <span class="zh-CN">数据加载器</span>
+	 * @return  <span class="en-US">Cache value or loaded value, null if the loader returns null</span>
+	 *          <span class="zh-CN">缓存数据或加载的数据，如果加载器返回null则返回null</span>
+	 */
+	default String get(final String key, final Supplier<String> loader) {
+		return this.get(key, DEFAULT_EXPIRE_TIME, loader);
+	}
+
+	/**
+	 * <h3 class="en-US">Read cache value, load and fill the value by given loader if missing</h3>
+	 * <span class="en-US">
+	 *     Concurrent loads of same key in current JVM share one loader call. If fill lease was configured, only the
+	 *     client which acquired the lease calls the loader, clients of other JVM wait for the value filled.
+	 * </span>
+	 * <h3 class="zh-CN">读取缓存数据，如果缺失则使用给定的加载器加载并填充数据</h3>
+	 * <span class="zh-CN">
+	 *     当前JVM中对同一个键的并发加载共享一次加载器调用。如果配置了填充租约，只有获得租约的客户端调用加载器，其他JVM的客户端等待数据被填充。
+	 * </span>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param expire	<span class="en-US">Expire time of loaded value</span>
+	 *                  <span class="zh-CN">加载数据的过期时间</span>
+	 * @param loader	<span class="en-US">Value loader</span>
+	 *                  <span class="zh-CN">数据加载器</span>
+	 * @return  <span class="en-US">Cache value or loaded value, null if the loader returns null</span>
+	 *          <span class="zh-CN">缓存数据或加载的数据，如果加载器返回null则返回null</span>
+	 */
+	String get(final String key, final int expire, final Supplier<String> loader);
+
+	/**
+	 * <h3 class="en-US">Read cache value and its version from cache key which cache key was given</h3>
+	 * <h3 class="zh-CN">读取指定缓存键值对应的缓存数据及其版本</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @return  <span class="en-US">Versioned value or null if cache key was not exists or it was expired</span>
+	 *          <span class="zh-CN">带版本的缓存数据，如果缓存键值不存在或已过期，则返回null</span>
+	 */
+	VersionedValue getWithVersion(final String key);
+
+	/**
+	 * <h3 class="en-US">Set key-value only if the value was not changed since given version was read, using default expire time</h3>
+	 * <h3 class="zh-CN">仅当读取给定版本后数据未被修改时设置缓存信息，使用默认的过期时间</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param version	<span class="en-US">Version read by getWithVersion, null for set only if cache key was not exists</span>
+	 *                  <span class="zh-CN">通过getWithVersion读取的版本，null为仅当缓存键值不存在时设置</span>
+	 * @param value		<span class="en-US">Cache value</span>
+	 *                  <span class="zh-CN">缓存数据</span>
+	 * @return  <span class="en-US">Boolean.TRUE if the value was set, Boolean.FALSE if the value was changed by others</span>
+	 *          <span class="zh-CN">数据设置成功返回Boolean.TRUE，数据已被其他客户端修改返回Boolean.FALSE</span>
+	 */
+	default boolean compareAndSet(final String key, final String version, final String value) {
+		return this.compareAndSet(key, version, value, DEFAULT_EXPIRE_TIME);
+	}
+
+	/**
+	 * <h3 class="en-US">Set key-value only if the value was not changed since given version was read</h3>
+	 * <span class="en-US">
+	 *     Compare and set was executed atomically by cache server, CAS command of memcached or script of Redis, so
+	 *     concurrent read-modify-write of same key never loses updates without distributed lock. Caller should read
+	 *     the value again and retry if Boolean.FALSE returned.
+	 * </span>
+	 * <h3 class="zh-CN">仅当读取给定版本后数据未被修改时设置缓存信息</h3>
+	 * <span class="zh-CN">
+	 *     比较并设置由缓存服务器原子执行，Memcached使用CAS命令，Redis使用脚本，因此无需分布式锁，对同一个键的并发读取-修改-写入不会丢失更新。
+	 *     如果返回Boolean.FALSE，调用者应重新读取数据并重试。
+	 * </span>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param version	<span class="en-US">Version read by getWithVersion, null for set only if cache key was not exists</span>
+	 *                  <span class="zh-CN">通过getWithVersion读取的版本，null为仅当缓存键值不存在时设置</span>
+	 * @param value		<span class="en-US">Cache value</span>
+	 *                  <span class="zh-CN">缓存数据</span>
+	 * @param expire	<span class="en-US">Expire time</span>
+	 *                  <span class="zh-CN">过期时间</span>
+	 * @return  <span class="en-US">Boolean.TRUE if the value was set, Boolean.FALSE if the value was changed by others</span>
+	 *          <span class="zh-CN">数据设置成功返回Boolean.TRUE，数据已被其他客户端修改返回Boolean.FALSE</span>
+	 */
+	boolean compareAndSet(final String key, final String version, final String value, final int expire);
+
+	/**
+	 * <h3 class="en-US">Set value of given field in hash of given cache key, using default expire time</h3>
+	 * <h3 class="zh-CN">设置给定缓存键值对应哈希中给定字段的数据，使用默认的过期时间</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param field		<span class="en-US">Field name</span>
+	 *                  <span class="zh-CN">字段名称</span>
+	 * @param value		<span class="en-US">Field value</span>
+	 *                  <span class="zh-CN">字段数据</span>
+	 */
+	default void setField(final String key, final String field, final String value) {
+		this.setField(key, field, value, DEFAULT_EXPIRE_TIME);
+	}
+
+	/**
+	 * <h3 class="en-US">Set value of given field in hash of given cache key and set expire time of the hash</h3>
+	 * <span class="en-US">
+	 *     Only the given field was sent to cache server, other fields of the hash were not changed. Expire time was
+	 *     applied to the whole hash, not to the field.
+	 *     Memcached has no hash type, the field was not written and a warning was logged.
+	 * </span>
+	 * <h3 class="zh-CN">设置给定缓存键值对应哈希中给定字段的数据，并设置哈希的过期时间</h3>
+	 * <span class="zh-CN">
+	 *     只有给定的字段被发送到缓存服务器，哈希的其他字段不会被修改。过期时间作用于整个哈希，而不是字段。
+	 *     Memcached没有哈希类型，字段不会被写入并记录警告日志。
+	 * </span>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param field		<span class="en-US">Field name</span>
+	 *                  <span class="zh-CN">字段名称</span>
+	 * @param value		<span class="en-US">Field value</span>
+	 *                  <span class="zh-CN">字段数据</span>
+	 * @param expire	<span class="en-US">Expire time of the hash</span>
+	 *                  <span class="zh-CN">哈希的过期时间</span>
+	 */
+	void setField(final String key, final String field, final String value, final int expire);
+
+	/**
+	 * <h3 class="en-US">Read value of given field in hash of given cache key</h3>
+	 * <span class="en-US">Memcached has no hash type, null was returned and a warning was logged.</span>
+	 * <h3 class="zh-CN">读取给定缓存键值对应哈希中给定字段的数据</h3>
+	 * <span class="zh-CN">Memcached没有哈希类型，返回null并记录警告日志。</span>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param field		<span class="en-US">Field name</span>
+	 *                  <span class="zh-CN">字段名称</span>
+	 * @return  <span class="en-US">Field value or null if the hash or field was not exists</span>
+	 *          <span class="zh-CN">字段数据，如果哈希或字段不存在，则返回null</span>
+	 */
+	String getField(final String key, final String field);
+
+	/**
+	 * <h3 class="en-US">Read values of given fields in hash of given cache key</h3>
+	 * <span class="en-US">Memcached has no hash type, empty mapping was returned and a warning was logged.</span>
+	 * <h3 class="zh-CN">读取给定缓存键值对应哈希中给定字段的数据</h3>
+	 * <span class="zh-CN">Memcached没有哈希类型，返回空映射并记录警告日志。</span>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param fields	<span class="en-US">Field names</span>
+	 *                  <span class="zh-CN">字段名称</span>
+	 * @return  <span class="en-US">Field values mapping, missing fields were not contained</span>
+	 *          <span class="zh-CN">字段数据映射，不包含不存在的字段</span>
+	 */
+	Map<String, String> getFields(final String key, final String... fields);
+
+	/**
+	 * <h3 class="en-US">Read all fields in hash of given cache key</h3>
+	 * <span class="en-US">Memcached has no hash type, empty mapping was returned and a warning was logged.</span>
+	 * <h3 class="zh-CN">读取给定缓存键值对应哈希中的所有字段</h3>
+	 * <span class="zh-CN">Memcached没有哈希类型，返回空映射并记录警告日志。</span>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @return  <span class="en-US">Field values mapping, empty if the hash was not exists</span>
+	 *          <span class="zh-CN">字段数据映射，如果哈希不存在，则返回空映射</span>
+	 */
+	Map<String, String> getAllFields(final String key);
+
+	/**
+	 * <h3 class="en-US">Increment given field in hash of given cache key, expire time of the hash was not changed</h3>
+	 * <span class="en-US">
+	 *     Memcached has no hash type, the field was not changed, Globals.DEFAULT_VALUE_LONG (-1) was returned and a
+	 *     warning was logged.
+	 * </span>
+	 * <h3 class="zh-CN">对给定缓存键值对应哈希中的给定字段执行自增操作，不修改哈希的过期时间</h3>
+	 * <span class="zh-CN">
+	 *     Memcached没有哈希类型，字段不会被修改，返回Globals.DEFAULT_VALUE_LONG（-1）并记录警告日志。
+	 * </span>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param field		<span class="en-US">Field name</span>
+	 *                  <span class="zh-CN">字段名称</span>
+	 * @param step      <span class="en-US">Increment step value</span>
+	 *                  <span class="zh-CN">自增步进值</span>
+	 * @return  <span class="en-US">Operate result</span>
+	 *          <span class="zh-CN">操作结果</span>
+	 */
+	long incrField(final String key, final String field, final long step);
+
+	/**
+	 * <h3 class="en-US">Register Lua script by given name, replace the registered script which has the same name</h3>
+	 * <span class="en-US">
+	 *     Built-in scripts were registered by names defined in CacheGlobals, such as SCRIPT_INCR_WITH_EXPIRE and
+	 *     SCRIPT_SET_IF_GREATER.
+	 * </span>
+	 * <h3 class="zh-CN">使用给定的名称注册Lua脚本，替换同名的已注册脚本</h3>
+	 * <span class="zh-CN">
+	 *     内置脚本使用CacheGlobals中定义的名称注册，例如SCRIPT_INCR_WITH_EXPIRE和SCRIPT_SET_IF_GREATER。
+	 * </span>
+	 *
+	 * @param name      <span class="en-US">Script name</span>
+	 *                  <span class="zh-CN">脚本名称</span>
+	 * @param script	<span class="en-US">Lua script body</span>
+	 *                  <span class="zh-CN">Lua脚本内容</span>
+	 */
+	void registerScript(final String name, final String script);
+
+	/**
+	 * <h3 class="en-US">Execute registered script in one round trip</h3>
+	 * <span class="en-US">
+	 *     Script was sent by EVALSHA of its cached SHA1 digest, and loaded by EVAL automatically if the server
+	 *     replies NOSCRIPT. All keys must be located in the same slot in cluster mode.
+	 * </span>
+	 * <h3 class="zh-CN">在一次网络往返中执行已注册的脚本</h3>
+	 * <span class="zh-CN">
+	 *     脚本使用缓存的SHA1摘要通过EVALSHA发送，如果服务器返回NOSCRIPT则自动使用EVAL加载。集群模式下所有键必须位于同一个槽中。
+	 * </span>
+	 *
+	 * @param scriptName    <span class="en-US">Registered script name</span>
+	 *                      <span class="zh-CN">已注册的脚本名称</span>
+	 * @param keys          <span class="en-US">KEYS of script</span>
+	 *                      <span class="zh-CN">脚本的KEYS</span>
+	 * @param arguments     <span class="en-US">ARGV of script</span>
+	 *                      <span class="zh-CN">脚本的ARGV</span>
+	 * @return  <span class="en-US">Script result, null, Long, String or List of them, null if the script was not registered</span>
+	 *          <span class="zh-CN">脚本结果，null、Long、String或由它们组成的List，如果脚本未注册则返回null</span>
+	 */
+	Object eval(final String scriptName, final List<String> keys, final List<String> arguments);
+
 	/**
 	 * <h3 class="en-US">Increment data by given cache key and value</h3>
 	 * <h3 class="zh-CN">对给定的缓存键值执行自增操作，增加值为给定的步进值</h3>
@@ -175,6 +563,53 @@ public interface CacheClient {
 	 */
 	long decr(final String key, final long step);
 
+	/**
+	 * <h3 class="en-US">Retrieve counter of given cache key</h3>
+	 * <span class="en-US">
+	 *     If counter buffering was configured, deltas were accumulated in local and flushed as batched increments,
+	 *     trading freshness of the value in cache server for far fewer round trips.
+	 * </span>
+	 * <h3 class="zh-CN">读取给定缓存键值的计数器</h3>
+	 * <span class="zh-CN">
+	 *     如果配置了计数器缓冲，增量在本地累积并以批量自增的方式刷新，以缓存服务器中数据的实时性换取更少的网络往返。
+	 * </span>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @return  <span class="en-US">Cache counter instance</span>
+	 *          <span class="zh-CN">缓存计数器实例</span>
+	 */
+	CacheCounter counter(final String key);
+
+	/**
+	 * <h3 class="en-US">Retrieve statistics snapshot of current cache client</h3>
+	 * <h3 class="zh-CN">读取当前缓存客户端的统计信息快照</h3>
+	 *
+	 * @return  <span class="en-US">Cache statistics instance</span>
+	 *          <span class="zh-CN">缓存统计信息实例</span>
+	 */
+	CacheStatistics statistics();
+
+	/**
+	 * <h3 class="en-US">Retrieve namespace client by given namespace</h3>
+	 * <span class="en-US">
+	 *     Keys of namespace client were prefixed with namespace and its generation number which stored in the cache,
+	 *     all keys of the namespace were invalidated by increase the generation number.
+	 *     Namespace client also could create nested namespace, which was invalidated with its parent namespace.
+	 * </span>
+	 * <h3 class="zh-CN">根据给定的命名空间读取命名空间客户端</h3>
+	 * <span class="zh-CN">
+	 *     命名空间客户端的键以命名空间及其存储在缓存中的代数编号为前缀，通过增加代数编号使命名空间中的所有键失效。
+	 *     命名空间客户端也可以创建嵌套的命名空间，嵌套的命名空间随上级命名空间一起失效。
+	 * </span>
+	 *
+	 * @param namespace	<span class="en-US">Namespace, e.g. tenant:42</span>
+	 *                  <span class="zh-CN">命名空间，例如：tenant:42</span>
+	 * @return <span class="en-US">Namespace client instance</span>
+	 * <span class="zh-CN">命名空间客户端实例</span>
+	 */
+	NamespaceClient namespace(final String namespace);
+
 	/**
 	 * <h3 class="en-US">Destroy cache client</h3>
 	 * <h3 class="zh-CN">销毁当前缓存客户端</h3>
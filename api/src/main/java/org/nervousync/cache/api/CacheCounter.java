@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.api;
+
+/**
+ * <h2 class="en-US">Cache counter interface</h2>
+ * <span class="en-US">
+ *     If counter buffering was configured, deltas were accumulated in local and flushed to cache server periodically,
+ *     otherwise each delta was sent to cache server directly.
+ * </span>
+ * <h2 class="zh-CN">缓存计数器接口</h2>
+ * <span class="zh-CN">
+ *     如果配置了计数器缓冲，增量在本地累积并定期刷新到缓存服务器，否则每次增量直接发送到缓存服务器。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 00:52:37 $
+ */
+public interface CacheCounter {
+
+	/**
+	 * <h3 class="en-US">Retrieve cache key of counter</h3>
+	 * <h3 class="zh-CN">读取计数器的缓存键值</h3>
+	 *
+	 * @return <span class="en-US">Cache key</span>
+	 * <span class="zh-CN">缓存键值</span>
+	 */
+	String getKey();
+
+	/**
+	 * <h3 class="en-US">Add given delta to counter</h3>
+	 * <h3 class="zh-CN">将给定的增量添加到计数器</h3>
+	 *
+	 * @param delta     <span class="en-US">Delta value, negative for decrement</span>
+	 *                  <span class="zh-CN">增量值，负数为自减</span>
+	 */
+	void add(final long delta);
+
+	/**
+	 * <h3 class="en-US">Increment counter by one</h3>
+	 * <h3 class="zh-CN">计数器加一</h3>
+	 */
+	default void increment() {
+		this.add(1L);
+	}
+
+	/**
+	 * <h3 class="en-US">Decrement counter by one</h3>
+	 * <h3 class="zh-CN">计数器减一</h3>
+	 */
+	default void decrement() {
+		this.add(-1L);
+	}
+
+	/**
+	 * <h3 class="en-US">Send pending delta of counter to cache server immediately</h3>
+	 * <h3 class="zh-CN">立即将计数器待刷新的增量发送到缓存服务器</h3>
+	 */
+	void flush();
+}
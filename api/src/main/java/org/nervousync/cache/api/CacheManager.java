@@ -18,6 +18,8 @@ package org.nervousync.cache.api;
 
 import org.nervousync.cache.config.CacheConfig;
 
+import java.util.Map;
+
 /**
  * <h2 class="en-US">Cache manager interface</h2>
  * <h2 class="zh-CN">缓存管理器接口</h2>
@@ -39,11 +41,24 @@ public interface CacheManager {
 	boolean register(final String cacheName, final CacheConfig cacheConfig);
 
 	/**
-	 * <h3 class="en-US">Check given cache name was registered</h3>
-	 * <h3 class="zh-CN">使用指定的缓存名称、配置信息注册缓存</h3>
+	 * <h3 class="en-US">Register cache instances by given cache names and config instances in parallel</h3>
+	 * <h3 class="zh-CN">使用指定的缓存名称、配置信息并行注册缓存</h3>
+	 *
+	 * @param cacheConfigs	<span class="en-US">Cache config instance mapping by cache identify name</span>
+	 *                      <span class="zh-CN">缓存配置信息与缓存识别名称的对应关系</span>
+	 * @return  <span class="en-US">Register result mapping by cache identify name</span>
+	 *          <span class="zh-CN">注册结果与缓存识别名称的对应关系</span>
+	 */
+	Map<String, Boolean> register(final Map<String, CacheConfig> cacheConfigs);
+
+	/**
+	 * <h3 class="en-US">Check given cache name was registered and connected</h3>
+	 * <h3 class="zh-CN">检查给定的缓存名称是否已注册并连接</h3>
 	 *
 	 * @param cacheName     <span class="en-US">Cache identify name</span>
 	 *                      <span class="zh-CN">缓存识别名称</span>
+	 * @return  <span class="en-US">Boolean.FALSE if the cache was not registered or the lazy connect cache was not connected</span>
+	 *          <span class="zh-CN">如果缓存未注册或延迟连接的缓存未连接则返回Boolean.FALSE</span>
 	 */
 	boolean registered(final String cacheName);
 
@@ -53,8 +68,8 @@ public interface CacheManager {
 	 *
 	 * @param cacheName     <span class="en-US">Cache identify name</span>
 	 *                      <span class="zh-CN">缓存识别名称</span>
-	 * @return  <span class="en-US">Cache client instance or null if cache name not registered</span>
-	 *          <span class="zh-CN">缓存客户端实例，若缓存名称未注册则返回null</span>
+	 * @return  <span class="en-US">Cache client instance or null if cache name not registered, the instance stays valid when the cache was registered again</span>
+	 *          <span class="zh-CN">缓存客户端实例，若缓存名称未注册则返回null，缓存重新注册时实例仍然有效</span>
 	 */
 	CacheClient client(final String cacheName);
 
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.api;
+
+/**
+ * <h2 class="en-US">Namespace cache client interface</h2>
+ * <h2 class="zh-CN">命名空间缓存客户端接口</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:41:26 $
+ */
+public interface NamespaceClient extends CacheClient {
+
+	/**
+	 * <h3 class="en-US">Retrieve namespace</h3>
+	 * <h3 class="zh-CN">读取命名空间</h3>
+	 *
+	 * @return <span class="en-US">Namespace</span>
+	 * <span class="zh-CN">命名空间</span>
+	 */
+	String getNamespace();
+
+	/**
+	 * <h3 class="en-US">Invalidate all keys of current namespace by increase the generation number</h3>
+	 * <span class="en-US">
+	 *     Invalidated keys were not deleted from cache server, they were expired or evicted by cache server.
+	 *     Other clients will see the new generation after their local generation cache expired.
+	 * </span>
+	 * <h3 class="zh-CN">通过增加代数编号使当前命名空间的所有键失效</h3>
+	 * <span class="zh-CN">
+	 *     失效的键不会从缓存服务器中删除，由缓存服务器过期或淘汰。其他客户端在本地缓存的代数编号过期后才能看到新的代数编号。
+	 * </span>
+	 */
+	void invalidateNamespace();
+}
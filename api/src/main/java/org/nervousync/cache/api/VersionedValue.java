@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.api;
+
+/**
+ * <h2 class="en-US">Cache value with version</h2>
+ * <span class="en-US">
+ *     Version is an opaque token, CAS unique of memcached or SHA1 digest of the value in Redis, only used by
+ *     compare and set of the same key.
+ * </span>
+ * <h2 class="zh-CN">带版本的缓存数据</h2>
+ * <span class="zh-CN">
+ *     版本是不透明的标记，在Memcached中为CAS唯一值，在Redis中为数据的SHA1摘要，仅用于同一个键的比较并设置操作。
+ * </span>
+ *
+ * @param value   <span class="en-US">Cache value</span>
+ *                <span class="zh-CN">缓存数据</span>
+ * @param version <span class="en-US">Version of cache value</span>
+ *                <span class="zh-CN">缓存数据的版本</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 13:06:42 $
+ */
+public record VersionedValue(String value, String version) {
+}
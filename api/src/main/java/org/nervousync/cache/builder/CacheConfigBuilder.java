@@ -27,6 +27,7 @@ import org.nervousync.exceptions.builder.BuilderException;
 import org.nervousync.utils.ObjectUtils;
 import org.nervousync.utils.StringUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -144,6 +145,72 @@ public final class CacheConfigBuilder {
         return this;
     }
 
+    /**
+     * <h3 class="en-US">Configure expire jitter, a random spread was subtracted from default expire time of each write</h3>
+     * <span class="en-US">
+     *     The spread was the greater one of the percentage of default expire time and the range, so the keys written
+     *     at the same time were not expired at the same second.
+     * </span>
+     * <h3 class="zh-CN">设置过期抖动，每次写入时从默认过期时间中扣减一个随机值</h3>
+     * <span class="zh-CN">
+     *     随机值的上限为默认过期时间百分比与范围中的较大者，因此同时写入的键不会在同一秒过期。
+     * </span>
+     *
+     * @param jitterPercent <span class="en-US">Percentage of default expire time, 0 for disabled</span>
+     *                      <span class="zh-CN">默认过期时间的百分比，0为不启用</span>
+     * @param jitterRange   <span class="en-US">Maximum seconds, 0 for disabled</span>
+     *                      <span class="zh-CN">最大秒数，0为不启用</span>
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder expireJitter(final int jitterPercent, final int jitterRange) {
+        this.cacheConfig.setExpireJitterPercent(Math.min(Math.max(0, jitterPercent), 100));
+        this.cacheConfig.setExpireJitterRange(Math.max(0, jitterRange));
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure delete keys by UNLINK, only supported by Redis providers</h3>
+     * <h3 class="zh-CN">设置是否使用UNLINK删除键，仅Redis适配器支持</h3>
+     *
+     * @param lazyDelete <span class="en-US">Delete keys by UNLINK</span>
+     *                   <span class="zh-CN">使用UNLINK删除键</span>
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder lazyDelete(final boolean lazyDelete) {
+        this.cacheConfig.setLazyDelete(lazyDelete);
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure sliding expiration, every read resets the expire time of the key</h3>
+     * <h3 class="zh-CN">设置滑动过期，每次读取重置键的过期时间</h3>
+     *
+     * @param slidingExpire <span class="en-US">Sliding expiration was enabled</span>
+     *                      <span class="zh-CN">已启用滑动过期</span>
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder slidingExpire(final boolean slidingExpire) {
+        this.cacheConfig.setSlidingExpire(slidingExpire);
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure lazy connect, the provider was initialized in background after registered</h3>
+     * <h3 class="zh-CN">设置延迟连接，缓存适配器在注册后于后台初始化</h3>
+     *
+     * @param lazyConnect <span class="en-US">Lazy connect was enabled</span>
+     *                    <span class="zh-CN">已启用延迟连接</span>
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder lazyConnect(final boolean lazyConnect) {
+        this.cacheConfig.setLazyConnect(lazyConnect);
+        return this;
+    }
+
     /**
      * <h3 class="en-US">Configure connect client pool size</h3>
      * <h3 class="zh-CN">设置客户端连接池的大小</h3>
@@ -181,16 +248,16 @@ public final class CacheConfigBuilder {
     }
 
     /**
-     * <h3 class="en-US">Configure connection timeout retry count</h3>
-     * <h3 class="zh-CN">设置连接超时后的重试次数</h3>
+     * <h3 class="en-US">Configure retry count of failed operates</h3>
+     * <h3 class="zh-CN">设置失败操作的重试次数</h3>
      *
-     * @param retryCount <span class="en-US">Connect retry count</span>
-     *                   <span class="zh-CN">连接超时重试次数</span>
+     * @param retryCount <span class="en-US">Retry count, 0 for disable retry</span>
+     *                   <span class="zh-CN">重试次数，0为不重试</span>
      * @return <span class="en-US">Current cache configure builder</span>
      * <span class="zh-CN">当前缓存配置构建器</span>
      */
     public CacheConfigBuilder retryCount(final int retryCount) {
-        if (retryCount > 0) {
+        if (retryCount >= 0) {
             this.cacheConfig.setRetryCount(retryCount);
         } else {
             this.cacheConfig.setRetryCount(CacheGlobals.DEFAULT_RETRY_COUNT);
@@ -294,6 +361,189 @@ public final class CacheConfigBuilder {
         return this;
     }
 
+    /**
+     * <h3 class="en-US">Configure circuit breaker information</h3>
+     * <h3 class="zh-CN">设置熔断器相关信息</h3>
+     *
+     * @return <span class="en-US">Circuit breaker configure builder</span>
+     * <span class="zh-CN">熔断器配置构建器</span>
+     */
+    public CircuitBreakerConfigBuilder circuitBreakerBuilder() {
+        return CircuitBreakerConfigBuilder.newBuilder(this, this.cacheConfig.getCircuitBreakerConfig());
+    }
+
+    /**
+     * <h3 class="en-US">Disable circuit breaker</h3>
+     * <h3 class="zh-CN">禁用熔断器</h3>
+     *
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder disableCircuitBreaker() {
+        this.cacheConfig.setCircuitBreakerConfig(null);
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure hedged read information</h3>
+     * <h3 class="zh-CN">设置对冲读取相关信息</h3>
+     *
+     * @return <span class="en-US">Hedged read configure builder</span>
+     * <span class="zh-CN">对冲读取配置构建器</span>
+     */
+    public HedgedReadConfigBuilder hedgedReadBuilder() {
+        return HedgedReadConfigBuilder.newBuilder(this, this.cacheConfig.getHedgedReadConfig());
+    }
+
+    /**
+     * <h3 class="en-US">Disable hedged read</h3>
+     * <h3 class="zh-CN">禁用对冲读取</h3>
+     *
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder disableHedgedRead() {
+        this.cacheConfig.setHedgedReadConfig(null);
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure timeout information in milliseconds</h3>
+     * <h3 class="zh-CN">设置以毫秒为单位的超时相关信息</h3>
+     *
+     * @return <span class="en-US">Timeout configure builder</span>
+     * <span class="zh-CN">超时配置构建器</span>
+     */
+    public TimeoutConfigBuilder timeoutBuilder() {
+        return TimeoutConfigBuilder.newBuilder(this, this.cacheConfig.getTimeoutConfig());
+    }
+
+    /**
+     * <h3 class="en-US">Configure retry backoff and deadline information</h3>
+     * <h3 class="zh-CN">设置重试退避时间和截止时间相关信息</h3>
+     *
+     * @return <span class="en-US">Retry configure builder</span>
+     * <span class="zh-CN">重试配置构建器</span>
+     */
+    public RetryConfigBuilder retryBuilder() {
+        return RetryConfigBuilder.newBuilder(this, this.cacheConfig.getRetryConfig());
+    }
+
+    /**
+     * <h3 class="en-US">Configure hot key detection information</h3>
+     * <h3 class="zh-CN">设置热点键检测相关信息</h3>
+     *
+     * @return <span class="en-US">Hot key configure builder</span>
+     * <span class="zh-CN">热点键配置构建器</span>
+     */
+    public HotKeyConfigBuilder hotKeyBuilder() {
+        return HotKeyConfigBuilder.newBuilder(this, this.cacheConfig.getHotKeyConfig());
+    }
+
+    /**
+     * <h3 class="en-US">Disable hot key detection</h3>
+     * <h3 class="zh-CN">禁用热点键检测</h3>
+     *
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder disableHotKey() {
+        this.cacheConfig.setHotKeyConfig(null);
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure value size profiling information</h3>
+     * <h3 class="zh-CN">设置数据大小分析相关信息</h3>
+     *
+     * @return <span class="en-US">Value size configure builder</span>
+     * <span class="zh-CN">数据大小配置构建器</span>
+     */
+    public ValueSizeConfigBuilder valueSizeBuilder() {
+        return ValueSizeConfigBuilder.newBuilder(this, this.cacheConfig.getValueSizeConfig());
+    }
+
+    /**
+     * <h3 class="en-US">Disable value size profiling</h3>
+     * <h3 class="zh-CN">禁用数据大小分析</h3>
+     *
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder disableValueSize() {
+        this.cacheConfig.setValueSizeConfig(null);
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure fill lease information</h3>
+     * <h3 class="zh-CN">设置填充租约相关信息</h3>
+     *
+     * @return <span class="en-US">Fill lease configure builder</span>
+     * <span class="zh-CN">填充租约配置构建器</span>
+     */
+    public FillLeaseConfigBuilder fillLeaseBuilder() {
+        return FillLeaseConfigBuilder.newBuilder(this, this.cacheConfig.getFillLeaseConfig());
+    }
+
+    /**
+     * <h3 class="en-US">Disable fill lease, cache fill was coordinated in current JVM only</h3>
+     * <h3 class="zh-CN">禁用填充租约，仅在当前JVM中协调缓存填充</h3>
+     *
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder disableFillLease() {
+        this.cacheConfig.setFillLeaseConfig(null);
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure counter buffering information</h3>
+     * <h3 class="zh-CN">设置计数器缓冲相关信息</h3>
+     *
+     * @return <span class="en-US">Counter configure builder</span>
+     * <span class="zh-CN">计数器配置构建器</span>
+     */
+    public CounterConfigBuilder counterBuilder() {
+        return CounterConfigBuilder.newBuilder(this, this.cacheConfig.getCounterConfig());
+    }
+
+    /**
+     * <h3 class="en-US">Disable counter buffering, each counter delta was sent to cache server directly</h3>
+     * <h3 class="zh-CN">禁用计数器缓冲，每次计数器增量直接发送到缓存服务器</h3>
+     *
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder disableCounter() {
+        this.cacheConfig.setCounterConfig(null);
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure connection warm-up information</h3>
+     * <h3 class="zh-CN">设置连接预热相关信息</h3>
+     *
+     * @return <span class="en-US">Warm-up configure builder</span>
+     * <span class="zh-CN">预热配置构建器</span>
+     */
+    public WarmupConfigBuilder warmupBuilder() {
+        return WarmupConfigBuilder.newBuilder(this, this.cacheConfig.getWarmupConfig());
+    }
+
+    /**
+     * <h3 class="en-US">Disable connection warm-up, connections were created by providers when required</h3>
+     * <h3 class="zh-CN">禁用连接预热，连接由缓存适配器在需要时创建</h3>
+     *
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder disableWarmup() {
+        this.cacheConfig.setWarmupConfig(null);
+        return this;
+    }
+
     /**
      * <h3 class="en-US">Confirm configuration information and save</h3>
      * <h3 class="zh-CN">确认配置信息并保存</h3>
@@ -343,6 +593,195 @@ public final class CacheConfigBuilder {
         this.cacheConfig.setServerConfigList(serverConfigList);
     }
 
+    /**
+     * <h3 class="en-US">Update circuit breaker information</h3>
+     * <h3 class="zh-CN">更新熔断器信息</h3>
+     *
+     * @param circuitBreakerConfig <span class="en-US">Circuit breaker configure information</span>
+     *                             <span class="zh-CN">熔断器配置信息</span>
+     * @throws BuilderException <span class="en-US">Throws if circuit breaker configure is invalid</span>
+     *                          <span class="zh-CN">如果熔断器配置信息非法，则抛出异常</span>
+     */
+    void circuitBreakerConfig(final CacheConfig.CircuitBreakerConfig circuitBreakerConfig) throws BuilderException {
+        if (circuitBreakerConfig == null) {
+            return;
+        }
+        if (invalidRate(circuitBreakerConfig.getFailureRateThreshold())
+                || invalidRate(circuitBreakerConfig.getSlowCallRateThreshold())
+                || circuitBreakerConfig.getSlowCallThreshold() <= 0 || circuitBreakerConfig.getMinimumCalls() <= 0
+                || circuitBreakerConfig.getWindowSize() <= 0 || circuitBreakerConfig.getOpenDuration() <= 0
+                || circuitBreakerConfig.getHalfOpenCalls() <= 0 || circuitBreakerConfig.getWriteQueueSize() < 0) {
+            throw new BuilderException(0x000C00000007L, "Circuit_Breaker_Config_Error");
+        }
+        this.cacheConfig.setCircuitBreakerConfig(circuitBreakerConfig);
+    }
+
+    /**
+     * <h3 class="en-US">Update hedged read information</h3>
+     * <h3 class="zh-CN">更新对冲读取信息</h3>
+     *
+     * @param hedgedReadConfig <span class="en-US">Hedged read configure information</span>
+     *                         <span class="zh-CN">对冲读取配置信息</span>
+     * @throws BuilderException <span class="en-US">Throws if hedged read configure is invalid</span>
+     *                          <span class="zh-CN">如果对冲读取配置信息非法，则抛出异常</span>
+     */
+    void hedgedReadConfig(final CacheConfig.HedgedReadConfig hedgedReadConfig) throws BuilderException {
+        if (hedgedReadConfig == null) {
+            return;
+        }
+        if (invalidRate(hedgedReadConfig.getPercentile()) || invalidRate(hedgedReadConfig.getBudgetRate())
+                || hedgedReadConfig.getMinimumDelay() < 0) {
+            throw new BuilderException(0x000C00000008L, "Hedged_Read_Config_Error");
+        }
+        this.cacheConfig.setHedgedReadConfig(hedgedReadConfig);
+    }
+
+    /**
+     * <h3 class="en-US">Update timeout information</h3>
+     * <h3 class="zh-CN">更新超时信息</h3>
+     *
+     * @param timeoutConfig <span class="en-US">Timeout configure information</span>
+     *                      <span class="zh-CN">超时配置信息</span>
+     * @throws BuilderException <span class="en-US">Throws if timeout configure is invalid</span>
+     *                          <span class="zh-CN">如果超时配置信息非法，则抛出异常</span>
+     */
+    void timeoutConfig(final CacheConfig.TimeoutConfig timeoutConfig) throws BuilderException {
+        if (timeoutConfig == null) {
+            return;
+        }
+        if (timeoutConfig.getConnectTimeout() <= 0 || timeoutConfig.getCommandTimeout() <= 0
+                || timeoutConfig.getPoolTimeout() <= 0
+                || invalidTimeout(timeoutConfig.getReadTimeout()) || invalidTimeout(timeoutConfig.getWriteTimeout())) {
+            throw new BuilderException(0x000C00000009L, "Timeout_Config_Error");
+        }
+        this.cacheConfig.setTimeoutConfig(timeoutConfig);
+    }
+
+    /**
+     * <h3 class="en-US">Update retry information</h3>
+     * <h3 class="zh-CN">更新重试信息</h3>
+     *
+     * @param retryConfig <span class="en-US">Retry configure information</span>
+     *                    <span class="zh-CN">重试配置信息</span>
+     * @throws BuilderException <span class="en-US">Throws if retry configure is invalid</span>
+     *                          <span class="zh-CN">如果重试配置信息非法，则抛出异常</span>
+     */
+    void retryConfig(final CacheConfig.RetryConfig retryConfig) throws BuilderException {
+        if (retryConfig == null) {
+            return;
+        }
+        if (retryConfig.getInitialBackoff() < 0 || retryConfig.getMaximumBackoff() < retryConfig.getInitialBackoff()
+                || retryConfig.getDeadline() <= 0) {
+            throw new BuilderException(0x000C0000000AL, "Retry_Config_Error");
+        }
+        this.cacheConfig.setRetryConfig(retryConfig);
+    }
+
+    /**
+     * <h3 class="en-US">Update hot key information</h3>
+     * <h3 class="zh-CN">更新热点键信息</h3>
+     *
+     * @param hotKeyConfig <span class="en-US">Hot key configure information</span>
+     *                     <span class="zh-CN">热点键配置信息</span>
+     * @throws BuilderException <span class="en-US">Throws if hot key configure is invalid</span>
+     *                          <span class="zh-CN">如果热点键配置信息非法，则抛出异常</span>
+     */
+    void hotKeyConfig(final CacheConfig.HotKeyConfig hotKeyConfig) throws BuilderException {
+        if (hotKeyConfig == null) {
+            return;
+        }
+        if (hotKeyConfig.getTopK() <= 0 || hotKeyConfig.getThreshold() <= 0 || hotKeyConfig.getDecayInterval() <= 0
+                || hotKeyConfig.getLocalSize() <= 0 || hotKeyConfig.getLocalExpire() <= 0) {
+            throw new BuilderException(0x000C0000000BL, "Hot_Key_Config_Error");
+        }
+        this.cacheConfig.setHotKeyConfig(hotKeyConfig);
+    }
+
+    /**
+     * <h3 class="en-US">Update value size information</h3>
+     * <h3 class="zh-CN">更新数据大小信息</h3>
+     *
+     * @param valueSizeConfig <span class="en-US">Value size configure information</span>
+     *                        <span class="zh-CN">数据大小配置信息</span>
+     * @throws BuilderException <span class="en-US">Throws if value size configure is invalid</span>
+     *                          <span class="zh-CN">如果数据大小配置信息非法，则抛出异常</span>
+     */
+    void valueSizeConfig(final CacheConfig.ValueSizeConfig valueSizeConfig) throws BuilderException {
+        if (valueSizeConfig == null) {
+            return;
+        }
+        if (valueSizeConfig.getTopN() <= 0 || valueSizeConfig.getSizeLimit() < 0) {
+            throw new BuilderException(0x000C0000000CL, "Value_Size_Config_Error");
+        }
+        this.cacheConfig.setValueSizeConfig(valueSizeConfig);
+    }
+
+    /**
+     * <h3 class="en-US">Update fill lease information</h3>
+     * <h3 class="zh-CN">更新填充租约信息</h3>
+     *
+     * @param fillLeaseConfig <span class="en-US">Fill lease configure information</span>
+     *                        <span class="zh-CN">填充租约配置信息</span>
+     * @throws BuilderException <span class="en-US">Throws if fill lease configure is invalid</span>
+     *                          <span class="zh-CN">如果填充租约配置信息非法，则抛出异常</span>
+     */
+    void fillLeaseConfig(final CacheConfig.FillLeaseConfig fillLeaseConfig) throws BuilderException {
+        if (fillLeaseConfig == null) {
+            return;
+        }
+        if (fillLeaseConfig.getLeaseTime() <= 0 || fillLeaseConfig.getWaitTime() <= 0
+                || fillLeaseConfig.getPollInterval() <= 0) {
+            throw new BuilderException(0x000C0000000DL, "Fill_Lease_Config_Error");
+        }
+        this.cacheConfig.setFillLeaseConfig(fillLeaseConfig);
+    }
+
+    /**
+     * <h3 class="en-US">Update counter information</h3>
+     * <h3 class="zh-CN">更新计数器信息</h3>
+     *
+     * @param counterConfig <span class="en-US">Counter configure information</span>
+     *                      <span class="zh-CN">计数器配置信息</span>
+     * @throws BuilderException <span class="en-US">Throws if counter configure is invalid</span>
+     *                          <span class="zh-CN">如果计数器配置信息非法，则抛出异常</span>
+     */
+    void counterConfig(final CacheConfig.CounterConfig counterConfig) throws BuilderException {
+        if (counterConfig == null) {
+            return;
+        }
+        if (counterConfig.getFlushInterval() <= 0 || counterConfig.getFlushThreshold() < 0L) {
+            throw new BuilderException(0x000C0000000EL, "Counter_Config_Error");
+        }
+        this.cacheConfig.setCounterConfig(counterConfig);
+    }
+
+    /**
+     * <h3 class="en-US">Update warm-up information</h3>
+     * <h3 class="zh-CN">更新预热信息</h3>
+     *
+     * @param warmupConfig <span class="en-US">Warm-up configure information</span>
+     *                     <span class="zh-CN">预热配置信息</span>
+     * @throws BuilderException <span class="en-US">Throws if warm-up configure is invalid</span>
+     *                          <span class="zh-CN">如果预热配置信息非法，则抛出异常</span>
+     */
+    void warmupConfig(final CacheConfig.WarmupConfig warmupConfig) throws BuilderException {
+        if (warmupConfig == null) {
+            return;
+        }
+        if (warmupConfig.getTimeout() <= 0) {
+            throw new BuilderException(0x000C0000000FL, "Warmup_Config_Error");
+        }
+        this.cacheConfig.setWarmupConfig(warmupConfig);
+    }
+
+    private static boolean invalidTimeout(final int timeout) {
+        return timeout <= 0 && timeout != Globals.DEFAULT_VALUE_INT;
+    }
+
+    private static boolean invalidRate(final int rate) {
+        return rate <= 0 || rate > 100;
+    }
+
     /**
      * <h2 class="en-US">Cache server configure builder</h2>
      * <h2 class="zh-CN">缓存服务器配置构建器</h2>
@@ -443,4 +882,876 @@ public final class CacheConfigBuilder {
             this.parentBuilder.serverConfig(this.serverConfig);
         }
     }
-}
+
+    /**
+     * <h2 class="en-US">Circuit breaker configure builder</h2>
+     * <h2 class="zh-CN">熔断器配置构建器</h2>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 15:24:51 $
+     */
+    public static final class CircuitBreakerConfigBuilder extends AbstractBuilder<CacheConfigBuilder> {
+
+        /**
+         * <span class="en-US">Circuit breaker config instance</span>
+         * <span class="zh-CN">熔断器配置信息</span>
+         */
+        private final CacheConfig.CircuitBreakerConfig circuitBreakerConfig;
+
+        /**
+         * <h3 class="en-US">Constructor for circuit breaker configure builder</h3>
+         * <h3 class="zh-CN">熔断器配置构造器构建方法</h3>
+         *
+         * @param parentBuilder        <span class="en-US">Parent builder instance</span>
+         *                             <span class="zh-CN">上级构建器实例</span>
+         * @param circuitBreakerConfig <span class="en-US">Current circuit breaker configure instance or null for generate new configure</span>
+         *                             <span class="zh-CN">当前的熔断器配置，如果传入null则生成一个新的配置</span>
+         */
+        private CircuitBreakerConfigBuilder(final CacheConfigBuilder parentBuilder,
+                                            final CacheConfig.CircuitBreakerConfig circuitBreakerConfig) {
+            super(parentBuilder);
+            this.circuitBreakerConfig =
+                    (circuitBreakerConfig == null) ? new CacheConfig.CircuitBreakerConfig() : circuitBreakerConfig;
+        }
+
+        /**
+         * <h3 class="en-US">Static method for create circuit breaker configure builder</h3>
+         * <h3 class="zh-CN">静态方法用于创建熔断器配置构造器</h3>
+         *
+         * @param parentBuilder        <span class="en-US">Parent builder instance</span>
+         *                             <span class="zh-CN">上级构建器实例</span>
+         * @param circuitBreakerConfig <span class="en-US">Current circuit breaker configure instance or null for generate new configure</span>
+         *                             <span class="zh-CN">当前的熔断器配置，如果传入null则生成一个新的配置</span>
+         */
+        public static CircuitBreakerConfigBuilder newBuilder(final CacheConfigBuilder parentBuilder,
+                                                             final CacheConfig.CircuitBreakerConfig circuitBreakerConfig) {
+            return new CircuitBreakerConfigBuilder(parentBuilder, circuitBreakerConfig);
+        }
+
+        /**
+         * <h3 class="en-US">Configure failure rate threshold</h3>
+         * <h3 class="zh-CN">配置失败率阈值</h3>
+         *
+         * @param failureRateThreshold <span class="en-US">Failure rate threshold, unit: percent</span>
+         *                             <span class="zh-CN">失败率阈值，单位：百分比</span>
+         * @return <span class="en-US">Current circuit breaker configure builder</span>
+         * <span class="zh-CN">当前熔断器配置构建器</span>
+         */
+        public CircuitBreakerConfigBuilder failureRateThreshold(final int failureRateThreshold) {
+            this.circuitBreakerConfig.setFailureRateThreshold(failureRateThreshold);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Configure slow call threshold and slow call rate threshold</h3>
+         * <h3 class="zh-CN">配置慢调用时间阈值和慢调用比例阈值</h3>
+         *
+         * @param slowCallThreshold     <span class="en-US">Slow call threshold, unit: millisecond</span>
+         *                              <span class="zh-CN">慢调用时间阈值，单位：毫秒</span>
+         * @param slowCallRateThreshold <span class="en-US">Slow call rate threshold, unit: percent</span>
+         *                              <span class="zh-CN">慢调用比例阈值，单位：百分比</span>
+         * @return <span class="en-US">Current circuit breaker configure builder</span>
+         * <span class="zh-CN">当前熔断器配置构建器</span>
+         */
+        public CircuitBreakerConfigBuilder slowCall(final int slowCallThreshold, final int slowCallRateThreshold) {
+            this.circuitBreakerConfig.setSlowCallThreshold(slowCallThreshold);
+            this.circuitBreakerConfig.setSlowCallRateThreshold(slowCallRateThreshold);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Configure sliding window</h3>
+         * <h3 class="zh-CN">配置滑动窗口</h3>
+         *
+         * @param windowSize   <span class="en-US">Sliding window size, unit: second</span>
+         *                     <span class="zh-CN">滑动窗口大小，单位：秒</span>
+         * @param minimumCalls <span class="en-US">Minimum calls in sliding window before calculate the rates</span>
+         *                     <span class="zh-CN">计算比例前滑动窗口内需要的最少调用次数</span>
+         * @return <span class="en-US">Current circuit breaker configure builder</span>
+         * <span class="zh-CN">当前熔断器配置构建器</span>
+         */
+        public CircuitBreakerConfigBuilder slidingWindow(final int windowSize, final int minimumCalls) {
+            this.circuitBreakerConfig.setWindowSize(windowSize);
+            this.circuitBreakerConfig.setMinimumCalls(minimumCalls);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Configure open duration and probe calls count in half-open state</h3>
+         * <h3 class="zh-CN">配置打开状态持续时间和半开状态下的探测调用次数</h3>
+         *
+         * @param openDuration  <span class="en-US">Duration of keep open state, unit: millisecond</span>
+         *                      <span class="zh-CN">打开状态持续时间，单位：毫秒</span>
+         * @param halfOpenCalls <span class="en-US">Probe calls count in half-open state</span>
+         *                      <span class="zh-CN">半开状态下的探测调用次数</span>
+         * @return <span class="en-US">Current circuit breaker configure builder</span>
+         * <span class="zh-CN">当前熔断器配置构建器</span>
+         */
+        public CircuitBreakerConfigBuilder openState(final int openDuration, final int halfOpenCalls) {
+            this.circuitBreakerConfig.setOpenDuration(openDuration);
+            this.circuitBreakerConfig.setHalfOpenCalls(halfOpenCalls);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Configure queue size of write operates in open state</h3>
+         * <h3 class="zh-CN">配置打开状态下写操作的队列大小</h3>
+         *
+         * @param writeQueueSize <span class="en-US">Write queue size, 0 for drop write operates</span>
+         *                       <span class="zh-CN">写操作队列大小，0为丢弃写操作</span>
+         * @return <span class="en-US">Current circuit breaker configure builder</span>
+         * <span class="zh-CN">当前熔断器配置构建器</span>
+         */
+        public CircuitBreakerConfigBuilder writeQueueSize(final int writeQueueSize) {
+            this.circuitBreakerConfig.setWriteQueueSize(writeQueueSize);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Confirm configure information</h3>
+         * <h3 class="zh-CN">确认配置信息</h3>
+         *
+         * @throws BuilderException <span class="en-US">Throws if circuit breaker configure is invalid</span>
+         *                          <span class="zh-CN">如果熔断器配置信息非法，则抛出异常</span>
+         */
+        @Override
+        protected void build() throws BuilderException {
+            this.parentBuilder.circuitBreakerConfig(this.circuitBreakerConfig);
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Hedged read configure builder</h2>
+     * <h2 class="zh-CN">对冲读取配置构建器</h2>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 16:11:05 $
+     */
+    public static final class HedgedReadConfigBuilder extends AbstractBuilder<CacheConfigBuilder> {
+
+        /**
+         * <span class="en-US">Hedged read config instance</span>
+         * <span class="zh-CN">对冲读取配置信息</span>
+         */
+        private final CacheConfig.HedgedReadConfig hedgedReadConfig;
+
+        /**
+         * <h3 class="en-US">Constructor for hedged read configure builder</h3>
+         * <h3 class="zh-CN">对冲读取配置构造器构建方法</h3>
+         *
+         * @param parentBuilder    <span class="en-US">Parent builder instance</span>
+         *                         <span class="zh-CN">上级构建器实例</span>
+         * @param hedgedReadConfig <span class="en-US">Current hedged read configure instance or null for generate new configure</span>
+         *                         <span class="zh-CN">当前的对冲读取配置，如果传入null则生成一个新的配置</span>
+         */
+        private HedgedReadConfigBuilder(final CacheConfigBuilder parentBuilder,
+                                        final CacheConfig.HedgedReadConfig hedgedReadConfig) {
+            super(parentBuilder);
+            this.hedgedReadConfig = (hedgedReadConfig == null) ? new CacheConfig.HedgedReadConfig() : hedgedReadConfig;
+        }
+
+        /**
+         * <h3 class="en-US">Static method for create hedged read configure builder</h3>
+         * <h3 class="zh-CN">静态方法用于创建对冲读取配置构造器</h3>
+         *
+         * @param parentBuilder    <span class="en-US">Parent builder instance</span>
+         *                         <span class="zh-CN">上级构建器实例</span>
+         * @param hedgedReadConfig <span class="en-US">Current hedged read configure instance or null for generate new configure</span>
+         *                         <span class="zh-CN">当前的对冲读取配置，如果传入null则生成一个新的配置</span>
+         */
+        public static HedgedReadConfigBuilder newBuilder(final CacheConfigBuilder parentBuilder,
+                                                         final CacheConfig.HedgedReadConfig hedgedReadConfig) {
+            return new HedgedReadConfigBuilder(parentBuilder, hedgedReadConfig);
+        }
+
+        /**
+         * <h3 class="en-US">Configure latency percentile and minimum delay used for calculate hedged read delay</h3>
+         * <h3 class="zh-CN">配置用于计算对冲读取延迟的延迟百分位和最小延迟</h3>
+         *
+         * @param percentile   <span class="en-US">Latency percentile, unit: percent</span>
+         *                     <span class="zh-CN">延迟百分位，单位：百分比</span>
+         * @param minimumDelay <span class="en-US">Minimum delay, unit: millisecond</span>
+         *                     <span class="zh-CN">最小延迟，单位：毫秒</span>
+         * @return <span class="en-US">Current hedged read configure builder</span>
+         * <span class="zh-CN">当前对冲读取配置构建器</span>
+         */
+        public HedgedReadConfigBuilder delay(final int percentile, final int minimumDelay) {
+            this.hedgedReadConfig.setPercentile(percentile);
+            this.hedgedReadConfig.setMinimumDelay(minimumDelay);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Configure maximum rate of hedged reads</h3>
+         * <h3 class="zh-CN">配置对冲读取的最大比例</h3>
+         *
+         * @param budgetRate <span class="en-US">Budget rate, unit: percent</span>
+         *                   <span class="zh-CN">预算比例，单位：百分比</span>
+         * @return <span class="en-US">Current hedged read configure builder</span>
+         * <span class="zh-CN">当前对冲读取配置构建器</span>
+         */
+        public HedgedReadConfigBuilder budgetRate(final int budgetRate) {
+            this.hedgedReadConfig.setBudgetRate(budgetRate);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Confirm configure information</h3>
+         * <h3 class="zh-CN">确认配置信息</h3>
+         *
+         * @throws BuilderException <span class="en-US">Throws if hedged read configure is invalid</span>
+         *                          <span class="zh-CN">如果对冲读取配置信息非法，则抛出异常</span>
+         */
+        @Override
+        protected void build() throws BuilderException {
+            this.parentBuilder.hedgedReadConfig(this.hedgedReadConfig);
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Timeout configure builder</h2>
+     * <h2 class="zh-CN">超时配置构建器</h2>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 17:15:30 $
+     */
+    public static final class TimeoutConfigBuilder extends AbstractBuilder<CacheConfigBuilder> {
+
+        /**
+         * <span class="en-US">Timeout config instance</span>
+         * <span class="zh-CN">超时配置信息</span>
+         */
+        private final CacheConfig.TimeoutConfig timeoutConfig;
+
+        /**
+         * <h3 class="en-US">Constructor for timeout configure builder</h3>
+         * <h3 class="zh-CN">超时配置构造器构建方法</h3>
+         *
+         * @param parentBuilder <span class="en-US">Parent builder instance</span>
+         *                      <span class="zh-CN">上级构建器实例</span>
+         * @param timeoutConfig <span class="en-US">Current timeout configure instance or null for generate new configure</span>
+         *                      <span class="zh-CN">当前的超时配置，如果传入null则生成一个新的配置</span>
+         */
+        private TimeoutConfigBuilder(final CacheConfigBuilder parentBuilder,
+                                     final CacheConfig.TimeoutConfig timeoutConfig) {
+            super(parentBuilder);
+            this.timeoutConfig = (timeoutConfig == null) ? new CacheConfig.TimeoutConfig() : timeoutConfig;
+        }
+
+        /**
+         * <h3 class="en-US">Static method for create timeout configure builder</h3>
+         * <h3 class="zh-CN">静态方法用于创建超时配置构造器</h3>
+         *
+         * @param parentBuilder <span class="en-US">Parent builder instance</span>
+         *                      <span class="zh-CN">上级构建器实例</span>
+         * @param timeoutConfig <span class="en-US">Current timeout configure instance or null for generate new configure</span>
+         *                      <span class="zh-CN">当前的超时配置，如果传入null则生成一个新的配置</span>
+         */
+        public static TimeoutConfigBuilder newBuilder(final CacheConfigBuilder parentBuilder,
+                                                      final CacheConfig.TimeoutConfig timeoutConfig) {
+            return new TimeoutConfigBuilder(parentBuilder, timeoutConfig);
+        }
+
+        /**
+         * <h3 class="en-US">Configure connect timeout</h3>
+         * <h3 class="zh-CN">配置连接超时时间</h3>
+         *
+         * @param connectTimeout <span class="en-US">Connect timeout, unit: millisecond</span>
+         *                       <span class="zh-CN">连接超时时间，单位：毫秒</span>
+         * @return <span class="en-US">Current timeout configure builder</span>
+         * <span class="zh-CN">当前超时配置构建器</span>
+         */
+        public TimeoutConfigBuilder connectTimeout(final int connectTimeout) {
+            this.timeoutConfig.setConnectTimeout(connectTimeout);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Configure command timeout</h3>
+         * <h3 class="zh-CN">配置命令超时时间</h3>
+         *
+         * @param commandTimeout <span class="en-US">Command timeout, unit: millisecond</span>
+         *                       <span class="zh-CN">命令超时时间，单位：毫秒</span>
+         * @return <span class="en-US">Current timeout configure builder</span>
+         * <span class="zh-CN">当前超时配置构建器</span>
+         */
+        public TimeoutConfigBuilder commandTimeout(final int commandTimeout) {
+            this.timeoutConfig.setCommandTimeout(commandTimeout);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Configure timeout of acquire connection from pool</h3>
+         * <h3 class="zh-CN">配置从连接池获取连接的超时时间</h3>
+         *
+         * @param poolTimeout <span class="en-US">Pool acquire timeout, unit: millisecond</span>
+         *                    <span class="zh-CN">连接池获取超时时间，单位：毫秒</span>
+         * @return <span class="en-US">Current timeout configure builder</span>
+         * <span class="zh-CN">当前超时配置构建器</span>
+         */
+        public TimeoutConfigBuilder poolTimeout(final int poolTimeout) {
+            this.timeoutConfig.setPoolTimeout(poolTimeout);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Configure timeout of read operates and write operates</h3>
+         * <h3 class="zh-CN">配置读操作和写操作的超时时间</h3>
+         *
+         * @param readTimeout  <span class="en-US">Read timeout, unit: millisecond, -1 for using command timeout</span>
+         *                     <span class="zh-CN">读操作超时时间，单位：毫秒，-1为使用命令超时时间</span>
+         * @param writeTimeout <span class="en-US">Write timeout, unit: millisecond, -1 for using command timeout</span>
+         *                     <span class="zh-CN">写操作超时时间，单位：毫秒，-1为使用命令超时时间</span>
+         * @return <span class="en-US">Current timeout configure builder</span>
+         * <span class="zh-CN">当前超时配置构建器</span>
+         */
+        public TimeoutConfigBuilder operationTimeout(final int readTimeout, final int writeTimeout) {
+            this.timeoutConfig.setReadTimeout(readTimeout);
+            this.timeoutConfig.setWriteTimeout(writeTimeout);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Confirm configure information</h3>
+         * <h3 class="zh-CN">确认配置信息</h3>
+         *
+         * @throws BuilderException <span class="en-US">Throws if timeout configure is invalid</span>
+         *                          <span class="zh-CN">如果超时配置信息非法，则抛出异常</span>
+         */
+        @Override
+        protected void build() throws BuilderException {
+            this.parentBuilder.timeoutConfig(this.timeoutConfig);
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Retry configure builder</h2>
+     * <h2 class="zh-CN">重试配置构建器</h2>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 21:34:12 $
+     */
+    public static final class RetryConfigBuilder extends AbstractBuilder<CacheConfigBuilder> {
+
+        /**
+         * <span class="en-US">Retry config instance</span>
+         * <span class="zh-CN">重试配置信息</span>
+         */
+        private final CacheConfig.RetryConfig retryConfig;
+
+        /**
+         * <h3 class="en-US">Constructor for retry configure builder</h3>
+         * <h3 class="zh-CN">重试配置构造器构建方法</h3>
+         *
+         * @param parentBuilder <span class="en-US">Parent builder instance</span>
+         *                      <span class="zh-CN">上级构建器实例</span>
+         * @param retryConfig   <span class="en-US">Current retry configure instance or null for generate new configure</span>
+         *                      <span class="zh-CN">当前的重试配置，如果传入null则生成一个新的配置</span>
+         */
+        private RetryConfigBuilder(final CacheConfigBuilder parentBuilder,
+                                   final CacheConfig.RetryConfig retryConfig) {
+            super(parentBuilder);
+            this.retryConfig = (retryConfig == null) ? new CacheConfig.RetryConfig() : retryConfig;
+        }
+
+        /**
+         * <h3 class="en-US">Static method for create retry configure builder</h3>
+         * <h3 class="zh-CN">静态方法用于创建重试配置构造器</h3>
+         *
+         * @param parentBuilder <span class="en-US">Parent builder instance</span>
+         *                      <span class="zh-CN">上级构建器实例</span>
+         * @param retryConfig   <span class="en-US">Current retry configure instance or null for generate new configure</span>
+         *                      <span class="zh-CN">当前的重试配置，如果传入null则生成一个新的配置</span>
+         */
+        public static RetryConfigBuilder newBuilder(final CacheConfigBuilder parentBuilder,
+                                                    final CacheConfig.RetryConfig retryConfig) {
+            return new RetryConfigBuilder(parentBuilder, retryConfig);
+        }
+
+        /**
+         * <h3 class="en-US">Configure backoff range before retry</h3>
+         * <h3 class="zh-CN">配置重试前的退避时间范围</h3>
+         *
+         * @param initialBackoff <span class="en-US">Backoff before the first retry, unit: millisecond</span>
+         *                       <span class="zh-CN">第一次重试前的退避时间，单位：毫秒</span>
+         * @param maximumBackoff <span class="en-US">Maximum backoff before retry, unit: millisecond</span>
+         *                       <span class="zh-CN">重试前的最大退避时间，单位：毫秒</span>
+         * @return <span class="en-US">Current retry configure builder</span>
+         * <span class="zh-CN">当前重试配置构建器</span>
+         */
+        public RetryConfigBuilder backoff(final int initialBackoff, final int maximumBackoff) {
+            this.retryConfig.setInitialBackoff(initialBackoff);
+            this.retryConfig.setMaximumBackoff(maximumBackoff);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Configure overall deadline of operate include all retries</h3>
+         * <h3 class="zh-CN">配置包含所有重试在内的操作总截止时间</h3>
+         *
+         * @param deadline <span class="en-US">Deadline, unit: millisecond</span>
+         *                 <span class="zh-CN">截止时间，单位：毫秒</span>
+         * @return <span class="en-US">Current retry configure builder</span>
+         * <span class="zh-CN">当前重试配置构建器</span>
+         */
+        public RetryConfigBuilder deadline(final int deadline) {
+            this.retryConfig.setDeadline(deadline);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Confirm configure information</h3>
+         * <h3 class="zh-CN">确认配置信息</h3>
+         *
+         * @throws BuilderException <span class="en-US">Throws if retry configure is invalid</span>
+         *                          <span class="zh-CN">如果重试配置信息非法，则抛出异常</span>
+         */
+        @Override
+        protected void build() throws BuilderException {
+            this.parentBuilder.retryConfig(this.retryConfig);
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Hot key configure builder</h2>
+     * <h2 class="zh-CN">热点键配置构建器</h2>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 22:18:06 $
+     */
+    public static final class HotKeyConfigBuilder extends AbstractBuilder<CacheConfigBuilder> {
+
+        /**
+         * <span class="en-US">Hot key config instance</span>
+         * <span class="zh-CN">热点键配置信息</span>
+         */
+        private final CacheConfig.HotKeyConfig hotKeyConfig;
+
+        /**
+         * <h3 class="en-US">Constructor for hot key configure builder</h3>
+         * <h3 class="zh-CN">热点键配置构造器构建方法</h3>
+         *
+         * @param parentBuilder <span class="en-US">Parent builder instance</span>
+         *                      <span class="zh-CN">上级构建器实例</span>
+         * @param hotKeyConfig  <span class="en-US">Current hot key configure instance or null for generate new configure</span>
+         *                      <span class="zh-CN">当前的热点键配置，如果传入null则生成一个新的配置</span>
+         */
+        private HotKeyConfigBuilder(final CacheConfigBuilder parentBuilder,
+                                    final CacheConfig.HotKeyConfig hotKeyConfig) {
+            super(parentBuilder);
+            this.hotKeyConfig = (hotKeyConfig == null) ? new CacheConfig.HotKeyConfig() : hotKeyConfig;
+        }
+
+        /**
+         * <h3 class="en-US">Static method for create hot key configure builder</h3>
+         * <h3 class="zh-CN">静态方法用于创建热点键配置构造器</h3>
+         *
+         * @param parentBuilder <span class="en-US">Parent builder instance</span>
+         *                      <span class="zh-CN">上级构建器实例</span>
+         * @param hotKeyConfig  <span class="en-US">Current hot key configure instance or null for generate new configure</span>
+         *                      <span class="zh-CN">当前的热点键配置，如果传入null则生成一个新的配置</span>
+         */
+        public static HotKeyConfigBuilder newBuilder(final CacheConfigBuilder parentBuilder,
+                                                     final CacheConfig.HotKeyConfig hotKeyConfig) {
+            return new HotKeyConfigBuilder(parentBuilder, hotKeyConfig);
+        }
+
+        /**
+         * <h3 class="en-US">Configure count of heavy hitters tracked</h3>
+         * <h3 class="zh-CN">配置跟踪的高频键数量</h3>
+         *
+         * @param topK <span class="en-US">Count of heavy hitters</span>
+         *             <span class="zh-CN">高频键数量</span>
+         * @return <span class="en-US">Current hot key configure builder</span>
+         * <span class="zh-CN">当前热点键配置构建器</span>
+         */
+        public HotKeyConfigBuilder topK(final int topK) {
+            this.hotKeyConfig.setTopK(topK);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Configure hot key threshold and decaying window</h3>
+         * <h3 class="zh-CN">配置热点键阈值和衰减窗口</h3>
+         *
+         * @param threshold     <span class="en-US">Estimated read count in decaying window which key was treated as hot key</span>
+         *                      <span class="zh-CN">键被视为热点键时的衰减窗口内估算读取次数</span>
+         * @param decayInterval <span class="en-US">Interval of halving read counts, unit: millisecond</span>
+         *                      <span class="zh-CN">读取计数减半的间隔，单位：毫秒</span>
+         * @return <span class="en-US">Current hot key configure builder</span>
+         * <span class="zh-CN">当前热点键配置构建器</span>
+         */
+        public HotKeyConfigBuilder threshold(final int threshold, final int decayInterval) {
+            this.hotKeyConfig.setThreshold(threshold);
+            this.hotKeyConfig.setDecayInterval(decayInterval);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Configure local cache for hot keys</h3>
+         * <h3 class="zh-CN">配置热点键的本地缓存</h3>
+         *
+         * @param localSize   <span class="en-US">Maximum size of local cache</span>
+         *                    <span class="zh-CN">本地缓存的最大容量</span>
+         * @param localExpire <span class="en-US">Expire time of local cache, unit: millisecond</span>
+         *                    <span class="zh-CN">本地缓存的过期时间，单位：毫秒</span>
+         * @return <span class="en-US">Current hot key configure builder</span>
+         * <span class="zh-CN">当前热点键配置构建器</span>
+         */
+        public HotKeyConfigBuilder localCache(final int localSize, final int localExpire) {
+            this.hotKeyConfig.setLocalSize(localSize);
+            this.hotKeyConfig.setLocalExpire(localExpire);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Confirm configure information</h3>
+         * <h3 class="zh-CN">确认配置信息</h3>
+         *
+         * @throws BuilderException <span class="en-US">Throws if hot key configure is invalid</span>
+         *                          <span class="zh-CN">如果热点键配置信息非法，则抛出异常</span>
+         */
+        @Override
+        protected void build() throws BuilderException {
+            this.parentBuilder.hotKeyConfig(this.hotKeyConfig);
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Value size configure builder</h2>
+     * <h2 class="zh-CN">数据大小配置构建器</h2>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:04:41 $
+     */
+    public static final class ValueSizeConfigBuilder extends AbstractBuilder<CacheConfigBuilder> {
+
+        /**
+         * <span class="en-US">Value size config instance</span>
+         * <span class="zh-CN">数据大小配置信息</span>
+         */
+        private final CacheConfig.ValueSizeConfig valueSizeConfig;
+
+        /**
+         * <h3 class="en-US">Constructor for value size configure builder</h3>
+         * <h3 class="zh-CN">数据大小配置构造器构建方法</h3>
+         *
+         * @param parentBuilder   <span class="en-US">Parent builder instance</span>
+         *                        <span class="zh-CN">上级构建器实例</span>
+         * @param valueSizeConfig <span class="en-US">Current value size configure instance or null for generate new configure</span>
+         *                        <span class="zh-CN">当前的数据大小配置，如果传入null则生成一个新的配置</span>
+         */
+        private ValueSizeConfigBuilder(final CacheConfigBuilder parentBuilder,
+                                       final CacheConfig.ValueSizeConfig valueSizeConfig) {
+            super(parentBuilder);
+            this.valueSizeConfig = (valueSizeConfig == null) ? new CacheConfig.ValueSizeConfig() : valueSizeConfig;
+        }
+
+        /**
+         * <h3 class="en-US">Static method for create value size configure builder</h3>
+         * <h3 class="zh-CN">静态方法用于创建数据大小配置构造器</h3>
+         *
+         * @param parentBuilder   <span class="en-US">Parent builder instance</span>
+         *                        <span class="zh-CN">上级构建器实例</span>
+         * @param valueSizeConfig <span class="en-US">Current value size configure instance or null for generate new configure</span>
+         *                        <span class="zh-CN">当前的数据大小配置，如果传入null则生成一个新的配置</span>
+         */
+        public static ValueSizeConfigBuilder newBuilder(final CacheConfigBuilder parentBuilder,
+                                                        final CacheConfig.ValueSizeConfig valueSizeConfig) {
+            return new ValueSizeConfigBuilder(parentBuilder, valueSizeConfig);
+        }
+
+        /**
+         * <h3 class="en-US">Configure count of the largest keys tracked</h3>
+         * <h3 class="zh-CN">配置跟踪的最大键数量</h3>
+         *
+         * @param topN <span class="en-US">Count of the largest keys</span>
+         *             <span class="zh-CN">最大键数量</span>
+         * @return <span class="en-US">Current value size configure builder</span>
+         * <span class="zh-CN">当前数据大小配置构建器</span>
+         */
+        public ValueSizeConfigBuilder topN(final int topN) {
+            this.valueSizeConfig.setTopN(topN);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Configure size limit of written value</h3>
+         * <h3 class="zh-CN">配置写入数据的大小限制</h3>
+         *
+         * @param sizeLimit      <span class="en-US">Size limit, 0 for no limit, unit: byte</span>
+         *                       <span class="zh-CN">大小限制，0为不限制，单位：字节</span>
+         * @param rejectOversize <span class="en-US">Reject written value which size exceeds the limit, only log warning if false</span>
+         *                       <span class="zh-CN">拒绝大小超过限制的写入数据，为false时仅记录警告日志</span>
+         * @return <span class="en-US">Current value size configure builder</span>
+         * <span class="zh-CN">当前数据大小配置构建器</span>
+         */
+        public ValueSizeConfigBuilder sizeLimit(final int sizeLimit, final boolean rejectOversize) {
+            this.valueSizeConfig.setSizeLimit(sizeLimit);
+            this.valueSizeConfig.setRejectOversize(rejectOversize);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Confirm configure information</h3>
+         * <h3 class="zh-CN">确认配置信息</h3>
+         *
+         * @throws BuilderException <span class="en-US">Throws if value size configure is invalid</span>
+         *                          <span class="zh-CN">如果数据大小配置信息非法，则抛出异常</span>
+         */
+        @Override
+        protected void build() throws BuilderException {
+            this.parentBuilder.valueSizeConfig(this.valueSizeConfig);
+        }
+    }
+    /**
+     * <h2 class="en-US">Fill lease configure builder</h2>
+     * <h2 class="zh-CN">填充租约配置构建器</h2>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:55:08 $
+     */
+    public static final class FillLeaseConfigBuilder extends AbstractBuilder<CacheConfigBuilder> {
+
+        /**
+         * <span class="en-US">Fill lease config instance</span>
+         * <span class="zh-CN">填充租约配置信息</span>
+         */
+        private final CacheConfig.FillLeaseConfig fillLeaseConfig;
+
+        /**
+         * <h3 class="en-US">Constructor for fill lease configure builder</h3>
+         * <h3 class="zh-CN">填充租约配置构造器构建方法</h3>
+         *
+         * @param parentBuilder   <span class="en-US">Parent builder instance</span>
+         *                        <span class="zh-CN">上级构建器实例</span>
+         * @param fillLeaseConfig <span class="en-US">Current fill lease configure instance or null for generate new configure</span>
+         *                        <span class="zh-CN">当前的填充租约配置，如果传入null则生成一个新的配置</span>
+         */
+        private FillLeaseConfigBuilder(final CacheConfigBuilder parentBuilder,
+                                       final CacheConfig.FillLeaseConfig fillLeaseConfig) {
+            super(parentBuilder);
+            this.fillLeaseConfig = (fillLeaseConfig == null) ? new CacheConfig.FillLeaseConfig() : fillLeaseConfig;
+        }
+
+        /**
+         * <h3 class="en-US">Static method for create fill lease configure builder</h3>
+         * <h3 class="zh-CN">静态方法用于创建填充租约配置构造器</h3>
+         *
+         * @param parentBuilder   <span class="en-US">Parent builder instance</span>
+         *                        <span class="zh-CN">上级构建器实例</span>
+         * @param fillLeaseConfig <span class="en-US">Current fill lease configure instance or null for generate new configure</span>
+         *                        <span class="zh-CN">当前的填充租约配置，如果传入null则生成一个新的配置</span>
+         */
+        public static FillLeaseConfigBuilder newBuilder(final CacheConfigBuilder parentBuilder,
+                                                        final CacheConfig.FillLeaseConfig fillLeaseConfig) {
+            return new FillLeaseConfigBuilder(parentBuilder, fillLeaseConfig);
+        }
+
+        /**
+         * <h3 class="en-US">Configure lease time</h3>
+         * <h3 class="zh-CN">配置租约时间</h3>
+         *
+         * @param leaseTime <span class="en-US">Lease time, the lease was released automatically after timeout, unit: millisecond</span>
+         *                  <span class="zh-CN">租约时间，超时后租约自动释放，单位：毫秒</span>
+         * @return <span class="en-US">Current fill lease configure builder</span>
+         * <span class="zh-CN">当前填充租约配置构建器</span>
+         */
+        public FillLeaseConfigBuilder leaseTime(final int leaseTime) {
+            this.fillLeaseConfig.setLeaseTime(leaseTime);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Configure wait time and initial poll interval of client which not acquired the lease</h3>
+         * <h3 class="zh-CN">配置未获得租约的客户端的等待时间和初始轮询间隔</h3>
+         *
+         * @param waitTime     <span class="en-US">Wait time, unit: millisecond</span>
+         *                     <span class="zh-CN">等待时间，单位：毫秒</span>
+         * @param pollInterval <span class="en-US">Initial poll interval, doubled after each poll, unit: millisecond</span>
+         *                     <span class="zh-CN">初始轮询间隔，每次轮询后加倍，单位：毫秒</span>
+         * @return <span class="en-US">Current fill lease configure builder</span>
+         * <span class="zh-CN">当前填充租约配置构建器</span>
+         */
+        public FillLeaseConfigBuilder waitTime(final int waitTime, final int pollInterval) {
+            this.fillLeaseConfig.setWaitTime(waitTime);
+            this.fillLeaseConfig.setPollInterval(pollInterval);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Confirm configure information</h3>
+         * <h3 class="zh-CN">确认配置信息</h3>
+         *
+         * @throws BuilderException <span class="en-US">Throws if fill lease configure is invalid</span>
+         *                          <span class="zh-CN">如果填充租约配置信息非法，则抛出异常</span>
+         */
+        @Override
+        protected void build() throws BuilderException {
+            this.parentBuilder.fillLeaseConfig(this.fillLeaseConfig);
+        }
+    }
+    /**
+     * <h2 class="en-US">Counter configure builder</h2>
+     * <h2 class="zh-CN">计数器配置构建器</h2>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 00:46:13 $
+     */
+    public static final class CounterConfigBuilder extends AbstractBuilder<CacheConfigBuilder> {
+
+        /**
+         * <span class="en-US">Counter config instance</span>
+         * <span class="zh-CN">计数器配置信息</span>
+         */
+        private final CacheConfig.CounterConfig counterConfig;
+
+        /**
+         * <h3 class="en-US">Constructor for counter configure builder</h3>
+         * <h3 class="zh-CN">计数器配置构造器构建方法</h3>
+         *
+         * @param parentBuilder <span class="en-US">Parent builder instance</span>
+         *                      <span class="zh-CN">上级构建器实例</span>
+         * @param counterConfig <span class="en-US">Current counter configure instance or null for generate new configure</span>
+         *                      <span class="zh-CN">当前的计数器配置，如果传入null则生成一个新的配置</span>
+         */
+        private CounterConfigBuilder(final CacheConfigBuilder parentBuilder,
+                                     final CacheConfig.CounterConfig counterConfig) {
+            super(parentBuilder);
+            this.counterConfig = (counterConfig == null) ? new CacheConfig.CounterConfig() : counterConfig;
+        }
+
+        /**
+         * <h3 class="en-US">Static method for create counter configure builder</h3>
+         * <h3 class="zh-CN">静态方法用于创建计数器配置构造器</h3>
+         *
+         * @param parentBuilder <span class="en-US">Parent builder instance</span>
+         *                      <span class="zh-CN">上级构建器实例</span>
+         * @param counterConfig <span class="en-US">Current counter configure instance or null for generate new configure</span>
+         *                      <span class="zh-CN">当前的计数器配置，如果传入null则生成一个新的配置</span>
+         */
+        public static CounterConfigBuilder newBuilder(final CacheConfigBuilder parentBuilder,
+                                                      final CacheConfig.CounterConfig counterConfig) {
+            return new CounterConfigBuilder(parentBuilder, counterConfig);
+        }
+
+        /**
+         * <h3 class="en-US">Configure flush interval and flush threshold of pending counter deltas</h3>
+         * <h3 class="zh-CN">配置待刷新计数器增量的刷新间隔和刷新阈值</h3>
+         *
+         * @param flushInterval  <span class="en-US">Flush interval, unit: millisecond</span>
+         *                       <span class="zh-CN">刷新间隔，单位：毫秒</span>
+         * @param flushThreshold <span class="en-US">Absolute pending delta which flush the counter immediately, 0 for flush by interval only</span>
+         *                       <span class="zh-CN">立即刷新计数器的待刷新增量绝对值，0为仅按间隔刷新</span>
+         * @return <span class="en-US">Current counter configure builder</span>
+         * <span class="zh-CN">当前计数器配置构建器</span>
+         */
+        public CounterConfigBuilder flush(final int flushInterval, final long flushThreshold) {
+            this.counterConfig.setFlushInterval(flushInterval);
+            this.counterConfig.setFlushThreshold(flushThreshold);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Confirm configure information</h3>
+         * <h3 class="zh-CN">确认配置信息</h3>
+         *
+         * @throws BuilderException <span class="en-US">Throws if counter configure is invalid</span>
+         *                          <span class="zh-CN">如果计数器配置信息非法，则抛出异常</span>
+         */
+        @Override
+        protected void build() throws BuilderException {
+            this.parentBuilder.counterConfig(this.counterConfig);
+        }
+    }
+    /**
+     * <h2 class="en-US">Warm-up configure builder</h2>
+     * <h2 class="zh-CN">预热配置构建器</h2>
+     *
+     * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+     * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 18:15:27 $
+     */
+    public static final class WarmupConfigBuilder extends AbstractBuilder<CacheConfigBuilder> {
+
+        /**
+         * <span class="en-US">Warm-up config instance</span>
+         * <span class="zh-CN">预热配置信息</span>
+         */
+        private final CacheConfig.WarmupConfig warmupConfig;
+
+        /**
+         * <h3 class="en-US">Constructor for warm-up configure builder</h3>
+         * <h3 class="zh-CN">预热配置构造器构建方法</h3>
+         *
+         * @param parentBuilder <span class="en-US">Parent builder instance</span>
+         *                      <span class="zh-CN">上级构建器实例</span>
+         * @param warmupConfig  <span class="en-US">Current warm-up configure instance or null for generate new configure</span>
+         *                      <span class="zh-CN">当前的预热配置，如果传入null则生成一个新的配置</span>
+         */
+        private WarmupConfigBuilder(final CacheConfigBuilder parentBuilder,
+                                    final CacheConfig.WarmupConfig warmupConfig) {
+            super(parentBuilder);
+            this.warmupConfig = (warmupConfig == null) ? new CacheConfig.WarmupConfig() : warmupConfig;
+        }
+
+        /**
+         * <h3 class="en-US">Static method for create warm-up configure builder</h3>
+         * <h3 class="zh-CN">静态方法用于创建预热配置构造器</h3>
+         *
+         * @param parentBuilder <span class="en-US">Parent builder instance</span>
+         *                      <span class="zh-CN">上级构建器实例</span>
+         * @param warmupConfig  <span class="en-US">Current warm-up configure instance or null for generate new configure</span>
+         *                      <span class="zh-CN">当前的预热配置，如果传入null则生成一个新的配置</span>
+         */
+        public static WarmupConfigBuilder newBuilder(final CacheConfigBuilder parentBuilder,
+                                                     final CacheConfig.WarmupConfig warmupConfig) {
+            return new WarmupConfigBuilder(parentBuilder, warmupConfig);
+        }
+
+        /**
+         * <h3 class="en-US">Configure timeout of connection warm-up and hot keys prefetch</h3>
+         * <h3 class="zh-CN">配置连接预热和热点键预取的超时时间</h3>
+         *
+         * @param timeout <span class="en-US">Warm-up timeout, unit: millisecond</span>
+         *                <span class="zh-CN">预热超时时间，单位：毫秒</span>
+         * @return <span class="en-US">Current warm-up configure builder</span>
+         * <span class="zh-CN">当前预热配置构建器</span>
+         */
+        public WarmupConfigBuilder timeout(final int timeout) {
+            this.warmupConfig.setTimeout(timeout);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Configure keys which value was read into local cache of hot keys</h3>
+         * <h3 class="zh-CN">配置数据读取到热点键本地缓存中的键</h3>
+         *
+         * @param prefetchKeys <span class="en-US">Prefetch keys, only works when hot key detection was enabled</span>
+         *                     <span class="zh-CN">预取键，仅在启用热点键检测时生效</span>
+         * @return <span class="en-US">Current warm-up configure builder</span>
+         * <span class="zh-CN">当前预热配置构建器</span>
+         */
+        public WarmupConfigBuilder prefetchKeys(final String... prefetchKeys) {
+            List<String> keyList = new ArrayList<>();
+            for (String prefetchKey : prefetchKeys) {
+                if (StringUtils.notBlank(prefetchKey) && !keyList.contains(prefetchKey)) {
+                    keyList.add(prefetchKey);
+                }
+            }
+            this.warmupConfig.setPrefetchKeys(keyList);
+            return this;
+        }
+
+        /**
+         * <h3 class="en-US">Confirm configure information</h3>
+         * <h3 class="zh-CN">确认配置信息</h3>
+         *
+         * @throws BuilderException <span class="en-US">Throws if warm-up configure is invalid</span>
+         *                          <span class="zh-CN">如果预热配置信息非法，则抛出异常</span>
+         */
+        @Override
+        protected void build() throws BuilderException {
+            this.parentBuilder.warmupConfig(this.warmupConfig);
+        }
+    }
+}
\ No newline at end of file
@@ -27,6 +27,16 @@ public final class CacheGlobals {
      * <span class="zh-CN">默认连接超时时间。单位：秒</span>
      */
     public static final int DEFAULT_CONNECTION_TIMEOUT = 1;
+    /**
+     * <span class="en-US">Default command timeout. Unit: millisecond</span>
+     * <span class="zh-CN">默认命令超时时间。单位：毫秒</span>
+     */
+    public static final int DEFAULT_COMMAND_TIMEOUT = 1000;
+    /**
+     * <span class="en-US">Default timeout of acquire connection from pool. Unit: millisecond</span>
+     * <span class="zh-CN">默认从连接池获取连接的超时时间。单位：毫秒</span>
+     */
+    public static final int DEFAULT_POOL_TIMEOUT = 1000;
     /**
      * <span class="en-US">Default expire time. Unit: second</span>
      * <span class="zh-CN">默认缓存过期时间。单位：秒</span>
@@ -47,11 +57,181 @@ public final class CacheGlobals {
      * <span class="zh-CN">默认重试次数</span>
      */
     public static final int DEFAULT_RETRY_COUNT = 3;
+    /**
+     * <span class="en-US">Default backoff before the first retry. Unit: millisecond</span>
+     * <span class="zh-CN">第一次重试前默认的退避时间。单位：毫秒</span>
+     */
+    public static final int DEFAULT_INITIAL_BACKOFF = 50;
+    /**
+     * <span class="en-US">Default maximum backoff before retry. Unit: millisecond</span>
+     * <span class="zh-CN">重试前默认的最大退避时间。单位：毫秒</span>
+     */
+    public static final int DEFAULT_MAXIMUM_BACKOFF = 1000;
+    /**
+     * <span class="en-US">Default overall deadline of operate include all retries. Unit: millisecond</span>
+     * <span class="zh-CN">包含所有重试在内默认的操作总截止时间。单位：毫秒</span>
+     */
+    public static final int DEFAULT_RETRY_DEADLINE = 5000;
     /**
      * <span class="en-US">Default server weight</span>
      * <span class="zh-CN">默认服务器权重</span>
      */
     public static final int DEFAULT_CACHE_SERVER_WEIGHT = 1;
+    /**
+     * <span class="en-US">Default failure rate threshold of circuit breaker. Unit: percent</span>
+     * <span class="zh-CN">熔断器默认的失败率阈值。单位：百分比</span>
+     */
+    public static final int DEFAULT_FAILURE_RATE_THRESHOLD = 50;
+    /**
+     * <span class="en-US">Default slow call threshold of circuit breaker. Unit: millisecond</span>
+     * <span class="zh-CN">熔断器默认的慢调用时间阈值。单位：毫秒</span>
+     */
+    public static final int DEFAULT_SLOW_CALL_THRESHOLD = 500;
+    /**
+     * <span class="en-US">Default slow call rate threshold of circuit breaker. Unit: percent</span>
+     * <span class="zh-CN">熔断器默认的慢调用比例阈值。单位：百分比</span>
+     */
+    public static final int DEFAULT_SLOW_CALL_RATE_THRESHOLD = 80;
+    /**
+     * <span class="en-US">Default minimum calls in sliding window before circuit breaker calculate the rates</span>
+     * <span class="zh-CN">熔断器计算比例前滑动窗口内需要的最少调用次数</span>
+     */
+    public static final int DEFAULT_MINIMUM_CALLS = 20;
+    /**
+     * <span class="en-US">Default sliding window size of circuit breaker. Unit: second</span>
+     * <span class="zh-CN">熔断器默认的滑动窗口大小。单位：秒</span>
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 10;
+    /**
+     * <span class="en-US">Default duration of circuit breaker keep open state. Unit: millisecond</span>
+     * <span class="zh-CN">熔断器默认的打开状态持续时间。单位：毫秒</span>
+     */
+    public static final int DEFAULT_OPEN_DURATION = 5000;
+    /**
+     * <span class="en-US">Default probe calls count in half-open state</span>
+     * <span class="zh-CN">半开状态下默认的探测调用次数</span>
+     */
+    public static final int DEFAULT_HALF_OPEN_CALLS = 5;
+    /**
+     * <span class="en-US">Default latency percentile of hedged read delay. Unit: percent</span>
+     * <span class="zh-CN">对冲读取延迟默认使用的延迟百分位。单位：百分比</span>
+     */
+    public static final int DEFAULT_HEDGE_PERCENTILE = 95;
+    /**
+     * <span class="en-US">Default minimum delay before send hedged read. Unit: millisecond</span>
+     * <span class="zh-CN">发送对冲读取前默认的最小延迟。单位：毫秒</span>
+     */
+    public static final int DEFAULT_HEDGE_MINIMUM_DELAY = 1;
+    /**
+     * <span class="en-US">Default budget rate of hedged reads in all reads. Unit: percent</span>
+     * <span class="zh-CN">对冲读取在所有读取中默认的预算比例。单位：百分比</span>
+     */
+    public static final int DEFAULT_HEDGE_BUDGET_RATE = 10;
+    /**
+     * <span class="en-US">Default count of heavy hitters tracked by hot key detector</span>
+     * <span class="zh-CN">热点键检测器默认跟踪的高频键数量</span>
+     */
+    public static final int DEFAULT_HOT_KEY_TOP_K = 16;
+    /**
+     * <span class="en-US">Default estimated read count in decaying window which key was treated as hot key</span>
+     * <span class="zh-CN">键被视为热点键时默认的衰减窗口内估算读取次数</span>
+     */
+    public static final int DEFAULT_HOT_KEY_THRESHOLD = 1000;
+    /**
+     * <span class="en-US">Default interval of halving read counts. Unit: millisecond</span>
+     * <span class="zh-CN">读取计数减半的默认间隔。单位：毫秒</span>
+     */
+    public static final int DEFAULT_HOT_KEY_DECAY_INTERVAL = 1000;
+    /**
+     * <span class="en-US">Default maximum size of local cache for hot keys</span>
+     * <span class="zh-CN">热点键本地缓存默认的最大容量</span>
+     */
+    public static final int DEFAULT_LOCAL_CACHE_SIZE = 256;
+    /**
+     * <span class="en-US">Default expire time of local cache for hot keys. Unit: millisecond</span>
+     * <span class="zh-CN">热点键本地缓存默认的过期时间。单位：毫秒</span>
+     */
+    public static final int DEFAULT_LOCAL_CACHE_EXPIRE = 500;
+    /**
+     * <span class="en-US">Default count of the largest keys tracked by value size profiler</span>
+     * <span class="zh-CN">值大小分析器默认跟踪的最大键数量</span>
+     */
+    public static final int DEFAULT_BIG_KEY_TOP_N = 16;
+    /**
+     * <span class="en-US">Default size limit of written value, 0 for no limit. Unit: byte</span>
+     * <span class="zh-CN">写入数据默认的大小限制，0为不限制。单位：字节</span>
+     */
+    public static final int DEFAULT_VALUE_SIZE_LIMIT = 0;
+    /**
+     * <span class="en-US">Expire time of namespace generation cached in local. Unit: millisecond</span>
+     * <span class="zh-CN">本地缓存的命名空间代数编号的过期时间。单位：毫秒</span>
+     */
+    public static final int NAMESPACE_GENERATION_EXPIRE = 1000;
+    /**
+     * <span class="en-US">Key prefix of tag member set</span>
+     * <span class="zh-CN">标签成员集合的键前缀</span>
+     */
+    public static final String TAG_KEY_PREFIX = "_tag_:";
+    /**
+     * <span class="en-US">Default count hint of keys returned by each SCAN command</span>
+     * <span class="zh-CN">每次SCAN命令返回键数量的默认提示值</span>
+     */
+    public static final int DEFAULT_SCAN_BATCH_SIZE = 100;
+    /**
+     * <span class="en-US">Maximum keys count of each multi-key delete command</span>
+     * <span class="zh-CN">每个多键删除命令的最大键数量</span>
+     */
+    public static final int DELETE_BATCH_SIZE = 500;
+    /**
+     * <span class="en-US">Key prefix of fill lease</span>
+     * <span class="zh-CN">填充租约的键前缀</span>
+     */
+    public static final String LEASE_KEY_PREFIX = "_lease_:";
+    /**
+     * <span class="en-US">Name of built-in script: compare and set, KEYS: key, ARGV: version, value, expire</span>
+     * <span class="zh-CN">内置脚本名称：比较并设置，KEYS：键，ARGV：版本，数据，过期时间</span>
+     */
+    public static final String SCRIPT_COMPARE_AND_SET = "compareAndSet";
+    /**
+     * <span class="en-US">Name of built-in script: increment and set expire time if the key has none, KEYS: key, ARGV: step, expire</span>
+     * <span class="zh-CN">内置脚本名称：自增并在键没有过期时间时设置过期时间，KEYS：键，ARGV：步进值，过期时间</span>
+     */
+    public static final String SCRIPT_INCR_WITH_EXPIRE = "incrWithExpire";
+    /**
+     * <span class="en-US">Name of built-in script: set number only if greater than current, KEYS: key, ARGV: value, expire</span>
+     * <span class="zh-CN">内置脚本名称：仅当数字大于当前数据时设置，KEYS：键，ARGV：数据，过期时间</span>
+     */
+    public static final String SCRIPT_SET_IF_GREATER = "setIfGreater";
+    /**
+     * <span class="en-US">Default lease time of cache fill. Unit: millisecond</span>
+     * <span class="zh-CN">缓存填充默认的租约时间。单位：毫秒</span>
+     */
+    public static final int DEFAULT_FILL_LEASE_TIME = 3000;
+    /**
+     * <span class="en-US">Default wait time of client which not acquired the fill lease. Unit: millisecond</span>
+     * <span class="zh-CN">未获得填充租约的客户端默认的等待时间。单位：毫秒</span>
+     */
+    public static final int DEFAULT_FILL_WAIT_TIME = 1000;
+    /**
+     * <span class="en-US">Default initial poll interval of client which not acquired the fill lease. Unit: millisecond</span>
+     * <span class="zh-CN">未获得填充租约的客户端默认的初始轮询间隔。单位：毫秒</span>
+     */
+    public static final int DEFAULT_FILL_POLL_INTERVAL = 20;
+    /**
+     * <span class="en-US">Default flush interval of pending counter deltas. Unit: millisecond</span>
+     * <span class="zh-CN">待刷新计数器增量默认的刷新间隔。单位：毫秒</span>
+     */
+    public static final int DEFAULT_COUNTER_FLUSH_INTERVAL = 1000;
+    /**
+     * <span class="en-US">Default absolute pending delta which flush the counter immediately, 0 for flush by interval only</span>
+     * <span class="zh-CN">立即刷新计数器默认的待刷新增量绝对值，0为仅按间隔刷新</span>
+     */
+    public static final long DEFAULT_COUNTER_FLUSH_THRESHOLD = 0L;
+    /**
+     * <span class="en-US">Default timeout of connection warm-up and hot keys prefetch. Unit: millisecond</span>
+     * <span class="zh-CN">连接预热和热点键预取默认的超时时间。单位：毫秒</span>
+     */
+    public static final int DEFAULT_WARMUP_TIMEOUT = 5000;
     /**
      * <span class="en-US">Default cache identification code</span>
      * <span class="zh-CN">默认的缓存识别代码</span>
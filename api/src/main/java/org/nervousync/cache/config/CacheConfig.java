@@ -58,8 +58,8 @@ public final class CacheConfig extends BeanObject {
 	@XmlElement(name = "connect_timeout")
 	private int connectTimeout = CacheGlobals.DEFAULT_CONNECTION_TIMEOUT;
 	/**
-	 * <span class="en-US">Connect retry count</span>
-	 * <span class="zh-CN">连接超时重试次数</span>
+	 * <span class="en-US">Retry count of failed operates</span>
+	 * <span class="zh-CN">失败操作的重试次数</span>
 	 */
 	@XmlElement(name = "retry_count")
 	private int retryCount = CacheGlobals.DEFAULT_RETRY_COUNT;
@@ -69,6 +69,36 @@ public final class CacheConfig extends BeanObject {
 	 */
 	@XmlElement(name = "expire_time")
 	private int expireTime = CacheGlobals.DEFAULT_EXPIRE_TIME;
+	/**
+	 * <span class="en-US">Percentage of default expire time which was randomly subtracted from the expire time of each write</span>
+	 * <span class="zh-CN">每次写入时从过期时间中随机扣减的默认过期时间百分比</span>
+	 */
+	@XmlElement(name = "expire_jitter_percent")
+	private int expireJitterPercent = 0;
+	/**
+	 * <span class="en-US">Maximum seconds which was randomly subtracted from the expire time of each write</span>
+	 * <span class="zh-CN">每次写入时从过期时间中随机扣减的最大秒数</span>
+	 */
+	@XmlElement(name = "expire_jitter_range")
+	private int expireJitterRange = 0;
+	/**
+	 * <span class="en-US">Delete keys by UNLINK, the memory was reclaimed by background thread of Redis server</span>
+	 * <span class="zh-CN">使用UNLINK删除键，内存由Redis服务器的后台线程回收</span>
+	 */
+	@XmlElement(name = "lazy_delete")
+	private boolean lazyDelete = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Sliding expiration, every read resets the expire time of the key to default expire time</span>
+	 * <span class="zh-CN">滑动过期，每次读取将键的过期时间重置为默认过期时间</span>
+	 */
+	@XmlElement(name = "sliding_expire")
+	private boolean slidingExpire = Boolean.FALSE;
+	/**
+	 * <span class="en-US">Lazy connect, the provider was initialized in background and the first use waits for it</span>
+	 * <span class="zh-CN">延迟连接，缓存适配器在后台初始化，首次使用时等待初始化完成</span>
+	 */
+	@XmlElement(name = "lazy_connect")
+	private boolean lazyConnect = Boolean.FALSE;
 	/**
 	 * <span class="en-US">Client pool size</span>
 	 * <span class="zh-CN">连接池大小</span>
@@ -113,6 +143,60 @@ public final class CacheConfig extends BeanObject {
 	@XmlElementWrapper(name = "server_config_list")
 	@XmlElement(name = "server_config")
 	private List<ServerConfig> serverConfigList;
+	/**
+	 * <span class="en-US">Circuit breaker configure, null for disable circuit breaker</span>
+	 * <span class="zh-CN">熔断器配置，为null时不启用熔断器</span>
+	 */
+	@XmlElement(name = "circuit_breaker")
+	private CircuitBreakerConfig circuitBreakerConfig = null;
+	/**
+	 * <span class="en-US">Hedged read configure, null for disable hedged read</span>
+	 * <span class="zh-CN">对冲读取配置，为null时不启用对冲读取</span>
+	 */
+	@XmlElement(name = "hedged_read")
+	private HedgedReadConfig hedgedReadConfig = null;
+	/**
+	 * <span class="en-US">Timeout configure in milliseconds, null for using connect timeout for all timeouts</span>
+	 * <span class="zh-CN">以毫秒为单位的超时配置，为null时所有超时均使用连接超时时间</span>
+	 */
+	@XmlElement(name = "timeout")
+	private TimeoutConfig timeoutConfig = null;
+	/**
+	 * <span class="en-US">Retry configure, null for using default backoff and deadline</span>
+	 * <span class="zh-CN">重试配置，为null时使用默认的退避时间和截止时间</span>
+	 */
+	@XmlElement(name = "retry")
+	private RetryConfig retryConfig = null;
+	/**
+	 * <span class="en-US">Hot key configure, null for disable hot key detection</span>
+	 * <span class="zh-CN">热点键配置，为null时不启用热点键检测</span>
+	 */
+	@XmlElement(name = "hot_key")
+	private HotKeyConfig hotKeyConfig = null;
+	/**
+	 * <span class="en-US">Value size configure, null for disable value size profiling</span>
+	 * <span class="zh-CN">数据大小配置，为null时不启用数据大小分析</span>
+	 */
+	@XmlElement(name = "value_size")
+	private ValueSizeConfig valueSizeConfig = null;
+	/**
+	 * <span class="en-US">Fill lease configure, null for coordinate cache fill in current JVM only</span>
+	 * <span class="zh-CN">填充租约配置，为null时仅在当前JVM中协调缓存填充</span>
+	 */
+	@XmlElement(name = "fill_lease")
+	private FillLeaseConfig fillLeaseConfig = null;
+	/**
+	 * <span class="en-US">Counter configure, null for send each counter delta to cache server directly</span>
+	 * <span class="zh-CN">计数器配置，为null时将每次计数器增量直接发送到缓存服务器</span>
+	 */
+	@XmlElement(name = "counter")
+	private CounterConfig counterConfig = null;
+	/**
+	 * <span class="en-US">Warm-up configure, null for connections were created by providers when required</span>
+	 * <span class="zh-CN">预热配置，为null时连接由缓存适配器在需要时创建</span>
+	 */
+	@XmlElement(name = "warmup")
+	private WarmupConfig warmupConfig = null;
 
 	/**
 	 * <h3 class="en-US">Constructor for Cache config.</h3>
@@ -232,22 +316,22 @@ public final class CacheConfig extends BeanObject {
 	}
 
 	/**
-	 * <h3 class="en-US">Retrieve server connect retry count</h3>
-	 * <h3 class="zh-CN">读取缓存服务器的连接超时重试次数</h3>
+	 * <h3 class="en-US">Retrieve retry count of failed operates</h3>
+	 * <h3 class="zh-CN">读取失败操作的重试次数</h3>
 	 *
-	 * @return <span class="en-US">Connect retry count</span>
-	 * <span class="zh-CN">连接超时重试次数</span>
+	 * @return <span class="en-US">Retry count of failed operates</span>
+	 * <span class="zh-CN">失败操作的重试次数</span>
 	 */
 	public int getRetryCount() {
 		return retryCount;
 	}
 
 	/**
-	 * <h3 class="en-US">Configure server connect retry count</h3>
-	 * <h3 class="zh-CN">设置缓存服务器的连接超时时间</h3>
+	 * <h3 class="en-US">Configure retry count of failed operates</h3>
+	 * <h3 class="zh-CN">设置失败操作的重试次数</h3>
 	 *
-	 * @param retryCount <span class="en-US">Connect retry count</span>
-	 *                   <span class="zh-CN">连接超时重试次数</span>
+	 * @param retryCount <span class="en-US">Retry count of failed operates</span>
+	 *                   <span class="zh-CN">失败操作的重试次数</span>
 	 */
 	public void setRetryCount(final int retryCount) {
 		this.retryCount = retryCount;
@@ -275,6 +359,116 @@ public final class CacheConfig extends BeanObject {
 		this.expireTime = expireTime;
 	}
 
+	/**
+	 * <h3 class="en-US">Retrieve expire jitter percentage of default expire time</h3>
+	 * <h3 class="zh-CN">读取默认过期时间的过期抖动百分比</h3>
+	 *
+	 * @return <span class="en-US">Expire jitter percentage</span>
+	 * <span class="zh-CN">过期抖动百分比</span>
+	 */
+	public int getExpireJitterPercent() {
+		return expireJitterPercent;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure expire jitter percentage of default expire time</h3>
+	 * <h3 class="zh-CN">设置默认过期时间的过期抖动百分比</h3>
+	 *
+	 * @param expireJitterPercent <span class="en-US">Expire jitter percentage</span>
+	 *                            <span class="zh-CN">过期抖动百分比</span>
+	 */
+	public void setExpireJitterPercent(final int expireJitterPercent) {
+		this.expireJitterPercent = expireJitterPercent;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve expire jitter range</h3>
+	 * <h3 class="zh-CN">读取过期抖动范围</h3>
+	 *
+	 * @return <span class="en-US">Expire jitter range, unit: second</span>
+	 * <span class="zh-CN">过期抖动范围，单位：秒</span>
+	 */
+	public int getExpireJitterRange() {
+		return expireJitterRange;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure expire jitter range</h3>
+	 * <h3 class="zh-CN">设置过期抖动范围</h3>
+	 *
+	 * @param expireJitterRange <span class="en-US">Expire jitter range, unit: second</span>
+	 *                          <span class="zh-CN">过期抖动范围，单位：秒</span>
+	 */
+	public void setExpireJitterRange(final int expireJitterRange) {
+		this.expireJitterRange = expireJitterRange;
+	}
+
+	/**
+	 * <h3 class="en-US">Check delete keys by UNLINK</h3>
+	 * <h3 class="zh-CN">检查是否使用UNLINK删除键</h3>
+	 *
+	 * @return <span class="en-US">Delete keys by UNLINK</span>
+	 * <span class="zh-CN">使用UNLINK删除键</span>
+	 */
+	public boolean isLazyDelete() {
+		return lazyDelete;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure delete keys by UNLINK, only supported by Redis providers</h3>
+	 * <h3 class="zh-CN">设置是否使用UNLINK删除键，仅Redis适配器支持</h3>
+	 *
+	 * @param lazyDelete <span class="en-US">Delete keys by UNLINK</span>
+	 *                   <span class="zh-CN">使用UNLINK删除键</span>
+	 */
+	public void setLazyDelete(final boolean lazyDelete) {
+		this.lazyDelete = lazyDelete;
+	}
+
+	/**
+	 * <h3 class="en-US">Check sliding expiration was enabled</h3>
+	 * <h3 class="zh-CN">检查是否启用滑动过期</h3>
+	 *
+	 * @return <span class="en-US">Sliding expiration was enabled</span>
+	 * <span class="zh-CN">已启用滑动过期</span>
+	 */
+	public boolean isSlidingExpire() {
+		return slidingExpire;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure sliding expiration, every read resets the expire time of the key</h3>
+	 * <h3 class="zh-CN">设置滑动过期，每次读取重置键的过期时间</h3>
+	 *
+	 * @param slidingExpire <span class="en-US">Sliding expiration was enabled</span>
+	 *                      <span class="zh-CN">已启用滑动过期</span>
+	 */
+	public void setSlidingExpire(final boolean slidingExpire) {
+		this.slidingExpire = slidingExpire;
+	}
+
+	/**
+	 * <h3 class="en-US">Check lazy connect was enabled</h3>
+	 * <h3 class="zh-CN">检查是否启用延迟连接</h3>
+	 *
+	 * @return <span class="en-US">Lazy connect was enabled</span>
+	 * <span class="zh-CN">已启用延迟连接</span>
+	 */
+	public boolean isLazyConnect() {
+		return lazyConnect;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure lazy connect, the provider was initialized in background after registered</h3>
+	 * <h3 class="zh-CN">设置延迟连接，缓存适配器在注册后于后台初始化</h3>
+	 *
+	 * @param lazyConnect <span class="en-US">Lazy connect was enabled</span>
+	 *                    <span class="zh-CN">已启用延迟连接</span>
+	 */
+	public void setLazyConnect(final boolean lazyConnect) {
+		this.lazyConnect = lazyConnect;
+	}
+
 	/**
 	 * <h3 class="en-US">Retrieve connect client pool size</h3>
 	 * <h3 class="zh-CN">读取客户端连接池的大小</h3>
@@ -364,6 +558,204 @@ public final class CacheConfig extends BeanObject {
 		this.masterName = masterName;
 	}
 
+	/**
+	 * <h3 class="en-US">Retrieve circuit breaker configure</h3>
+	 * <h3 class="zh-CN">读取熔断器配置</h3>
+	 *
+	 * @return <span class="en-US">Circuit breaker configure, null for disabled</span>
+	 * <span class="zh-CN">熔断器配置，未启用时返回null</span>
+	 */
+	public CircuitBreakerConfig getCircuitBreakerConfig() {
+		return circuitBreakerConfig;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure circuit breaker</h3>
+	 * <h3 class="zh-CN">设置熔断器配置</h3>
+	 *
+	 * @param circuitBreakerConfig <span class="en-US">Circuit breaker configure, null for disable circuit breaker</span>
+	 *                             <span class="zh-CN">熔断器配置，为null时不启用熔断器</span>
+	 */
+	public void setCircuitBreakerConfig(final CircuitBreakerConfig circuitBreakerConfig) {
+		this.circuitBreakerConfig = circuitBreakerConfig;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve hedged read configure</h3>
+	 * <h3 class="zh-CN">读取对冲读取配置</h3>
+	 *
+	 * @return <span class="en-US">Hedged read configure, null for disabled</span>
+	 * <span class="zh-CN">对冲读取配置，未启用时返回null</span>
+	 */
+	public HedgedReadConfig getHedgedReadConfig() {
+		return hedgedReadConfig;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure hedged read</h3>
+	 * <h3 class="zh-CN">设置对冲读取配置</h3>
+	 *
+	 * @param hedgedReadConfig <span class="en-US">Hedged read configure, null for disable hedged read</span>
+	 *                         <span class="zh-CN">对冲读取配置，为null时不启用对冲读取</span>
+	 */
+	public void setHedgedReadConfig(final HedgedReadConfig hedgedReadConfig) {
+		this.hedgedReadConfig = hedgedReadConfig;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve timeout configure</h3>
+	 * <h3 class="zh-CN">读取超时配置</h3>
+	 *
+	 * @return <span class="en-US">Timeout configure, null for using connect timeout for all timeouts</span>
+	 * <span class="zh-CN">超时配置，为null时所有超时均使用连接超时时间</span>
+	 */
+	public TimeoutConfig getTimeoutConfig() {
+		return timeoutConfig;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure timeout</h3>
+	 * <h3 class="zh-CN">设置超时配置</h3>
+	 *
+	 * @param timeoutConfig <span class="en-US">Timeout configure, null for using connect timeout for all timeouts</span>
+	 *                      <span class="zh-CN">超时配置，为null时所有超时均使用连接超时时间</span>
+	 */
+	public void setTimeoutConfig(final TimeoutConfig timeoutConfig) {
+		this.timeoutConfig = timeoutConfig;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve retry configure</h3>
+	 * <h3 class="zh-CN">读取重试配置</h3>
+	 *
+	 * @return <span class="en-US">Retry configure, null for using default backoff and deadline</span>
+	 * <span class="zh-CN">重试配置，为null时使用默认的退避时间和截止时间</span>
+	 */
+	public RetryConfig getRetryConfig() {
+		return retryConfig;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure retry</h3>
+	 * <h3 class="zh-CN">设置重试配置</h3>
+	 *
+	 * @param retryConfig <span class="en-US">Retry configure, null for using default backoff and deadline</span>
+	 *                    <span class="zh-CN">重试配置，为null时使用默认的退避时间和截止时间</span>
+	 */
+	public void setRetryConfig(final RetryConfig retryConfig) {
+		this.retryConfig = retryConfig;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve hot key configure</h3>
+	 * <h3 class="zh-CN">读取热点键配置</h3>
+	 *
+	 * @return <span class="en-US">Hot key configure, null for disabled</span>
+	 * <span class="zh-CN">热点键配置，未启用时返回null</span>
+	 */
+	public HotKeyConfig getHotKeyConfig() {
+		return hotKeyConfig;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure hot key detection</h3>
+	 * <h3 class="zh-CN">设置热点键配置</h3>
+	 *
+	 * @param hotKeyConfig <span class="en-US">Hot key configure, null for disable hot key detection</span>
+	 *                     <span class="zh-CN">热点键配置，为null时不启用热点键检测</span>
+	 */
+	public void setHotKeyConfig(final HotKeyConfig hotKeyConfig) {
+		this.hotKeyConfig = hotKeyConfig;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve value size configure</h3>
+	 * <h3 class="zh-CN">读取数据大小配置</h3>
+	 *
+	 * @return <span class="en-US">Value size configure, null for disabled</span>
+	 * <span class="zh-CN">数据大小配置，未启用时返回null</span>
+	 */
+	public ValueSizeConfig getValueSizeConfig() {
+		return valueSizeConfig;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure value size profiling</h3>
+	 * <h3 class="zh-CN">设置数据大小配置</h3>
+	 *
+	 * @param valueSizeConfig <span class="en-US">Value size configure, null for disable value size profiling</span>
+	 *                        <span class="zh-CN">数据大小配置，为null时不启用数据大小分析</span>
+	 */
+	public void setValueSizeConfig(final ValueSizeConfig valueSizeConfig) {
+		this.valueSizeConfig = valueSizeConfig;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve fill lease configure</h3>
+	 * <h3 class="zh-CN">读取填充租约配置</h3>
+	 *
+	 * @return <span class="en-US">Fill lease configure, null for disabled</span>
+	 * <span class="zh-CN">填充租约配置，未启用时返回null</span>
+	 */
+	public FillLeaseConfig getFillLeaseConfig() {
+		return fillLeaseConfig;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure fill lease</h3>
+	 * <h3 class="zh-CN">设置填充租约配置</h3>
+	 *
+	 * @param fillLeaseConfig <span class="en-US">Fill lease configure, null for coordinate cache fill in current JVM only</span>
+	 *                        <span class="zh-CN">填充租约配置，为null时仅在当前JVM中协调缓存填充</span>
+	 */
+	public void setFillLeaseConfig(final FillLeaseConfig fillLeaseConfig) {
+		this.fillLeaseConfig = fillLeaseConfig;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve counter configure</h3>
+	 * <h3 class="zh-CN">读取计数器配置</h3>
+	 *
+	 * @return <span class="en-US">Counter configure, null for disabled</span>
+	 * <span class="zh-CN">计数器配置，未启用时返回null</span>
+	 */
+	public CounterConfig getCounterConfig() {
+		return counterConfig;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure counter buffering</h3>
+	 * <h3 class="zh-CN">设置计数器缓冲配置</h3>
+	 *
+	 * @param counterConfig <span class="en-US">Counter configure, null for send each counter delta to cache server directly</span>
+	 *                      <span class="zh-CN">计数器配置，为null时将每次计数器增量直接发送到缓存服务器</span>
+	 */
+	public void setCounterConfig(final CounterConfig counterConfig) {
+		this.counterConfig = counterConfig;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve warm-up configure</h3>
+	 * <h3 class="zh-CN">读取预热配置</h3>
+	 *
+	 * @return <span class="en-US">Warm-up configure, null for disabled</span>
+	 * <span class="zh-CN">预热配置，未启用时返回null</span>
+	 */
+	public WarmupConfig getWarmupConfig() {
+		return warmupConfig;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure connection warm-up</h3>
+	 * <h3 class="zh-CN">设置连接预热配置</h3>
+	 *
+	 * @param warmupConfig <span class="en-US">Warm-up configure, null for connections were created by providers when required</span>
+	 *                     <span class="zh-CN">预热配置，为null时连接由缓存适配器在需要时创建</span>
+	 */
+	public void setWarmupConfig(final WarmupConfig warmupConfig) {
+		this.warmupConfig = warmupConfig;
+	}
+
 	/**
 	 * <h2 class="en-US">Cache server configure JavaBean</h2>
 	 * <h2 class="zh-CN">缓存服务器配置JavaBean</h2>
@@ -510,4 +902,1269 @@ public final class CacheConfig extends BeanObject {
 			this.serverWeight = serverWeight;
 		}
 	}
-}
+
+	/**
+	 * <h2 class="en-US">Circuit breaker configure JavaBean</h2>
+	 * <span class="en-US">
+	 *     The circuit breaker opens when the failure rate or slow call rate in the sliding window reaches threshold,
+	 *     operates fail fast in open state, and probe operates were sent after the open duration.
+	 * </span>
+	 * <h2 class="zh-CN">熔断器配置JavaBean</h2>
+	 * <span class="zh-CN">
+	 *     当滑动窗口内的失败率或慢调用比例达到阈值时熔断器打开，打开状态下操作直接快速失败，打开持续时间之后发送探测操作。
+	 * </span>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 15:10:26 $
+	 */
+	@XmlType(name = "circuit_breaker", namespace = "https://nervousync.org/schemas/cache")
+	@XmlRootElement(name = "circuit_breaker", namespace = "https://nervousync.org/schemas/cache")
+	@XmlAccessorType(XmlAccessType.NONE)
+	public static final class CircuitBreakerConfig extends BeanObject {
+
+		/**
+		 *
+		 */
+		@Serial
+		private static final long serialVersionUID = 3815402714785542218L;
+
+		/**
+		 * <span class="en-US">Failure rate threshold, unit: percent</span>
+		 * <span class="zh-CN">失败率阈值，单位：百分比</span>
+		 */
+		@XmlElement(name = "failure_rate_threshold")
+		private int failureRateThreshold = CacheGlobals.DEFAULT_FAILURE_RATE_THRESHOLD;
+		/**
+		 * <span class="en-US">Slow call threshold, unit: millisecond</span>
+		 * <span class="zh-CN">慢调用时间阈值，单位：毫秒</span>
+		 */
+		@XmlElement(name = "slow_call_threshold")
+		private int slowCallThreshold = CacheGlobals.DEFAULT_SLOW_CALL_THRESHOLD;
+		/**
+		 * <span class="en-US">Slow call rate threshold, unit: percent</span>
+		 * <span class="zh-CN">慢调用比例阈值，单位：百分比</span>
+		 */
+		@XmlElement(name = "slow_call_rate_threshold")
+		private int slowCallRateThreshold = CacheGlobals.DEFAULT_SLOW_CALL_RATE_THRESHOLD;
+		/**
+		 * <span class="en-US">Minimum calls in sliding window before calculate the rates</span>
+		 * <span class="zh-CN">计算比例前滑动窗口内需要的最少调用次数</span>
+		 */
+		@XmlElement(name = "minimum_calls")
+		private int minimumCalls = CacheGlobals.DEFAULT_MINIMUM_CALLS;
+		/**
+		 * <span class="en-US">Sliding window size, unit: second</span>
+		 * <span class="zh-CN">滑动窗口大小，单位：秒</span>
+		 */
+		@XmlElement(name = "window_size")
+		private int windowSize = CacheGlobals.DEFAULT_WINDOW_SIZE;
+		/**
+		 * <span class="en-US">Duration of keep open state, unit: millisecond</span>
+		 * <span class="zh-CN">打开状态持续时间，单位：毫秒</span>
+		 */
+		@XmlElement(name = "open_duration")
+		private int openDuration = CacheGlobals.DEFAULT_OPEN_DURATION;
+		/**
+		 * <span class="en-US">Probe calls count in half-open state</span>
+		 * <span class="zh-CN">半开状态下的探测调用次数</span>
+		 */
+		@XmlElement(name = "half_open_calls")
+		private int halfOpenCalls = CacheGlobals.DEFAULT_HALF_OPEN_CALLS;
+		/**
+		 * <span class="en-US">Queue size of write operates in open state, 0 for drop write operates</span>
+		 * <span class="zh-CN">打开状态下写操作的队列大小，0为丢弃写操作</span>
+		 */
+		@XmlElement(name = "write_queue_size")
+		private int writeQueueSize = Globals.INITIALIZE_INT_VALUE;
+
+		/**
+		 * <h3 class="en-US">Default constructor</h3>
+		 * <h3 class="zh-CN">默认构造方法</h3>
+		 */
+		public CircuitBreakerConfig() {
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve failure rate threshold</h3>
+		 * <h3 class="zh-CN">读取失败率阈值</h3>
+		 *
+		 * @return <span class="en-US">Failure rate threshold, unit: percent</span>
+		 * <span class="zh-CN">失败率阈值，单位：百分比</span>
+		 */
+		public int getFailureRateThreshold() {
+			return failureRateThreshold;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure failure rate threshold</h3>
+		 * <h3 class="zh-CN">设置失败率阈值</h3>
+		 *
+		 * @param failureRateThreshold <span class="en-US">Failure rate threshold, unit: percent</span>
+		 *                             <span class="zh-CN">失败率阈值，单位：百分比</span>
+		 */
+		public void setFailureRateThreshold(final int failureRateThreshold) {
+			this.failureRateThreshold = failureRateThreshold;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve slow call threshold</h3>
+		 * <h3 class="zh-CN">读取慢调用时间阈值</h3>
+		 *
+		 * @return <span class="en-US">Slow call threshold, unit: millisecond</span>
+		 * <span class="zh-CN">慢调用时间阈值，单位：毫秒</span>
+		 */
+		public int getSlowCallThreshold() {
+			return slowCallThreshold;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure slow call threshold</h3>
+		 * <h3 class="zh-CN">设置慢调用时间阈值</h3>
+		 *
+		 * @param slowCallThreshold <span class="en-US">Slow call threshold, unit: millisecond</span>
+		 *                          <span class="zh-CN">慢调用时间阈值，单位：毫秒</span>
+		 */
+		public void setSlowCallThreshold(final int slowCallThreshold) {
+			this.slowCallThreshold = slowCallThreshold;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve slow call rate threshold</h3>
+		 * <h3 class="zh-CN">读取慢调用比例阈值</h3>
+		 *
+		 * @return <span class="en-US">Slow call rate threshold, unit: percent</span>
+		 * <span class="zh-CN">慢调用比例阈值，单位：百分比</span>
+		 */
+		public int getSlowCallRateThreshold() {
+			return slowCallRateThreshold;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure slow call rate threshold</h3>
+		 * <h3 class="zh-CN">设置慢调用比例阈值</h3>
+		 *
+		 * @param slowCallRateThreshold <span class="en-US">Slow call rate threshold, unit: percent</span>
+		 *                              <span class="zh-CN">慢调用比例阈值，单位：百分比</span>
+		 */
+		public void setSlowCallRateThreshold(final int slowCallRateThreshold) {
+			this.slowCallRateThreshold = slowCallRateThreshold;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve minimum calls in sliding window</h3>
+		 * <h3 class="zh-CN">读取滑动窗口内需要的最少调用次数</h3>
+		 *
+		 * @return <span class="en-US">Minimum calls</span>
+		 * <span class="zh-CN">最少调用次数</span>
+		 */
+		public int getMinimumCalls() {
+			return minimumCalls;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure minimum calls in sliding window</h3>
+		 * <h3 class="zh-CN">设置滑动窗口内需要的最少调用次数</h3>
+		 *
+		 * @param minimumCalls <span class="en-US">Minimum calls</span>
+		 *                     <span class="zh-CN">最少调用次数</span>
+		 */
+		public void setMinimumCalls(final int minimumCalls) {
+			this.minimumCalls = minimumCalls;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve sliding window size</h3>
+		 * <h3 class="zh-CN">读取滑动窗口大小</h3>
+		 *
+		 * @return <span class="en-US">Sliding window size, unit: second</span>
+		 * <span class="zh-CN">滑动窗口大小，单位：秒</span>
+		 */
+		public int getWindowSize() {
+			return windowSize;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure sliding window size</h3>
+		 * <h3 class="zh-CN">设置滑动窗口大小</h3>
+		 *
+		 * @param windowSize <span class="en-US">Sliding window size, unit: second</span>
+		 *                   <span class="zh-CN">滑动窗口大小，单位：秒</span>
+		 */
+		public void setWindowSize(final int windowSize) {
+			this.windowSize = windowSize;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve duration of keep open state</h3>
+		 * <h3 class="zh-CN">读取打开状态持续时间</h3>
+		 *
+		 * @return <span class="en-US">Open duration, unit: millisecond</span>
+		 * <span class="zh-CN">打开状态持续时间，单位：毫秒</span>
+		 */
+		public int getOpenDuration() {
+			return openDuration;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure duration of keep open state</h3>
+		 * <h3 class="zh-CN">设置打开状态持续时间</h3>
+		 *
+		 * @param openDuration <span class="en-US">Open duration, unit: millisecond</span>
+		 *                     <span class="zh-CN">打开状态持续时间，单位：毫秒</span>
+		 */
+		public void setOpenDuration(final int openDuration) {
+			this.openDuration = openDuration;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve probe calls count in half-open state</h3>
+		 * <h3 class="zh-CN">读取半开状态下的探测调用次数</h3>
+		 *
+		 * @return <span class="en-US">Probe calls count</span>
+		 * <span class="zh-CN">探测调用次数</span>
+		 */
+		public int getHalfOpenCalls() {
+			return halfOpenCalls;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure probe calls count in half-open state</h3>
+		 * <h3 class="zh-CN">设置半开状态下的探测调用次数</h3>
+		 *
+		 * @param halfOpenCalls <span class="en-US">Probe calls count</span>
+		 *                      <span class="zh-CN">探测调用次数</span>
+		 */
+		public void setHalfOpenCalls(final int halfOpenCalls) {
+			this.halfOpenCalls = halfOpenCalls;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve queue size of write operates in open state</h3>
+		 * <h3 class="zh-CN">读取打开状态下写操作的队列大小</h3>
+		 *
+		 * @return <span class="en-US">Write queue size, 0 for drop write operates</span>
+		 * <span class="zh-CN">写操作队列大小，0为丢弃写操作</span>
+		 */
+		public int getWriteQueueSize() {
+			return writeQueueSize;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure queue size of write operates in open state</h3>
+		 * <h3 class="zh-CN">设置打开状态下写操作的队列大小</h3>
+		 *
+		 * @param writeQueueSize <span class="en-US">Write queue size, 0 for drop write operates</span>
+		 *                       <span class="zh-CN">写操作队列大小，0为丢弃写操作</span>
+		 */
+		public void setWriteQueueSize(final int writeQueueSize) {
+			this.writeQueueSize = writeQueueSize;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Hedged read configure JavaBean</h2>
+	 * <span class="en-US">
+	 *     If a read operate was not completed after the delay, which calculated by the latency percentile,
+	 *     a duplicate read operate will send to another node, the first reply wins and the other one was cancelled.
+	 *     Only works in Master_Slave and Sentinel cluster mode.
+	 * </span>
+	 * <h2 class="zh-CN">对冲读取配置JavaBean</h2>
+	 * <span class="zh-CN">
+	 *     如果读操作在根据延迟百分位计算的延迟时间后仍未完成，则向另一个节点发送重复的读操作，使用最先返回的结果并取消另一个读操作。
+	 *     仅在Master_Slave和Sentinel集群模式下生效。
+	 * </span>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 16:02:37 $
+	 */
+	@XmlType(name = "hedged_read", namespace = "https://nervousync.org/schemas/cache")
+	@XmlRootElement(name = "hedged_read", namespace = "https://nervousync.org/schemas/cache")
+	@XmlAccessorType(XmlAccessType.NONE)
+	public static final class HedgedReadConfig extends BeanObject {
+
+		/**
+		 *
+		 */
+		@Serial
+		private static final long serialVersionUID = -2207843016431158470L;
+
+		/**
+		 * <span class="en-US">Latency percentile used for calculate hedged read delay, unit: percent</span>
+		 * <span class="zh-CN">用于计算对冲读取延迟的延迟百分位，单位：百分比</span>
+		 */
+		@XmlElement(name = "percentile")
+		private int percentile = CacheGlobals.DEFAULT_HEDGE_PERCENTILE;
+		/**
+		 * <span class="en-US">Minimum delay before send hedged read, unit: millisecond</span>
+		 * <span class="zh-CN">发送对冲读取前的最小延迟，单位：毫秒</span>
+		 */
+		@XmlElement(name = "minimum_delay")
+		private int minimumDelay = CacheGlobals.DEFAULT_HEDGE_MINIMUM_DELAY;
+		/**
+		 * <span class="en-US">Maximum rate of hedged reads in all reads, unit: percent</span>
+		 * <span class="zh-CN">对冲读取在所有读取中的最大比例，单位：百分比</span>
+		 */
+		@XmlElement(name = "budget_rate")
+		private int budgetRate = CacheGlobals.DEFAULT_HEDGE_BUDGET_RATE;
+
+		/**
+		 * <h3 class="en-US">Default constructor</h3>
+		 * <h3 class="zh-CN">默认构造方法</h3>
+		 */
+		public HedgedReadConfig() {
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve latency percentile</h3>
+		 * <h3 class="zh-CN">读取延迟百分位</h3>
+		 *
+		 * @return <span class="en-US">Latency percentile, unit: percent</span>
+		 * <span class="zh-CN">延迟百分位，单位：百分比</span>
+		 */
+		public int getPercentile() {
+			return percentile;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure latency percentile</h3>
+		 * <h3 class="zh-CN">设置延迟百分位</h3>
+		 *
+		 * @param percentile <span class="en-US">Latency percentile, unit: percent</span>
+		 *                   <span class="zh-CN">延迟百分位，单位：百分比</span>
+		 */
+		public void setPercentile(final int percentile) {
+			this.percentile = percentile;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve minimum delay before send hedged read</h3>
+		 * <h3 class="zh-CN">读取发送对冲读取前的最小延迟</h3>
+		 *
+		 * @return <span class="en-US">Minimum delay, unit: millisecond</span>
+		 * <span class="zh-CN">最小延迟，单位：毫秒</span>
+		 */
+		public int getMinimumDelay() {
+			return minimumDelay;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure minimum delay before send hedged read</h3>
+		 * <h3 class="zh-CN">设置发送对冲读取前的最小延迟</h3>
+		 *
+		 * @param minimumDelay <span class="en-US">Minimum delay, unit: millisecond</span>
+		 *                     <span class="zh-CN">最小延迟，单位：毫秒</span>
+		 */
+		public void setMinimumDelay(final int minimumDelay) {
+			this.minimumDelay = minimumDelay;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve maximum rate of hedged reads</h3>
+		 * <h3 class="zh-CN">读取对冲读取的最大比例</h3>
+		 *
+		 * @return <span class="en-US">Budget rate, unit: percent</span>
+		 * <span class="zh-CN">预算比例，单位：百分比</span>
+		 */
+		public int getBudgetRate() {
+			return budgetRate;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure maximum rate of hedged reads</h3>
+		 * <h3 class="zh-CN">设置对冲读取的最大比例</h3>
+		 *
+		 * @param budgetRate <span class="en-US">Budget rate, unit: percent</span>
+		 *                   <span class="zh-CN">预算比例，单位：百分比</span>
+		 */
+		public void setBudgetRate(final int budgetRate) {
+			this.budgetRate = budgetRate;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Timeout configure JavaBean</h2>
+	 * <span class="en-US">
+	 *     All timeouts were configured in milliseconds, read timeout and write timeout were used to override command
+	 *     timeout for read operates and write operates.
+	 * </span>
+	 * <h2 class="zh-CN">超时配置JavaBean</h2>
+	 * <span class="zh-CN">所有超时时间均以毫秒为单位，读超时时间和写超时时间用于覆盖读操作和写操作的命令超时时间。</span>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 17:04:18 $
+	 */
+	@XmlType(name = "timeout", namespace = "https://nervousync.org/schemas/cache")
+	@XmlRootElement(name = "timeout", namespace = "https://nervousync.org/schemas/cache")
+	@XmlAccessorType(XmlAccessType.NONE)
+	public static final class TimeoutConfig extends BeanObject {
+
+		/**
+		 *
+		 */
+		@Serial
+		private static final long serialVersionUID = 6120744532018954107L;
+
+		/**
+		 * <span class="en-US">Connect timeout, unit: millisecond</span>
+		 * <span class="zh-CN">连接超时时间，单位：毫秒</span>
+		 */
+		@XmlElement(name = "connect_timeout")
+		private int connectTimeout = CacheGlobals.DEFAULT_CONNECTION_TIMEOUT * 1000;
+		/**
+		 * <span class="en-US">Command timeout, unit: millisecond</span>
+		 * <span class="zh-CN">命令超时时间，单位：毫秒</span>
+		 */
+		@XmlElement(name = "command_timeout")
+		private int commandTimeout = CacheGlobals.DEFAULT_COMMAND_TIMEOUT;
+		/**
+		 * <span class="en-US">Timeout of acquire connection from pool, unit: millisecond</span>
+		 * <span class="zh-CN">从连接池获取连接的超时时间，单位：毫秒</span>
+		 */
+		@XmlElement(name = "pool_timeout")
+		private int poolTimeout = CacheGlobals.DEFAULT_POOL_TIMEOUT;
+		/**
+		 * <span class="en-US">Timeout of read operates, -1 for using command timeout, unit: millisecond</span>
+		 * <span class="zh-CN">读操作超时时间，-1为使用命令超时时间，单位：毫秒</span>
+		 */
+		@XmlElement(name = "read_timeout")
+		private int readTimeout = Globals.DEFAULT_VALUE_INT;
+		/**
+		 * <span class="en-US">Timeout of write operates, -1 for using command timeout, unit: millisecond</span>
+		 * <span class="zh-CN">写操作超时时间，-1为使用命令超时时间，单位：毫秒</span>
+		 */
+		@XmlElement(name = "write_timeout")
+		private int writeTimeout = Globals.DEFAULT_VALUE_INT;
+
+		/**
+		 * <h3 class="en-US">Default constructor</h3>
+		 * <h3 class="zh-CN">默认构造方法</h3>
+		 */
+		public TimeoutConfig() {
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve connect timeout</h3>
+		 * <h3 class="zh-CN">读取连接超时时间</h3>
+		 *
+		 * @return <span class="en-US">Connect timeout, unit: millisecond</span>
+		 * <span class="zh-CN">连接超时时间，单位：毫秒</span>
+		 */
+		public int getConnectTimeout() {
+			return connectTimeout;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure connect timeout</h3>
+		 * <h3 class="zh-CN">设置连接超时时间</h3>
+		 *
+		 * @param connectTimeout <span class="en-US">Connect timeout, unit: millisecond</span>
+		 *                       <span class="zh-CN">连接超时时间，单位：毫秒</span>
+		 */
+		public void setConnectTimeout(final int connectTimeout) {
+			this.connectTimeout = connectTimeout;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve command timeout</h3>
+		 * <h3 class="zh-CN">读取命令超时时间</h3>
+		 *
+		 * @return <span class="en-US">Command timeout, unit: millisecond</span>
+		 * <span class="zh-CN">命令超时时间，单位：毫秒</span>
+		 */
+		public int getCommandTimeout() {
+			return commandTimeout;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure command timeout</h3>
+		 * <h3 class="zh-CN">设置命令超时时间</h3>
+		 *
+		 * @param commandTimeout <span class="en-US">Command timeout, unit: millisecond</span>
+		 *                       <span class="zh-CN">命令超时时间，单位：毫秒</span>
+		 */
+		public void setCommandTimeout(final int commandTimeout) {
+			this.commandTimeout = commandTimeout;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve timeout of acquire connection from pool</h3>
+		 * <h3 class="zh-CN">读取从连接池获取连接的超时时间</h3>
+		 *
+		 * @return <span class="en-US">Timeout of acquire connection from pool, unit: millisecond</span>
+		 * <span class="zh-CN">从连接池获取连接的超时时间，单位：毫秒</span>
+		 */
+		public int getPoolTimeout() {
+			return poolTimeout;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure timeout of acquire connection from pool</h3>
+		 * <h3 class="zh-CN">设置从连接池获取连接的超时时间</h3>
+		 *
+		 * @param poolTimeout <span class="en-US">Timeout of acquire connection from pool, unit: millisecond</span>
+		 *                    <span class="zh-CN">从连接池获取连接的超时时间，单位：毫秒</span>
+		 */
+		public void setPoolTimeout(final int poolTimeout) {
+			this.poolTimeout = poolTimeout;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve timeout of read operates</h3>
+		 * <h3 class="zh-CN">读取读操作超时时间</h3>
+		 *
+		 * @return <span class="en-US">Timeout of read operates, -1 for using command timeout, unit: millisecond</span>
+		 * <span class="zh-CN">读操作超时时间，-1为使用命令超时时间，单位：毫秒</span>
+		 */
+		public int getReadTimeout() {
+			return readTimeout;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure timeout of read operates</h3>
+		 * <h3 class="zh-CN">设置读操作超时时间</h3>
+		 *
+		 * @param readTimeout <span class="en-US">Timeout of read operates, -1 for using command timeout, unit: millisecond</span>
+		 *                    <span class="zh-CN">读操作超时时间，-1为使用命令超时时间，单位：毫秒</span>
+		 */
+		public void setReadTimeout(final int readTimeout) {
+			this.readTimeout = readTimeout;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve timeout of write operates</h3>
+		 * <h3 class="zh-CN">读取写操作超时时间</h3>
+		 *
+		 * @return <span class="en-US">Timeout of write operates, -1 for using command timeout, unit: millisecond</span>
+		 * <span class="zh-CN">写操作超时时间，-1为使用命令超时时间，单位：毫秒</span>
+		 */
+		public int getWriteTimeout() {
+			return writeTimeout;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure timeout of write operates</h3>
+		 * <h3 class="zh-CN">设置写操作超时时间</h3>
+		 *
+		 * @param writeTimeout <span class="en-US">Timeout of write operates, -1 for using command timeout, unit: millisecond</span>
+		 *                     <span class="zh-CN">写操作超时时间，-1为使用命令超时时间，单位：毫秒</span>
+		 */
+		public void setWriteTimeout(final int writeTimeout) {
+			this.writeTimeout = writeTimeout;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Retry configure JavaBean</h2>
+	 * <span class="en-US">
+	 *     Failed operates were retried at most retry count times, the delay before each retry grows exponentially
+	 *     from the initial backoff to the maximum backoff, and a random jitter was applied to the delay.
+	 *     No more retry was performed after the deadline.
+	 * </span>
+	 * <h2 class="zh-CN">重试配置JavaBean</h2>
+	 * <span class="zh-CN">
+	 *     失败的操作最多重试“重试次数”次，每次重试前的延迟从初始退避时间按指数增长至最大退避时间，并对延迟应用随机抖动。
+	 *     超过截止时间后不再重试。
+	 * </span>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 21:26:40 $
+	 */
+	@XmlType(name = "retry", namespace = "https://nervousync.org/schemas/cache")
+	@XmlRootElement(name = "retry", namespace = "https://nervousync.org/schemas/cache")
+	@XmlAccessorType(XmlAccessType.NONE)
+	public static final class RetryConfig extends BeanObject {
+
+		/**
+		 *
+		 */
+		@Serial
+		private static final long serialVersionUID = 3468850194231578126L;
+
+		/**
+		 * <span class="en-US">Backoff before the first retry, unit: millisecond</span>
+		 * <span class="zh-CN">第一次重试前的退避时间，单位：毫秒</span>
+		 */
+		@XmlElement(name = "initial_backoff")
+		private int initialBackoff = CacheGlobals.DEFAULT_INITIAL_BACKOFF;
+		/**
+		 * <span class="en-US">Maximum backoff before retry, unit: millisecond</span>
+		 * <span class="zh-CN">重试前的最大退避时间，单位：毫秒</span>
+		 */
+		@XmlElement(name = "maximum_backoff")
+		private int maximumBackoff = CacheGlobals.DEFAULT_MAXIMUM_BACKOFF;
+		/**
+		 * <span class="en-US">Overall deadline of operate include all retries, unit: millisecond</span>
+		 * <span class="zh-CN">包含所有重试在内的操作总截止时间，单位：毫秒</span>
+		 */
+		@XmlElement(name = "deadline")
+		private int deadline = CacheGlobals.DEFAULT_RETRY_DEADLINE;
+
+		/**
+		 * <h3 class="en-US">Default constructor</h3>
+		 * <h3 class="zh-CN">默认构造方法</h3>
+		 */
+		public RetryConfig() {
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve backoff before the first retry</h3>
+		 * <h3 class="zh-CN">读取第一次重试前的退避时间</h3>
+		 *
+		 * @return <span class="en-US">Initial backoff, unit: millisecond</span>
+		 * <span class="zh-CN">初始退避时间，单位：毫秒</span>
+		 */
+		public int getInitialBackoff() {
+			return initialBackoff;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure backoff before the first retry</h3>
+		 * <h3 class="zh-CN">设置第一次重试前的退避时间</h3>
+		 *
+		 * @param initialBackoff <span class="en-US">Initial backoff, unit: millisecond</span>
+		 *                       <span class="zh-CN">初始退避时间，单位：毫秒</span>
+		 */
+		public void setInitialBackoff(final int initialBackoff) {
+			this.initialBackoff = initialBackoff;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve maximum backoff before retry</h3>
+		 * <h3 class="zh-CN">读取重试前的最大退避时间</h3>
+		 *
+		 * @return <span class="en-US">Maximum backoff, unit: millisecond</span>
+		 * <span class="zh-CN">最大退避时间，单位：毫秒</span>
+		 */
+		public int getMaximumBackoff() {
+			return maximumBackoff;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure maximum backoff before retry</h3>
+		 * <h3 class="zh-CN">设置重试前的最大退避时间</h3>
+		 *
+		 * @param maximumBackoff <span class="en-US">Maximum backoff, unit: millisecond</span>
+		 *                       <span class="zh-CN">最大退避时间，单位：毫秒</span>
+		 */
+		public void setMaximumBackoff(final int maximumBackoff) {
+			this.maximumBackoff = maximumBackoff;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve overall deadline of operate</h3>
+		 * <h3 class="zh-CN">读取操作总截止时间</h3>
+		 *
+		 * @return <span class="en-US">Deadline, unit: millisecond</span>
+		 * <span class="zh-CN">截止时间，单位：毫秒</span>
+		 */
+		public int getDeadline() {
+			return deadline;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure overall deadline of operate</h3>
+		 * <h3 class="zh-CN">设置操作总截止时间</h3>
+		 *
+		 * @param deadline <span class="en-US">Deadline, unit: millisecond</span>
+		 *                 <span class="zh-CN">截止时间，单位：毫秒</span>
+		 */
+		public void setDeadline(final int deadline) {
+			this.deadline = deadline;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Hot key configure JavaBean</h2>
+	 * <span class="en-US">
+	 *     Read counts were estimated by count-min sketch and halved every decay interval, the top K keys which
+	 *     estimated read count reached the threshold were treated as hot keys, and served from a small local cache
+	 *     with short expire time.
+	 * </span>
+	 * <h2 class="zh-CN">热点键配置JavaBean</h2>
+	 * <span class="zh-CN">
+	 *     使用Count-Min Sketch估算读取次数，并在每个衰减间隔将读取次数减半，估算读取次数达到阈值的前K个键被视为热点键，
+	 *     并从过期时间较短的小容量本地缓存中读取。
+	 * </span>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 22:10:52 $
+	 */
+	@XmlType(name = "hot_key", namespace = "https://nervousync.org/schemas/cache")
+	@XmlRootElement(name = "hot_key", namespace = "https://nervousync.org/schemas/cache")
+	@XmlAccessorType(XmlAccessType.NONE)
+	public static final class HotKeyConfig extends BeanObject {
+
+		/**
+		 *
+		 */
+		@Serial
+		private static final long serialVersionUID = -4418270953349561307L;
+
+		/**
+		 * <span class="en-US">Count of heavy hitters tracked</span>
+		 * <span class="zh-CN">跟踪的高频键数量</span>
+		 */
+		@XmlElement(name = "top_k")
+		private int topK = CacheGlobals.DEFAULT_HOT_KEY_TOP_K;
+		/**
+		 * <span class="en-US">Estimated read count in decaying window which key was treated as hot key</span>
+		 * <span class="zh-CN">键被视为热点键时的衰减窗口内估算读取次数</span>
+		 */
+		@XmlElement(name = "threshold")
+		private int threshold = CacheGlobals.DEFAULT_HOT_KEY_THRESHOLD;
+		/**
+		 * <span class="en-US">Interval of halving read counts, unit: millisecond</span>
+		 * <span class="zh-CN">读取计数减半的间隔，单位：毫秒</span>
+		 */
+		@XmlElement(name = "decay_interval")
+		private int decayInterval = CacheGlobals.DEFAULT_HOT_KEY_DECAY_INTERVAL;
+		/**
+		 * <span class="en-US">Maximum size of local cache</span>
+		 * <span class="zh-CN">本地缓存的最大容量</span>
+		 */
+		@XmlElement(name = "local_size")
+		private int localSize = CacheGlobals.DEFAULT_LOCAL_CACHE_SIZE;
+		/**
+		 * <span class="en-US">Expire time of local cache, unit: millisecond</span>
+		 * <span class="zh-CN">本地缓存的过期时间，单位：毫秒</span>
+		 */
+		@XmlElement(name = "local_expire")
+		private int localExpire = CacheGlobals.DEFAULT_LOCAL_CACHE_EXPIRE;
+
+		/**
+		 * <h3 class="en-US">Default constructor</h3>
+		 * <h3 class="zh-CN">默认构造方法</h3>
+		 */
+		public HotKeyConfig() {
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve count of heavy hitters tracked</h3>
+		 * <h3 class="zh-CN">读取跟踪的高频键数量</h3>
+		 *
+		 * @return <span class="en-US">Count of heavy hitters</span>
+		 * <span class="zh-CN">高频键数量</span>
+		 */
+		public int getTopK() {
+			return topK;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure count of heavy hitters tracked</h3>
+		 * <h3 class="zh-CN">设置跟踪的高频键数量</h3>
+		 *
+		 * @param topK <span class="en-US">Count of heavy hitters</span>
+		 *             <span class="zh-CN">高频键数量</span>
+		 */
+		public void setTopK(final int topK) {
+			this.topK = topK;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve hot key threshold</h3>
+		 * <h3 class="zh-CN">读取热点键阈值</h3>
+		 *
+		 * @return <span class="en-US">Estimated read count in decaying window</span>
+		 * <span class="zh-CN">衰减窗口内估算读取次数</span>
+		 */
+		public int getThreshold() {
+			return threshold;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure hot key threshold</h3>
+		 * <h3 class="zh-CN">设置热点键阈值</h3>
+		 *
+		 * @param threshold <span class="en-US">Estimated read count in decaying window</span>
+		 *                  <span class="zh-CN">衰减窗口内估算读取次数</span>
+		 */
+		public void setThreshold(final int threshold) {
+			this.threshold = threshold;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve interval of halving read counts</h3>
+		 * <h3 class="zh-CN">读取读取计数减半的间隔</h3>
+		 *
+		 * @return <span class="en-US">Decay interval, unit: millisecond</span>
+		 * <span class="zh-CN">衰减间隔，单位：毫秒</span>
+		 */
+		public int getDecayInterval() {
+			return decayInterval;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure interval of halving read counts</h3>
+		 * <h3 class="zh-CN">设置读取计数减半的间隔</h3>
+		 *
+		 * @param decayInterval <span class="en-US">Decay interval, unit: millisecond</span>
+		 *                      <span class="zh-CN">衰减间隔，单位：毫秒</span>
+		 */
+		public void setDecayInterval(final int decayInterval) {
+			this.decayInterval = decayInterval;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve maximum size of local cache</h3>
+		 * <h3 class="zh-CN">读取本地缓存的最大容量</h3>
+		 *
+		 * @return <span class="en-US">Maximum size of local cache</span>
+		 * <span class="zh-CN">本地缓存的最大容量</span>
+		 */
+		public int getLocalSize() {
+			return localSize;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure maximum size of local cache</h3>
+		 * <h3 class="zh-CN">设置本地缓存的最大容量</h3>
+		 *
+		 * @param localSize <span class="en-US">Maximum size of local cache</span>
+		 *                  <span class="zh-CN">本地缓存的最大容量</span>
+		 */
+		public void setLocalSize(final int localSize) {
+			this.localSize = localSize;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve expire time of local cache</h3>
+		 * <h3 class="zh-CN">读取本地缓存的过期时间</h3>
+		 *
+		 * @return <span class="en-US">Expire time of local cache, unit: millisecond</span>
+		 * <span class="zh-CN">本地缓存的过期时间，单位：毫秒</span>
+		 */
+		public int getLocalExpire() {
+			return localExpire;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure expire time of local cache</h3>
+		 * <h3 class="zh-CN">设置本地缓存的过期时间</h3>
+		 *
+		 * @param localExpire <span class="en-US">Expire time of local cache, unit: millisecond</span>
+		 *                    <span class="zh-CN">本地缓存的过期时间，单位：毫秒</span>
+		 */
+		public void setLocalExpire(final int localExpire) {
+			this.localExpire = localExpire;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Value size configure JavaBean</h2>
+	 * <span class="en-US">
+	 *     Sizes of read and written values were recorded into histogram of each operation, and the largest keys were
+	 *     tracked. Written value which size exceeds the size limit was rejected or logged before sent to the provider.
+	 * </span>
+	 * <h2 class="zh-CN">数据大小配置JavaBean</h2>
+	 * <span class="zh-CN">
+	 *     读取和写入数据的大小被记录到每种操作的直方图中，并跟踪最大的键。大小超过限制的写入数据在发送到适配器之前被拒绝或记录日志。
+	 * </span>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 22:58:06 $
+	 */
+	@XmlType(name = "value_size", namespace = "https://nervousync.org/schemas/cache")
+	@XmlRootElement(name = "value_size", namespace = "https://nervousync.org/schemas/cache")
+	@XmlAccessorType(XmlAccessType.NONE)
+	public static final class ValueSizeConfig extends BeanObject {
+
+		/**
+		 *
+		 */
+		@Serial
+		private static final long serialVersionUID = 5529417367011946273L;
+
+		/**
+		 * <span class="en-US">Count of the largest keys tracked</span>
+		 * <span class="zh-CN">跟踪的最大键数量</span>
+		 */
+		@XmlElement(name = "top_n")
+		private int topN = CacheGlobals.DEFAULT_BIG_KEY_TOP_N;
+		/**
+		 * <span class="en-US">Size limit of written value, 0 for no limit, unit: byte</span>
+		 * <span class="zh-CN">写入数据的大小限制，0为不限制，单位：字节</span>
+		 */
+		@XmlElement(name = "size_limit")
+		private int sizeLimit = CacheGlobals.DEFAULT_VALUE_SIZE_LIMIT;
+		/**
+		 * <span class="en-US">Reject written value which size exceeds the limit, only log warning if false</span>
+		 * <span class="zh-CN">拒绝大小超过限制的写入数据，为false时仅记录警告日志</span>
+		 */
+		@XmlElement(name = "reject_oversize")
+		private boolean rejectOversize = Boolean.FALSE;
+
+		/**
+		 * <h3 class="en-US">Default constructor</h3>
+		 * <h3 class="zh-CN">默认构造方法</h3>
+		 */
+		public ValueSizeConfig() {
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve count of the largest keys tracked</h3>
+		 * <h3 class="zh-CN">读取跟踪的最大键数量</h3>
+		 *
+		 * @return <span class="en-US">Count of the largest keys</span>
+		 * <span class="zh-CN">最大键数量</span>
+		 */
+		public int getTopN() {
+			return topN;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure count of the largest keys tracked</h3>
+		 * <h3 class="zh-CN">设置跟踪的最大键数量</h3>
+		 *
+		 * @param topN <span class="en-US">Count of the largest keys</span>
+		 *             <span class="zh-CN">最大键数量</span>
+		 */
+		public void setTopN(final int topN) {
+			this.topN = topN;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve size limit of written value</h3>
+		 * <h3 class="zh-CN">读取写入数据的大小限制</h3>
+		 *
+		 * @return <span class="en-US">Size limit, 0 for no limit, unit: byte</span>
+		 * <span class="zh-CN">大小限制，0为不限制，单位：字节</span>
+		 */
+		public int getSizeLimit() {
+			return sizeLimit;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure size limit of written value</h3>
+		 * <h3 class="zh-CN">设置写入数据的大小限制</h3>
+		 *
+		 * @param sizeLimit <span class="en-US">Size limit, 0 for no limit, unit: byte</span>
+		 *                  <span class="zh-CN">大小限制，0为不限制，单位：字节</span>
+		 */
+		public void setSizeLimit(final int sizeLimit) {
+			this.sizeLimit = sizeLimit;
+		}
+
+		/**
+		 * <h3 class="en-US">Check written value which size exceeds the limit should be rejected</h3>
+		 * <h3 class="zh-CN">检查大小超过限制的写入数据是否应当被拒绝</h3>
+		 *
+		 * @return <span class="en-US">Boolean.TRUE for reject, Boolean.FALSE for log warning only</span>
+		 * <span class="zh-CN">拒绝时返回Boolean.TRUE，仅记录警告日志时返回Boolean.FALSE</span>
+		 */
+		public boolean isRejectOversize() {
+			return rejectOversize;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure written value which size exceeds the limit should be rejected</h3>
+		 * <h3 class="zh-CN">设置大小超过限制的写入数据是否应当被拒绝</h3>
+		 *
+		 * @param rejectOversize <span class="en-US">Boolean.TRUE for reject, Boolean.FALSE for log warning only</span>
+		 *                       <span class="zh-CN">拒绝时为Boolean.TRUE，仅记录警告日志时为Boolean.FALSE</span>
+		 */
+		public void setRejectOversize(final boolean rejectOversize) {
+			this.rejectOversize = rejectOversize;
+		}
+	}
+	/**
+	 * <h2 class="en-US">Fill lease configure JavaBean</h2>
+	 * <span class="en-US">
+	 *     When the value of loader was missing, only the client which acquired the lease from cache server loads the
+	 *     value, clients of other JVM poll the cache server with backoff until the value was filled or the wait time
+	 *     was exhausted, then load the value by themselves.
+	 * </span>
+	 * <h2 class="zh-CN">填充租约配置JavaBean</h2>
+	 * <span class="zh-CN">
+	 *     当加载器的数据缺失时，只有从缓存服务器获得租约的客户端加载数据，其他JVM的客户端以退避方式轮询缓存服务器，
+	 *     直到数据被填充或等待时间耗尽，然后自行加载数据。
+	 * </span>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:52:19 $
+	 */
+	@XmlType(name = "fill_lease", namespace = "https://nervousync.org/schemas/cache")
+	@XmlRootElement(name = "fill_lease", namespace = "https://nervousync.org/schemas/cache")
+	@XmlAccessorType(XmlAccessType.NONE)
+	public static final class FillLeaseConfig extends BeanObject {
+
+		/**
+		 *
+		 */
+		@Serial
+		private static final long serialVersionUID = -3460219845738120566L;
+
+		/**
+		 * <span class="en-US">Lease time, the lease was released automatically after timeout, unit: millisecond</span>
+		 * <span class="zh-CN">租约时间，超时后租约自动释放，单位：毫秒</span>
+		 */
+		@XmlElement(name = "lease_time")
+		private int leaseTime = CacheGlobals.DEFAULT_FILL_LEASE_TIME;
+		/**
+		 * <span class="en-US">Wait time of client which not acquired the lease, unit: millisecond</span>
+		 * <span class="zh-CN">未获得租约的客户端的等待时间，单位：毫秒</span>
+		 */
+		@XmlElement(name = "wait_time")
+		private int waitTime = CacheGlobals.DEFAULT_FILL_WAIT_TIME;
+		/**
+		 * <span class="en-US">Initial poll interval, doubled after each poll, unit: millisecond</span>
+		 * <span class="zh-CN">初始轮询间隔，每次轮询后加倍，单位：毫秒</span>
+		 */
+		@XmlElement(name = "poll_interval")
+		private int pollInterval = CacheGlobals.DEFAULT_FILL_POLL_INTERVAL;
+
+		/**
+		 * <h3 class="en-US">Default constructor</h3>
+		 * <h3 class="zh-CN">默认构造方法</h3>
+		 */
+		public FillLeaseConfig() {
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve lease time</h3>
+		 * <h3 class="zh-CN">读取租约时间</h3>
+		 *
+		 * @return <span class="en-US">Lease time, unit: millisecond</span>
+		 * <span class="zh-CN">租约时间，单位：毫秒</span>
+		 */
+		public int getLeaseTime() {
+			return leaseTime;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure lease time</h3>
+		 * <h3 class="zh-CN">设置租约时间</h3>
+		 *
+		 * @param leaseTime <span class="en-US">Lease time, unit: millisecond</span>
+		 *                  <span class="zh-CN">租约时间，单位：毫秒</span>
+		 */
+		public void setLeaseTime(final int leaseTime) {
+			this.leaseTime = leaseTime;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve wait time of client which not acquired the lease</h3>
+		 * <h3 class="zh-CN">读取未获得租约的客户端的等待时间</h3>
+		 *
+		 * @return <span class="en-US">Wait time, unit: millisecond</span>
+		 * <span class="zh-CN">等待时间，单位：毫秒</span>
+		 */
+		public int getWaitTime() {
+			return waitTime;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure wait time of client which not acquired the lease</h3>
+		 * <h3 class="zh-CN">设置未获得租约的客户端的等待时间</h3>
+		 *
+		 * @param waitTime <span class="en-US">Wait time, unit: millisecond</span>
+		 *                 <span class="zh-CN">等待时间，单位：毫秒</span>
+		 */
+		public void setWaitTime(final int waitTime) {
+			this.waitTime = waitTime;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve initial poll interval</h3>
+		 * <h3 class="zh-CN">读取初始轮询间隔</h3>
+		 *
+		 * @return <span class="en-US">Initial poll interval, unit: millisecond</span>
+		 * <span class="zh-CN">初始轮询间隔，单位：毫秒</span>
+		 */
+		public int getPollInterval() {
+			return pollInterval;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure initial poll interval</h3>
+		 * <h3 class="zh-CN">设置初始轮询间隔</h3>
+		 *
+		 * @param pollInterval <span class="en-US">Initial poll interval, unit: millisecond</span>
+		 *                     <span class="zh-CN">初始轮询间隔，单位：毫秒</span>
+		 */
+		public void setPollInterval(final int pollInterval) {
+			this.pollInterval = pollInterval;
+		}
+	}
+	/**
+	 * <h2 class="en-US">Counter configure JavaBean</h2>
+	 * <span class="en-US">
+	 *     Counter deltas were accumulated in local and flushed to cache server as batched increments every flush
+	 *     interval, or immediately when the pending delta of a counter reached the flush threshold. Longer interval and
+	 *     larger threshold reduce the traffic, but the value in cache server lags behind more.
+	 * </span>
+	 * <h2 class="zh-CN">计数器配置JavaBean</h2>
+	 * <span class="zh-CN">
+	 *     计数器增量在本地累积，每个刷新间隔以批量自增的方式刷新到缓存服务器，当计数器待刷新的增量达到刷新阈值时立即刷新。
+	 *     更长的间隔和更大的阈值可以减少流量，但缓存服务器中的值滞后更多。
+	 * </span>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 00:41:52 $
+	 */
+	@XmlType(name = "counter", namespace = "https://nervousync.org/schemas/cache")
+	@XmlRootElement(name = "counter", namespace = "https://nervousync.org/schemas/cache")
+	@XmlAccessorType(XmlAccessType.NONE)
+	public static final class CounterConfig extends BeanObject {
+
+		/**
+		 *
+		 */
+		@Serial
+		private static final long serialVersionUID = 7125803396462270193L;
+
+		/**
+		 * <span class="en-US">Flush interval of pending counter deltas, unit: millisecond</span>
+		 * <span class="zh-CN">待刷新计数器增量的刷新间隔，单位：毫秒</span>
+		 */
+		@XmlElement(name = "flush_interval")
+		private int flushInterval = CacheGlobals.DEFAULT_COUNTER_FLUSH_INTERVAL;
+		/**
+		 * <span class="en-US">Absolute pending delta which flush the counter immediately, 0 for flush by interval only</span>
+		 * <span class="zh-CN">立即刷新计数器的待刷新增量绝对值，0为仅按间隔刷新</span>
+		 */
+		@XmlElement(name = "flush_threshold")
+		private long flushThreshold = CacheGlobals.DEFAULT_COUNTER_FLUSH_THRESHOLD;
+
+		/**
+		 * <h3 class="en-US">Default constructor</h3>
+		 * <h3 class="zh-CN">默认构造方法</h3>
+		 */
+		public CounterConfig() {
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve flush interval of pending counter deltas</h3>
+		 * <h3 class="zh-CN">读取待刷新计数器增量的刷新间隔</h3>
+		 *
+		 * @return <span class="en-US">Flush interval, unit: millisecond</span>
+		 * <span class="zh-CN">刷新间隔，单位：毫秒</span>
+		 */
+		public int getFlushInterval() {
+			return flushInterval;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure flush interval of pending counter deltas</h3>
+		 * <h3 class="zh-CN">设置待刷新计数器增量的刷新间隔</h3>
+		 *
+		 * @param flushInterval <span class="en-US">Flush interval, unit: millisecond</span>
+		 *                      <span class="zh-CN">刷新间隔，单位：毫秒</span>
+		 */
+		public void setFlushInterval(final int flushInterval) {
+			this.flushInterval = flushInterval;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve absolute pending delta which flush the counter immediately</h3>
+		 * <h3 class="zh-CN">读取立即刷新计数器的待刷新增量绝对值</h3>
+		 *
+		 * @return <span class="en-US">Flush threshold, 0 for flush by interval only</span>
+		 * <span class="zh-CN">刷新阈值，0为仅按间隔刷新</span>
+		 */
+		public long getFlushThreshold() {
+			return flushThreshold;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure absolute pending delta which flush the counter immediately</h3>
+		 * <h3 class="zh-CN">设置立即刷新计数器的待刷新增量绝对值</h3>
+		 *
+		 * @param flushThreshold <span class="en-US">Flush threshold, 0 for flush by interval only</span>
+		 *                       <span class="zh-CN">刷新阈值，0为仅按间隔刷新</span>
+		 */
+		public void setFlushThreshold(final long flushThreshold) {
+			this.flushThreshold = flushThreshold;
+		}
+	}
+	/**
+	 * <h2 class="en-US">Warm-up configure JavaBean</h2>
+	 * <span class="en-US">
+	 *     When the provider was initialized, connections of client pool size were created for each node and every node
+	 *     was pinged, the values of prefetch keys were read into the local cache of hot keys, so the first requests
+	 *     after startup did not pay the connect and authentication costs.
+	 * </span>
+	 * <h2 class="zh-CN">预热配置JavaBean</h2>
+	 * <span class="zh-CN">
+	 *     缓存适配器初始化时为每个节点创建连接池大小数量的连接并对每个节点执行ping，预取键的数据读取到热点键的本地缓存中，因此启动后的首批请求不再承担连接和认证的开销。
+	 * </span>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 18:12:40 $
+	 */
+	@XmlType(name = "warmup", namespace = "https://nervousync.org/schemas/cache")
+	@XmlRootElement(name = "warmup", namespace = "https://nervousync.org/schemas/cache")
+	@XmlAccessorType(XmlAccessType.NONE)
+	public static final class WarmupConfig extends BeanObject {
+
+		/**
+		 *
+		 */
+		@Serial
+		private static final long serialVersionUID = -3150479822813472316L;
+
+		/**
+		 * <span class="en-US">Timeout of connection warm-up and hot keys prefetch, unit: millisecond</span>
+		 * <span class="zh-CN">连接预热和热点键预取的超时时间，单位：毫秒</span>
+		 */
+		@XmlElement(name = "timeout")
+		private int timeout = CacheGlobals.DEFAULT_WARMUP_TIMEOUT;
+		/**
+		 * <span class="en-US">Keys which value was read into local cache of hot keys</span>
+		 * <span class="zh-CN">数据读取到热点键本地缓存中的键</span>
+		 */
+		@XmlElementWrapper(name = "prefetch_keys")
+		@XmlElement(name = "key")
+		private List<String> prefetchKeys = new ArrayList<>();
+
+		/**
+		 * <h3 class="en-US">Default constructor</h3>
+		 * <h3 class="zh-CN">默认构造方法</h3>
+		 */
+		public WarmupConfig() {
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve timeout of connection warm-up and hot keys prefetch</h3>
+		 * <h3 class="zh-CN">读取连接预热和热点键预取的超时时间</h3>
+		 *
+		 * @return <span class="en-US">Warm-up timeout, unit: millisecond</span>
+		 * <span class="zh-CN">预热超时时间，单位：毫秒</span>
+		 */
+		public int getTimeout() {
+			return timeout;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure timeout of connection warm-up and hot keys prefetch</h3>
+		 * <h3 class="zh-CN">设置连接预热和热点键预取的超时时间</h3>
+		 *
+		 * @param timeout <span class="en-US">Warm-up timeout, unit: millisecond</span>
+		 *                <span class="zh-CN">预热超时时间，单位：毫秒</span>
+		 */
+		public void setTimeout(final int timeout) {
+			this.timeout = timeout;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve keys which value was read into local cache of hot keys</h3>
+		 * <h3 class="zh-CN">读取数据读取到热点键本地缓存中的键</h3>
+		 *
+		 * @return <span class="en-US">Prefetch keys</span>
+		 * <span class="zh-CN">预取键</span>
+		 */
+		public List<String> getPrefetchKeys() {
+			return prefetchKeys;
+		}
+
+		/**
+		 * <h3 class="en-US">Configure keys which value was read into local cache of hot keys</h3>
+		 * <h3 class="zh-CN">设置数据读取到热点键本地缓存中的键</h3>
+		 *
+		 * @param prefetchKeys <span class="en-US">Prefetch keys, only works when hot key detection was enabled</span>
+		 *                     <span class="zh-CN">预取键，仅在启用热点键检测时生效</span>
+		 */
+		public void setPrefetchKeys(final List<String> prefetchKeys) {
+			this.prefetchKeys = prefetchKeys;
+		}
+	}
+}
\ No newline at end of file
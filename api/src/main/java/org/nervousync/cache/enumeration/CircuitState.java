@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.enumeration;
+
+/**
+ * <h2 class="en-US">Circuit breaker state define</h2>
+ * <span class="en-US">
+ *     Closed: Operates were sent to cache server,
+ *     Open: Operates fail fast without sending to cache server,
+ *     Half_Open: Limited probe operates were sent to cache server for checking recovery
+ * </span>
+ * <h2 class="zh-CN">熔断器状态定义</h2>
+ * <span class="zh-CN">
+ *     Closed：操作发送到缓存服务器，
+ *     Open：操作直接快速失败，不发送到缓存服务器，
+ *     Half_Open：发送有限的探测操作到缓存服务器，用于检查服务是否恢复
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 15:02:44 $
+ */
+public enum CircuitState {
+    Closed, Open, Half_Open
+}
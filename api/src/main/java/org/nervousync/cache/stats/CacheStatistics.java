@@ -0,0 +1,614 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.stats;
+
+import org.nervousync.beans.core.BeanObject;
+import org.nervousync.cache.enumeration.CircuitState;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h2 class="en-US">Cache statistics JavaBean</h2>
+ * <span class="en-US">Snapshot of cache metrics, generated when statistics was requested</span>
+ * <h2 class="zh-CN">缓存统计信息JavaBean</h2>
+ * <span class="zh-CN">缓存指标的快照，在请求统计信息时生成</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 22:24:37 $
+ */
+public final class CacheStatistics extends BeanObject {
+
+	/**
+	 *
+	 */
+	@Serial
+	private static final long serialVersionUID = 2783104915627435820L;
+
+	/**
+	 * <span class="en-US">Cache identify name</span>
+	 * <span class="zh-CN">缓存识别名称</span>
+	 */
+	private String cacheName = null;
+	/**
+	 * <span class="en-US">Connection state, Boolean.FALSE if the provider was still connecting or connect failed</span>
+	 * <span class="zh-CN">连接状态，如果缓存适配器仍在连接或连接失败则为Boolean.FALSE</span>
+	 */
+	private boolean connected = Boolean.TRUE;
+	/**
+	 * <span class="en-US">Warm-up time of registration, unit: millisecond, 0 if warm-up was disabled</span>
+	 * <span class="zh-CN">注册时的预热时间，单位：毫秒，如果未启用预热则为0</span>
+	 */
+	private long warmupTime = 0L;
+	/**
+	 * <span class="en-US">Circuit breaker state</span>
+	 * <span class="zh-CN">熔断器状态</span>
+	 */
+	private CircuitState circuitState = CircuitState.Closed;
+	/**
+	 * <span class="en-US">Current hot keys, ordered by estimated read count descending</span>
+	 * <span class="zh-CN">当前的热点键，按估算读取次数降序排列</span>
+	 */
+	private List<HotKey> hotKeys = new ArrayList<>();
+	/**
+	 * <span class="en-US">Count of reads served from local cache</span>
+	 * <span class="zh-CN">从本地缓存读取的次数</span>
+	 */
+	private long localHits = 0L;
+	/**
+	 * <span class="en-US">Count of keys in local cache</span>
+	 * <span class="zh-CN">本地缓存中的键数量</span>
+	 */
+	private int localSize = 0;
+	/**
+	 * <span class="en-US">Value size histograms of each operation</span>
+	 * <span class="zh-CN">每种操作的数据大小直方图</span>
+	 */
+	private List<ValueSize> valueSizes = new ArrayList<>();
+	/**
+	 * <span class="en-US">The largest keys seen by reads and writes, ordered by value size descending</span>
+	 * <span class="zh-CN">读写操作中出现的最大键，按数据大小降序排列</span>
+	 */
+	private List<BigKey> bigKeys = new ArrayList<>();
+	/**
+	 * <span class="en-US">Count of writes which value size exceeds the limit</span>
+	 * <span class="zh-CN">数据大小超过限制的写入次数</span>
+	 */
+	private long oversizeCount = 0L;
+
+	/**
+	 * <h3 class="en-US">Default constructor</h3>
+	 * <h3 class="zh-CN">默认构造方法</h3>
+	 */
+	public CacheStatistics() {
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve cache identify name</h3>
+	 * <h3 class="zh-CN">读取缓存识别名称</h3>
+	 *
+	 * @return <span class="en-US">Cache identify name</span>
+	 * <span class="zh-CN">缓存识别名称</span>
+	 */
+	public String getCacheName() {
+		return cacheName;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure cache identify name</h3>
+	 * <h3 class="zh-CN">设置缓存识别名称</h3>
+	 *
+	 * @param cacheName <span class="en-US">Cache identify name</span>
+	 *                  <span class="zh-CN">缓存识别名称</span>
+	 */
+	public void setCacheName(final String cacheName) {
+		this.cacheName = cacheName;
+	}
+
+	/**
+	 * <h3 class="en-US">Check the provider was connected</h3>
+	 * <h3 class="zh-CN">检查缓存适配器是否已连接</h3>
+	 *
+	 * @return <span class="en-US">Connection state</span>
+	 * <span class="zh-CN">连接状态</span>
+	 */
+	public boolean isConnected() {
+		return connected;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure connection state</h3>
+	 * <h3 class="zh-CN">设置连接状态</h3>
+	 *
+	 * @param connected <span class="en-US">Connection state</span>
+	 *                  <span class="zh-CN">连接状态</span>
+	 */
+	public void setConnected(final boolean connected) {
+		this.connected = connected;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve warm-up time of registration</h3>
+	 * <h3 class="zh-CN">读取注册时的预热时间</h3>
+	 *
+	 * @return <span class="en-US">Warm-up time, unit: millisecond</span>
+	 * <span class="zh-CN">预热时间，单位：毫秒</span>
+	 */
+	public long getWarmupTime() {
+		return warmupTime;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure warm-up time of registration</h3>
+	 * <h3 class="zh-CN">设置注册时的预热时间</h3>
+	 *
+	 * @param warmupTime <span class="en-US">Warm-up time, unit: millisecond</span>
+	 *                   <span class="zh-CN">预热时间，单位：毫秒</span>
+	 */
+	public void setWarmupTime(final long warmupTime) {
+		this.warmupTime = warmupTime;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve circuit breaker state</h3>
+	 * <h3 class="zh-CN">读取熔断器状态</h3>
+	 *
+	 * @return <span class="en-US">Circuit breaker state, CircuitState.Closed if circuit breaker was disabled</span>
+	 * <span class="zh-CN">熔断器状态，如果熔断器未启用则返回CircuitState.Closed</span>
+	 */
+	public CircuitState getCircuitState() {
+		return circuitState;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure circuit breaker state</h3>
+	 * <h3 class="zh-CN">设置熔断器状态</h3>
+	 *
+	 * @param circuitState <span class="en-US">Circuit breaker state</span>
+	 *                     <span class="zh-CN">熔断器状态</span>
+	 */
+	public void setCircuitState(final CircuitState circuitState) {
+		this.circuitState = circuitState;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve current hot keys</h3>
+	 * <h3 class="zh-CN">读取当前的热点键</h3>
+	 *
+	 * @return <span class="en-US">Hot key list, empty list if hot key detection was disabled</span>
+	 * <span class="zh-CN">热点键列表，如果热点键检测未启用则返回空列表</span>
+	 */
+	public List<HotKey> getHotKeys() {
+		return hotKeys;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure current hot keys</h3>
+	 * <h3 class="zh-CN">设置当前的热点键</h3>
+	 *
+	 * @param hotKeys <span class="en-US">Hot key list</span>
+	 *                <span class="zh-CN">热点键列表</span>
+	 */
+	public void setHotKeys(final List<HotKey> hotKeys) {
+		this.hotKeys = hotKeys;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve count of reads served from local cache</h3>
+	 * <h3 class="zh-CN">读取从本地缓存读取的次数</h3>
+	 *
+	 * @return <span class="en-US">Count of local cache hits</span>
+	 * <span class="zh-CN">本地缓存命中次数</span>
+	 */
+	public long getLocalHits() {
+		return localHits;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure count of reads served from local cache</h3>
+	 * <h3 class="zh-CN">设置从本地缓存读取的次数</h3>
+	 *
+	 * @param localHits <span class="en-US">Count of local cache hits</span>
+	 *                  <span class="zh-CN">本地缓存命中次数</span>
+	 */
+	public void setLocalHits(final long localHits) {
+		this.localHits = localHits;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve count of keys in local cache</h3>
+	 * <h3 class="zh-CN">读取本地缓存中的键数量</h3>
+	 *
+	 * @return <span class="en-US">Count of keys in local cache</span>
+	 * <span class="zh-CN">本地缓存中的键数量</span>
+	 */
+	public int getLocalSize() {
+		return localSize;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure count of keys in local cache</h3>
+	 * <h3 class="zh-CN">设置本地缓存中的键数量</h3>
+	 *
+	 * @param localSize <span class="en-US">Count of keys in local cache</span>
+	 *                  <span class="zh-CN">本地缓存中的键数量</span>
+	 */
+	public void setLocalSize(final int localSize) {
+		this.localSize = localSize;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve value size histograms of each operation</h3>
+	 * <h3 class="zh-CN">读取每种操作的数据大小直方图</h3>
+	 *
+	 * @return <span class="en-US">Value size histogram list, empty list if value size profiling was disabled</span>
+	 * <span class="zh-CN">数据大小直方图列表，如果数据大小分析未启用则返回空列表</span>
+	 */
+	public List<ValueSize> getValueSizes() {
+		return valueSizes;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure value size histograms of each operation</h3>
+	 * <h3 class="zh-CN">设置每种操作的数据大小直方图</h3>
+	 *
+	 * @param valueSizes <span class="en-US">Value size histogram list</span>
+	 *                   <span class="zh-CN">数据大小直方图列表</span>
+	 */
+	public void setValueSizes(final List<ValueSize> valueSizes) {
+		this.valueSizes = valueSizes;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the largest keys seen by reads and writes</h3>
+	 * <h3 class="zh-CN">读取读写操作中出现的最大键</h3>
+	 *
+	 * @return <span class="en-US">Big key list, empty list if value size profiling was disabled</span>
+	 * <span class="zh-CN">大键列表，如果数据大小分析未启用则返回空列表</span>
+	 */
+	public List<BigKey> getBigKeys() {
+		return bigKeys;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure the largest keys seen by reads and writes</h3>
+	 * <h3 class="zh-CN">设置读写操作中出现的最大键</h3>
+	 *
+	 * @param bigKeys <span class="en-US">Big key list</span>
+	 *                <span class="zh-CN">大键列表</span>
+	 */
+	public void setBigKeys(final List<BigKey> bigKeys) {
+		this.bigKeys = bigKeys;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve count of writes which value size exceeds the limit</h3>
+	 * <h3 class="zh-CN">读取数据大小超过限制的写入次数</h3>
+	 *
+	 * @return <span class="en-US">Count of oversize writes</span>
+	 * <span class="zh-CN">超过大小限制的写入次数</span>
+	 */
+	public long getOversizeCount() {
+		return oversizeCount;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure count of writes which value size exceeds the limit</h3>
+	 * <h3 class="zh-CN">设置数据大小超过限制的写入次数</h3>
+	 *
+	 * @param oversizeCount <span class="en-US">Count of oversize writes</span>
+	 *                      <span class="zh-CN">超过大小限制的写入次数</span>
+	 */
+	public void setOversizeCount(final long oversizeCount) {
+		this.oversizeCount = oversizeCount;
+	}
+
+	/**
+	 * <h2 class="en-US">Hot key JavaBean</h2>
+	 * <h2 class="zh-CN">热点键JavaBean</h2>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 22:26:15 $
+	 */
+	public static final class HotKey extends BeanObject {
+
+		/**
+		 *
+		 */
+		@Serial
+		private static final long serialVersionUID = -6951872308314620914L;
+
+		/**
+		 * <span class="en-US">Cache key</span>
+		 * <span class="zh-CN">缓存键值</span>
+		 */
+		private final String key;
+		/**
+		 * <span class="en-US">Estimated read count in decaying window</span>
+		 * <span class="zh-CN">衰减窗口内估算读取次数</span>
+		 */
+		private final long readCount;
+		/**
+		 * <span class="en-US">Key was promoted to local cache</span>
+		 * <span class="zh-CN">键已提升到本地缓存</span>
+		 */
+		private final boolean promoted;
+
+		/**
+		 * <h3 class="en-US">Constructor for hot key</h3>
+		 * <h3 class="zh-CN">热点键的构造方法</h3>
+		 *
+		 * @param key       <span class="en-US">Cache key</span>
+		 *                  <span class="zh-CN">缓存键值</span>
+		 * @param readCount <span class="en-US">Estimated read count in decaying window</span>
+		 *                  <span class="zh-CN">衰减窗口内估算读取次数</span>
+		 * @param promoted  <span class="en-US">Key was promoted to local cache</span>
+		 *                  <span class="zh-CN">键已提升到本地缓存</span>
+		 */
+		public HotKey(final String key, final long readCount, final boolean promoted) {
+			this.key = key;
+			this.readCount = readCount;
+			this.promoted = promoted;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve cache key</h3>
+		 * <h3 class="zh-CN">读取缓存键值</h3>
+		 *
+		 * @return <span class="en-US">Cache key</span>
+		 * <span class="zh-CN">缓存键值</span>
+		 */
+		public String getKey() {
+			return key;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve estimated read count in decaying window</h3>
+		 * <h3 class="zh-CN">读取衰减窗口内估算读取次数</h3>
+		 *
+		 * @return <span class="en-US">Estimated read count</span>
+		 * <span class="zh-CN">估算读取次数</span>
+		 */
+		public long getReadCount() {
+			return readCount;
+		}
+
+		/**
+		 * <h3 class="en-US">Check key was promoted to local cache</h3>
+		 * <h3 class="zh-CN">检查键是否已提升到本地缓存</h3>
+		 *
+		 * @return <span class="en-US">Boolean.TRUE for promoted, Boolean.FALSE for not</span>
+		 * <span class="zh-CN">已提升时返回Boolean.TRUE，否则返回Boolean.FALSE</span>
+		 */
+		public boolean isPromoted() {
+			return promoted;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Value size histogram JavaBean</h2>
+	 * <span class="en-US">
+	 *     Histogram buckets were split by power of two, key of histogram mapping is the inclusive upper bound of bucket,
+	 *     value is the count of values which size in the bucket. Empty buckets were not included.
+	 * </span>
+	 * <h2 class="zh-CN">数据大小直方图JavaBean</h2>
+	 * <span class="zh-CN">
+	 *     直方图的桶按2的幂划分，直方图映射的键为桶的上界（包含），值为大小在该桶内的数据数量。不包含空桶。
+	 * </span>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:12:48 $
+	 */
+	public static final class ValueSize extends BeanObject {
+
+		/**
+		 *
+		 */
+		@Serial
+		private static final long serialVersionUID = -2190477631352896483L;
+
+		/**
+		 * <span class="en-US">Operation name</span>
+		 * <span class="zh-CN">操作名称</span>
+		 */
+		private final String operation;
+		/**
+		 * <span class="en-US">Count of recorded values</span>
+		 * <span class="zh-CN">记录的数据数量</span>
+		 */
+		private final long count;
+		/**
+		 * <span class="en-US">Total size of recorded values, unit: byte</span>
+		 * <span class="zh-CN">记录的数据总大小，单位：字节</span>
+		 */
+		private final long totalSize;
+		/**
+		 * <span class="en-US">Maximum size of recorded values, unit: byte</span>
+		 * <span class="zh-CN">记录的数据最大大小，单位：字节</span>
+		 */
+		private final long maximumSize;
+		/**
+		 * <span class="en-US">Histogram mapping, key is the inclusive upper bound of bucket, value is the count</span>
+		 * <span class="zh-CN">直方图映射，键为桶的上界（包含），值为数量</span>
+		 */
+		private final Map<Long, Long> histogram;
+
+		/**
+		 * <h3 class="en-US">Constructor for value size histogram</h3>
+		 * <h3 class="zh-CN">数据大小直方图的构造方法</h3>
+		 *
+		 * @param operation   <span class="en-US">Operation name</span>
+		 *                    <span class="zh-CN">操作名称</span>
+		 * @param count       <span class="en-US">Count of recorded values</span>
+		 *                    <span class="zh-CN">记录的数据数量</span>
+		 * @param totalSize   <span class="en-US">Total size of recorded values, unit: byte</span>
+		 *                    <span class="zh-CN">记录的数据总大小，单位：字节</span>
+		 * @param maximumSize <span class="en-US">Maximum size of recorded values, unit: byte</span>
+		 *                    <span class="zh-CN">记录的数据最大大小，单位：字节</span>
+		 * @param histogram   <span class="en-US">Histogram mapping, key is the inclusive upper bound of bucket, value is the count</span>
+		 *                    <span class="zh-CN">直方图映射，键为桶的上界（包含），值为数量</span>
+		 */
+		public ValueSize(final String operation, final long count, final long totalSize, final long maximumSize,
+		                 final Map<Long, Long> histogram) {
+			this.operation = operation;
+			this.count = count;
+			this.totalSize = totalSize;
+			this.maximumSize = maximumSize;
+			this.histogram = new LinkedHashMap<>(histogram);
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve operation name</h3>
+		 * <h3 class="zh-CN">读取操作名称</h3>
+		 *
+		 * @return <span class="en-US">Operation name</span>
+		 * <span class="zh-CN">操作名称</span>
+		 */
+		public String getOperation() {
+			return operation;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve count of recorded values</h3>
+		 * <h3 class="zh-CN">读取记录的数据数量</h3>
+		 *
+		 * @return <span class="en-US">Count of recorded values</span>
+		 * <span class="zh-CN">记录的数据数量</span>
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve total size of recorded values</h3>
+		 * <h3 class="zh-CN">读取记录的数据总大小</h3>
+		 *
+		 * @return <span class="en-US">Total size, unit: byte</span>
+		 * <span class="zh-CN">总大小，单位：字节</span>
+		 */
+		public long getTotalSize() {
+			return totalSize;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve maximum size of recorded values</h3>
+		 * <h3 class="zh-CN">读取记录的数据最大大小</h3>
+		 *
+		 * @return <span class="en-US">Maximum size, unit: byte</span>
+		 * <span class="zh-CN">最大大小，单位：字节</span>
+		 */
+		public long getMaximumSize() {
+			return maximumSize;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve histogram mapping</h3>
+		 * <h3 class="zh-CN">读取直方图映射</h3>
+		 *
+		 * @return <span class="en-US">Histogram mapping, key is the inclusive upper bound of bucket, value is the count</span>
+		 * <span class="zh-CN">直方图映射，键为桶的上界（包含），值为数量</span>
+		 */
+		public Map<Long, Long> getHistogram() {
+			return histogram;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Big key JavaBean</h2>
+	 * <h2 class="zh-CN">大键JavaBean</h2>
+	 *
+	 * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+	 * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:14:02 $
+	 */
+	public static final class BigKey extends BeanObject {
+
+		/**
+		 *
+		 */
+		@Serial
+		private static final long serialVersionUID = 7704295530614876012L;
+
+		/**
+		 * <span class="en-US">Cache key</span>
+		 * <span class="zh-CN">缓存键值</span>
+		 */
+		private final String key;
+		/**
+		 * <span class="en-US">Maximum value size seen, unit: byte</span>
+		 * <span class="zh-CN">出现过的最大数据大小，单位：字节</span>
+		 */
+		private final long size;
+		/**
+		 * <span class="en-US">Operation name which the maximum value size was seen</span>
+		 * <span class="zh-CN">出现最大数据大小的操作名称</span>
+		 */
+		private final String operation;
+
+		/**
+		 * <h3 class="en-US">Constructor for big key</h3>
+		 * <h3 class="zh-CN">大键的构造方法</h3>
+		 *
+		 * @param key       <span class="en-US">Cache key</span>
+		 *                  <span class="zh-CN">缓存键值</span>
+		 * @param size      <span class="en-US">Maximum value size seen, unit: byte</span>
+		 *                  <span class="zh-CN">出现过的最大数据大小，单位：字节</span>
+		 * @param operation <span class="en-US">Operation name which the maximum value size was seen</span>
+		 *                  <span class="zh-CN">出现最大数据大小的操作名称</span>
+		 */
+		public BigKey(final String key, final long size, final String operation) {
+			this.key = key;
+			this.size = size;
+			this.operation = operation;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve cache key</h3>
+		 * <h3 class="zh-CN">读取缓存键值</h3>
+		 *
+		 * @return <span class="en-US">Cache key</span>
+		 * <span class="zh-CN">缓存键值</span>
+		 */
+		public String getKey() {
+			return key;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve maximum value size seen</h3>
+		 * <h3 class="zh-CN">读取出现过的最大数据大小</h3>
+		 *
+		 * @return <span class="en-US">Value size, unit: byte</span>
+		 * <span class="zh-CN">数据大小，单位：字节</span>
+		 */
+		public long getSize() {
+			return size;
+		}
+
+		/**
+		 * <h3 class="en-US">Retrieve operation name which the maximum value size was seen</h3>
+		 * <h3 class="zh-CN">读取出现最大数据大小的操作名称</h3>
+		 *
+		 * @return <span class="en-US">Operation name</span>
+		 * <span class="zh-CN">操作名称</span>
+		 */
+		public String getOperation() {
+			return operation;
+		}
+	}
+}
@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.breaker;
+
+import org.nervousync.cache.config.CacheConfig;
+import org.nervousync.cache.enumeration.CircuitState;
+import org.nervousync.utils.LoggerUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <h2 class="en-US">Circuit breaker</h2>
+ * <span class="en-US">
+ *     Lock-free circuit breaker using a time based sliding window, one bucket per second.
+ *     The circuit breaker opens when the failure rate or slow call rate reaches threshold, rejects all calls
+ *     in open state, then permits limited probe calls after the open duration. All probe calls succeeded will close
+ *     the circuit breaker, any probe call failed will open the circuit breaker again.
+ * </span>
+ * <h2 class="zh-CN">熔断器</h2>
+ * <span class="zh-CN">
+ *     使用基于时间的滑动窗口（每秒一个统计桶）的无锁熔断器。当失败率或慢调用比例达到阈值时熔断器打开，
+ *     打开状态下拒绝所有调用，打开持续时间之后允许有限的探测调用。所有探测调用成功则关闭熔断器，任何探测调用失败则再次打开熔断器。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 15:36:08 $
+ */
+public final class CircuitBreaker {
+
+    /**
+     * <span class="en-US">Logger instance</span>
+     * <span class="zh-CN">日志实例</span>
+     */
+    private final LoggerUtils.Logger logger = LoggerUtils.getLogger(this.getClass());
+    /**
+     * <span class="en-US">Failure rate threshold, unit: percent</span>
+     * <span class="zh-CN">失败率阈值，单位：百分比</span>
+     */
+    private final int failureRateThreshold;
+    /**
+     * <span class="en-US">Slow call threshold, unit: nanosecond</span>
+     * <span class="zh-CN">慢调用时间阈值，单位：纳秒</span>
+     */
+    private final long slowCallThreshold;
+    /**
+     * <span class="en-US">Slow call rate threshold, unit: percent</span>
+     * <span class="zh-CN">慢调用比例阈值，单位：百分比</span>
+     */
+    private final int slowCallRateThreshold;
+    /**
+     * <span class="en-US">Minimum calls in sliding window before calculate the rates</span>
+     * <span class="zh-CN">计算比例前滑动窗口内需要的最少调用次数</span>
+     */
+    private final int minimumCalls;
+    /**
+     * <span class="en-US">Duration of keep open state, unit: nanosecond</span>
+     * <span class="zh-CN">打开状态持续时间，单位：纳秒</span>
+     */
+    private final long openDuration;
+    /**
+     * <span class="en-US">Probe calls count in half-open state</span>
+     * <span class="zh-CN">半开状态下的探测调用次数</span>
+     */
+    private final int halfOpenCalls;
+    /**
+     * <span class="en-US">Sliding window buckets</span>
+     * <span class="zh-CN">滑动窗口统计桶</span>
+     */
+    private final Bucket[] buckets;
+    private final AtomicReference<CircuitState> circuitState = new AtomicReference<>(CircuitState.Closed);
+    private final AtomicInteger probePermits = new AtomicInteger(0);
+    private final AtomicInteger probeSucceeded = new AtomicInteger(0);
+    private volatile long openedTime = 0L;
+
+    /**
+     * <h3 class="en-US">Constructor for circuit breaker</h3>
+     * <h3 class="zh-CN">熔断器的构造方法</h3>
+     *
+     * @param circuitBreakerConfig <span class="en-US">Circuit breaker configure</span>
+     *                             <span class="zh-CN">熔断器配置</span>
+     */
+    public CircuitBreaker(final CacheConfig.CircuitBreakerConfig circuitBreakerConfig) {
+        this.failureRateThreshold = circuitBreakerConfig.getFailureRateThreshold();
+        this.slowCallThreshold = TimeUnit.MILLISECONDS.toNanos(circuitBreakerConfig.getSlowCallThreshold());
+        this.slowCallRateThreshold = circuitBreakerConfig.getSlowCallRateThreshold();
+        this.minimumCalls = Math.max(1, circuitBreakerConfig.getMinimumCalls());
+        this.openDuration = TimeUnit.MILLISECONDS.toNanos(circuitBreakerConfig.getOpenDuration());
+        this.halfOpenCalls = Math.max(1, circuitBreakerConfig.getHalfOpenCalls());
+        this.buckets = new Bucket[Math.max(1, circuitBreakerConfig.getWindowSize())];
+        for (int i = 0; i < this.buckets.length; i++) {
+            this.buckets[i] = new Bucket();
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve current state</h3>
+     * <h3 class="zh-CN">读取当前状态</h3>
+     *
+     * @return <span class="en-US">Circuit breaker state</span>
+     * <span class="zh-CN">熔断器状态</span>
+     */
+    public CircuitState state() {
+        return this.circuitState.get();
+    }
+
+    /**
+     * <h3 class="en-US">Acquire permission to execute call</h3>
+     * <h3 class="zh-CN">获取执行调用的许可</h3>
+     *
+     * @return <span class="en-US">Boolean.TRUE for call permitted, Boolean.FALSE for call must fail fast</span>
+     * <span class="zh-CN">允许调用时返回Boolean.TRUE，调用需要快速失败时返回Boolean.FALSE</span>
+     */
+    public boolean tryAcquire() {
+        return switch (this.circuitState.get()) {
+            case Closed -> Boolean.TRUE;
+            case Open -> {
+                if (System.nanoTime() - this.openedTime < this.openDuration) {
+                    yield Boolean.FALSE;
+                }
+                if (this.transfer(CircuitState.Open, CircuitState.Half_Open)) {
+                    this.probeSucceeded.set(0);
+                    this.probePermits.set(this.halfOpenCalls);
+                }
+                yield this.acquireProbe();
+            }
+            case Half_Open -> this.acquireProbe();
+        };
+    }
+
+    /**
+     * <h3 class="en-US">Record call succeeded</h3>
+     * <h3 class="zh-CN">记录调用成功</h3>
+     *
+     * @param duration <span class="en-US">Call duration, unit: nanosecond</span>
+     *                 <span class="zh-CN">调用耗时，单位：纳秒</span>
+     * @return <span class="en-US">Boolean.TRUE if the call was a succeeded probe call in half-open state</span>
+     * <span class="zh-CN">调用为半开状态下成功的探测调用时返回Boolean.TRUE</span>
+     */
+    public boolean success(final long duration) {
+        return this.record(Boolean.FALSE, duration >= this.slowCallThreshold);
+    }
+
+    /**
+     * <h3 class="en-US">Record call failed</h3>
+     * <h3 class="zh-CN">记录调用失败</h3>
+     *
+     * @param duration <span class="en-US">Call duration, unit: nanosecond</span>
+     *                 <span class="zh-CN">调用耗时，单位：纳秒</span>
+     */
+    public void failure(final long duration) {
+        this.record(Boolean.TRUE, duration >= this.slowCallThreshold);
+    }
+
+    private boolean record(final boolean failed, final boolean slow) {
+        return switch (this.circuitState.get()) {
+            case Closed -> {
+                long currentSecond = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+                Bucket bucket = this.buckets[(int) Math.floorMod(currentSecond, (long) this.buckets.length)];
+                bucket.record(currentSecond, failed, slow);
+                //  Only failed or slow call can raise the rates
+                if ((failed || slow) && this.exceeded(currentSecond)) {
+                    this.open(CircuitState.Closed);
+                }
+                yield Boolean.FALSE;
+            }
+            case Half_Open -> {
+                if (failed || slow) {
+                    this.open(CircuitState.Half_Open);
+                    yield Boolean.FALSE;
+                }
+                if (this.probeSucceeded.incrementAndGet() >= this.halfOpenCalls
+                        && this.transfer(CircuitState.Half_Open, CircuitState.Closed)) {
+                    for (Bucket bucket : this.buckets) {
+                        bucket.reset(Bucket.UNUSED_SECOND);
+                    }
+                }
+                yield Boolean.TRUE;
+            }
+            //  Calls which began before the circuit breaker opened were ignored
+            default -> Boolean.FALSE;
+        };
+    }
+
+    private boolean exceeded(final long currentSecond) {
+        long totalCalls = 0L, failedCalls = 0L, slowCalls = 0L;
+        for (Bucket bucket : this.buckets) {
+            long bucketSecond = bucket.second.get();
+            //  Unused bucket checked explicitly, subtracting the sentinel overflows
+            if (bucketSecond != Bucket.UNUSED_SECOND && currentSecond - bucketSecond < this.buckets.length) {
+                totalCalls += bucket.totalCalls.sum();
+                failedCalls += bucket.failedCalls.sum();
+                slowCalls += bucket.slowCalls.sum();
+            }
+        }
+        if (totalCalls < this.minimumCalls) {
+            return Boolean.FALSE;
+        }
+        return failedCalls * 100L >= totalCalls * this.failureRateThreshold
+                || slowCalls * 100L >= totalCalls * this.slowCallRateThreshold;
+    }
+
+    private boolean acquireProbe() {
+        return this.probePermits.getAndUpdate(permits -> permits > 0 ? permits - 1 : permits) > 0;
+    }
+
+    private void open(final CircuitState currentState) {
+        //  Update opened time before state changed, so the new open duration was used by other threads
+        this.openedTime = System.nanoTime();
+        this.transfer(currentState, CircuitState.Open);
+    }
+
+    private boolean transfer(final CircuitState currentState, final CircuitState newState) {
+        if (this.circuitState.compareAndSet(currentState, newState)) {
+            this.logger.info("Circuit_State_Changed_Cache_Info", currentState, newState);
+            return Boolean.TRUE;
+        }
+        return Boolean.FALSE;
+    }
+
+    /**
+     * <h2 class="en-US">Sliding window bucket, statistics calls of one second</h2>
+     * <span class="en-US">Counters reset by the first thread which moves the bucket to new second, concurrent records may be lost</span>
+     * <h2 class="zh-CN">滑动窗口统计桶，统计一秒内的调用</h2>
+     * <span class="zh-CN">计数器由第一个将统计桶切换到新秒数的线程重置，并发的记录可能会丢失</span>
+     */
+    private static final class Bucket {
+
+        /**
+         * <span class="en-US">Second of bucket which not used or was reset</span>
+         * <span class="zh-CN">未使用或已重置的统计桶的秒数</span>
+         */
+        private static final long UNUSED_SECOND = Long.MIN_VALUE;
+
+        private final AtomicLong second = new AtomicLong(UNUSED_SECOND);
+        private final LongAdder totalCalls = new LongAdder();
+        private final LongAdder failedCalls = new LongAdder();
+        private final LongAdder slowCalls = new LongAdder();
+
+        void record(final long currentSecond, final boolean failed, final boolean slow) {
+            long bucketSecond = this.second.get();
+            if (bucketSecond != currentSecond && this.second.compareAndSet(bucketSecond, currentSecond)) {
+                this.reset(currentSecond);
+            }
+            this.totalCalls.increment();
+            if (failed) {
+                this.failedCalls.increment();
+            }
+            if (slow) {
+                this.slowCalls.increment();
+            }
+        }
+
+        void reset(final long currentSecond) {
+            this.second.set(currentSecond);
+            this.totalCalls.reset();
+            this.failedCalls.reset();
+            this.slowCalls.reset();
+        }
+    }
+}
@@ -0,0 +1,530 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.client.impl;
+
+import org.nervousync.cache.api.CacheClient;
+import org.nervousync.cache.api.CacheCounter;
+import org.nervousync.cache.api.NamespaceClient;
+import org.nervousync.cache.api.VersionedValue;
+import org.nervousync.cache.exceptions.CacheException;
+import org.nervousync.cache.executor.BlockingExecutor;
+import org.nervousync.cache.stats.CacheStatistics;
+import org.nervousync.utils.StringUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * <h2 class="en-US">Registered cache client handle</h2>
+ * <span class="en-US">
+ *     The handle was created once for each cache name and stays valid when the cache was registered again, so the
+ *     callers resolve the handle once and cache it. Every call was delegated to current client, registering the cache
+ *     again swaps the client atomically, the replaced client was destroyed after the calls in flight on it were ended.
+ *     Streams returned by scan were lazy, so only the call which creates the stream was counted as in flight.
+ *     The client of lazy connect cache was created in background, calls before it was connected wait for it.
+ * </span>
+ * <h2 class="zh-CN">已注册缓存的客户端句柄</h2>
+ * <span class="zh-CN">
+ *     每个缓存名称只创建一次句柄，缓存重新注册时句柄仍然有效，因此调用方只需获取一次句柄并缓存。所有调用委托给当前客户端，
+ *     重新注册缓存时以原子方式替换客户端，被替换的客户端在其上正在进行的调用结束后销毁。scan返回的流是惰性的，因此仅将创建流的调用计为正在进行。
+ *     延迟连接缓存的客户端在后台创建，连接完成之前的调用将等待客户端创建完成。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 17:26:05 $
+ */
+public final class CacheClientHandle implements CacheClient {
+
+    /**
+     * <span class="en-US">Poll interval of waiting for calls in flight, unit: millisecond</span>
+     * <span class="zh-CN">等待正在进行调用结束的轮询间隔，单位：毫秒</span>
+     */
+    private static final long DRAIN_INTERVAL = 5L;
+
+    /**
+     * <span class="en-US">Current delegate client</span>
+     * <span class="zh-CN">当前的委托客户端</span>
+     */
+    private final AtomicReference<Delegate> current;
+    /**
+     * <span class="en-US">Cache identify name</span>
+     * <span class="zh-CN">缓存识别名称</span>
+     */
+    private final String cacheName;
+    /**
+     * <span class="en-US">Registered script body mapping by name, registered again to the client which replaced current client</span>
+     * <span class="zh-CN">已注册的脚本内容与名称的对应关系，重新注册到替换当前客户端的客户端</span>
+     */
+    private final Map<String, String> registeredScripts = new ConcurrentHashMap<>();
+
+    /**
+     * <h3 class="en-US">Constructor for cache client handle</h3>
+     * <h3 class="zh-CN">缓存客户端句柄的构造方法</h3>
+     *
+     * @param cacheName   <span class="en-US">Cache identify name</span>
+     *                    <span class="zh-CN">缓存识别名称</span>
+     * @param cacheClient <span class="en-US">Registered cache client</span>
+     *                    <span class="zh-CN">注册的缓存客户端</span>
+     */
+    public CacheClientHandle(final String cacheName, final CacheClient cacheClient) {
+        this(cacheName, CompletableFuture.completedFuture(cacheClient));
+    }
+
+    /**
+     * <h3 class="en-US">Constructor for cache client handle of the client which was creating in background</h3>
+     * <h3 class="zh-CN">在后台创建的客户端的缓存客户端句柄的构造方法</h3>
+     *
+     * @param cacheName    <span class="en-US">Cache identify name</span>
+     *                     <span class="zh-CN">缓存识别名称</span>
+     * @param clientFuture <span class="en-US">Future of registered cache client</span>
+     *                     <span class="zh-CN">注册的缓存客户端的Future</span>
+     */
+    public CacheClientHandle(final String cacheName, final CompletableFuture<? extends CacheClient> clientFuture) {
+        this.cacheName = cacheName;
+        this.current = new AtomicReference<>(new Delegate(clientFuture));
+    }
+
+    /**
+     * <h3 class="en-US">Check current client was connected</h3>
+     * <h3 class="zh-CN">检查当前客户端是否已连接</h3>
+     *
+     * @return <span class="en-US">Boolean.FALSE if the client was still connecting or connect failed</span>
+     * <span class="zh-CN">如果客户端仍在连接或连接失败则返回Boolean.FALSE</span>
+     */
+    public boolean connected() {
+        CompletableFuture<? extends CacheClient> clientFuture = this.current.get().clientFuture;
+        return clientFuture.isDone() && !clientFuture.isCompletedExceptionally();
+    }
+
+    /**
+     * <h3 class="en-US">Replace current client by given client</h3>
+     * <span class="en-US">
+     *     Calls started after the replacement were delegated to given client, the replaced client was destroyed in
+     *     background after the calls in flight on it were ended. Scripts registered by the handle were registered to
+     *     given client before the replacement.
+     * </span>
+     * <h3 class="zh-CN">使用给定的客户端替换当前客户端</h3>
+     * <span class="zh-CN">
+     *     替换后开始的调用委托给给定的客户端，被替换的客户端在其上正在进行的调用结束后在后台销毁。通过句柄注册的脚本在替换之前注册到给定的客户端。
+     * </span>
+     *
+     * @param cacheClient <span class="en-US">New cache client</span>
+     *                    <span class="zh-CN">新的缓存客户端</span>
+     */
+    public void replace(final CacheClient cacheClient) {
+        this.registeredScripts.forEach(cacheClient::registerScript);
+        final Delegate replaced = this.current.getAndSet(new Delegate(CompletableFuture.completedFuture(cacheClient)));
+        //  Scripts registered during the replacement were delegated to the replaced client
+        this.registeredScripts.forEach(cacheClient::registerScript);
+        BlockingExecutor.supplyAsync(() -> {
+            replaced.retire();
+            return null;
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#namespace(String)
+     */
+    @Override
+    public NamespaceClient namespace(final String namespace) {
+        //  Bound to the handle, so the namespace client follows the replacement of client
+        return new NamespaceClientImpl(this, namespace);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#counter(String)
+     */
+    @Override
+    public CacheCounter counter(final String key) {
+        return new HandleCounter(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#set(String, String, int)
+     */
+    @Override
+    public void set(final String key, final String value, final int expire) {
+        this.run(cacheClient -> cacheClient.set(key, value, expire));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#set(String, String, int, String...)
+     */
+    @Override
+    public void set(final String key, final String value, final int expire, final String... tags) {
+        this.run(cacheClient -> cacheClient.set(key, value, expire, tags));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#add(String, String, int)
+     */
+    @Override
+    public boolean add(final String key, final String value, final int expire) {
+        return this.call(cacheClient -> cacheClient.add(key, value, expire));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#replace(String, String, int)
+     */
+    @Override
+    public boolean replace(final String key, final String value, final int expire) {
+        return this.call(cacheClient -> cacheClient.replace(key, value, expire));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#expire(String, int)
+     */
+    @Override
+    public void expire(final String key, final int expire) {
+        this.run(cacheClient -> cacheClient.expire(key, expire));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#touch(String...)
+     */
+    @Override
+    public void touch(final String... keys) {
+        this.run(cacheClient -> cacheClient.touch(keys));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#delete(String)
+     */
+    @Override
+    public void delete(final String key) {
+        this.run(cacheClient -> cacheClient.delete(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#deleteAll(Collection)
+     */
+    @Override
+    public long deleteAll(final Collection<String> keys) {
+        return this.call(cacheClient -> cacheClient.deleteAll(keys));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#invalidateTag(String)
+     */
+    @Override
+    public void invalidateTag(final String tag) {
+        this.run(cacheClient -> cacheClient.invalidateTag(tag));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#scan(String, int)
+     */
+    @Override
+    public Stream<String> scan(final String pattern, final int batchSize) {
+        return this.call(cacheClient -> cacheClient.scan(pattern, batchSize));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#get(String)
+     */
+    @Override
+    public String get(final String key) {
+        return this.call(cacheClient -> cacheClient.get(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#getAndTouch(String, int)
+     */
+    @Override
+    public String getAndTouch(final String key, final int expire) {
+        return this.call(cacheClient -> cacheClient.getAndTouch(key, expire));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#get(String, int, Supplier)
+     */
+    @Override
+    public String get(final String key, final int expire, final Supplier<String> loader) {
+        return this.call(cacheClient -> cacheClient.get(key, expire, loader));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#getWithVersion(String)
+     */
+    @Override
+    public VersionedValue getWithVersion(final String key) {
+        return this.call(cacheClient -> cacheClient.getWithVersion(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#compareAndSet(String, String, String, int)
+     */
+    @Override
+    public boolean compareAndSet(final String key, final String version, final String value, final int expire) {
+        return this.call(cacheClient -> cacheClient.compareAndSet(key, version, value, expire));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#setField(String, String, String, int)
+     */
+    @Override
+    public void setField(final String key, final String field, final String value, final int expire) {
+        this.run(cacheClient -> cacheClient.setField(key, field, value, expire));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#getField(String, String)
+     */
+    @Override
+    public String getField(final String key, final String field) {
+        return this.call(cacheClient -> cacheClient.getField(key, field));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#getFields(String, String...)
+     */
+    @Override
+    public Map<String, String> getFields(final String key, final String... fields) {
+        return this.call(cacheClient -> cacheClient.getFields(key, fields));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#getAllFields(String)
+     */
+    @Override
+    public Map<String, String> getAllFields(final String key) {
+        return this.call(cacheClient -> cacheClient.getAllFields(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#incrField(String, String, long)
+     */
+    @Override
+    public long incrField(final String key, final String field, final long step) {
+        return this.call(cacheClient -> cacheClient.incrField(key, field, step));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#registerScript(String, String)
+     */
+    @Override
+    public void registerScript(final String name, final String script) {
+        if (StringUtils.isEmpty(name) || StringUtils.isEmpty(script)) {
+            return;
+        }
+        this.registeredScripts.put(name, script);
+        this.run(cacheClient -> cacheClient.registerScript(name, script));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#eval(String, List, List)
+     */
+    @Override
+    public Object eval(final String scriptName, final List<String> keys, final List<String> arguments) {
+        return this.call(cacheClient -> cacheClient.eval(scriptName, keys, arguments));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#incr(String, long)
+     */
+    @Override
+    public long incr(final String key, final long step) {
+        return this.call(cacheClient -> cacheClient.incr(key, step));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#decr(String, long)
+     */
+    @Override
+    public long decr(final String key, final long step) {
+        return this.call(cacheClient -> cacheClient.decr(key, step));
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve statistics snapshot of current client without waiting for it was connected</h3>
+     * <h3 class="zh-CN">读取当前客户端的统计信息快照，不等待客户端连接完成</h3>
+     *
+     * @return <span class="en-US">Cache statistics instance, only contains cache name and connection state if the client was not connected</span>
+     * <span class="zh-CN">缓存统计信息实例，如果客户端未连接则仅包含缓存名称和连接状态</span>
+     */
+    @Override
+    public CacheStatistics statistics() {
+        if (this.connected()) {
+            return this.call(CacheClient::statistics);
+        }
+        CacheStatistics cacheStatistics = new CacheStatistics();
+        cacheStatistics.setCacheName(this.cacheName);
+        cacheStatistics.setConnected(Boolean.FALSE);
+        return cacheStatistics;
+    }
+
+    /**
+     * <h3 class="en-US">Destroy current client after the calls in flight were ended</h3>
+     * <span class="en-US">
+     *     Calls started after the destruction fail fast with CompletionException caused by CacheException, so the
+     *     handle cached by callers never calls the destroyed client.
+     * </span>
+     * <h3 class="zh-CN">在正在进行的调用结束后销毁当前客户端</h3>
+     * <span class="zh-CN">
+     *     销毁后开始的调用将快速失败并抛出由CacheException引起的CompletionException，因此调用方缓存的句柄永远不会调用已销毁的客户端。
+     * </span>
+     */
+    @Override
+    public void destroy() {
+        final Delegate destroyed = this.current.getAndSet(
+                new Delegate(CompletableFuture.failedFuture(new CacheException(0x000C00000010L, this.cacheName))));
+        destroyed.retire();
+    }
+
+    /**
+     * <h3 class="en-US">Execute given operation by current client and count it as in flight</h3>
+     * <span class="en-US">
+     *     The counter was increased before the client was checked again, so the replacement which reads a zero counter
+     *     after swapped the client never misses a call which was still using the replaced client.
+     * </span>
+     * <h3 class="zh-CN">使用当前客户端执行给定的操作并将其计为正在进行</h3>
+     * <span class="zh-CN">
+     *     计数在再次检查客户端之前增加，因此替换客户端后读取到计数为零时，不会遗漏仍在使用被替换客户端的调用。
+     * </span>
+     *
+     * @param <T>       <span class="en-US">Result type</span>
+     *                  <span class="zh-CN">结果类型</span>
+     * @param operation <span class="en-US">Client operation</span>
+     *                  <span class="zh-CN">客户端操作</span>
+     * @return <span class="en-US">Operation result</span>
+     * <span class="zh-CN">操作结果</span>
+     */
+    private <T> T call(final Function<CacheClient, T> operation) {
+        while (true) {
+            final Delegate delegate = this.current.get();
+            delegate.inFlight.incrementAndGet();
+            try {
+                if (delegate == this.current.get()) {
+                    //  Wait for the client of lazy connect cache was created
+                    return operation.apply(delegate.clientFuture.join());
+                }
+            } finally {
+                delegate.inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private void run(final Consumer<CacheClient> operation) {
+        this.call(cacheClient -> {
+            operation.accept(cacheClient);
+            return null;
+        });
+    }
+
+    /**
+     * <h2 class="en-US">Delegate client and the count of calls in flight on it</h2>
+     * <h2 class="zh-CN">委托客户端及其上正在进行的调用数量</h2>
+     */
+    private static final class Delegate {
+
+        private final CompletableFuture<? extends CacheClient> clientFuture;
+        private final AtomicInteger inFlight = new AtomicInteger(0);
+
+        Delegate(final CompletableFuture<? extends CacheClient> clientFuture) {
+            this.clientFuture = clientFuture;
+        }
+
+        /**
+         * <h3 class="en-US">Wait for the calls in flight were ended and destroy the client</h3>
+         * <h3 class="zh-CN">等待正在进行的调用结束并销毁客户端</h3>
+         */
+        void retire() {
+            while (this.inFlight.get() > 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(DRAIN_INTERVAL));
+            }
+            //  Client which was still creating was destroyed when created, failed client has nothing to destroy
+            this.clientFuture.thenAccept(CacheClient::destroy);
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Counter which resolves the counter of current client for every operation</h2>
+     * <h2 class="zh-CN">每次操作都解析当前客户端计数器的计数器</h2>
+     */
+    private final class HandleCounter implements CacheCounter {
+
+        private final String key;
+
+        HandleCounter(final String key) {
+            this.key = key;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see org.nervousync.cache.api.CacheCounter#getKey()
+         */
+        @Override
+        public String getKey() {
+            return this.key;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see org.nervousync.cache.api.CacheCounter#add(long)
+         */
+        @Override
+        public void add(final long delta) {
+            run(cacheClient -> cacheClient.counter(this.key).add(delta));
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see org.nervousync.cache.api.CacheCounter#flush()
+         */
+        @Override
+        public void flush() {
+            run(cacheClient -> cacheClient.counter(this.key).flush());
+        }
+    }
+}
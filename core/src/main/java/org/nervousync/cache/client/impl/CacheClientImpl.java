@@ -17,16 +17,45 @@
 package org.nervousync.cache.client.impl;
 
 import org.nervousync.cache.api.CacheClient;
+import org.nervousync.cache.api.CacheCounter;
+import org.nervousync.cache.api.NamespaceClient;
+import org.nervousync.cache.api.VersionedValue;
+import org.nervousync.cache.breaker.CircuitBreaker;
+import org.nervousync.cache.commons.CacheGlobals;
 import org.nervousync.cache.config.CacheConfig;
+import org.nervousync.cache.counter.CounterBuffer;
+import org.nervousync.cache.enumeration.CircuitState;
 import org.nervousync.cache.exceptions.CacheException;
+import org.nervousync.cache.executor.BlockingExecutor;
+import org.nervousync.cache.hotkey.HotKeyDetector;
+import org.nervousync.cache.profile.ValueSizeProfiler;
 import org.nervousync.cache.provider.ProviderManager;
 import org.nervousync.cache.provider.impl.AbstractProvider;
+import org.nervousync.cache.script.CacheScript;
+import org.nervousync.cache.script.ScriptRegistry;
+import org.nervousync.cache.stats.CacheStatistics;
 import org.nervousync.commons.Globals;
 import org.nervousync.utils.LoggerUtils;
 import org.nervousync.utils.ObjectUtils;
 import org.nervousync.utils.StringUtils;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * <h2 class="en-US">Cache client implement class</h2>
@@ -43,26 +72,157 @@ public final class CacheClientImpl implements CacheClient {
      */
     private final LoggerUtils.Logger logger = LoggerUtils.getLogger(this.getClass());
 
+    /**
+     * <span class="en-US">Cache identify name</span>
+     * <span class="zh-CN">缓存识别名称</span>
+     */
+    private final String cacheName;
     /**
      * <span class="en-US">Current cache provider instance</span>
      * <span class="zh-CN">缓存适配器实例</span>
      */
     private final AbstractProvider cacheProvider;
+    /**
+     * <span class="en-US">Circuit breaker instance, null if circuit breaker was disabled</span>
+     * <span class="zh-CN">熔断器实例，如果熔断器未启用则为null</span>
+     */
+    private final CircuitBreaker circuitBreaker;
+    /**
+     * <span class="en-US">Queue of write operations which rejected by circuit breaker, null if rejected write operations should be dropped</span>
+     * <span class="zh-CN">被熔断器拒绝的写操作队列，如果被拒绝的写操作应当丢弃则为null</span>
+     */
+    private final LinkedBlockingDeque<QueuedWrite> writeQueue;
+    /**
+     * <span class="en-US">Replaying queued write operations status</span>
+     * <span class="zh-CN">正在重放队列中写操作的状态</span>
+     */
+    private final AtomicBoolean replaying = new AtomicBoolean(Boolean.FALSE);
+    /**
+     * <span class="en-US">Hot key detector instance, null if hot key detection was disabled</span>
+     * <span class="zh-CN">热点键检测器实例，如果热点键检测未启用则为null</span>
+     */
+    private final HotKeyDetector hotKeyDetector;
+    /**
+     * <span class="en-US">Value size profiler instance, null if value size profiling was disabled</span>
+     * <span class="zh-CN">数据大小分析器实例，如果数据大小分析未启用则为null</span>
+     */
+    private final ValueSizeProfiler valueSizeProfiler;
+    /**
+     * <span class="en-US">Fill lease configure, null if cache fill was coordinated in current JVM only</span>
+     * <span class="zh-CN">填充租约配置，如果仅在当前JVM中协调缓存填充则为null</span>
+     */
+    private final CacheConfig.FillLeaseConfig fillLeaseConfig;
+    /**
+     * <span class="en-US">Sliding expiration, every read resets the expire time of the key to default expire time</span>
+     * <span class="zh-CN">滑动过期，每次读取将键的过期时间重置为默认过期时间</span>
+     */
+    private final boolean slidingExpire;
+    /**
+     * <span class="en-US">Loading futures of cache keys which value was loading in current JVM</span>
+     * <span class="zh-CN">当前JVM中正在加载数据的缓存键值的加载Future</span>
+     */
+    private final ConcurrentHashMap<String, CompletableFuture<String>> loadingFutures = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">Counter buffer instance, null if counter deltas were sent to cache server directly</span>
+     * <span class="zh-CN">计数器缓冲区实例，如果计数器增量直接发送到缓存服务器则为null</span>
+     */
+    private final CounterBuffer counterBuffer;
+    /**
+     * <span class="en-US">Registered server-side scripts</span>
+     * <span class="zh-CN">已注册的服务器端脚本</span>
+     */
+    private final ScriptRegistry scriptRegistry = new ScriptRegistry();
+    /**
+     * <span class="en-US">Warm-up time of registration, unit: millisecond, 0 if warm-up was disabled</span>
+     * <span class="zh-CN">注册时的预热时间，单位：毫秒，如果未启用预热则为0</span>
+     */
+    private final long warmupTime;
 
     /**
      * Constructor for cache agent
      *
+     * @param cacheName   <span class="en-US">Cache identify name</span>
+     *                    <span class="zh-CN">缓存识别名称</span>
      * @param cacheConfig <span class="en-US">System cache config instance</span>
      *                    <span class="zh-CN">系统缓存配置实例</span>
      * @throws CacheException <span class="en-US">Generate instance of provider failed or provider implement class not extends with AbstractCacheProvider</span>
      *                        <span class="zh-CN">缓存适配器实现类没有继承AbstractCacheProvider或初始化缓存适配器对象出错</span>
      */
-    public CacheClientImpl(final CacheConfig cacheConfig) throws CacheException {
+    public CacheClientImpl(final String cacheName, final CacheConfig cacheConfig) throws CacheException {
+        this.cacheName = cacheName;
         this.cacheProvider = Optional.ofNullable(ProviderManager.providerClass(cacheConfig.getProviderName()))
                 .filter(AbstractProvider.class::isAssignableFrom)
                 .map(providerClass -> (AbstractProvider) ObjectUtils.newInstance(providerClass))
                 .orElseThrow(() -> new CacheException(0x000C00000003L));
         this.cacheProvider.initialize(cacheConfig);
+        CacheConfig.CircuitBreakerConfig circuitBreakerConfig = cacheConfig.getCircuitBreakerConfig();
+        if (circuitBreakerConfig == null) {
+            this.circuitBreaker = null;
+            this.writeQueue = null;
+        } else {
+            this.circuitBreaker = new CircuitBreaker(circuitBreakerConfig);
+            this.writeQueue = (circuitBreakerConfig.getWriteQueueSize() > 0)
+                    ? new LinkedBlockingDeque<>(circuitBreakerConfig.getWriteQueueSize())
+                    : null;
+        }
+        this.hotKeyDetector = (cacheConfig.getHotKeyConfig() == null)
+                ? null
+                : new HotKeyDetector(cacheConfig.getHotKeyConfig());
+        this.valueSizeProfiler = (cacheConfig.getValueSizeConfig() == null)
+                ? null
+                : new ValueSizeProfiler(cacheConfig.getValueSizeConfig());
+        this.fillLeaseConfig = cacheConfig.getFillLeaseConfig();
+        this.slidingExpire = cacheConfig.isSlidingExpire();
+        this.counterBuffer = (cacheConfig.getCounterConfig() == null)
+                ? null
+                : new CounterBuffer(cacheConfig.getCounterConfig(), this::flushCounters);
+        this.warmupTime = this.warmup(cacheConfig.getWarmupConfig());
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve circuit breaker state</h3>
+     * <h3 class="zh-CN">读取熔断器状态</h3>
+     *
+     * @return <span class="en-US">Circuit breaker state, CircuitState.Closed if circuit breaker was disabled</span>
+     * <span class="zh-CN">熔断器状态，如果熔断器未启用则返回CircuitState.Closed</span>
+     */
+    public CircuitState circuitState() {
+        return (this.circuitBreaker == null) ? CircuitState.Closed : this.circuitBreaker.state();
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve statistics snapshot of current cache client</h3>
+     * <h3 class="zh-CN">读取当前缓存客户端的统计信息快照</h3>
+     *
+     * @return <span class="en-US">Cache statistics instance</span>
+     * <span class="zh-CN">缓存统计信息实例</span>
+     */
+    @Override
+    public CacheStatistics statistics() {
+        CacheStatistics cacheStatistics = new CacheStatistics();
+        cacheStatistics.setCacheName(this.cacheName);
+        cacheStatistics.setCircuitState(this.circuitState());
+        cacheStatistics.setWarmupTime(this.warmupTime);
+        if (this.hotKeyDetector != null) {
+            cacheStatistics.setHotKeys(this.hotKeyDetector.hotKeys());
+            cacheStatistics.setLocalHits(this.hotKeyDetector.localHits());
+            cacheStatistics.setLocalSize(this.hotKeyDetector.localSize());
+        }
+        if (this.valueSizeProfiler != null) {
+            cacheStatistics.setValueSizes(this.valueSizeProfiler.valueSizes());
+            cacheStatistics.setBigKeys(this.valueSizeProfiler.bigKeys());
+            cacheStatistics.setOversizeCount(this.valueSizeProfiler.oversizeCount());
+        }
+        return cacheStatistics;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#namespace(String)
+     */
+    @Override
+    public NamespaceClient namespace(final String namespace) {
+        return new NamespaceClientImpl(this, namespace);
     }
 
     /**
@@ -76,7 +236,11 @@ public final class CacheClientImpl implements CacheClient {
      */
     public void set(final String key, final String value) {
         this.logInfo(key, value);
-        this.cacheProvider.set(key, value);
+        if (!this.admit("set", key, value)) {
+            return;
+        }
+        this.invalidate(key);
+        this.write(key, () -> this.cacheProvider.set(key, value));
     }
 
     /**
@@ -92,7 +256,41 @@ public final class CacheClientImpl implements CacheClient {
      */
     public void set(final String key, final String value, final int expire) {
         this.logInfo(key, value);
-        this.cacheProvider.set(key, value, expire);
+        if (!this.admit("set", key, value)) {
+            return;
+        }
+        this.invalidate(key);
+        this.write(key, () -> this.cacheProvider.set(key, value, expire));
+    }
+
+    /**
+     * <h3 class="en-US">Set key-value to cache server, set expire time and add the key to given tags</h3>
+     * <h3 class="zh-CN">使用指定的过期时间设置缓存信息，并将键添加到给定的标签</h3>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zh-CN">缓存键值</span>
+     * @param value  <span class="en-US">Cache value</span>
+     *               <span class="zh-CN">缓存数据</span>
+     * @param expire <span class="en-US">Expire time</span>
+     *               <span class="zh-CN">过期时间</span>
+     * @param tags   <span class="en-US">Tag array</span>
+     *               <span class="zh-CN">标签数组</span>
+     */
+    public void set(final String key, final String value, final int expire, final String... tags) {
+        this.logInfo(key, value);
+        if (!this.admit("set", key, value)) {
+            return;
+        }
+        this.invalidate(key);
+        //  Expire jitter was resolved once, so the tag sets never expire before the key
+        final int expiry = this.cacheProvider.expiryTime(expire);
+        this.write(key, () -> {
+            //  Tag before set, so the key was never visible without being tracked by its tags
+            if (tags != null && tags.length > 0) {
+                this.cacheProvider.tag(key, expiry, tags);
+            }
+            this.cacheProvider.set(key, value, expiry);
+        });
     }
 
     /**
@@ -103,10 +301,17 @@ public final class CacheClientImpl implements CacheClient {
      *              <span class="zh-CN">缓存键值</span>
      * @param value <span class="en-US">Cache value</span>
      *              <span class="zh-CN">缓存数据</span>
+     * @return <span class="en-US">Boolean.TRUE if the key was not exists and the value was added</span>
+     * <span class="zh-CN">键不存在且数据添加成功时返回Boolean.TRUE</span>
      */
-    public void add(final String key, final String value) {
+    public boolean add(final String key, final String value) {
         this.logInfo(key, value);
-        this.cacheProvider.add(key, value);
+        if (!this.admit("add", key, value)) {
+            return Boolean.FALSE;
+        }
+        this.invalidate(key);
+        //  Not idempotent, retry after an applied but timed out attempt reports the condition was not matched
+        return this.read(() -> this.cacheProvider.add(key, value), Boolean.FALSE, Boolean.FALSE);
     }
 
     /**
@@ -119,10 +324,17 @@ public final class CacheClientImpl implements CacheClient {
      *               <span class="zh-CN">缓存数据</span>
      * @param expire <span class="en-US">Expire time</span>
      *               <span class="zh-CN">过期时间</span>
+     * @return <span class="en-US">Boolean.TRUE if the key was not exists and the value was added</span>
+     * <span class="zh-CN">键不存在且数据添加成功时返回Boolean.TRUE</span>
      */
-    public void add(final String key, final String value, final int expire) {
+    public boolean add(final String key, final String value, final int expire) {
         this.logInfo(key, value);
-        this.cacheProvider.add(key, value, expire);
+        if (!this.admit("add", key, value)) {
+            return Boolean.FALSE;
+        }
+        this.invalidate(key);
+        //  Not idempotent, retry after an applied but timed out attempt reports the condition was not matched
+        return this.read(() -> this.cacheProvider.add(key, value, expire), Boolean.FALSE, Boolean.FALSE);
     }
 
     /**
@@ -133,10 +345,17 @@ public final class CacheClientImpl implements CacheClient {
      *              <span class="zh-CN">缓存键值</span>
      * @param value <span class="en-US">Cache value</span>
      *              <span class="zh-CN">缓存数据</span>
+     * @return <span class="en-US">Boolean.TRUE if the key was exists and the value was replaced</span>
+     * <span class="zh-CN">键存在且数据替换成功时返回Boolean.TRUE</span>
      */
-    public void replace(final String key, final String value) {
+    public boolean replace(final String key, final String value) {
         this.logInfo(key, value);
-        this.cacheProvider.replace(key, value);
+        if (!this.admit("replace", key, value)) {
+            return Boolean.FALSE;
+        }
+        this.invalidate(key);
+        //  Not idempotent, retry after an applied but timed out attempt reports the condition was not matched
+        return this.read(() -> this.cacheProvider.replace(key, value), Boolean.FALSE, Boolean.FALSE);
     }
 
     /**
@@ -149,10 +368,17 @@ public final class CacheClientImpl implements CacheClient {
      *               <span class="zh-CN">缓存数据</span>
      * @param expire <span class="en-US">Expire time</span>
      *               <span class="zh-CN">过期时间</span>
+     * @return <span class="en-US">Boolean.TRUE if the key was exists and the value was replaced</span>
+     * <span class="zh-CN">键存在且数据替换成功时返回Boolean.TRUE</span>
      */
-    public void replace(final String key, final String value, final int expire) {
+    public boolean replace(final String key, final String value, final int expire) {
         this.logInfo(key, value);
-        this.cacheProvider.replace(key, value, expire);
+        if (!this.admit("replace", key, value)) {
+            return Boolean.FALSE;
+        }
+        this.invalidate(key);
+        //  Not idempotent, retry after an applied but timed out attempt reports the condition was not matched
+        return this.read(() -> this.cacheProvider.replace(key, value, expire), Boolean.FALSE, Boolean.FALSE);
     }
 
     /**
@@ -165,7 +391,8 @@ public final class CacheClientImpl implements CacheClient {
      *               <span class="zh-CN">新的过期时间</span>
      */
     public void expire(final String key, final int expire) {
-        this.cacheProvider.expire(key, expire);
+        this.invalidate(key);
+        this.write(null, () -> this.cacheProvider.expire(key, expire));
     }
 
     /**
@@ -176,7 +403,7 @@ public final class CacheClientImpl implements CacheClient {
      *             <span class="zh-CN">缓存键值数组</span>
      */
     public void touch(final String... keys) {
-        this.cacheProvider.touch(keys);
+        this.write(null, () -> this.cacheProvider.touch(keys));
     }
 
     /**
@@ -187,7 +414,60 @@ public final class CacheClientImpl implements CacheClient {
      *            <span class="zh-CN">缓存键值</span>
      */
     public void delete(final String key) {
-        this.cacheProvider.delete(key);
+        this.invalidate(key);
+        this.write(key, () -> this.cacheProvider.delete(key));
+    }
+
+    /**
+     * <h3 class="en-US">Remove given cache keys from cache server in one pipelined batch</h3>
+     * <h3 class="zh-CN">在一个管道批次中从缓存服务器移除给定的缓存键值</h3>
+     *
+     * @param keys <span class="en-US">Cache keys</span>
+     *             <span class="zh-CN">缓存键值</span>
+     * @return <span class="en-US">Count of removed keys</span>
+     * <span class="zh-CN">已移除的键数量</span>
+     */
+    public long deleteAll(final Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return 0L;
+        }
+        this.invalidate(keys.toArray(new String[0]));
+        return this.read(() -> this.cacheProvider.deleteAll(keys), 0L, Boolean.TRUE);
+    }
+
+    /**
+     * <h3 class="en-US">Remove all cache keys of given tag from cache server in one batch</h3>
+     * <h3 class="zh-CN">在一个批次中从缓存服务器移除给定标签的所有缓存键值</h3>
+     *
+     * @param tag <span class="en-US">Tag</span>
+     *            <span class="zh-CN">标签</span>
+     */
+    public void invalidateTag(final String tag) {
+        if (StringUtils.isEmpty(tag)) {
+            return;
+        }
+        this.write(null, () -> this.invalidate(this.cacheProvider.invalidateTag(tag)));
+    }
+
+    /**
+     * <h3 class="en-US">Scan cache keys which match given pattern</h3>
+     * <h3 class="zh-CN">扫描匹配给定模式的缓存键值</h3>
+     *
+     * @param pattern   <span class="en-US">Glob style pattern, match all keys if empty</span>
+     *                  <span class="zh-CN">Glob风格的匹配模式，为空时匹配所有键</span>
+     * @param batchSize <span class="en-US">Count hint of keys returned by each SCAN command</span>
+     *                  <span class="zh-CN">每次SCAN命令返回键数量的提示值</span>
+     * @return <span class="en-US">Lazy key stream</span>
+     * <span class="zh-CN">延迟加载的键值流</span>
+     */
+    public Stream<String> scan(final String pattern, final int batchSize) {
+        final String matchPattern = StringUtils.isEmpty(pattern) ? "*" : pattern;
+        final int count = (batchSize > 0) ? batchSize : CacheGlobals.DEFAULT_SCAN_BATCH_SIZE;
+        //  Iterator was created by terminal operation of the stream, nothing was sent before it
+        return StreamSupport.stream(() -> Spliterators.spliteratorUnknownSize(
+                        this.read(() -> this.cacheProvider.scan(matchPattern, count), Collections.emptyIterator(),
+                                Boolean.TRUE), Spliterator.NONNULL),
+                Spliterator.NONNULL, Boolean.FALSE);
     }
 
     /**
@@ -203,7 +483,87 @@ public final class CacheClientImpl implements CacheClient {
         if (StringUtils.isEmpty(key)) {
             return null;
         }
-        return this.cacheProvider.get(key);
+        //  Only values read from cache server were profiled, local cache hits were not
+        final Supplier<String> operation = () -> {
+            //  Local cache hits of hot keys did not reset the expire time, hot keys were read frequently anyway
+            String value = this.slidingExpire
+                    ? this.read(() -> this.cacheProvider.getAndTouch(key, Globals.DEFAULT_VALUE_INT), null, Boolean.TRUE)
+                    : this.read(() -> this.cacheProvider.get(key), null, Boolean.TRUE);
+            if (this.valueSizeProfiler != null) {
+                this.valueSizeProfiler.read("get", key, value);
+            }
+            return value;
+        };
+        if (this.hotKeyDetector == null) {
+            return operation.get();
+        }
+        return this.hotKeyDetector.read(key, operation);
+    }
+
+    /**
+     * <h3 class="en-US">Read cache value and reset expire time of the key in one round trip</h3>
+     * <h3 class="zh-CN">在一次往返中读取缓存数据并重置键的过期时间</h3>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zh-CN">缓存键值</span>
+     * @param expire <span class="en-US">New expire time</span>
+     *               <span class="zh-CN">新的过期时间</span>
+     * @return <span class="en-US">Cache value or null if cache key was not exists or it was expired</span>
+     * <span class="zh-CN">读取的缓存数据，如果缓存键值不存在或已过期，则返回null</span>
+     */
+    public String getAndTouch(final String key, final int expire) {
+        if (StringUtils.isEmpty(key)) {
+            return null;
+        }
+        //  Local cache of hot keys was skipped, the expire time was reset by cache server only
+        String value = this.read(() -> this.cacheProvider.getAndTouch(key, expire), null, Boolean.TRUE);
+        if (this.valueSizeProfiler != null) {
+            this.valueSizeProfiler.read("getAndTouch", key, value);
+        }
+        return value;
+    }
+
+    /**
+     * <h3 class="en-US">Read cache value, load and fill the value by given loader if missing</h3>
+     * <h3 class="zh-CN">读取缓存数据，如果缺失则使用给定的加载器加载并填充数据</h3>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zh-CN">缓存键值</span>
+     * @param expire <span class="en-US">Expire time of loaded value</span>
+     *               <span class="zh-CN">加载数据的过期时间</span>
+     * @param loader <span class="en-US">Value loader</span>
+     *               <span class="zh-CN">数据加载器</span>
+     * @return <span class="en-US">Cache value or loaded value, null if the loader returns null</span>
+     * <span class="zh-CN">缓存数据或加载的数据，如果加载器返回null则返回null</span>
+     */
+    public String get(final String key, final int expire, final Supplier<String> loader) {
+        String value = this.get(key);
+        if (value != null || loader == null) {
+            return value;
+        }
+        //  Concurrent loads of same key in current JVM wait for the first one
+        final CompletableFuture<String> loadingFuture = new CompletableFuture<>();
+        final CompletableFuture<String> existsFuture = this.loadingFutures.putIfAbsent(key, loadingFuture);
+        if (existsFuture != null) {
+            try {
+                return existsFuture.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        try {
+            value = this.fill(key, expire, loader);
+            loadingFuture.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            loadingFuture.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.loadingFutures.remove(key, loadingFuture);
+        }
     }
 
     /**
@@ -220,7 +580,8 @@ public final class CacheClientImpl implements CacheClient {
         if (StringUtils.isEmpty(key)) {
             return Globals.DEFAULT_VALUE_LONG;
         }
-        return this.cacheProvider.incr(key, step);
+        this.invalidate(key);
+        return this.read(() -> this.cacheProvider.incr(key, step), Globals.DEFAULT_VALUE_LONG, Boolean.FALSE);
     }
 
     /**
@@ -237,7 +598,202 @@ public final class CacheClientImpl implements CacheClient {
         if (StringUtils.isEmpty(key)) {
             return Globals.DEFAULT_VALUE_LONG;
         }
-        return this.cacheProvider.decr(key, step);
+        this.invalidate(key);
+        return this.read(() -> this.cacheProvider.decr(key, step), Globals.DEFAULT_VALUE_LONG, Boolean.FALSE);
+    }
+
+    /**
+     * <h3 class="en-US">Read cache value and its version from cache key which cache key was given</h3>
+     * <h3 class="zh-CN">读取指定缓存键值对应的缓存数据及其版本</h3>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zh-CN">缓存键值</span>
+     * @return <span class="en-US">Versioned value or null if cache key was not exists or it was expired</span>
+     * <span class="zh-CN">带版本的缓存数据，如果缓存键值不存在或已过期，则返回null</span>
+     */
+    public VersionedValue getWithVersion(final String key) {
+        if (StringUtils.isEmpty(key)) {
+            return null;
+        }
+        //  Local cache was skipped, the version must be read from cache server
+        return this.read(() -> this.cacheProvider.getWithVersion(key), null, Boolean.TRUE);
+    }
+
+    /**
+     * <h3 class="en-US">Set key-value only if the value was not changed since given version was read</h3>
+     * <h3 class="zh-CN">仅当读取给定版本后数据未被修改时设置缓存信息</h3>
+     *
+     * @param key     <span class="en-US">Cache key</span>
+     *                <span class="zh-CN">缓存键值</span>
+     * @param version <span class="en-US">Version read by getWithVersion, null for set only if cache key was not exists</span>
+     *                <span class="zh-CN">通过getWithVersion读取的版本，null为仅当缓存键值不存在时设置</span>
+     * @param value   <span class="en-US">Cache value</span>
+     *                <span class="zh-CN">缓存数据</span>
+     * @param expire  <span class="en-US">Expire time</span>
+     *                <span class="zh-CN">过期时间</span>
+     * @return <span class="en-US">Boolean.TRUE if the value was set, Boolean.FALSE if the value was changed by others</span>
+     * <span class="zh-CN">数据设置成功返回Boolean.TRUE，数据已被其他客户端修改返回Boolean.FALSE</span>
+     */
+    public boolean compareAndSet(final String key, final String version, final String value, final int expire) {
+        this.logInfo(key, value);
+        if (StringUtils.isEmpty(key) || !this.admit("compareAndSet", key, value)) {
+            return Boolean.FALSE;
+        }
+        this.invalidate(key);
+        //  Not idempotent, retry after an applied but timed out attempt reports the value was changed
+        return this.read(() -> this.cacheProvider.compareAndSet(key, version, value, expire),
+                Boolean.FALSE, Boolean.FALSE);
+    }
+
+    /**
+     * <h3 class="en-US">Set value of given field in hash of given cache key and set expire time of the hash</h3>
+     * <h3 class="zh-CN">设置给定缓存键值对应哈希中给定字段的数据，并设置哈希的过期时间</h3>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zh-CN">缓存键值</span>
+     * @param field  <span class="en-US">Field name</span>
+     *               <span class="zh-CN">字段名称</span>
+     * @param value  <span class="en-US">Field value</span>
+     *               <span class="zh-CN">字段数据</span>
+     * @param expire <span class="en-US">Expire time of the hash</span>
+     *               <span class="zh-CN">哈希的过期时间</span>
+     */
+    public void setField(final String key, final String field, final String value, final int expire) {
+        this.logInfo(key, value);
+        if (StringUtils.isEmpty(key) || StringUtils.isEmpty(field) || !this.admit("setField", key, value)) {
+            return;
+        }
+        this.write(null, () -> this.cacheProvider.setField(key, field, value, expire));
+    }
+
+    /**
+     * <h3 class="en-US">Read value of given field in hash of given cache key</h3>
+     * <h3 class="zh-CN">读取给定缓存键值对应哈希中给定字段的数据</h3>
+     *
+     * @param key   <span class="en-US">Cache key</span>
+     *              <span class="zh-CN">缓存键值</span>
+     * @param field <span class="en-US">Field name</span>
+     *              <span class="zh-CN">字段名称</span>
+     * @return <span class="en-US">Field value or null if the hash or field was not exists</span>
+     * <span class="zh-CN">字段数据，如果哈希或字段不存在，则返回null</span>
+     */
+    public String getField(final String key, final String field) {
+        if (StringUtils.isEmpty(key) || StringUtils.isEmpty(field)) {
+            return null;
+        }
+        return this.read(() -> this.cacheProvider.getField(key, field), null, Boolean.TRUE);
+    }
+
+    /**
+     * <h3 class="en-US">Read values of given fields in hash of given cache key</h3>
+     * <h3 class="zh-CN">读取给定缓存键值对应哈希中给定字段的数据</h3>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zh-CN">缓存键值</span>
+     * @param fields <span class="en-US">Field names</span>
+     *               <span class="zh-CN">字段名称</span>
+     * @return <span class="en-US">Field values mapping, missing fields were not contained</span>
+     * <span class="zh-CN">字段数据映射，不包含不存在的字段</span>
+     */
+    public Map<String, String> getFields(final String key, final String... fields) {
+        if (StringUtils.isEmpty(key) || fields == null || fields.length == 0) {
+            return Collections.emptyMap();
+        }
+        return this.read(() -> this.cacheProvider.getFields(key, fields), Collections.emptyMap(), Boolean.TRUE);
+    }
+
+    /**
+     * <h3 class="en-US">Read all fields in hash of given cache key</h3>
+     * <h3 class="zh-CN">读取给定缓存键值对应哈希中的所有字段</h3>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zh-CN">缓存键值</span>
+     * @return <span class="en-US">Field values mapping, empty if the hash was not exists</span>
+     * <span class="zh-CN">字段数据映射，如果哈希不存在，则返回空映射</span>
+     */
+    public Map<String, String> getAllFields(final String key) {
+        if (StringUtils.isEmpty(key)) {
+            return Collections.emptyMap();
+        }
+        return this.read(() -> this.cacheProvider.getAllFields(key), Collections.emptyMap(), Boolean.TRUE);
+    }
+
+    /**
+     * <h3 class="en-US">Increment given field in hash of given cache key</h3>
+     * <h3 class="zh-CN">对给定缓存键值对应哈希中的给定字段执行自增操作</h3>
+     *
+     * @param key   <span class="en-US">Cache key</span>
+     *              <span class="zh-CN">缓存键值</span>
+     * @param field <span class="en-US">Field name</span>
+     *              <span class="zh-CN">字段名称</span>
+     * @param step  <span class="en-US">Increment step value</span>
+     *              <span class="zh-CN">自增步进值</span>
+     * @return <span class="en-US">Operate result</span>
+     * <span class="zh-CN">操作结果</span>
+     */
+    public long incrField(final String key, final String field, final long step) {
+        if (StringUtils.isEmpty(key) || StringUtils.isEmpty(field)) {
+            return Globals.DEFAULT_VALUE_LONG;
+        }
+        return this.read(() -> this.cacheProvider.incrField(key, field, step),
+                Globals.DEFAULT_VALUE_LONG, Boolean.FALSE);
+    }
+
+    /**
+     * <h3 class="en-US">Register Lua script by given name, replace the registered script which has the same name</h3>
+     * <h3 class="zh-CN">使用给定的名称注册Lua脚本，替换同名的已注册脚本</h3>
+     *
+     * @param name   <span class="en-US">Script name</span>
+     *               <span class="zh-CN">脚本名称</span>
+     * @param script <span class="en-US">Lua script body</span>
+     *               <span class="zh-CN">Lua脚本内容</span>
+     */
+    public void registerScript(final String name, final String script) {
+        if (StringUtils.isEmpty(name) || StringUtils.isEmpty(script)) {
+            return;
+        }
+        this.scriptRegistry.register(name, script);
+    }
+
+    /**
+     * <h3 class="en-US">Execute registered script in one round trip</h3>
+     * <h3 class="zh-CN">在一次网络往返中执行已注册的脚本</h3>
+     *
+     * @param scriptName <span class="en-US">Registered script name</span>
+     *                   <span class="zh-CN">已注册的脚本名称</span>
+     * @param keys       <span class="en-US">KEYS of script</span>
+     *                   <span class="zh-CN">脚本的KEYS</span>
+     * @param arguments  <span class="en-US">ARGV of script</span>
+     *                   <span class="zh-CN">脚本的ARGV</span>
+     * @return <span class="en-US">Script result, null if the script was not registered</span>
+     * <span class="zh-CN">脚本结果，如果脚本未注册则返回null</span>
+     */
+    public Object eval(final String scriptName, final List<String> keys, final List<String> arguments) {
+        CacheScript cacheScript = this.scriptRegistry.script(scriptName);
+        if (cacheScript == null) {
+            this.logger.warn("Script_Not_Registered_Cache_Warn", scriptName);
+            return null;
+        }
+        final List<String> scriptKeys = (keys == null) ? Collections.emptyList() : keys;
+        final List<String> scriptArguments = (arguments == null) ? Collections.emptyList() : arguments;
+        //  Script may write any of the keys
+        this.invalidate(scriptKeys.toArray(new String[0]));
+        //  Not idempotent, retry may apply the script twice
+        return this.read(() -> this.cacheProvider.eval(cacheScript, scriptKeys, scriptArguments),
+                null, Boolean.FALSE);
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve counter of given cache key</h3>
+     * <h3 class="zh-CN">读取给定缓存键值的计数器</h3>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zh-CN">缓存键值</span>
+     * @return <span class="en-US">Cache counter instance</span>
+     * <span class="zh-CN">缓存计数器实例</span>
+     */
+    public CacheCounter counter(final String key) {
+        return new ClientCounter(key);
     }
 
     /**
@@ -245,9 +801,333 @@ public final class CacheClientImpl implements CacheClient {
      * <h3 class="zh-CN">销毁缓存对象</h3>
      */
     public void destroy() {
+        if (this.counterBuffer != null) {
+            this.counterBuffer.destroy();
+        }
         this.cacheProvider.destroy();
     }
 
+    /**
+     * <h3 class="en-US">Fill the missing value, coordinate with clients of other JVM by fill lease if configured</h3>
+     * <span class="en-US">
+     *     The client which acquired the lease loads the value, other clients poll the cache server with backoff
+     *     until the value was filled, and load the value by themselves if the wait time was exhausted.
+     * </span>
+     * <h3 class="zh-CN">填充缺失的数据，如果配置了填充租约则与其他JVM的客户端协调</h3>
+     * <span class="zh-CN">
+     *     获得租约的客户端加载数据，其他客户端以退避方式轮询缓存服务器直到数据被填充，如果等待时间耗尽则自行加载数据。
+     * </span>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zh-CN">缓存键值</span>
+     * @param expire <span class="en-US">Expire time of loaded value</span>
+     *               <span class="zh-CN">加载数据的过期时间</span>
+     * @param loader <span class="en-US">Value loader</span>
+     *               <span class="zh-CN">数据加载器</span>
+     * @return <span class="en-US">Filled value</span>
+     * <span class="zh-CN">填充的数据</span>
+     */
+    private String fill(final String key, final int expire, final Supplier<String> loader) {
+        if (this.fillLeaseConfig == null) {
+            return this.load(key, expire, loader);
+        }
+        final String token = UUID.randomUUID().toString();
+        //  Load directly if circuit breaker was open, the loader was the only source of value
+        if (this.read(() -> this.cacheProvider.acquireLease(key, token, this.fillLeaseConfig.getLeaseTime()),
+                Boolean.TRUE, Boolean.FALSE)) {
+            try {
+                //  Value may be filled by previous lease owner between the missing read and acquiring
+                String value = this.read(() -> this.cacheProvider.get(key), null, Boolean.TRUE);
+                return (value == null) ? this.load(key, expire, loader) : value;
+            } finally {
+                this.write(null, () -> this.cacheProvider.releaseLease(key, token));
+            }
+        }
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.fillLeaseConfig.getWaitTime());
+        long pollInterval = this.fillLeaseConfig.getPollInterval();
+        long remainTime;
+        while ((remainTime = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) > 0L) {
+            try {
+                Thread.sleep(Math.min(pollInterval, remainTime));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            String value = this.read(() -> this.cacheProvider.get(key), null, Boolean.TRUE);
+            if (value != null) {
+                return value;
+            }
+            pollInterval <<= 1;
+        }
+        this.logger.warn("Fill_Wait_Timeout_Cache_Warn", key, this.fillLeaseConfig.getWaitTime());
+        return this.load(key, expire, loader);
+    }
+
+    /**
+     * <h3 class="en-US">Load value by given loader and write the loaded value to cache server</h3>
+     * <h3 class="zh-CN">使用给定的加载器加载数据并将加载的数据写入缓存服务器</h3>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zh-CN">缓存键值</span>
+     * @param expire <span class="en-US">Expire time of loaded value</span>
+     *               <span class="zh-CN">加载数据的过期时间</span>
+     * @param loader <span class="en-US">Value loader</span>
+     *               <span class="zh-CN">数据加载器</span>
+     * @return <span class="en-US">Loaded value</span>
+     * <span class="zh-CN">加载的数据</span>
+     */
+    private String load(final String key, final int expire, final Supplier<String> loader) {
+        String value = loader.get();
+        if (value != null) {
+            this.set(key, value, expire);
+        }
+        return value;
+    }
+
+    /**
+     * <h3 class="en-US">Send pending counter deltas to cache server in one batch</h3>
+     * <h3 class="zh-CN">在一个批次中将待刷新的计数器增量发送到缓存服务器</h3>
+     *
+     * @param deltas <span class="en-US">Deltas mapping, key is cache key, value is delta</span>
+     *               <span class="zh-CN">增量映射，键为缓存键值，值为增量</span>
+     * @return <span class="en-US">Boolean.FALSE if the deltas were not sent because circuit breaker was open</span>
+     * <span class="zh-CN">因熔断器已打开而未发送增量时返回Boolean.FALSE</span>
+     */
+    private boolean flushCounters(final Map<String, Long> deltas) {
+        this.invalidate(deltas.keySet().toArray(new String[0]));
+        //  Increments were not idempotent, retried batch may be counted twice
+        return this.read(() -> {
+            this.cacheProvider.incrAll(deltas);
+            return Boolean.TRUE;
+        }, Boolean.FALSE, Boolean.FALSE);
+    }
+
+    /**
+     * <h3 class="en-US">Execute read operation, return default value directly if circuit breaker was open</h3>
+     * <h3 class="zh-CN">执行读操作，如果熔断器已打开则直接返回默认值</h3>
+     *
+     * @param operation    <span class="en-US">Read operation</span>
+     *                     <span class="zh-CN">读操作</span>
+     * @param defaultValue <span class="en-US">Default value</span>
+     *                     <span class="zh-CN">默认值</span>
+     * @param idempotent   <span class="en-US">Operation is idempotent, only idempotent operation could be retried</span>
+     *                     <span class="zh-CN">操作是否幂等，只有幂等操作可以重试</span>
+     * @param <T>          <span class="en-US">Result type</span>
+     *                     <span class="zh-CN">结果类型</span>
+     * @return <span class="en-US">Operate result</span>
+     * <span class="zh-CN">操作结果</span>
+     */
+    private <T> T read(final Supplier<T> operation, final T defaultValue, final boolean idempotent) {
+        //  Retries were performed inside the circuit breaker, so one operation was recorded once
+        final Supplier<T> retried = () -> this.cacheProvider.retry(operation, idempotent);
+        if (this.circuitBreaker == null) {
+            return retried.get();
+        }
+        if (!this.circuitBreaker.tryAcquire()) {
+            return defaultValue;
+        }
+        return this.execute(retried);
+    }
+
+    /**
+     * <h3 class="en-US">Execute write operation, queue or drop the write operation if circuit breaker was open</h3>
+     * <span class="en-US">
+     *     Queued write operations were replayed before the new write operation, if the queue can not be drained, the
+     *     new write operation was queued after them, so the older write operations never override the newer one.
+     * </span>
+     * <h3 class="zh-CN">执行写操作，如果熔断器已打开则将写操作加入队列或丢弃</h3>
+     * <span class="zh-CN">
+     *     队列中的写操作在新的写操作之前重放，如果队列无法清空，则新的写操作排在它们之后，因此较早的写操作永远不会覆盖较新的写操作。
+     * </span>
+     *
+     * @param key       <span class="en-US">Cache key which value was replaced by the write operation, null if the value was not replaced</span>
+     *                  <span class="zh-CN">写操作替换了数据的缓存键值，如果未替换数据则为null</span>
+     * @param operation <span class="en-US">Write operation</span>
+     *                  <span class="zh-CN">写操作</span>
+     */
+    private void write(final String key, final Runnable operation) {
+        final Runnable retried = () -> this.cacheProvider.retry(() -> {
+            operation.run();
+            return null;
+        }, Boolean.TRUE);
+        if (this.circuitBreaker == null) {
+            retried.run();
+            return;
+        }
+        if (this.writeQueue == null) {
+            if (this.circuitBreaker.tryAcquire()) {
+                this.execute(() -> {
+                    retried.run();
+                    return null;
+                });
+            } else {
+                this.logger.debug("Write_Dropped_Cache_Debug", this.circuitBreaker.state());
+            }
+            return;
+        }
+        if (key != null) {
+            //  Queued write operations of the key were superseded by the new write operation
+            this.writeQueue.removeIf(queuedWrite -> key.equals(queuedWrite.key()));
+        }
+        this.replay();
+        if (this.writeQueue.isEmpty() && !this.replaying.get() && this.circuitBreaker.tryAcquire()) {
+            this.execute(() -> {
+                retried.run();
+                return null;
+            });
+            return;
+        }
+        if (!this.writeQueue.offerLast(new QueuedWrite(key, retried))) {
+            this.logger.debug("Write_Dropped_Cache_Debug", this.circuitBreaker.state());
+        }
+        //  Queue may be drained between the check and the offer
+        this.replay();
+    }
+
+    /**
+     * <h3 class="en-US">Replay queued write operations after backend recovered</h3>
+     * <span class="en-US">
+     *     Queued write operations were the probe calls in half-open state, the replay was started by the succeeded
+     *     probe calls, and stopped when the circuit breaker rejected the call.
+     * </span>
+     * <h3 class="zh-CN">后端恢复后重放队列中的写操作</h3>
+     * <span class="zh-CN">
+     *     队列中的写操作作为半开状态下的探测调用，重放由成功的探测调用启动，并在熔断器拒绝调用时停止。
+     * </span>
+     */
+    private void replay() {
+        if (this.writeQueue == null) {
+            return;
+        }
+        //  Write operations queued by other threads when the replay was finishing were replayed by the next loop
+        while (!this.writeQueue.isEmpty() && this.replaying.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+            try {
+                QueuedWrite queuedWrite;
+                while ((queuedWrite = this.writeQueue.pollFirst()) != null) {
+                    if (!this.circuitBreaker.tryAcquire()) {
+                        if (!this.writeQueue.offerFirst(queuedWrite)) {
+                            this.logger.debug("Write_Dropped_Cache_Debug", this.circuitBreaker.state());
+                        }
+                        return;
+                    }
+                    final Runnable operation = queuedWrite.operation();
+                    this.execute(() -> {
+                        operation.run();
+                        return null;
+                    });
+                }
+            } catch (RuntimeException e) {
+                this.logger.debug("Stack_Message_Error", e);
+                return;
+            } finally {
+                this.replaying.set(Boolean.FALSE);
+            }
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Prefetch configured keys into local cache of hot key detector and report warm-up time</h3>
+     * <span class="en-US">
+     *     Connections were warmed up by provider when initialized, prefetch failure only logged, the first requests
+     *     will read the values from cache server.
+     * </span>
+     * <h3 class="zh-CN">将配置的键值预取到热点键检测器的本地缓存并报告预热时间</h3>
+     * <span class="zh-CN">
+     *     连接在缓存适配器初始化时已预热，预取失败只记录日志，首批请求将从缓存服务器读取数据。
+     * </span>
+     *
+     * @param warmupConfig <span class="en-US">Warm-up configure</span>
+     *                     <span class="zh-CN">预热配置</span>
+     * @return <span class="en-US">Total warm-up time, unit: millisecond, 0 if warm-up was disabled</span>
+     * <span class="zh-CN">总预热时间，单位：毫秒，如果未启用预热则返回0</span>
+     */
+    private long warmup(final CacheConfig.WarmupConfig warmupConfig) {
+        if (warmupConfig == null) {
+            return 0L;
+        }
+        long beginTime = System.nanoTime();
+        int prefetchCount = 0;
+        List<String> prefetchKeys = warmupConfig.getPrefetchKeys();
+        if (this.hotKeyDetector != null && prefetchKeys != null && !prefetchKeys.isEmpty()) {
+            try {
+                List<String> values = BlockingExecutor.invokeAll(prefetchKeys.stream()
+                        .map(key -> (Supplier<String>) () -> this.cacheProvider.get(key))
+                        .toList(), warmupConfig.getTimeout());
+                for (int i = 0; i < prefetchKeys.size(); i++) {
+                    if (this.hotKeyDetector.preload(prefetchKeys.get(i), values.get(i))) {
+                        prefetchCount++;
+                    }
+                }
+            } catch (RuntimeException e) {
+                this.logger.warn("Prefetch_Failed_Cache_Warn", e.getMessage());
+                if (this.logger.isDebugEnabled()) {
+                    this.logger.debug("Stack_Message_Error", e);
+                }
+            }
+        }
+        long totalTime = this.cacheProvider.getWarmupTime()
+                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - beginTime);
+        this.logger.info("Warmup_Cache_Info", this.cacheName, this.cacheProvider.getWarmupTime(),
+                prefetchCount, totalTime);
+        return totalTime;
+    }
+
+    /**
+     * <h3 class="en-US">Execute operation and record result to circuit breaker</h3>
+     * <h3 class="zh-CN">执行操作并将结果记录到熔断器</h3>
+     *
+     * @param operation <span class="en-US">Operation</span>
+     *                  <span class="zh-CN">操作</span>
+     * @param <T>       <span class="en-US">Result type</span>
+     *                  <span class="zh-CN">结果类型</span>
+     * @return <span class="en-US">Operate result</span>
+     * <span class="zh-CN">操作结果</span>
+     */
+    private <T> T execute(final Supplier<T> operation) {
+        long beginTime = System.nanoTime();
+        try {
+            T result = operation.get();
+            if (this.circuitBreaker.success(System.nanoTime() - beginTime)) {
+                //  Backend recovered, replay the queued write operations
+                this.replay();
+            }
+            return result;
+        } catch (RuntimeException e) {
+            this.circuitBreaker.failure(System.nanoTime() - beginTime);
+            throw e;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Record size of written value and check the size limit before write</h3>
+     * <h3 class="zh-CN">写入前记录写入数据的大小并检查大小限制</h3>
+     *
+     * @param operation <span class="en-US">Operation name</span>
+     *                  <span class="zh-CN">操作名称</span>
+     * @param key       <span class="en-US">Cache key</span>
+     *                  <span class="zh-CN">缓存键值</span>
+     * @param value     <span class="en-US">Cache value</span>
+     *                  <span class="zh-CN">缓存数据</span>
+     * @return <span class="en-US">Boolean.FALSE if the write operation was rejected</span>
+     * <span class="zh-CN">写操作被拒绝时返回Boolean.FALSE</span>
+     */
+    private boolean admit(final String operation, final String key, final String value) {
+        return this.valueSizeProfiler == null || this.valueSizeProfiler.write(operation, key, value);
+    }
+
+    /**
+     * <h3 class="en-US">Invalidate local cache entries of given keys before write</h3>
+     * <h3 class="zh-CN">写入前使给定键的本地缓存条目失效</h3>
+     *
+     * @param keys <span class="en-US">Cache keys</span>
+     *             <span class="zh-CN">缓存键值</span>
+     */
+    private void invalidate(final String... keys) {
+        if (this.hotKeyDetector != null) {
+            this.hotKeyDetector.invalidate(keys);
+        }
+    }
+
     /**
      * <h3 class="en-US">Logging cache key and value when debug mode was enabled</h3>
      * <h3 class="zh-CN">当调试模式开启时，在日志中输出缓存键值和数据</h3>
@@ -262,4 +1142,69 @@ public final class CacheClientImpl implements CacheClient {
             this.logger.debug("Info_Cache_Debug", key, value);
         }
     }
+
+    /**
+     * <h2 class="en-US">Counter of cache client</h2>
+     * <h2 class="zh-CN">缓存客户端的计数器</h2>
+     */
+    private final class ClientCounter implements CacheCounter {
+
+        /**
+         * <span class="en-US">Cache key</span>
+         * <span class="zh-CN">缓存键值</span>
+         */
+        private final String key;
+
+        ClientCounter(final String key) {
+            this.key = key;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see org.nervousync.cache.api.CacheCounter#getKey()
+         */
+        @Override
+        public String getKey() {
+            return this.key;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see org.nervousync.cache.api.CacheCounter#add(long)
+         */
+        @Override
+        public void add(final long delta) {
+            if (StringUtils.isEmpty(this.key) || delta == 0L) {
+                return;
+            }
+            if (counterBuffer == null) {
+                incr(this.key, delta);
+            } else {
+                counterBuffer.add(this.key, delta);
+            }
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see org.nervousync.cache.api.CacheCounter#flush()
+         */
+        @Override
+        public void flush() {
+            if (counterBuffer != null && StringUtils.notBlank(this.key)) {
+                counterBuffer.flush(this.key);
+            }
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Write operation queued when circuit breaker was open</h2>
+     * <h2 class="zh-CN">熔断器打开时加入队列的写操作</h2>
+     *
+     * @param key       <span class="en-US">Cache key which value was replaced by the write operation, null if the value was not replaced</span>
+     *                  <span class="zh-CN">写操作替换了数据的缓存键值，如果未替换数据则为null</span>
+     * @param operation <span class="en-US">Write operation</span>
+     *                  <span class="zh-CN">写操作</span>
+     */
+    private record QueuedWrite(String key, Runnable operation) {
+    }
 }
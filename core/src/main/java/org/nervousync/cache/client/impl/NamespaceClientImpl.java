@@ -0,0 +1,559 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.client.impl;
+
+import org.nervousync.cache.api.CacheClient;
+import org.nervousync.cache.api.CacheCounter;
+import org.nervousync.cache.api.NamespaceClient;
+import org.nervousync.cache.api.VersionedValue;
+import org.nervousync.cache.commons.CacheGlobals;
+import org.nervousync.cache.stats.CacheStatistics;
+import org.nervousync.commons.Globals;
+import org.nervousync.utils.StringUtils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * <h2 class="en-US">Namespace cache client implement class</h2>
+ * <span class="en-US">
+ *     Keys were prefixed with namespace and generation number, the generation number was stored in the cache by parent
+ *     client and cached in local for a short time, so the operations do not need extra round trip in most cases.
+ *     Missing generation was initialized by current time in milliseconds, so the keys of expired or evicted generation
+ *     will not be visible again.
+ * </span>
+ * <h2 class="zh-CN">命名空间缓存客户端的实现类</h2>
+ * <span class="zh-CN">
+ *     键以命名空间和代数编号为前缀，代数编号由上级客户端存储在缓存中，并在本地缓存较短的时间，因此大多数情况下操作不需要额外的网络往返。
+ *     不存在的代数编号使用当前的毫秒时间初始化，使已过期或被淘汰的代数编号对应的键不会再次可见。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:48:52 $
+ */
+public final class NamespaceClientImpl implements NamespaceClient {
+
+    /**
+     * <span class="en-US">Separator between namespace, generation number and key</span>
+     * <span class="zh-CN">命名空间、代数编号和键之间的分隔符</span>
+     */
+    private static final String SEPARATOR = ":";
+    /**
+     * <span class="en-US">Suffix of generation key</span>
+     * <span class="zh-CN">代数编号键的后缀</span>
+     */
+    private static final String GENERATION_SUFFIX = SEPARATOR + "generation";
+
+    /**
+     * <span class="en-US">Parent cache client, root client or parent namespace client</span>
+     * <span class="zh-CN">上级缓存客户端，根客户端或上级命名空间客户端</span>
+     */
+    private final CacheClient parentClient;
+    /**
+     * <span class="en-US">Namespace</span>
+     * <span class="zh-CN">命名空间</span>
+     */
+    private final String namespace;
+    /**
+     * <span class="en-US">Cache key of generation number</span>
+     * <span class="zh-CN">代数编号的缓存键值</span>
+     */
+    private final String generationKey;
+    /**
+     * <span class="en-US">Generation number cached in local</span>
+     * <span class="zh-CN">本地缓存的代数编号</span>
+     */
+    private volatile Generation generation = null;
+
+    /**
+     * <h3 class="en-US">Constructor for namespace cache client</h3>
+     * <h3 class="zh-CN">命名空间缓存客户端的构造方法</h3>
+     *
+     * @param parentClient <span class="en-US">Parent cache client, root client or parent namespace client</span>
+     *                     <span class="zh-CN">上级缓存客户端，根客户端或上级命名空间客户端</span>
+     * @param namespace    <span class="en-US">Namespace</span>
+     *                     <span class="zh-CN">命名空间</span>
+     */
+    NamespaceClientImpl(final CacheClient parentClient, final String namespace) {
+        if (StringUtils.isEmpty(namespace)) {
+            throw new IllegalArgumentException("Namespace must not be empty");
+        }
+        this.parentClient = parentClient;
+        this.namespace = namespace;
+        this.generationKey = namespace + GENERATION_SUFFIX;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.NamespaceClient#getNamespace()
+     */
+    @Override
+    public String getNamespace() {
+        return this.namespace;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.NamespaceClient#invalidateNamespace()
+     */
+    @Override
+    public void invalidateNamespace() {
+        long generation = this.parentClient.incr(this.generationKey, 1L);
+        this.generation = (generation == Globals.DEFAULT_VALUE_LONG)
+                ? null
+                : new Generation(String.valueOf(generation));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#namespace(String)
+     */
+    @Override
+    public NamespaceClient namespace(final String namespace) {
+        return new NamespaceClientImpl(this, namespace);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#set(String, String, int)
+     */
+    @Override
+    public void set(final String key, final String value, final int expire) {
+        String namespaceKey = this.namespaceKey(key);
+        if (namespaceKey != null) {
+            this.parentClient.set(namespaceKey, value, expire);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#set(String, String, int, String...)
+     */
+    @Override
+    public void set(final String key, final String value, final int expire, final String... tags) {
+        final String generation = this.generation();
+        if (generation == null) {
+            return;
+        }
+        //  Tags were scoped to the namespace generation, invalidated namespace drops its tags too
+        this.parentClient.set(this.namespaceKey(generation, key), value, expire,
+                Arrays.stream(tags).map(tag -> this.namespaceKey(generation, tag)).toArray(String[]::new));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#add(String, String, int)
+     */
+    @Override
+    public boolean add(final String key, final String value, final int expire) {
+        String namespaceKey = this.namespaceKey(key);
+        return namespaceKey != null && this.parentClient.add(namespaceKey, value, expire);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#replace(String, String, int)
+     */
+    @Override
+    public boolean replace(final String key, final String value, final int expire) {
+        String namespaceKey = this.namespaceKey(key);
+        return namespaceKey != null && this.parentClient.replace(namespaceKey, value, expire);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#expire(String, int)
+     */
+    @Override
+    public void expire(final String key, final int expire) {
+        String namespaceKey = this.namespaceKey(key);
+        if (namespaceKey != null) {
+            this.parentClient.expire(namespaceKey, expire);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#touch(String...)
+     */
+    @Override
+    public void touch(final String... keys) {
+        final String generation = this.generation();
+        if (generation == null) {
+            return;
+        }
+        this.parentClient.touch(Arrays.stream(keys).map(key -> this.namespaceKey(generation, key)).toArray(String[]::new));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#delete(String)
+     */
+    @Override
+    public void delete(final String key) {
+        String namespaceKey = this.namespaceKey(key);
+        if (namespaceKey != null) {
+            this.parentClient.delete(namespaceKey);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#deleteAll(Collection)
+     */
+    @Override
+    public long deleteAll(final Collection<String> keys) {
+        final String generation = this.generation();
+        if (generation == null) {
+            return 0L;
+        }
+        return this.parentClient.deleteAll(keys.stream().map(key -> this.namespaceKey(generation, key)).toList());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#invalidateTag(String)
+     */
+    @Override
+    public void invalidateTag(final String tag) {
+        String namespaceTag = this.namespaceKey(tag);
+        if (namespaceTag != null) {
+            this.parentClient.invalidateTag(namespaceTag);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#scan(String, int)
+     */
+    @Override
+    public Stream<String> scan(final String pattern, final int batchSize) {
+        final String generation = this.generation();
+        if (generation == null) {
+            return Stream.empty();
+        }
+        final String prefix = this.namespaceKey(generation, "");
+        //  Glob characters in namespace were escaped, keys of other namespaces and generations were not matched
+        String escapedPrefix = prefix.replaceAll("([*?\\[\\]\\\\])", "\\\\$1");
+        return this.parentClient.scan(escapedPrefix + (StringUtils.isEmpty(pattern) ? "*" : pattern), batchSize)
+                .map(key -> key.substring(prefix.length()));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#get(String)
+     */
+    @Override
+    public String get(final String key) {
+        if (StringUtils.isEmpty(key)) {
+            return null;
+        }
+        String namespaceKey = this.namespaceKey(key);
+        return (namespaceKey == null) ? null : this.parentClient.get(namespaceKey);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#get(String, int, Supplier)
+     */
+    @Override
+    public String get(final String key, final int expire, final Supplier<String> loader) {
+        if (StringUtils.isEmpty(key)) {
+            return null;
+        }
+        String namespaceKey = this.namespaceKey(key);
+        if (namespaceKey == null) {
+            //  Cache server was unavailable, the loader was the only source of value
+            return (loader == null) ? null : loader.get();
+        }
+        return this.parentClient.get(namespaceKey, expire, loader);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#getAndTouch(String, int)
+     */
+    @Override
+    public String getAndTouch(final String key, final int expire) {
+        String namespaceKey = this.namespaceKey(key);
+        return (namespaceKey == null) ? null : this.parentClient.getAndTouch(namespaceKey, expire);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#getWithVersion(String)
+     */
+    @Override
+    public VersionedValue getWithVersion(final String key) {
+        String namespaceKey = this.namespaceKey(key);
+        return (namespaceKey == null) ? null : this.parentClient.getWithVersion(namespaceKey);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#compareAndSet(String, String, String, int)
+     */
+    @Override
+    public boolean compareAndSet(final String key, final String version, final String value, final int expire) {
+        String namespaceKey = this.namespaceKey(key);
+        return namespaceKey != null && this.parentClient.compareAndSet(namespaceKey, version, value, expire);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#setField(String, String, String, int)
+     */
+    @Override
+    public void setField(final String key, final String field, final String value, final int expire) {
+        String namespaceKey = this.namespaceKey(key);
+        if (namespaceKey != null) {
+            this.parentClient.setField(namespaceKey, field, value, expire);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#getField(String, String)
+     */
+    @Override
+    public String getField(final String key, final String field) {
+        String namespaceKey = this.namespaceKey(key);
+        return (namespaceKey == null) ? null : this.parentClient.getField(namespaceKey, field);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#getFields(String, String...)
+     */
+    @Override
+    public Map<String, String> getFields(final String key, final String... fields) {
+        String namespaceKey = this.namespaceKey(key);
+        return (namespaceKey == null) ? Collections.emptyMap() : this.parentClient.getFields(namespaceKey, fields);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#getAllFields(String)
+     */
+    @Override
+    public Map<String, String> getAllFields(final String key) {
+        String namespaceKey = this.namespaceKey(key);
+        return (namespaceKey == null) ? Collections.emptyMap() : this.parentClient.getAllFields(namespaceKey);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#incrField(String, String, long)
+     */
+    @Override
+    public long incrField(final String key, final String field, final long step) {
+        String namespaceKey = this.namespaceKey(key);
+        return (namespaceKey == null)
+                ? Globals.DEFAULT_VALUE_LONG
+                : this.parentClient.incrField(namespaceKey, field, step);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#registerScript(String, String)
+     */
+    @Override
+    public void registerScript(final String name, final String script) {
+        //  Scripts were shared with parent client
+        this.parentClient.registerScript(name, script);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#eval(String, List, List)
+     */
+    @Override
+    public Object eval(final String scriptName, final List<String> keys, final List<String> arguments) {
+        String generation = this.generation();
+        if (generation == null) {
+            return null;
+        }
+        //  Only keys were prefixed, arguments were sent as is
+        List<String> namespaceKeys = (keys == null)
+                ? null
+                : keys.stream().map(key -> this.namespaceKey(generation, key)).toList();
+        return this.parentClient.eval(scriptName, namespaceKeys, arguments);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#incr(String, long)
+     */
+    @Override
+    public long incr(final String key, final long step) {
+        String namespaceKey = this.namespaceKey(key);
+        return (namespaceKey == null) ? Globals.DEFAULT_VALUE_LONG : this.parentClient.incr(namespaceKey, step);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#decr(String, long)
+     */
+    @Override
+    public long decr(final String key, final long step) {
+        String namespaceKey = this.namespaceKey(key);
+        return (namespaceKey == null) ? Globals.DEFAULT_VALUE_LONG : this.parentClient.decr(namespaceKey, step);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#counter(String)
+     */
+    @Override
+    public CacheCounter counter(final String key) {
+        return new NamespaceCounter(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#statistics()
+     */
+    @Override
+    public CacheStatistics statistics() {
+        return this.parentClient.statistics();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.api.CacheClient#destroy()
+     */
+    @Override
+    public void destroy() {
+        //  Namespace client shares the connections of parent client, nothing to release
+    }
+
+    /**
+     * <h3 class="en-US">Generate cache key with namespace and generation number prefix</h3>
+     * <h3 class="zh-CN">生成以命名空间和代数编号为前缀的缓存键值</h3>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zh-CN">缓存键值</span>
+     * @return <span class="en-US">Prefixed cache key, null if generation number was unavailable</span>
+     * <span class="zh-CN">带前缀的缓存键值，如果代数编号不可用则返回null</span>
+     */
+    private String namespaceKey(final String key) {
+        String generation = this.generation();
+        return (generation == null) ? null : this.namespaceKey(generation, key);
+    }
+
+    private String namespaceKey(final String generation, final String key) {
+        return this.namespace + SEPARATOR + generation + SEPARATOR + key;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve current generation number, read from parent client if local cache was expired</h3>
+     * <h3 class="zh-CN">读取当前的代数编号，如果本地缓存已过期则从上级客户端读取</h3>
+     *
+     * @return <span class="en-US">Generation number, null if cache server was unavailable and no generation was known</span>
+     * <span class="zh-CN">代数编号，如果缓存服务器不可用且没有已知的代数编号则返回null</span>
+     */
+    private String generation() {
+        Generation current = this.generation;
+        if (current != null && current.expireTime - System.nanoTime() > 0L) {
+            return current.value;
+        }
+        String value = this.parentClient.get(this.generationKey);
+        if (StringUtils.isEmpty(value)) {
+            //  Add only if not exists, the generation initialized by other client was used
+            //  Generation never expires, otherwise the namespace was invalidated when the generation expired
+            this.parentClient.add(this.generationKey, String.valueOf(System.currentTimeMillis()),
+                    CacheClient.NEVER_EXPIRE_TIME);
+            value = this.parentClient.get(this.generationKey);
+        }
+        if (StringUtils.isEmpty(value)) {
+            //  Cache server was unavailable, using last known generation and read again next time
+            return (current == null) ? null : current.value;
+        }
+        this.generation = new Generation(value);
+        return value;
+    }
+
+    /**
+     * <h2 class="en-US">Generation number cached in local</h2>
+     * <h2 class="zh-CN">本地缓存的代数编号</h2>
+     */
+    private static final class Generation {
+
+        private final String value;
+        private final long expireTime;
+
+        Generation(final String value) {
+            this.value = value;
+            this.expireTime = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CacheGlobals.NAMESPACE_GENERATION_EXPIRE);
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Counter of namespace client</h2>
+     * <span class="en-US">Prefixed key was generated for each operation, so the counter follows the current generation</span>
+     * <h2 class="zh-CN">命名空间客户端的计数器</h2>
+     * <span class="zh-CN">每次操作时生成带前缀的键，因此计数器跟随当前的代数编号</span>
+     */
+    private final class NamespaceCounter implements CacheCounter {
+
+        /**
+         * <span class="en-US">Cache key without namespace prefix</span>
+         * <span class="zh-CN">不带命名空间前缀的缓存键值</span>
+         */
+        private final String key;
+
+        NamespaceCounter(final String key) {
+            this.key = key;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see org.nervousync.cache.api.CacheCounter#getKey()
+         */
+        @Override
+        public String getKey() {
+            return this.key;
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see org.nervousync.cache.api.CacheCounter#add(long)
+         */
+        @Override
+        public void add(final long delta) {
+            Optional.ofNullable(namespaceKey(this.key))
+                    .ifPresent(namespaceKey -> parentClient.counter(namespaceKey).add(delta));
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see org.nervousync.cache.api.CacheCounter#flush()
+         */
+        @Override
+        public void flush() {
+            Optional.ofNullable(namespaceKey(this.key))
+                    .ifPresent(namespaceKey -> parentClient.counter(namespaceKey).flush());
+        }
+    }
+}
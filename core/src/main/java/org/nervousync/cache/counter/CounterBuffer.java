@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.counter;
+
+import org.nervousync.cache.config.CacheConfig;
+import org.nervousync.utils.LoggerUtils;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * <h2 class="en-US">Counter buffer</h2>
+ * <span class="en-US">
+ *     Counter deltas were accumulated in LongAdder of each key, the adder was updated in the atomic computation of the
+ *     mapping entry, so the zeroed adder can be removed after flush without losing concurrent adds.
+ *     Pending deltas of all keys were flushed as one batch every flush interval by a daemon thread, pending delta of
+ *     a key was flushed immediately in the adding thread when it reached the flush threshold. Deltas which failed to
+ *     send were restored and sent again by next flush, so a batch which timed out after applied may be counted twice.
+ * </span>
+ * <h2 class="zh-CN">计数器缓冲区</h2>
+ * <span class="zh-CN">
+ *     计数器增量在每个键的LongAdder中累积，累加器在映射条目的原子计算中更新，因此刷新后可以移除归零的累加器而不会丢失并发添加的增量。所有键的待刷新增量由守护线程在每个刷新间隔作为一个批次刷新，
+ *     当某个键的待刷新增量达到刷新阈值时，在添加线程中立即刷新。发送失败的增量被恢复并在下次刷新时重新发送，因此已生效但超时的批次可能被重复计数。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 00:58:24 $
+ */
+public final class CounterBuffer {
+
+    /**
+     * <span class="en-US">Logger instance</span>
+     * <span class="zh-CN">日志实例</span>
+     */
+    private final LoggerUtils.Logger logger = LoggerUtils.getLogger(this.getClass());
+
+    /**
+     * <span class="en-US">Absolute pending delta which flush the counter immediately, 0 for flush by interval only</span>
+     * <span class="zh-CN">立即刷新计数器的待刷新增量绝对值，0为仅按间隔刷新</span>
+     */
+    private final long flushThreshold;
+    /**
+     * <span class="en-US">Batch sender, returns Boolean.FALSE if the deltas were not sent</span>
+     * <span class="zh-CN">批次发送器，增量未发送时返回Boolean.FALSE</span>
+     */
+    private final Predicate<Map<String, Long>> flusher;
+    /**
+     * <span class="en-US">Pending deltas mapping, key is cache key, value is accumulated delta</span>
+     * <span class="zh-CN">待刷新增量映射，键为缓存键值，值为累积的增量</span>
+     */
+    private final Map<String, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">Flush lock, monitor was not used because the flusher blocks on I/O and a virtual thread
+     * holding a monitor pins its carrier thread</span>
+     * <span class="zh-CN">刷新锁，由于刷新器会在I/O上阻塞，而持有监视器的虚拟线程会固定其载体线程，因此未使用监视器</span>
+     */
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ScheduledExecutorService flushExecutor;
+
+    /**
+     * <h3 class="en-US">Constructor for counter buffer</h3>
+     * <h3 class="zh-CN">计数器缓冲区的构造方法</h3>
+     *
+     * @param counterConfig <span class="en-US">Counter configure</span>
+     *                      <span class="zh-CN">计数器配置</span>
+     * @param flusher       <span class="en-US">Batch sender, returns Boolean.FALSE if the deltas were not sent</span>
+     *                      <span class="zh-CN">批次发送器，增量未发送时返回Boolean.FALSE</span>
+     */
+    public CounterBuffer(final CacheConfig.CounterConfig counterConfig, final Predicate<Map<String, Long>> flusher) {
+        this.flushThreshold = Math.max(0L, counterConfig.getFlushThreshold());
+        this.flusher = flusher;
+        long flushInterval = Math.max(1, counterConfig.getFlushInterval());
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Cache-Counter-Flush");
+            thread.setDaemon(Boolean.TRUE);
+            return thread;
+        });
+        this.flushExecutor.scheduleWithFixedDelay(this::scheduledFlush,
+                flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * <h3 class="en-US">Add given delta to pending delta of given key</h3>
+     * <h3 class="zh-CN">将给定的增量添加到给定键的待刷新增量</h3>
+     *
+     * @param key   <span class="en-US">Cache key</span>
+     *              <span class="zh-CN">缓存键值</span>
+     * @param delta <span class="en-US">Delta value</span>
+     *              <span class="zh-CN">增量值</span>
+     */
+    public void add(final String key, final long delta) {
+        if (delta == 0L) {
+            return;
+        }
+        LongAdder pendingDelta = this.pendingDeltas.compute(key, (k, adder) -> {
+            LongAdder current = (adder == null) ? new LongAdder() : adder;
+            current.add(delta);
+            return current;
+        });
+        if (this.flushThreshold > 0L && Math.abs(pendingDelta.sum()) >= this.flushThreshold) {
+            this.flush(Collections.singleton(key));
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve pending delta of given key</h3>
+     * <h3 class="zh-CN">读取给定键的待刷新增量</h3>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zh-CN">缓存键值</span>
+     * @return <span class="en-US">Pending delta</span>
+     * <span class="zh-CN">待刷新增量</span>
+     */
+    public long pending(final String key) {
+        LongAdder pendingDelta = this.pendingDeltas.get(key);
+        return (pendingDelta == null) ? 0L : pendingDelta.sum();
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve count of keys which have pending delta</h3>
+     * <h3 class="zh-CN">读取存在待刷新增量的键数量</h3>
+     *
+     * @return <span class="en-US">Count of keys</span>
+     * <span class="zh-CN">键数量</span>
+     */
+    public int size() {
+        return this.pendingDeltas.size();
+    }
+
+    /**
+     * <h3 class="en-US">Flush pending delta of given key</h3>
+     * <h3 class="zh-CN">刷新给定键的待刷新增量</h3>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zh-CN">缓存键值</span>
+     */
+    public void flush(final String key) {
+        this.flush(Collections.singleton(key));
+    }
+
+    /**
+     * <h3 class="en-US">Flush pending deltas of all keys as one batch</h3>
+     * <h3 class="zh-CN">将所有键的待刷新增量作为一个批次刷新</h3>
+     */
+    public void flush() {
+        this.flush(this.pendingDeltas.keySet());
+    }
+
+    /**
+     * <h3 class="en-US">Stop the flush thread and flush pending deltas</h3>
+     * <h3 class="zh-CN">停止刷新线程并刷新待刷新增量</h3>
+     */
+    public void destroy() {
+        this.flushExecutor.shutdown();
+        this.flush();
+    }
+
+    private void scheduledFlush() {
+        try {
+            this.flush();
+        } catch (RuntimeException e) {
+            //  Exception was caught, otherwise the following scheduled flushes were cancelled
+            this.logger.warn("Counter_Flush_Cache_Warn", this.pendingDeltas.size());
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("Stack_Message_Error", e);
+            }
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Flush pending deltas of given keys as one batch</h3>
+     * <h3 class="zh-CN">将给定键的待刷新增量作为一个批次刷新</h3>
+     *
+     * @param keys <span class="en-US">Cache keys</span>
+     *             <span class="zh-CN">缓存键值</span>
+     */
+    private void flush(final Collection<String> keys) {
+        this.flushLock.lock();
+        try {
+            this.flushLocked(keys);
+        } finally {
+            this.flushLock.unlock();
+        }
+    }
+
+    private void flushLocked(final Collection<String> keys) {
+        Map<String, Long> deltas = new HashMap<>();
+        for (String key : keys) {
+            LongAdder pendingDelta = this.pendingDeltas.get(key);
+            long delta = (pendingDelta == null) ? 0L : pendingDelta.sum();
+            if (delta != 0L) {
+                //  Subtract the taken delta instead of reset, deltas added during the flush were kept
+                pendingDelta.add(-delta);
+                deltas.put(key, delta);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        boolean flushed = Boolean.FALSE;
+        try {
+            flushed = this.flusher.test(deltas);
+        } finally {
+            if (flushed) {
+                //  Remove the zeroed adders, otherwise every key ever counted was kept in the mapping
+                deltas.keySet().forEach(key ->
+                        this.pendingDeltas.computeIfPresent(key, (k, adder) -> (adder.sum() == 0L) ? null : adder));
+            } else {
+                deltas.forEach((key, delta) -> this.pendingDeltas.get(key).add(delta));
+            }
+        }
+    }
+}
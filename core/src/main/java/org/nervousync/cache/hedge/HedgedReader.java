@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.hedge;
+
+import org.nervousync.cache.config.CacheConfig;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * <h2 class="en-US">Hedged reader</h2>
+ * <span class="en-US">
+ *     Send the read operation to primary node, if the operation was not completed after the delay which calculated by
+ *     latency percentile, send a duplicate read operation to another node, the first succeeded reply wins and the
+ *     other one was cancelled. The hedged read operations were limited by budget rate.
+ *     Latency was recorded in a lock-free log-linear histogram, all counters halved periodically so the delay
+ *     follows the recent latency.
+ * </span>
+ * <h2 class="zh-CN">对冲读取器</h2>
+ * <span class="zh-CN">
+ *     将读操作发送到主节点，如果操作在根据延迟百分位计算的延迟时间后仍未完成，则向另一个节点发送重复的读操作，
+ *     使用最先成功返回的结果并取消另一个读操作。对冲读操作受预算比例限制。
+ *     延迟记录在无锁的对数线性直方图中，所有计数器定期减半，以使延迟跟随最近的延迟变化。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 16:25:42 $
+ */
+public final class HedgedReader {
+
+    /**
+     * <span class="en-US">Latency samples required before hedged read was enabled</span>
+     * <span class="zh-CN">启用对冲读取前需要的延迟样本数</span>
+     */
+    private static final int MINIMUM_SAMPLES = 128;
+    /**
+     * <span class="en-US">Samples count of recalculate hedged read delay</span>
+     * <span class="zh-CN">重新计算对冲读取延迟的样本间隔</span>
+     */
+    private static final int CALCULATE_SAMPLES = 64;
+    /**
+     * <span class="en-US">Samples count of halve all counters</span>
+     * <span class="zh-CN">所有计数器减半的样本间隔</span>
+     */
+    private static final int DECAY_SAMPLES = 8192;
+    /**
+     * <span class="en-US">Linear buckets count and sub buckets count of each power of two</span>
+     * <span class="zh-CN">线性统计桶数量和每个2的幂次区间内的子统计桶数量</span>
+     */
+    private static final int LINEAR_BUCKETS = 16;
+    private static final int SUB_BUCKETS = 8;
+    private static final int SUB_BUCKET_BITS = 3;
+    /**
+     * <span class="en-US">Total buckets count, covers latency up to 2^40 microseconds</span>
+     * <span class="zh-CN">统计桶总数，覆盖最多2^40微秒的延迟</span>
+     */
+    private static final int BUCKET_COUNT = LINEAR_BUCKETS + (40 - 4) * SUB_BUCKETS;
+
+    /**
+     * <span class="en-US">Latency percentile, unit: percent</span>
+     * <span class="zh-CN">延迟百分位，单位：百分比</span>
+     */
+    private final int percentile;
+    /**
+     * <span class="en-US">Minimum delay before send hedged read, unit: nanosecond</span>
+     * <span class="zh-CN">发送对冲读取前的最小延迟，单位：纳秒</span>
+     */
+    private final long minimumDelay;
+    /**
+     * <span class="en-US">Maximum rate of hedged reads, unit: percent</span>
+     * <span class="zh-CN">对冲读取的最大比例，单位：百分比</span>
+     */
+    private final int budgetRate;
+    private final AtomicLongArray latencyBuckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong sampleCount = new AtomicLong(0L);
+    private final AtomicLong readCount = new AtomicLong(0L);
+    private final AtomicLong hedgedCount = new AtomicLong(0L);
+    /**
+     * <span class="en-US">Current hedged read delay, unit: nanosecond, Long.MAX_VALUE before enough samples recorded</span>
+     * <span class="zh-CN">当前的对冲读取延迟，单位：纳秒，样本数不足时为Long.MAX_VALUE</span>
+     */
+    private volatile long hedgeDelay = Long.MAX_VALUE;
+
+    /**
+     * <h3 class="en-US">Constructor for hedged reader</h3>
+     * <h3 class="zh-CN">对冲读取器的构造方法</h3>
+     *
+     * @param hedgedReadConfig <span class="en-US">Hedged read configure</span>
+     *                         <span class="zh-CN">对冲读取配置</span>
+     */
+    public HedgedReader(final CacheConfig.HedgedReadConfig hedgedReadConfig) {
+        this.percentile = hedgedReadConfig.getPercentile();
+        this.minimumDelay = TimeUnit.MILLISECONDS.toNanos(hedgedReadConfig.getMinimumDelay());
+        this.budgetRate = hedgedReadConfig.getBudgetRate();
+    }
+
+    /**
+     * <h3 class="en-US">Execute hedged read operation</h3>
+     * <h3 class="zh-CN">执行对冲读操作</h3>
+     *
+     * @param primaryOperation <span class="en-US">Read operation send to primary node</span>
+     *                         <span class="zh-CN">发送到主节点的读操作</span>
+     * @param hedgeOperation   <span class="en-US">Duplicate read operation send to another node</span>
+     *                         <span class="zh-CN">发送到另一个节点的重复读操作</span>
+     * @param timeout          <span class="en-US">Operation timeout, unit: millisecond</span>
+     *                         <span class="zh-CN">操作超时时间，单位：毫秒</span>
+     * @param <T>              <span class="en-US">Result type</span>
+     *                         <span class="zh-CN">结果类型</span>
+     * @return <span class="en-US">Operate result</span>
+     * <span class="zh-CN">操作结果</span>
+     * @throws CompletionException <span class="en-US">If operation timeout, interrupted or failed with checked exception</span>
+     *                             <span class="zh-CN">操作超时、被中断或因受检异常失败时抛出异常</span>
+     */
+    public <T> T read(final Supplier<CompletableFuture<T>> primaryOperation,
+                      final Supplier<CompletableFuture<T>> hedgeOperation, final long timeout) {
+        this.readCount.incrementAndGet();
+        final long beginTime = System.nanoTime();
+        final long timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+        CompletableFuture<T> primaryFuture = primaryOperation.get();
+        //  Cancelled or failed operation was not recorded, the time of cancellation was the latency of hedged read
+        primaryFuture.whenComplete((result, throwable) -> {
+            if (throwable == null) {
+                this.record(System.nanoTime() - beginTime);
+            }
+        });
+        CompletableFuture<T> hedgeFuture = null;
+        try {
+            long currentDelay = this.hedgeDelay;
+            if (currentDelay < timeoutNanos) {
+                try {
+                    return primaryFuture.get(currentDelay, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException ignored) {
+                    //  Primary node not replied in hedged read delay
+                }
+                if (this.acquireBudget()) {
+                    hedgeFuture = hedgeOperation.get();
+                    return firstSucceeded(primaryFuture, hedgeFuture)
+                            .get(timeoutNanos - (System.nanoTime() - beginTime), TimeUnit.NANOSECONDS);
+                }
+            }
+            return primaryFuture.get(timeoutNanos - (System.nanoTime() - beginTime), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (TimeoutException e) {
+            throw new CompletionException(e);
+        } finally {
+            primaryFuture.cancel(Boolean.TRUE);
+            if (hedgeFuture != null) {
+                hedgeFuture.cancel(Boolean.TRUE);
+            }
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve current hedged read delay</h3>
+     * <h3 class="zh-CN">读取当前的对冲读取延迟</h3>
+     *
+     * @return <span class="en-US">Hedged read delay, unit: nanosecond, Long.MAX_VALUE before enough samples recorded</span>
+     * <span class="zh-CN">对冲读取延迟，单位：纳秒，样本数不足时为Long.MAX_VALUE</span>
+     */
+    public long hedgeDelay() {
+        return this.hedgeDelay;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve count of hedged reads sent</h3>
+     * <h3 class="zh-CN">读取已发送的对冲读取次数</h3>
+     *
+     * @return <span class="en-US">Hedged reads count in current decay period</span>
+     * <span class="zh-CN">当前衰减周期内的对冲读取次数</span>
+     */
+    public long hedgedCount() {
+        return this.hedgedCount.get();
+    }
+
+    private boolean acquireBudget() {
+        long totalReads = this.readCount.get();
+        return this.hedgedCount.getAndUpdate(current -> current * 100L < totalReads * this.budgetRate ? current + 1 : current)
+                * 100L < totalReads * this.budgetRate;
+    }
+
+    private void record(final long latency) {
+        this.latencyBuckets.incrementAndGet(bucketIndex(TimeUnit.NANOSECONDS.toMicros(latency)));
+        long samples = this.sampleCount.incrementAndGet();
+        if (samples % DECAY_SAMPLES == 0) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                this.latencyBuckets.getAndUpdate(i, count -> count >> 1);
+            }
+            this.readCount.getAndUpdate(count -> count >> 1);
+            this.hedgedCount.getAndUpdate(count -> count >> 1);
+        }
+        if (samples >= MINIMUM_SAMPLES && samples % CALCULATE_SAMPLES == 0) {
+            this.hedgeDelay = Math.max(this.minimumDelay, TimeUnit.MICROSECONDS.toNanos(this.percentileValue()));
+        }
+    }
+
+    private long percentileValue() {
+        long totalCount = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            totalCount += this.latencyBuckets.get(i);
+        }
+        long targetCount = (totalCount * this.percentile + 99L) / 100L;
+        long currentCount = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            currentCount += this.latencyBuckets.get(i);
+            if (currentCount >= targetCount) {
+                return bucketLimit(i);
+            }
+        }
+        return bucketLimit(BUCKET_COUNT - 1);
+    }
+
+    private static int bucketIndex(final long micros) {
+        if (micros < LINEAR_BUCKETS) {
+            return (int) Math.max(0L, micros);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int subIndex = (int) ((micros >> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return Math.min(BUCKET_COUNT - 1, LINEAR_BUCKETS + (exponent - 4) * SUB_BUCKETS + subIndex);
+    }
+
+    private static long bucketLimit(final int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+        int exponent = 4 + (index - LINEAR_BUCKETS) / SUB_BUCKETS;
+        int subIndex = (index - LINEAR_BUCKETS) % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subIndex + 1) << (exponent - SUB_BUCKET_BITS)) - 1L;
+    }
+
+    private static <T> CompletableFuture<T> firstSucceeded(final CompletableFuture<T> primaryFuture,
+                                                           final CompletableFuture<T> hedgeFuture) {
+        CompletableFuture<T> resultFuture = new CompletableFuture<>();
+        AtomicInteger failedCount = new AtomicInteger(0);
+        BiConsumer<T, Throwable> completeHandler = (result, throwable) -> {
+            if (throwable == null) {
+                resultFuture.complete(result);
+            } else if (failedCount.incrementAndGet() == 2) {
+                resultFuture.completeExceptionally(throwable);
+            }
+        };
+        primaryFuture.whenComplete(completeHandler);
+        hedgeFuture.whenComplete(completeHandler);
+        return resultFuture;
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.hotkey;
+
+import org.nervousync.cache.config.CacheConfig;
+import org.nervousync.cache.stats.CacheStatistics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * <h2 class="en-US">Hot key detector</h2>
+ * <span class="en-US">
+ *     Streaming hot key detector, read counts were estimated by count-min sketch and all counts were halved every decay
+ *     interval, so the counts reflect recent traffic. Keys which estimated read count reached half of the threshold
+ *     were tracked as top K heavy hitters, heavy hitters which estimated read count reached the threshold were hot keys.
+ *     Values of hot keys were served from a small local cache with short expire time, local cache entry was invalidated
+ *     when the key was written by current client, writes from other clients were visible after local cache expired.
+ * </span>
+ * <h2 class="zh-CN">热点键检测器</h2>
+ * <span class="zh-CN">
+ *     流式热点键检测器，使用Count-Min Sketch估算读取次数，并在每个衰减间隔将所有计数减半，使计数反映最近的流量。
+ *     估算读取次数达到阈值一半的键作为前K个高频键进行跟踪，估算读取次数达到阈值的高频键为热点键。
+ *     热点键的值从过期时间较短的小容量本地缓存中读取，当前客户端写入键时本地缓存条目失效，其他客户端的写入在本地缓存过期后可见。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 22:35:19 $
+ */
+public final class HotKeyDetector {
+
+    /**
+     * <span class="en-US">Row count of count-min sketch</span>
+     * <span class="zh-CN">Count-Min Sketch的行数</span>
+     */
+    private static final int SKETCH_DEPTH = 4;
+    /**
+     * <span class="en-US">Column count of count-min sketch, must be power of two</span>
+     * <span class="zh-CN">Count-Min Sketch的列数，必须为2的幂</span>
+     */
+    private static final int SKETCH_WIDTH = 2048;
+    /**
+     * <span class="en-US">Stripe count of invalidation stamps, must be power of two</span>
+     * <span class="zh-CN">失效标记的分段数量，必须为2的幂</span>
+     */
+    private static final int INVALIDATION_STRIPES = 256;
+
+    /**
+     * <span class="en-US">Counters of count-min sketch</span>
+     * <span class="zh-CN">Count-Min Sketch的计数器</span>
+     */
+    private final AtomicLongArray counters = new AtomicLongArray(SKETCH_DEPTH * SKETCH_WIDTH);
+    /**
+     * <span class="en-US">Invalidation stamps of keys, striped by key hash, increased when the key was invalidated</span>
+     * <span class="zh-CN">键的失效标记，按键的哈希值分段，键失效时递增</span>
+     */
+    private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+    /**
+     * <span class="en-US">Count of heavy hitters tracked</span>
+     * <span class="zh-CN">跟踪的高频键数量</span>
+     */
+    private final int topK;
+    /**
+     * <span class="en-US">Estimated read count which key was treated as hot key</span>
+     * <span class="zh-CN">键被视为热点键时的估算读取次数</span>
+     */
+    private final long threshold;
+    /**
+     * <span class="en-US">Estimated read count which key was tracked as heavy hitter</span>
+     * <span class="zh-CN">键作为高频键进行跟踪时的估算读取次数</span>
+     */
+    private final long admission;
+    /**
+     * <span class="en-US">Interval of halving read counts, unit: nanosecond</span>
+     * <span class="zh-CN">读取计数减半的间隔，单位：纳秒</span>
+     */
+    private final long decayInterval;
+    /**
+     * <span class="en-US">Maximum size of local cache</span>
+     * <span class="zh-CN">本地缓存的最大容量</span>
+     */
+    private final int localSize;
+    /**
+     * <span class="en-US">Expire time of local cache, unit: nanosecond</span>
+     * <span class="zh-CN">本地缓存的过期时间，单位：纳秒</span>
+     */
+    private final long localExpire;
+    /**
+     * <span class="en-US">Heavy hitters mapping, key is cache key, value is estimated read count</span>
+     * <span class="zh-CN">高频键映射，键为缓存键值，值为估算读取次数</span>
+     */
+    private final Map<String, Long> heavyHitters = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">Local cache of hot keys</span>
+     * <span class="zh-CN">热点键的本地缓存</span>
+     */
+    private final Map<String, LocalEntry> localCache = new ConcurrentHashMap<>();
+    private final LongAdder localHits = new LongAdder();
+    private final AtomicLong decayTime = new AtomicLong(System.nanoTime());
+    /**
+     * <span class="en-US">Minimum estimated read count of heavy hitters when heavy hitters was full</span>
+     * <span class="zh-CN">高频键已满时高频键的最小估算读取次数</span>
+     */
+    private volatile long minimumCount = 0L;
+
+    /**
+     * <h3 class="en-US">Constructor for hot key detector</h3>
+     * <h3 class="zh-CN">热点键检测器的构造方法</h3>
+     *
+     * @param hotKeyConfig <span class="en-US">Hot key configure</span>
+     *                     <span class="zh-CN">热点键配置</span>
+     */
+    public HotKeyDetector(final CacheConfig.HotKeyConfig hotKeyConfig) {
+        this.topK = Math.max(1, hotKeyConfig.getTopK());
+        this.threshold = Math.max(1, hotKeyConfig.getThreshold());
+        this.admission = Math.max(1L, this.threshold / 2);
+        this.decayInterval = TimeUnit.MILLISECONDS.toNanos(Math.max(1, hotKeyConfig.getDecayInterval()));
+        this.localSize = Math.max(1, hotKeyConfig.getLocalSize());
+        this.localExpire = TimeUnit.MILLISECONDS.toNanos(Math.max(1, hotKeyConfig.getLocalExpire()));
+    }
+
+    /**
+     * <h3 class="en-US">Record read of given key, read value from local cache if key was hot key</h3>
+     * <h3 class="zh-CN">记录给定键的读取，如果键为热点键则从本地缓存读取值</h3>
+     *
+     * @param key       <span class="en-US">Cache key</span>
+     *                  <span class="zh-CN">缓存键值</span>
+     * @param operation <span class="en-US">Read operation send to cache server</span>
+     *                  <span class="zh-CN">发送到缓存服务器的读操作</span>
+     * @return <span class="en-US">Cache value</span>
+     * <span class="zh-CN">缓存数据</span>
+     */
+    public String read(final String key, final Supplier<String> operation) {
+        long currentTime = System.nanoTime();
+        this.decay(currentTime);
+        //  Reads served from local cache were recorded as well, otherwise the hot key will be demoted continually
+        long readCount = this.record(key);
+        LocalEntry localEntry = this.localCache.get(key);
+        if (localEntry != null) {
+            if (localEntry.expireTime - currentTime > 0L) {
+                this.localHits.increment();
+                return localEntry.value;
+            }
+            this.localCache.remove(key, localEntry);
+        }
+        //  Stamp was read before the value, value read before an invalidation of the key was never cached
+        final int stripe = stripe(key);
+        final long stamp = this.invalidations.get(stripe);
+        String value = operation.get();
+        if (value != null && readCount >= this.threshold && this.heavyHitters.containsKey(key)
+                && (this.localCache.size() < this.localSize || this.localCache.containsKey(key))
+                && this.invalidations.get(stripe) == stamp) {
+            LocalEntry cachedEntry = new LocalEntry(value, currentTime + this.localExpire);
+            this.localCache.put(key, cachedEntry);
+            if (this.invalidations.get(stripe) != stamp) {
+                //  Invalidated between check and put
+                this.localCache.remove(key, cachedEntry);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * <h3 class="en-US">Preload value of given key into local cache, the entry expires after local expire time</h3>
+     * <h3 class="zh-CN">将给定键的值预加载到本地缓存，条目在本地过期时间后过期</h3>
+     *
+     * @param key   <span class="en-US">Cache key</span>
+     *              <span class="zh-CN">缓存键值</span>
+     * @param value <span class="en-US">Cache value</span>
+     *              <span class="zh-CN">缓存数据</span>
+     * @return <span class="en-US">Boolean.TRUE if value was preloaded</span>
+     * <span class="zh-CN">值被预加载时返回Boolean.TRUE</span>
+     */
+    public boolean preload(final String key, final String value) {
+        if (value == null || (this.localCache.size() >= this.localSize && !this.localCache.containsKey(key))) {
+            return Boolean.FALSE;
+        }
+        this.localCache.put(key, new LocalEntry(value, System.nanoTime() + this.localExpire));
+        return Boolean.TRUE;
+    }
+
+    /**
+     * <h3 class="en-US">Invalidate local cache entry of given key</h3>
+     * <h3 class="zh-CN">使给定键的本地缓存条目失效</h3>
+     *
+     * @param keys <span class="en-US">Cache keys</span>
+     *             <span class="zh-CN">缓存键值</span>
+     */
+    public void invalidate(final String... keys) {
+        for (String key : keys) {
+            this.invalidations.incrementAndGet(stripe(key));
+            this.localCache.remove(key);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve current hot keys</h3>
+     * <h3 class="zh-CN">读取当前的热点键</h3>
+     *
+     * @return <span class="en-US">Hot key list, ordered by estimated read count descending</span>
+     * <span class="zh-CN">热点键列表，按估算读取次数降序排列</span>
+     */
+    public List<CacheStatistics.HotKey> hotKeys() {
+        return this.heavyHitters.entrySet()
+                .stream()
+                .filter(entry -> entry.getValue() >= this.threshold)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .map(entry -> new CacheStatistics.HotKey(entry.getKey(), entry.getValue(),
+                        this.localCache.containsKey(entry.getKey())))
+                .toList();
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve count of reads served from local cache</h3>
+     * <h3 class="zh-CN">读取从本地缓存读取的次数</h3>
+     *
+     * @return <span class="en-US">Count of local cache hits</span>
+     * <span class="zh-CN">本地缓存命中次数</span>
+     */
+    public long localHits() {
+        return this.localHits.sum();
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve count of keys in local cache</h3>
+     * <h3 class="zh-CN">读取本地缓存中的键数量</h3>
+     *
+     * @return <span class="en-US">Count of keys in local cache</span>
+     * <span class="zh-CN">本地缓存中的键数量</span>
+     */
+    public int localSize() {
+        return this.localCache.size();
+    }
+
+    /**
+     * <h3 class="en-US">Increase counters of given key and track the key if estimated read count reached admission</h3>
+     * <h3 class="zh-CN">增加给定键的计数，如果估算读取次数达到准入值则跟踪该键</h3>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zh-CN">缓存键值</span>
+     * @return <span class="en-US">Estimated read count</span>
+     * <span class="zh-CN">估算读取次数</span>
+     */
+    private long record(final String key) {
+        //  Double hashing, the index of each row was calculated by two independent hash values
+        int hashCode = mix(key.hashCode());
+        int step = mix(hashCode) | 1;
+        long readCount = Long.MAX_VALUE;
+        for (int i = 0; i < SKETCH_DEPTH; i++) {
+            int index = i * SKETCH_WIDTH + ((hashCode + i * step) & (SKETCH_WIDTH - 1));
+            readCount = Math.min(readCount, this.counters.incrementAndGet(index));
+        }
+        if (readCount >= this.admission) {
+            this.track(key, readCount);
+        }
+        return readCount;
+    }
+
+    private void track(final String key, final long readCount) {
+        if (this.heavyHitters.computeIfPresent(key, (existKey, existCount) -> readCount) != null
+                || (this.heavyHitters.size() >= this.topK && readCount <= this.minimumCount)) {
+            return;
+        }
+        synchronized (this.heavyHitters) {
+            if (this.heavyHitters.size() >= this.topK) {
+                Map.Entry<String, Long> minimumEntry =
+                        this.heavyHitters.entrySet().stream().min(Map.Entry.comparingByValue()).orElse(null);
+                if (minimumEntry != null) {
+                    if (readCount <= minimumEntry.getValue()) {
+                        this.minimumCount = minimumEntry.getValue();
+                        return;
+                    }
+                    this.heavyHitters.remove(minimumEntry.getKey());
+                }
+            }
+            this.heavyHitters.put(key, readCount);
+            this.updateMinimum();
+        }
+    }
+
+    private void decay(final long currentTime) {
+        long lastTime = this.decayTime.get();
+        long elapsedTime = currentTime - lastTime;
+        if (elapsedTime < this.decayInterval || !this.decayTime.compareAndSet(lastTime, currentTime)) {
+            return;
+        }
+        //  Halve once for each elapsed interval
+        int shift = (int) Math.min(Long.SIZE - 1, elapsedTime / this.decayInterval);
+        for (int i = 0; i < this.counters.length(); i++) {
+            this.counters.updateAndGet(i, count -> count >>> shift);
+        }
+        synchronized (this.heavyHitters) {
+            this.heavyHitters.replaceAll((key, readCount) -> readCount >>> shift);
+            this.heavyHitters.values().removeIf(readCount -> readCount < this.admission);
+            this.updateMinimum();
+        }
+        this.localCache.values().removeIf(localEntry -> localEntry.expireTime - currentTime <= 0L);
+    }
+
+    private void updateMinimum() {
+        this.minimumCount = (this.heavyHitters.size() < this.topK)
+                ? 0L
+                : this.heavyHitters.values().stream().mapToLong(Long::longValue).min().orElse(0L);
+    }
+
+    private static int stripe(final String key) {
+        return mix(key.hashCode()) & (INVALIDATION_STRIPES - 1);
+    }
+
+    private static int mix(final int hashCode) {
+        int hash = hashCode;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    /**
+     * <h2 class="en-US">Local cache entry</h2>
+     * <h2 class="zh-CN">本地缓存条目</h2>
+     */
+    private static final class LocalEntry {
+
+        private final String value;
+        private final long expireTime;
+
+        LocalEntry(final String value, final long expireTime) {
+            this.value = value;
+            this.expireTime = expireTime;
+        }
+    }
+}
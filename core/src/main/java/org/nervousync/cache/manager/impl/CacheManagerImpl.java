@@ -18,14 +18,21 @@ package org.nervousync.cache.manager.impl;
 
 import org.nervousync.cache.api.CacheClient;
 import org.nervousync.cache.api.CacheManager;
+import org.nervousync.cache.client.impl.CacheClientHandle;
 import org.nervousync.cache.client.impl.CacheClientImpl;
 import org.nervousync.cache.config.CacheConfig;
 import org.nervousync.cache.exceptions.CacheException;
+import org.nervousync.cache.executor.BlockingExecutor;
 import org.nervousync.cache.provider.ProviderManager;
 import org.nervousync.utils.LoggerUtils;
 import org.nervousync.utils.StringUtils;
 
-import java.util.*;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <h2 class="en-US">Cache manager implement class</h2>
@@ -43,17 +50,26 @@ public final class CacheManagerImpl implements CacheManager {
 	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(CacheManagerImpl.class);
 
 	/**
-	 * <span class="en-US">Registered cache agent instance map</span>
-	 * <span class="zh-CN">注册的缓存实例与缓存名称的对应关系</span>
+	 * <span class="en-US">Registered cache client handle map, reading the map was lock-free</span>
+	 * <span class="zh-CN">注册的缓存客户端句柄与缓存名称的对应关系，读取时无锁</span>
 	 */
-	private static final Hashtable<String, CacheClient> REGISTERED_CACHE = new Hashtable<>();
+	private static final Map<String, CacheClientHandle> REGISTERED_CACHE = new ConcurrentHashMap<>();
 
 	public CacheManagerImpl() {
 	}
 
 	/**
 	 * <h3 class="en-US">Register cache instance by given cache name and config instance</h3>
+	 * <span class="en-US">
+	 *     If the cache name was registered, the client of registered handle was replaced atomically and the replaced
+	 *     client was destroyed after the calls in flight on it were ended. If lazy connect was enabled, the client was
+	 *     created in background, and the registered client was replaced after the new client was created.
+	 * </span>
 	 * <h3 class="zh-CN">使用指定的缓存名称、配置信息注册缓存</h3>
+	 * <span class="zh-CN">
+	 *     如果缓存名称已注册，则以原子方式替换已注册句柄的客户端，被替换的客户端在其上正在进行的调用结束后销毁。
+	 *     如果启用了延迟连接，则在后台创建客户端，并在新的客户端创建完成后替换已注册的客户端。
+	 * </span>
 	 *
 	 * @param cacheName     <span class="en-US">Cache identify name</span>
 	 *                      <span class="zh-CN">缓存识别名称</span>
@@ -65,32 +81,63 @@ public final class CacheManagerImpl implements CacheManager {
 		if (StringUtils.isEmpty(cacheName) || !ProviderManager.registeredProvider(cacheConfig.getProviderName())) {
 			return Boolean.FALSE;
 		}
-		if (REGISTERED_CACHE.containsKey(cacheName)) {
-			LOGGER.warn("Override_Cache_Config", cacheName);
+		if (cacheConfig.isLazyConnect()) {
+			this.connect(cacheName, cacheConfig);
+			return Boolean.TRUE;
 		}
-
 		try {
-			REGISTERED_CACHE.put(cacheName, new CacheClientImpl(cacheConfig));
+			final CacheClientImpl cacheClient = new CacheClientImpl(cacheName, cacheConfig);
+			REGISTERED_CACHE.compute(cacheName, (key, clientHandle) -> {
+				if (clientHandle == null) {
+					return new CacheClientHandle(cacheName, cacheClient);
+				}
+				LOGGER.warn("Override_Cache_Config", cacheName);
+				clientHandle.replace(cacheClient);
+				return clientHandle;
+			});
 			return Boolean.TRUE;
 		} catch (CacheException e) {
-			LOGGER.error("Register_Cache_Error");
-			if (LOGGER.isDebugEnabled()) {
-				LOGGER.debug("Stack_Message_Error", e);
-			}
+			this.registerError(e);
 			return Boolean.FALSE;
 		}
 	}
 
 	/**
-	 * <h3 class="en-US">Check given cache name was registered</h3>
-	 * <h3 class="zh-CN">使用指定的缓存名称、配置信息注册缓存</h3>
+	 * <h3 class="en-US">Register cache instances by given cache names and config instances in parallel</h3>
+	 * <span class="en-US">
+	 *     Providers were created and connected in blocking executor, so the total time was the slowest connect time
+	 *     instead of the sum of connect times.
+	 * </span>
+	 * <h3 class="zh-CN">使用指定的缓存名称、配置信息并行注册缓存</h3>
+	 * <span class="zh-CN">缓存适配器在阻塞执行器中创建和连接，因此总耗时为最慢的连接时间而不是所有连接时间之和。</span>
+	 *
+	 * @param cacheConfigs	<span class="en-US">Cache config instance mapping by cache identify name</span>
+	 *                      <span class="zh-CN">缓存配置信息与缓存识别名称的对应关系</span>
+	 * @return  <span class="en-US">Register result mapping by cache identify name</span>
+	 *          <span class="zh-CN">注册结果与缓存识别名称的对应关系</span>
+	 */
+	@Override
+	public Map<String, Boolean> register(final Map<String, CacheConfig> cacheConfigs) {
+		Map<String, CompletableFuture<Boolean>> registerFutures = new LinkedHashMap<>();
+		cacheConfigs.forEach((cacheName, cacheConfig) ->
+				registerFutures.put(cacheName, BlockingExecutor.supplyAsync(() -> this.register(cacheName, cacheConfig))));
+		Map<String, Boolean> registerResults = new LinkedHashMap<>();
+		registerFutures.forEach((cacheName, registerFuture) -> registerResults.put(cacheName, registerFuture.join()));
+		return registerResults;
+	}
+
+	/**
+	 * <h3 class="en-US">Check given cache name was registered and connected</h3>
+	 * <h3 class="zh-CN">检查给定的缓存名称是否已注册并连接</h3>
 	 *
 	 * @param cacheName     <span class="en-US">Cache identify name</span>
 	 *                      <span class="zh-CN">缓存识别名称</span>
 	 */
 	@Override
 	public boolean registered(String cacheName) {
-		return REGISTERED_CACHE.containsKey(cacheName);
+		return Optional.ofNullable(REGISTERED_CACHE.get(cacheName))
+				.map(CacheClientHandle::connected)
+				.orElse(Boolean.FALSE);
 	}
 
 	/**
@@ -99,8 +146,8 @@ public final class CacheManagerImpl implements CacheManager {
 	 *
 	 * @param cacheName     <span class="en-US">Cache identify name</span>
 	 *                      <span class="zh-CN">缓存识别名称</span>
-	 * @return  <span class="en-US">Cache client instance or null if cache name not registered</span>
-	 *          <span class="zh-CN">缓存客户端实例，若缓存名称未注册则返回null</span>
+	 * @return  <span class="en-US">Cache client handle or null if cache name not registered, the handle stays valid when the cache was registered again</span>
+	 *          <span class="zh-CN">缓存客户端句柄，若缓存名称未注册则返回null，缓存重新注册时句柄仍然有效</span>
 	 */
 	@Override
 	public CacheClient client(final String cacheName) {
@@ -116,7 +163,59 @@ public final class CacheManagerImpl implements CacheManager {
 	 */
 	@Override
 	public void deregister(final String cacheName) {
-		Optional.ofNullable(REGISTERED_CACHE.remove(cacheName)).ifPresent(CacheClient::destroy);
+		Optional.ofNullable(REGISTERED_CACHE.remove(cacheName)).ifPresent(CacheClientHandle::destroy);
+	}
+
+	/**
+	 * <h3 class="en-US">Create client of lazy connect cache in background</h3>
+	 * <span class="en-US">
+	 *     New cache name was registered with the creating client at once, registered cache name was replaced after the
+	 *     new client was created. If create client failed, the new cache name was removed and the registered client
+	 *     was kept.
+	 * </span>
+	 * <h3 class="zh-CN">在后台创建延迟连接缓存的客户端</h3>
+	 * <span class="zh-CN">
+	 *     新的缓存名称立即使用正在创建的客户端注册，已注册的缓存名称在新客户端创建完成后替换。如果创建客户端失败，则移除新的缓存名称并保留已注册的客户端。
+	 * </span>
+	 *
+	 * @param cacheName     <span class="en-US">Cache identify name</span>
+	 *                      <span class="zh-CN">缓存识别名称</span>
+	 * @param cacheConfig	<span class="en-US">Cache config instance</span>
+	 *                      <span class="zh-CN">缓存配置信息</span>
+	 */
+	private void connect(final String cacheName, final CacheConfig cacheConfig) {
+		CompletableFuture<CacheClientImpl> clientFuture = BlockingExecutor.supplyAsync(() -> {
+			try {
+				return new CacheClientImpl(cacheName, cacheConfig);
+			} catch (CacheException e) {
+				throw new CompletionException(e);
+			}
+		});
+		final CacheClientHandle clientHandle = new CacheClientHandle(cacheName, clientFuture);
+		final boolean replace = (REGISTERED_CACHE.putIfAbsent(cacheName, clientHandle) != null);
+		clientFuture.whenComplete((cacheClient, throwable) -> {
+			if (throwable != null) {
+				this.registerError(throwable);
+				REGISTERED_CACHE.remove(cacheName, clientHandle);
+			} else if (replace) {
+				CacheClientHandle registeredHandle = REGISTERED_CACHE.computeIfPresent(cacheName, (key, existsHandle) -> {
+					LOGGER.warn("Override_Cache_Config", cacheName);
+					existsHandle.replace(cacheClient);
+					return existsHandle;
+				});
+				if (registeredHandle == null) {
+					//  Cache name was deregistered while the client was creating
+					cacheClient.destroy();
+				}
+			}
+		});
+	}
+
+	private void registerError(final Throwable throwable) {
+		LOGGER.error("Register_Cache_Error");
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Stack_Message_Error", throwable);
+		}
 	}
 
 	/**
@@ -125,7 +224,6 @@ public final class CacheManagerImpl implements CacheManager {
 	 */
 	@Override
 	public void destroy() {
-		REGISTERED_CACHE.values().forEach(CacheClient::destroy);
-		REGISTERED_CACHE.clear();
+		REGISTERED_CACHE.keySet().forEach(this::deregister);
 	}
 }
@@ -0,0 +1,290 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.profile;
+
+import org.nervousync.cache.config.CacheConfig;
+import org.nervousync.cache.stats.CacheStatistics;
+import org.nervousync.utils.LoggerUtils;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <h2 class="en-US">Value size profiler</h2>
+ * <span class="en-US">
+ *     Record UTF-8 encoded size of read and written values into histogram of each operation, and track the top N
+ *     largest keys. Written value which size exceeds the size limit was rejected or logged before sent to the provider.
+ * </span>
+ * <h2 class="zh-CN">数据大小分析器</h2>
+ * <span class="zh-CN">
+ *     将读取和写入数据的UTF-8编码大小记录到每种操作的直方图中，并跟踪最大的前N个键。大小超过限制的写入数据在发送到适配器之前被拒绝或记录日志。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 23:20:33 $
+ */
+public final class ValueSizeProfiler {
+
+    /**
+     * <span class="en-US">Bucket count of histogram, bucket N contains sizes between 2^(N-1) and 2^N - 1</span>
+     * <span class="zh-CN">直方图的桶数量，第N个桶包含2^(N-1)到2^N - 1之间的大小</span>
+     */
+    private static final int BUCKET_COUNT = Integer.SIZE;
+
+    /**
+     * <span class="en-US">Logger instance</span>
+     * <span class="zh-CN">日志实例</span>
+     */
+    private final LoggerUtils.Logger logger = LoggerUtils.getLogger(this.getClass());
+    /**
+     * <span class="en-US">Count of the largest keys tracked</span>
+     * <span class="zh-CN">跟踪的最大键数量</span>
+     */
+    private final int topN;
+    /**
+     * <span class="en-US">Size limit of written value, 0 for no limit, unit: byte</span>
+     * <span class="zh-CN">写入数据的大小限制，0为不限制，单位：字节</span>
+     */
+    private final int sizeLimit;
+    /**
+     * <span class="en-US">Reject written value which size exceeds the limit</span>
+     * <span class="zh-CN">拒绝大小超过限制的写入数据</span>
+     */
+    private final boolean rejectOversize;
+    /**
+     * <span class="en-US">Histogram mapping, key is operation name</span>
+     * <span class="zh-CN">直方图映射，键为操作名称</span>
+     */
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">The largest keys mapping, key is cache key</span>
+     * <span class="zh-CN">最大键映射，键为缓存键值</span>
+     */
+    private final Map<String, CacheStatistics.BigKey> bigKeys = new ConcurrentHashMap<>();
+    private final LongAdder oversizeCount = new LongAdder();
+    /**
+     * <span class="en-US">Minimum value size of the largest keys when the largest keys was full</span>
+     * <span class="zh-CN">最大键已满时最大键的最小数据大小</span>
+     */
+    private volatile long minimumSize = 0L;
+
+    /**
+     * <h3 class="en-US">Constructor for value size profiler</h3>
+     * <h3 class="zh-CN">数据大小分析器的构造方法</h3>
+     *
+     * @param valueSizeConfig <span class="en-US">Value size configure</span>
+     *                        <span class="zh-CN">数据大小配置</span>
+     */
+    public ValueSizeProfiler(final CacheConfig.ValueSizeConfig valueSizeConfig) {
+        this.topN = Math.max(1, valueSizeConfig.getTopN());
+        this.sizeLimit = Math.max(0, valueSizeConfig.getSizeLimit());
+        this.rejectOversize = valueSizeConfig.isRejectOversize();
+    }
+
+    /**
+     * <h3 class="en-US">Record size of read value</h3>
+     * <h3 class="zh-CN">记录读取数据的大小</h3>
+     *
+     * @param operation <span class="en-US">Operation name</span>
+     *                  <span class="zh-CN">操作名称</span>
+     * @param key       <span class="en-US">Cache key</span>
+     *                  <span class="zh-CN">缓存键值</span>
+     * @param value     <span class="en-US">Read value, null value was not recorded</span>
+     *                  <span class="zh-CN">读取的数据，null值不记录</span>
+     */
+    public void read(final String operation, final String key, final String value) {
+        if (value != null) {
+            this.record(operation, key, sizeOf(value));
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Record size of written value and check the size limit</h3>
+     * <h3 class="zh-CN">记录写入数据的大小并检查大小限制</h3>
+     *
+     * @param operation <span class="en-US">Operation name</span>
+     *                  <span class="zh-CN">操作名称</span>
+     * @param key       <span class="en-US">Cache key</span>
+     *                  <span class="zh-CN">缓存键值</span>
+     * @param value     <span class="en-US">Written value</span>
+     *                  <span class="zh-CN">写入的数据</span>
+     * @return <span class="en-US">Boolean.FALSE if the write operation was rejected</span>
+     * <span class="zh-CN">写操作被拒绝时返回Boolean.FALSE</span>
+     */
+    public boolean write(final String operation, final String key, final String value) {
+        long size = (value == null) ? 0L : sizeOf(value);
+        if (this.sizeLimit > 0 && size > this.sizeLimit) {
+            this.oversizeCount.increment();
+            if (this.rejectOversize) {
+                this.logger.error("Oversize_Value_Rejected_Cache_Error", key, size, this.sizeLimit);
+                return Boolean.FALSE;
+            }
+            this.logger.warn("Oversize_Value_Cache_Warn", key, size, this.sizeLimit);
+        }
+        this.record(operation, key, size);
+        return Boolean.TRUE;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve value size histograms of each operation</h3>
+     * <h3 class="zh-CN">读取每种操作的数据大小直方图</h3>
+     *
+     * @return <span class="en-US">Value size histogram list, ordered by operation name</span>
+     * <span class="zh-CN">数据大小直方图列表，按操作名称排列</span>
+     */
+    public List<CacheStatistics.ValueSize> valueSizes() {
+        return this.histograms.entrySet()
+                .stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .toList();
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve the largest keys seen by reads and writes</h3>
+     * <h3 class="zh-CN">读取读写操作中出现的最大键</h3>
+     *
+     * @return <span class="en-US">Big key list, ordered by value size descending</span>
+     * <span class="zh-CN">大键列表，按数据大小降序排列</span>
+     */
+    public List<CacheStatistics.BigKey> bigKeys() {
+        return this.bigKeys.values()
+                .stream()
+                .sorted(Comparator.comparingLong(CacheStatistics.BigKey::getSize).reversed())
+                .toList();
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve count of writes which value size exceeds the limit</h3>
+     * <h3 class="zh-CN">读取数据大小超过限制的写入次数</h3>
+     *
+     * @return <span class="en-US">Count of oversize writes</span>
+     * <span class="zh-CN">超过大小限制的写入次数</span>
+     */
+    public long oversizeCount() {
+        return this.oversizeCount.sum();
+    }
+
+    /**
+     * <h3 class="en-US">Calculate UTF-8 encoded size of given value without encoding</h3>
+     * <h3 class="zh-CN">在不进行编码的情况下计算给定数据的UTF-8编码大小</h3>
+     *
+     * @param value <span class="en-US">Cache value</span>
+     *              <span class="zh-CN">缓存数据</span>
+     * @return <span class="en-US">Encoded size, unit: byte</span>
+     * <span class="zh-CN">编码后的大小，单位：字节</span>
+     */
+    public static long sizeOf(final String value) {
+        long size = 0L;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                size++;
+            } else if (ch < 0x800) {
+                size += 2;
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                size += 4;
+                i++;
+            } else {
+                size += 3;
+            }
+        }
+        return size;
+    }
+
+    private void record(final String operation, final String key, final long size) {
+        this.histograms.computeIfAbsent(operation, name -> new Histogram()).record(size);
+        if (this.bigKeys.size() >= this.topN && size <= this.minimumSize) {
+            return;
+        }
+        synchronized (this.bigKeys) {
+            CacheStatistics.BigKey existKey = this.bigKeys.get(key);
+            if (existKey != null) {
+                if (size > existKey.getSize()) {
+                    this.bigKeys.put(key, new CacheStatistics.BigKey(key, size, operation));
+                    this.updateMinimum();
+                }
+                return;
+            }
+            if (this.bigKeys.size() >= this.topN) {
+                CacheStatistics.BigKey minimumKey = this.bigKeys.values()
+                        .stream()
+                        .min(Comparator.comparingLong(CacheStatistics.BigKey::getSize))
+                        .orElse(null);
+                if (minimumKey != null) {
+                    if (size <= minimumKey.getSize()) {
+                        return;
+                    }
+                    this.bigKeys.remove(minimumKey.getKey());
+                }
+            }
+            this.bigKeys.put(key, new CacheStatistics.BigKey(key, size, operation));
+            this.updateMinimum();
+        }
+    }
+
+    private void updateMinimum() {
+        this.minimumSize = (this.bigKeys.size() < this.topN)
+                ? 0L
+                : this.bigKeys.values().stream().mapToLong(CacheStatistics.BigKey::getSize).min().orElse(0L);
+    }
+
+    /**
+     * <h2 class="en-US">Value size histogram of one operation</h2>
+     * <h2 class="zh-CN">单个操作的数据大小直方图</h2>
+     */
+    private static final class Histogram {
+
+        private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalSize = new LongAdder();
+        private final LongAccumulator maximumSize = new LongAccumulator(Math::max, 0L);
+
+        Histogram() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                this.buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(final long size) {
+            int index = Math.min(BUCKET_COUNT - 1, Long.SIZE - Long.numberOfLeadingZeros(size));
+            this.buckets[index].increment();
+            this.count.increment();
+            this.totalSize.add(size);
+            this.maximumSize.accumulate(size);
+        }
+
+        CacheStatistics.ValueSize snapshot(final String operation) {
+            Map<Long, Long> histogram = new LinkedHashMap<>();
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                long bucketCount = this.buckets[i].sum();
+                if (bucketCount > 0L) {
+                    //  The last bucket contains all sizes above its lower bound
+                    histogram.put((i == BUCKET_COUNT - 1) ? Long.MAX_VALUE : (1L << i) - 1L, bucketCount);
+                }
+            }
+            return new CacheStatistics.ValueSize(operation, this.count.sum(), this.totalSize.sum(),
+                    this.maximumSize.get(), histogram);
+        }
+    }
+}
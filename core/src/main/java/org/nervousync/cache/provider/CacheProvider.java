@@ -16,6 +16,14 @@
  */
 package org.nervousync.cache.provider;
 
+import org.nervousync.cache.api.VersionedValue;
+import org.nervousync.cache.script.CacheScript;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
 /**
  * <h2 class="en-US">Cache provider interface</h2>
  * <h2 class="zh-CN">缓存适配器接口</h2>
@@ -42,8 +50,8 @@ public interface CacheProvider {
      *               <span class="zhs">缓存键值</span>
      * @param value  <span class="en-US">Cache value</span>
      *               <span class="zhs">缓存数据</span>
-     * @param expiry <span class="en-US">Expire time</span>
-     *               <span class="zhs">过期时间</span>
+     * @param expiry <span class="en-US">Expire time, CacheClient.NEVER_EXPIRE_TIME for never expire</span>
+     *               <span class="zhs">过期时间，CacheClient.NEVER_EXPIRE_TIME为永不过期</span>
      */
     void set(final String key, final String value, final int expiry);
 
@@ -55,10 +63,12 @@ public interface CacheProvider {
      *               <span class="zhs">缓存键值</span>
      * @param value  <span class="en-US">Cache value</span>
      *               <span class="zhs">缓存数据</span>
-     * @param expire <span class="en-US">Expire time</span>
-     *               <span class="zhs">过期时间</span>
+     * @param expire <span class="en-US">Expire time, CacheClient.NEVER_EXPIRE_TIME for never expire</span>
+     *               <span class="zhs">过期时间，CacheClient.NEVER_EXPIRE_TIME为永不过期</span>
+     * @return <span class="en-US">Boolean.TRUE if the key was not exists and the value was added</span>
+     * <span class="zhs">键不存在且数据添加成功时返回Boolean.TRUE</span>
      */
-    void add(final String key, final String value, final int expire);
+    boolean add(final String key, final String value, final int expire);
 
     /**
      * <h3 class="en-US">Replace exists value of given key by given value and set expire time</h3>
@@ -68,10 +78,12 @@ public interface CacheProvider {
      *               <span class="zhs">缓存键值</span>
      * @param value  <span class="en-US">Cache value</span>
      *               <span class="zhs">缓存数据</span>
-     * @param expire <span class="en-US">Expire time</span>
-     *               <span class="zhs">过期时间</span>
+     * @param expire <span class="en-US">Expire time, CacheClient.NEVER_EXPIRE_TIME for never expire</span>
+     *               <span class="zhs">过期时间，CacheClient.NEVER_EXPIRE_TIME为永不过期</span>
+     * @return <span class="en-US">Boolean.TRUE if the key was exists and the value was replaced</span>
+     * <span class="zhs">键存在且数据替换成功时返回Boolean.TRUE</span>
      */
-    void replace(final String key, final String value, final int expire);
+    boolean replace(final String key, final String value, final int expire);
 
     /**
      * <h3 class="en-US">Execute touch operate by given keys</h3>
@@ -91,6 +103,84 @@ public interface CacheProvider {
      */
     void delete(final String key);
 
+    /**
+     * <h3 class="en-US">Remove given cache keys in one pipelined batch</h3>
+     * <span class="en-US">Keys were grouped by cluster slot in cluster mode, each group was removed by one command</span>
+     * <h3 class="zhs">在一个管道批次中移除给定的缓存键值</h3>
+     * <span class="zhs">集群模式下按集群槽对键分组，每组使用一个命令移除</span>
+     *
+     * @param keys <span class="en-US">Cache keys</span>
+     *             <span class="zhs">缓存键值</span>
+     * @return <span class="en-US">Count of removed keys</span>
+     * <span class="zhs">已移除的键数量</span>
+     */
+    long deleteAll(final Collection<String> keys);
+
+    /**
+     * <h3 class="en-US">Add given key to member set of each tag</h3>
+     * <span class="en-US">Tag member set expires no earlier than its members which have expire time</span>
+     * <h3 class="zhs">将给定的键添加到每个标签的成员集合中</h3>
+     * <span class="zhs">标签成员集合的过期时间不早于其设置了过期时间的成员</span>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zhs">缓存键值</span>
+     * @param expire <span class="en-US">Expire time of cache key</span>
+     *               <span class="zhs">缓存键值的过期时间</span>
+     * @param tags   <span class="en-US">Tag array</span>
+     *               <span class="zhs">标签数组</span>
+     */
+    void tag(final String key, final int expire, final String... tags);
+
+    /**
+     * <h3 class="en-US">Remove all member keys of given tag and the member set in one batch</h3>
+     * <h3 class="zhs">在一个批次中移除给定标签的所有成员键及成员集合</h3>
+     *
+     * @param tag <span class="en-US">Tag</span>
+     *            <span class="zhs">标签</span>
+     * @return <span class="en-US">Removed member keys</span>
+     * <span class="zhs">已移除的成员键</span>
+     */
+    String[] invalidateTag(final String tag);
+
+    /**
+     * <h3 class="en-US">Acquire the lease of given key if no other client holds it</h3>
+     * <h3 class="zhs">如果没有其他客户端持有，则获取给定键的租约</h3>
+     *
+     * @param key       <span class="en-US">Cache key which value was filled by lease owner</span>
+     *                  <span class="zhs">由租约持有者填充数据的缓存键值</span>
+     * @param token     <span class="en-US">Unique token of lease owner</span>
+     *                  <span class="zhs">租约持有者的唯一标识</span>
+     * @param leaseTime <span class="en-US">Lease time, unit: millisecond</span>
+     *                  <span class="zhs">租约时间，单位：毫秒</span>
+     * @return <span class="en-US">Boolean.TRUE if the lease was acquired</span>
+     * <span class="zhs">获得租约时返回Boolean.TRUE</span>
+     */
+    boolean acquireLease(final String key, final String token, final int leaseTime);
+
+    /**
+     * <h3 class="en-US">Release the lease of given key if it was still held by given token</h3>
+     * <h3 class="zhs">如果给定键的租约仍由给定标识持有，则释放租约</h3>
+     *
+     * @param key   <span class="en-US">Cache key which value was filled by lease owner</span>
+     *              <span class="zhs">由租约持有者填充数据的缓存键值</span>
+     * @param token <span class="en-US">Unique token of lease owner</span>
+     *              <span class="zhs">租约持有者的唯一标识</span>
+     */
+    void releaseLease(final String key, final String token);
+
+    /**
+     * <h3 class="en-US">Scan keys which match given pattern by SCAN cursor, never blocks the server by KEYS</h3>
+     * <h3 class="zhs">使用SCAN游标扫描匹配给定模式的键，不使用会阻塞服务器的KEYS命令</h3>
+     *
+     * @param pattern   <span class="en-US">Glob style pattern</span>
+     *                  <span class="zhs">Glob风格的匹配模式</span>
+     * @param batchSize <span class="en-US">Count hint of keys returned by each SCAN command</span>
+     *                  <span class="zhs">每次SCAN命令返回键数量的提示值</span>
+     * @return <span class="en-US">Lazy key iterator, commands were sent when iterating</span>
+     * <span class="zhs">延迟加载的键迭代器，在迭代时发送命令</span>
+     */
+    Iterator<String> scan(final String pattern, final int batchSize);
+
     /**
      * <h3 class="en-US">Read cache value from cache key which cache key was given</h3>
      * <h3 class="zhs">读取指定缓存键值对应的缓存数据</h3>
@@ -102,6 +192,49 @@ public interface CacheProvider {
      */
     String get(final String key);
 
+    /**
+     * <h3 class="en-US">Read cache value and reset expire time of the key in one round trip</h3>
+     * <h3 class="zhs">在一次往返中读取缓存数据并重置键的过期时间</h3>
+     * <span class="en-US">Expire time was not reset if no expire time was given or configured, same as get</span>
+     * <span class="zhs">如果未指定或配置过期时间，则不重置过期时间，与get相同</span>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zhs">缓存键值</span>
+     * @param expire <span class="en-US">New expire time</span>
+     *               <span class="zhs">新的过期时间</span>
+     * @return <span class="en-US">Cache value or null if cache key was not exists or it was expired</span>
+     * <span class="zhs">读取的缓存数据，如果缓存键值不存在或已过期，则返回null</span>
+     */
+    String getAndTouch(final String key, final int expire);
+
+    /**
+     * <h3 class="en-US">Read cache value and its version from cache key which cache key was given</h3>
+     * <h3 class="zhs">读取指定缓存键值对应的缓存数据及其版本</h3>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zhs">缓存键值</span>
+     * @return <span class="en-US">Versioned value or null if cache key was not exists or it was expired</span>
+     * <span class="zhs">带版本的缓存数据，如果缓存键值不存在或已过期，则返回null</span>
+     */
+    VersionedValue getWithVersion(final String key);
+
+    /**
+     * <h3 class="en-US">Set key-value to cache server only if the version of current value equals given version</h3>
+     * <h3 class="zhs">仅当当前数据的版本与给定的版本相同时设置缓存信息</h3>
+     *
+     * @param key     <span class="en-US">Cache key</span>
+     *                <span class="zhs">缓存键值</span>
+     * @param version <span class="en-US">Expected version, null for set only if cache key was not exists</span>
+     *                <span class="zhs">期望的版本，null为仅当缓存键值不存在时设置</span>
+     * @param value   <span class="en-US">Cache value</span>
+     *                <span class="zhs">缓存数据</span>
+     * @param expire  <span class="en-US">Expire time</span>
+     *                <span class="zhs">过期时间</span>
+     * @return <span class="en-US">Boolean.TRUE if the value was set</span>
+     * <span class="zhs">数据设置成功返回Boolean.TRUE</span>
+     */
+    boolean compareAndSet(final String key, final String version, final String value, final int expire);
+
     /**
      * <h3 class="en-US">Increment data by given cache key and value</h3>
      *
@@ -126,6 +259,112 @@ public interface CacheProvider {
      */
     long decr(final String key, final long step);
 
+    /**
+     * <h3 class="en-US">Add given deltas to counters in one pipelined batch</h3>
+     * <h3 class="zhs">在一个管道批次中将给定的增量添加到计数器</h3>
+     *
+     * @param deltas <span class="en-US">Deltas mapping, key is cache key, value is delta</span>
+     *               <span class="zhs">增量映射，键为缓存键值，值为增量</span>
+     */
+    void incrAll(final Map<String, Long> deltas);
+
+    /**
+     * <h3 class="en-US">Set value of given field in hash of given cache key and set expire time of the hash</h3>
+     * <span class="en-US">Memcached has no hash type, the field was not written and a warning was logged.</span>
+     * <h3 class="zhs">设置给定缓存键值对应哈希中给定字段的数据，并设置哈希的过期时间</h3>
+     * <span class="zhs">Memcached没有哈希类型，字段不会被写入并记录警告日志。</span>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zhs">缓存键值</span>
+     * @param field  <span class="en-US">Field name</span>
+     *               <span class="zhs">字段名称</span>
+     * @param value  <span class="en-US">Field value</span>
+     *               <span class="zhs">字段数据</span>
+     * @param expire <span class="en-US">Expire time of the hash</span>
+     *               <span class="zhs">哈希的过期时间</span>
+     */
+    void setField(final String key, final String field, final String value, final int expire);
+
+    /**
+     * <h3 class="en-US">Read value of given field in hash of given cache key</h3>
+     * <span class="en-US">Memcached has no hash type, null was returned and a warning was logged.</span>
+     * <h3 class="zhs">读取给定缓存键值对应哈希中给定字段的数据</h3>
+     * <span class="zhs">Memcached没有哈希类型，返回null并记录警告日志。</span>
+     *
+     * @param key   <span class="en-US">Cache key</span>
+     *              <span class="zhs">缓存键值</span>
+     * @param field <span class="en-US">Field name</span>
+     *              <span class="zhs">字段名称</span>
+     * @return <span class="en-US">Field value or null if the hash or field was not exists</span>
+     * <span class="zhs">字段数据，如果哈希或字段不存在，则返回null</span>
+     */
+    String getField(final String key, final String field);
+
+    /**
+     * <h3 class="en-US">Read values of given fields in hash of given cache key</h3>
+     * <span class="en-US">Memcached has no hash type, empty mapping was returned and a warning was logged.</span>
+     * <h3 class="zhs">读取给定缓存键值对应哈希中给定字段的数据</h3>
+     * <span class="zhs">Memcached没有哈希类型，返回空映射并记录警告日志。</span>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zhs">缓存键值</span>
+     * @param fields <span class="en-US">Field names</span>
+     *               <span class="zhs">字段名称</span>
+     * @return <span class="en-US">Field values mapping, missing fields were not contained</span>
+     * <span class="zhs">字段数据映射，不包含不存在的字段</span>
+     */
+    Map<String, String> getFields(final String key, final String... fields);
+
+    /**
+     * <h3 class="en-US">Read all fields in hash of given cache key</h3>
+     * <span class="en-US">Memcached has no hash type, empty mapping was returned and a warning was logged.</span>
+     * <h3 class="zhs">读取给定缓存键值对应哈希中的所有字段</h3>
+     * <span class="zhs">Memcached没有哈希类型，返回空映射并记录警告日志。</span>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zhs">缓存键值</span>
+     * @return <span class="en-US">Field values mapping, empty if the hash was not exists</span>
+     * <span class="zhs">字段数据映射，如果哈希不存在，则返回空映射</span>
+     */
+    Map<String, String> getAllFields(final String key);
+
+    /**
+     * <h3 class="en-US">Increment given field in hash of given cache key, expire time of the hash was not changed</h3>
+     * <span class="en-US">
+     *     Memcached has no hash type, the field was not changed, Globals.DEFAULT_VALUE_LONG (-1) was returned and a
+     *     warning was logged.
+     * </span>
+     * <h3 class="zhs">对给定缓存键值对应哈希中的给定字段执行自增操作，不修改哈希的过期时间</h3>
+     * <span class="zhs">
+     *     Memcached没有哈希类型，字段不会被修改，返回Globals.DEFAULT_VALUE_LONG（-1）并记录警告日志。
+     * </span>
+     *
+     * @param key   <span class="en-US">Cache key</span>
+     *              <span class="zhs">缓存键值</span>
+     * @param field <span class="en-US">Field name</span>
+     *              <span class="zhs">字段名称</span>
+     * @param step  <span class="en-US">Increment step value</span>
+     *              <span class="zhs">自增步进值</span>
+     * @return <span class="en-US">Operate result</span>
+     * <span class="zhs">操作结果</span>
+     */
+    long incrField(final String key, final String field, final long step);
+
+    /**
+     * <h3 class="en-US">Execute Lua script by EVALSHA, load the script by EVAL if it was not cached by server</h3>
+     * <h3 class="zhs">使用EVALSHA执行Lua脚本，如果脚本未被服务器缓存则使用EVAL加载脚本</h3>
+     *
+     * @param cacheScript <span class="en-US">Script instance</span>
+     *                    <span class="zhs">脚本实例</span>
+     * @param keys        <span class="en-US">KEYS of script</span>
+     *                    <span class="zhs">脚本的KEYS</span>
+     * @param arguments   <span class="en-US">ARGV of script</span>
+     *                    <span class="zhs">脚本的ARGV</span>
+     * @return <span class="en-US">Script result, null, Long, String or List of them</span>
+     * <span class="zhs">脚本结果，null、Long、String或由它们组成的List</span>
+     */
+    Object eval(final CacheScript cacheScript, final List<String> keys, final List<String> arguments);
+
     /**
      * <h3 class="en-US">Destroy agent instance</h3>
      * <h3 class="zhs">销毁缓存对象</h3>
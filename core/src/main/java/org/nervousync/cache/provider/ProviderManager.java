@@ -21,6 +21,7 @@ import org.nervousync.utils.LoggerUtils;
 import org.nervousync.utils.StringUtils;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <h2 class="en-US">Cache provider manager</h2>
@@ -41,7 +42,7 @@ public final class ProviderManager {
 	 * <span class="en-US">Registered cache provider map</span>
 	 * <span class="zhs">注册的缓存实现类与名称对应关系</span>
 	 */
-	private static final Hashtable<String, Class<?>> REGISTERED_PROVIDERS = new Hashtable<>();
+	private static final Map<String, Class<?>> REGISTERED_PROVIDERS = new ConcurrentHashMap<>();
 
 	static {
 		//  Register all cache providers by Java SPI
@@ -106,12 +107,11 @@ public final class ProviderManager {
 		Optional.ofNullable(providerClass.getAnnotation(Provider.class))
 				.ifPresent(provider -> {
 					String providerName = provider.name();
-					if (REGISTERED_PROVIDERS.containsKey(providerName)) {
+					Class<?> registeredClass = REGISTERED_PROVIDERS.put(providerName, providerClass);
+					if (registeredClass != null) {
 						LOGGER.warn("Override_Cache_Provider",
-								providerName, REGISTERED_PROVIDERS.get(providerName).getName(),
-								providerClass.getName());
+								providerName, registeredClass.getName(), providerClass.getName());
 					}
-					REGISTERED_PROVIDERS.put(providerName, providerClass);
 				});
 	}
 }
@@ -16,13 +16,25 @@
  */
 package org.nervousync.cache.provider.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 import jakarta.xml.bind.annotation.XmlElement;
 import org.nervousync.cache.commons.CacheGlobals;
 import org.nervousync.cache.enumeration.ClusterMode;
 import org.nervousync.cache.exceptions.CacheException;
+import org.nervousync.cache.hedge.HedgedReader;
 import org.nervousync.cache.provider.CacheProvider;
+import org.nervousync.cache.retry.RetryPolicy;
+import org.nervousync.cache.script.CacheScript;
 import org.nervousync.utils.LoggerUtils;
 
 import org.nervousync.cache.config.CacheConfig;
@@ -49,14 +61,39 @@ public abstract class AbstractProvider implements CacheProvider {
      * <span class="zh-CN">缓存服务器的连接超时时间</span>
      */
     private int connectTimeout = Globals.DEFAULT_VALUE_INT;
+    /**
+     * <span class="en-US">Server connect timeout, unit: millisecond</span>
+     * <span class="zh-CN">缓存服务器的连接超时时间，单位：毫秒</span>
+     */
+    private int connectTimeoutMillis = Globals.DEFAULT_VALUE_INT;
+    /**
+     * <span class="en-US">Command timeout, unit: millisecond</span>
+     * <span class="zh-CN">命令超时时间，单位：毫秒</span>
+     */
+    private int commandTimeout = Globals.DEFAULT_VALUE_INT;
+    /**
+     * <span class="en-US">Timeout of acquire connection from pool, unit: millisecond</span>
+     * <span class="zh-CN">从连接池获取连接的超时时间，单位：毫秒</span>
+     */
+    private int poolTimeout = Globals.DEFAULT_VALUE_INT;
+    /**
+     * <span class="en-US">Timeout of read operates, unit: millisecond</span>
+     * <span class="zh-CN">读操作超时时间，单位：毫秒</span>
+     */
+    private int readTimeout = Globals.DEFAULT_VALUE_INT;
+    /**
+     * <span class="en-US">Timeout of write operates, unit: millisecond</span>
+     * <span class="zh-CN">写操作超时时间，单位：毫秒</span>
+     */
+    private int writeTimeout = Globals.DEFAULT_VALUE_INT;
     /**
      * <span class="en-US">Client pool size</span>
      * <span class="zh-CN">连接池大小</span>
      */
     private int clientPoolSize = Globals.DEFAULT_VALUE_INT;
     /**
-     * <span class="en-US">Connect retry count</span>
-     * <span class="zh-CN">连接超时重试次数</span>
+     * <span class="en-US">Retry count of failed operates</span>
+     * <span class="zh-CN">失败操作的重试次数</span>
      */
     @XmlElement(name = "retry_count")
     private int retryCount = CacheGlobals.DEFAULT_RETRY_COUNT;
@@ -70,7 +107,32 @@ public abstract class AbstractProvider implements CacheProvider {
      * <span class="zh-CN">默认过期时间</span>
      */
     private int expireTime = Globals.DEFAULT_VALUE_INT;
+    /**
+     * <span class="en-US">Maximum seconds which was randomly subtracted from default expire time, 0 for disabled</span>
+     * <span class="zh-CN">从默认过期时间中随机扣减的最大秒数，0为不启用</span>
+     */
+    private int expireJitter = 0;
+    /**
+     * <span class="en-US">Delete keys by UNLINK</span>
+     * <span class="zh-CN">使用UNLINK删除键</span>
+     */
+    private boolean lazyDelete = Boolean.FALSE;
     private ClusterMode clusterMode = ClusterMode.Singleton;
+    /**
+     * <span class="en-US">Hedged reader instance, null if hedged read was disabled</span>
+     * <span class="zh-CN">对冲读取器实例，如果对冲读取未启用则为null</span>
+     */
+    private HedgedReader hedgedReader = null;
+    /**
+     * <span class="en-US">Retry policy instance</span>
+     * <span class="zh-CN">重试策略实例</span>
+     */
+    private RetryPolicy retryPolicy = null;
+    /**
+     * <span class="en-US">Time of connection warm-up, unit: millisecond, 0 if warm-up was disabled</span>
+     * <span class="zh-CN">连接预热的耗时，单位：毫秒，未启用预热时为0</span>
+     */
+    private long warmupTime = 0L;
 
     /**
      * <h3 class="en-US">Initialize cache agent</h3>
@@ -84,11 +146,39 @@ public abstract class AbstractProvider implements CacheProvider {
      */
     public void initialize(final CacheConfig cacheConfig) throws CacheException {
         this.connectTimeout = cacheConfig.getConnectTimeout();
+        CacheConfig.TimeoutConfig timeoutConfig = cacheConfig.getTimeoutConfig();
+        if (timeoutConfig == null) {
+            //  Using connect timeout for all timeouts
+            this.connectTimeoutMillis = this.connectTimeout * 1000;
+            this.commandTimeout = this.connectTimeoutMillis;
+            this.poolTimeout = this.connectTimeoutMillis;
+            this.readTimeout = this.connectTimeoutMillis;
+            this.writeTimeout = this.connectTimeoutMillis;
+        } else {
+            this.connectTimeoutMillis = timeoutConfig.getConnectTimeout();
+            this.commandTimeout = timeoutConfig.getCommandTimeout();
+            this.poolTimeout = timeoutConfig.getPoolTimeout();
+            this.readTimeout = (timeoutConfig.getReadTimeout() > 0)
+                    ? timeoutConfig.getReadTimeout()
+                    : timeoutConfig.getCommandTimeout();
+            this.writeTimeout = (timeoutConfig.getWriteTimeout() > 0)
+                    ? timeoutConfig.getWriteTimeout()
+                    : timeoutConfig.getCommandTimeout();
+        }
         this.clientPoolSize = cacheConfig.getClientPoolSize();
         this.retryCount = cacheConfig.getRetryCount();
         this.maximumClient = cacheConfig.getMaximumClient();
         this.expireTime = cacheConfig.getExpireTime();
+        this.expireJitter = (this.expireTime > 1)
+                ? Math.min(Math.max(this.expireTime * cacheConfig.getExpireJitterPercent() / 100,
+                        cacheConfig.getExpireJitterRange()), this.expireTime - 1)
+                : 0;
+        this.lazyDelete = cacheConfig.isLazyDelete();
         this.clusterMode = ClusterMode.valueOf(cacheConfig.getClusterMode());
+        this.hedgedReader = (cacheConfig.getHedgedReadConfig() == null)
+                ? null
+                : new HedgedReader(cacheConfig.getHedgedReadConfig());
+        this.retryPolicy = new RetryPolicy(this.retryCount, cacheConfig.getRetryConfig(), this::retryable);
         List<ServerConfig> serverConfigList = cacheConfig.getServerConfigList();
         switch (serverConfigList.size()) {
             case 0:
@@ -101,6 +191,20 @@ public abstract class AbstractProvider implements CacheProvider {
                         cacheConfig.getUserName(), cacheConfig.getPassWord());
                 break;
         }
+        CacheConfig.WarmupConfig warmupConfig = cacheConfig.getWarmupConfig();
+        if (warmupConfig != null) {
+            long beginTime = System.nanoTime();
+            try {
+                this.warmup(this.clientPoolSize, warmupConfig.getTimeout());
+            } catch (RuntimeException e) {
+                //  Failed warm-up was not treated as initialize failure, connections were created when required
+                this.logger.warn("Warmup_Failed_Cache_Warn", e.getMessage());
+                if (this.logger.isDebugEnabled()) {
+                    this.logger.debug("Stack_Message_Error", e);
+                }
+            }
+            this.warmupTime = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - beginTime));
+        }
     }
     /**
      * <h3 class="en-US">Retrieve server connect timeout</h3>
@@ -113,6 +217,61 @@ public abstract class AbstractProvider implements CacheProvider {
         return connectTimeout;
     }
 
+    /**
+     * <h3 class="en-US">Retrieve server connect timeout in milliseconds</h3>
+     * <h3 class="zh-CN">读取以毫秒为单位的缓存服务器连接超时时间</h3>
+     *
+     * @return  <span class="en-US">Connect timeout, unit: millisecond</span>
+     *          <span class="zh-CN">连接超时时间，单位：毫秒</span>
+     */
+    public int getConnectTimeoutMillis() {
+        return connectTimeoutMillis;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve command timeout</h3>
+     * <h3 class="zh-CN">读取命令超时时间</h3>
+     *
+     * @return  <span class="en-US">Command timeout, unit: millisecond</span>
+     *          <span class="zh-CN">命令超时时间，单位：毫秒</span>
+     */
+    public int getCommandTimeout() {
+        return commandTimeout;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve timeout of acquire connection from pool</h3>
+     * <h3 class="zh-CN">读取从连接池获取连接的超时时间</h3>
+     *
+     * @return  <span class="en-US">Pool acquire timeout, unit: millisecond</span>
+     *          <span class="zh-CN">连接池获取超时时间，单位：毫秒</span>
+     */
+    public int getPoolTimeout() {
+        return poolTimeout;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve timeout of read operates</h3>
+     * <h3 class="zh-CN">读取读操作超时时间</h3>
+     *
+     * @return  <span class="en-US">Read timeout, unit: millisecond</span>
+     *          <span class="zh-CN">读操作超时时间，单位：毫秒</span>
+     */
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve timeout of write operates</h3>
+     * <h3 class="zh-CN">读取写操作超时时间</h3>
+     *
+     * @return  <span class="en-US">Write timeout, unit: millisecond</span>
+     *          <span class="zh-CN">写操作超时时间，单位：毫秒</span>
+     */
+    public int getWriteTimeout() {
+        return writeTimeout;
+    }
+
     /**
      * <h3 class="en-US">Retrieve connect client pool size</h3>
      * <h3 class="zh-CN">读取客户端连接池的大小</h3>
@@ -125,11 +284,11 @@ public abstract class AbstractProvider implements CacheProvider {
     }
 
     /**
-     * <h3 class="en-US">Retrieve server connect retry count</h3>
-     * <h3 class="zh-CN">读取缓存服务器的连接超时重试次数</h3>
+     * <h3 class="en-US">Retrieve retry count of failed operates</h3>
+     * <h3 class="zh-CN">读取失败操作的重试次数</h3>
      *
-     * @return  <span class="en-US">Connect retry count</span>
-     *          <span class="zh-CN">连接超时重试次数</span>
+     * @return  <span class="en-US">Retry count of failed operates</span>
+     *          <span class="zh-CN">失败操作的重试次数</span>
      */
     public int getRetryCount() {
         return retryCount;
@@ -146,6 +305,17 @@ public abstract class AbstractProvider implements CacheProvider {
         return maximumClient;
     }
 
+    /**
+     * <h3 class="en-US">Retrieve time of connection warm-up</h3>
+     * <h3 class="zh-CN">读取连接预热的耗时</h3>
+     *
+     * @return  <span class="en-US">Warm-up time, unit: millisecond, 0 if warm-up was disabled</span>
+     *          <span class="zh-CN">预热耗时，单位：毫秒，未启用预热时为0</span>
+     */
+    public long getWarmupTime() {
+        return warmupTime;
+    }
+
     /**
      * <h3 class="en-US">Cache configure cluster mode</h3>
      * <h3 class="zh-CN">缓存配置的集群类型</h3>
@@ -157,6 +327,60 @@ public abstract class AbstractProvider implements CacheProvider {
         return clusterMode;
     }
 
+    /**
+     * <h3 class="en-US">Check delete keys by UNLINK</h3>
+     * <h3 class="zh-CN">检查是否使用UNLINK删除键</h3>
+     *
+     * @return  <span class="en-US">Delete keys by UNLINK</span>
+     *          <span class="zh-CN">使用UNLINK删除键</span>
+     */
+    protected boolean isLazyDelete() {
+        return lazyDelete;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve hedged reader instance</h3>
+     * <h3 class="zh-CN">读取对冲读取器实例</h3>
+     *
+     * @return  <span class="en-US">Hedged reader instance or null if hedged read was disabled</span>
+     *          <span class="zh-CN">对冲读取器实例，如果对冲读取未启用则返回null</span>
+     */
+    protected HedgedReader getHedgedReader() {
+        return hedgedReader;
+    }
+
+    /**
+     * <h3 class="en-US">Execute operation by retry policy</h3>
+     * <h3 class="zh-CN">使用重试策略执行操作</h3>
+     *
+     * @param operation  <span class="en-US">Operation</span>
+     *                   <span class="zh-CN">操作</span>
+     * @param idempotent <span class="en-US">Operation is idempotent, only idempotent operation could be retried</span>
+     *                   <span class="zh-CN">操作是否幂等，只有幂等操作可以重试</span>
+     * @param <T>        <span class="en-US">Result type</span>
+     *                   <span class="zh-CN">结果类型</span>
+     * @return <span class="en-US">Operate result</span>
+     * <span class="zh-CN">操作结果</span>
+     */
+    public final <T> T retry(final Supplier<T> operation, final boolean idempotent) {
+        return (this.retryPolicy == null) ? operation.get() : this.retryPolicy.execute(operation, idempotent);
+    }
+
+    /**
+     * <h3 class="en-US">Check the exception was caused by transient failure and operation could be retried</h3>
+     * <span class="en-US">Timeout of hedged read was retryable by default, providers should add client exceptions of connection failure and timeout</span>
+     * <h3 class="zh-CN">检查异常是否由暂时性故障导致，操作是否可以重试</h3>
+     * <span class="zh-CN">对冲读取超时默认可重试，缓存适配器应当添加客户端的连接失败和超时异常</span>
+     *
+     * @param exception <span class="en-US">Exception instance</span>
+     *                  <span class="zh-CN">异常实例</span>
+     * @return <span class="en-US">Boolean.TRUE for retryable, Boolean.FALSE for not</span>
+     * <span class="zh-CN">可以重试时返回Boolean.TRUE，否则返回Boolean.FALSE</span>
+     */
+    protected boolean retryable(final RuntimeException exception) {
+        return exception instanceof CompletionException && exception.getCause() instanceof TimeoutException;
+    }
+
     /**
      * <h3 class="en-US">Initialize cache server connections</h3>
      * <h3 class="zh-CN">初始化缓存服务器连接池</h3>
@@ -193,6 +417,22 @@ public abstract class AbstractProvider implements CacheProvider {
     protected abstract void clusterMode(final List<ServerConfig> serverConfigList, final String masterName,
                                         final String userName, final String passWord) throws CacheException;
 
+    /**
+     * <h3 class="en-US">Warm up cache server connections</h3>
+     * <span class="en-US">
+     *     Create connections of given count for each node which connections were pooled, and ping every node, so the
+     *     connect and authenticate costs were paid before the first request.
+     * </span>
+     * <h3 class="zh-CN">预热缓存服务器连接</h3>
+     * <span class="zh-CN">为每个使用连接池的节点创建给定数量的连接，并对每个节点执行ping，从而在首个请求之前完成连接和认证。</span>
+     *
+     * @param connections <span class="en-US">Connection count of each node</span>
+     *                    <span class="zh-CN">每个节点的连接数量</span>
+     * @param timeout     <span class="en-US">Warm-up timeout, unit: millisecond</span>
+     *                    <span class="zh-CN">预热超时时间，单位：毫秒</span>
+     */
+    protected abstract void warmup(final int connections, final int timeout);
+
     /**
      * <h3 class="en-US">Set key-value to cache server by default expire time</h3>
      * <h3 class="zh-CN">使用默认的过期时间设置缓存信息</h3>
@@ -203,7 +443,7 @@ public abstract class AbstractProvider implements CacheProvider {
      *              <span class="zh-CN">缓存数据</span>
      */
     public final void set(String key, String value) {
-        this.set(key, value, this.expireTime);
+        this.set(key, value, Globals.DEFAULT_VALUE_INT);
     }
 
     /**
@@ -214,9 +454,11 @@ public abstract class AbstractProvider implements CacheProvider {
      *              <span class="zh-CN">缓存键值</span>
      * @param value <span class="en-US">Cache value</span>
      *              <span class="zh-CN">缓存数据</span>
+     * @return <span class="en-US">Boolean.TRUE if the key was not exists and the value was added</span>
+     * <span class="zh-CN">键不存在且数据添加成功时返回Boolean.TRUE</span>
      */
-    public final void add(String key, String value) {
-        this.add(key, value, this.expireTime);
+    public final boolean add(String key, String value) {
+        return this.add(key, value, Globals.DEFAULT_VALUE_INT);
     }
 
     /**
@@ -227,9 +469,11 @@ public abstract class AbstractProvider implements CacheProvider {
      *              <span class="zh-CN">缓存键值</span>
      * @param value <span class="en-US">Cache value</span>
      *              <span class="zh-CN">缓存数据</span>
+     * @return <span class="en-US">Boolean.TRUE if the key was exists and the value was replaced</span>
+     * <span class="zh-CN">键存在且数据替换成功时返回Boolean.TRUE</span>
      */
-    public final void replace(String key, String value) {
-        this.replace(key, value, this.expireTime);
+    public final boolean replace(String key, String value) {
+        return this.replace(key, value, Globals.DEFAULT_VALUE_INT);
     }
 
     protected final int serverPort(final int serverPort) {
@@ -247,7 +491,119 @@ public abstract class AbstractProvider implements CacheProvider {
      */
     public abstract void expire(String key, int expire);
 
-    protected int expiryTime(final int expire) {
-        return (expire == Globals.DEFAULT_VALUE_INT) ? this.expireTime : expire;
+    /**
+     * <h3 class="en-US">Calculate expire time of write operate</h3>
+     * <span class="en-US">
+     *     Expire jitter was applied to default expire time only, given expire time was used as is, so the caller
+     *     which requires an exact expire time overrides the jitter by given expire time.
+     * </span>
+     * <h3 class="zh-CN">计算写操作的过期时间</h3>
+     * <span class="zh-CN">
+     *     过期抖动仅应用于默认过期时间，给定的过期时间按原值使用，因此需要精确过期时间的调用方通过给定过期时间覆盖抖动。
+     * </span>
+     *
+     * @param expire <span class="en-US">Given expire time, Globals.DEFAULT_VALUE_INT for default expire time</span>
+     *               <span class="zh-CN">给定的过期时间，Globals.DEFAULT_VALUE_INT为默认过期时间</span>
+     * @return <span class="en-US">Expire time of write operate</span>
+     * <span class="zh-CN">写操作的过期时间</span>
+     */
+    public final int expiryTime(final int expire) {
+        if (expire != Globals.DEFAULT_VALUE_INT) {
+            return expire;
+        }
+        //  Never be 0 or negative, the jitter was less than default expire time
+        return (this.expireJitter > 0)
+                ? this.expireTime - ThreadLocalRandom.current().nextInt(this.expireJitter + 1)
+                : this.expireTime;
+    }
+
+    /**
+     * <h3 class="en-US">Split given keys into groups of multi-key delete command</h3>
+     * <span class="en-US">
+     *     Multi-key command requires all keys located in the same slot when it was sent by cluster client,
+     *     so the keys were grouped by slot if slot function was given,
+     *     otherwise the keys were split by DELETE_BATCH_SIZE to avoid one huge command.
+     * </span>
+     * <h3 class="zh-CN">将给定的键拆分为多键删除命令的分组</h3>
+     * <span class="zh-CN">
+     *     通过集群客户端发送的多键命令要求所有键位于同一个槽中，因此如果给定了槽计算函数则按槽对键分组，
+     *     否则按DELETE_BATCH_SIZE拆分以避免单个过大的命令。
+     * </span>
+     *
+     * @param keys         <span class="en-US">Cache keys</span>
+     *                     <span class="zh-CN">缓存键值</span>
+     * @param slotFunction <span class="en-US">Slot calculate function of cluster, null if cluster client was not used</span>
+     *                     <span class="zh-CN">集群槽的计算函数，如果未使用集群客户端则为null</span>
+     * @return <span class="en-US">Key groups, duplicate keys were removed</span>
+     * <span class="zh-CN">键分组，重复的键已被移除</span>
+     */
+    protected final Collection<String[]> deleteGroups(final Collection<String> keys,
+                                                      final ToIntFunction<String> slotFunction) {
+        if (slotFunction != null) {
+            return keys.stream()
+                    .distinct()
+                    .collect(Collectors.groupingBy(slotFunction::applyAsInt,
+                            Collectors.collectingAndThen(Collectors.toList(), slotKeys -> slotKeys.toArray(new String[0]))))
+                    .values();
+        }
+        return deleteGroups(keys);
+    }
+
+    /**
+     * <h3 class="en-US">Split given keys by DELETE_BATCH_SIZE</h3>
+     * <h3 class="zh-CN">按DELETE_BATCH_SIZE拆分给定的键</h3>
+     *
+     * @param keys <span class="en-US">Cache keys</span>
+     *             <span class="zh-CN">缓存键值</span>
+     * @return <span class="en-US">Key groups, duplicate keys were removed</span>
+     * <span class="zh-CN">键分组，重复的键已被移除</span>
+     */
+    protected static Collection<String[]> deleteGroups(final Collection<String> keys) {
+        List<String> distinctKeys = keys.stream().distinct().toList();
+        List<String[]> deleteGroups = new ArrayList<>();
+        for (int i = 0; i < distinctKeys.size(); i += CacheGlobals.DELETE_BATCH_SIZE) {
+            deleteGroups.add(distinctKeys.subList(i, Math.min(i + CacheGlobals.DELETE_BATCH_SIZE, distinctKeys.size()))
+                    .toArray(new String[0]));
+        }
+        return deleteGroups;
+    }
+
+    /**
+     * <h3 class="en-US">Generate cache key of tag member set</h3>
+     * <h3 class="zh-CN">生成标签成员集合的缓存键值</h3>
+     *
+     * @param tag <span class="en-US">Tag</span>
+     *            <span class="zh-CN">标签</span>
+     * @return <span class="en-US">Cache key of tag member set</span>
+     * <span class="zh-CN">标签成员集合的缓存键值</span>
+     */
+    protected static String tagKey(final String tag) {
+        return CacheGlobals.TAG_KEY_PREFIX + tag;
+    }
+
+    /**
+     * <h3 class="en-US">Generate cache key of fill lease</h3>
+     * <h3 class="zh-CN">生成填充租约的缓存键值</h3>
+     *
+     * @param key <span class="en-US">Cache key which value was filled by lease owner</span>
+     *            <span class="zh-CN">由租约持有者填充数据的缓存键值</span>
+     * @return <span class="en-US">Cache key of fill lease</span>
+     * <span class="zh-CN">填充租约的缓存键值</span>
+     */
+    protected static String leaseKey(final String key) {
+        return CacheGlobals.LEASE_KEY_PREFIX + key;
+    }
+
+    /**
+     * <h3 class="en-US">Generate version of given value, same as redis.sha1hex used by compare and set script</h3>
+     * <h3 class="zh-CN">生成给定数据的版本，与比较并设置脚本使用的redis.sha1hex相同</h3>
+     *
+     * @param value <span class="en-US">Cache value</span>
+     *              <span class="zh-CN">缓存数据</span>
+     * @return <span class="en-US">Lower case hex string of SHA1 digest</span>
+     * <span class="zh-CN">SHA1摘要的小写十六进制字符串</span>
+     */
+    protected static String version(final String value) {
+        return CacheScript.sha1(value);
     }
 }
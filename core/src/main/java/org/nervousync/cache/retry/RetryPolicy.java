@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.retry;
+
+import org.nervousync.cache.commons.CacheGlobals;
+import org.nervousync.cache.config.CacheConfig;
+import org.nervousync.utils.LoggerUtils;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * <h2 class="en-US">Retry policy</h2>
+ * <span class="en-US">
+ *     Retry failed operation which exception was classified as retryable, until the maximum attempts reached or
+ *     the overall deadline exceeded. The delay before each retry was a random value between zero and the exponential
+ *     backoff (full jitter), so the clients which failed at the same time will not retry at the same time.
+ *     Non-idempotent operations were never retried, because the failed command may already executed by server.
+ * </span>
+ * <h2 class="zh-CN">重试策略</h2>
+ * <span class="zh-CN">
+ *     重试异常被判定为可重试的失败操作，直到达到最大尝试次数或超过总截止时间。每次重试前的延迟为零到指数退避时间之间的随机值（完全抖动），
+ *     使同时失败的客户端不会同时重试。非幂等操作从不重试，因为失败的命令可能已经被服务器执行。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 21:48:25 $
+ */
+public final class RetryPolicy {
+
+    /**
+     * <span class="en-US">Logger instance</span>
+     * <span class="zh-CN">日志实例</span>
+     */
+    private final LoggerUtils.Logger logger = LoggerUtils.getLogger(this.getClass());
+    /**
+     * <span class="en-US">Maximum attempts include the first call</span>
+     * <span class="zh-CN">包含首次调用在内的最大尝试次数</span>
+     */
+    private final int maxAttempts;
+    /**
+     * <span class="en-US">Backoff before the first retry, unit: millisecond</span>
+     * <span class="zh-CN">第一次重试前的退避时间，单位：毫秒</span>
+     */
+    private final long initialBackoff;
+    /**
+     * <span class="en-US">Maximum backoff before retry, unit: millisecond</span>
+     * <span class="zh-CN">重试前的最大退避时间，单位：毫秒</span>
+     */
+    private final long maximumBackoff;
+    /**
+     * <span class="en-US">Overall deadline of operation, unit: nanosecond</span>
+     * <span class="zh-CN">操作总截止时间，单位：纳秒</span>
+     */
+    private final long deadline;
+    /**
+     * <span class="en-US">Classifier of retryable exception</span>
+     * <span class="zh-CN">可重试异常的分类器</span>
+     */
+    private final Predicate<RuntimeException> classifier;
+
+    /**
+     * <h3 class="en-US">Constructor for retry policy</h3>
+     * <h3 class="zh-CN">重试策略的构造方法</h3>
+     *
+     * @param retryCount  <span class="en-US">Retry count of failed operation, 0 for disable retry</span>
+     *                    <span class="zh-CN">失败操作的重试次数，0为不重试</span>
+     * @param retryConfig <span class="en-US">Retry configure, null for using default backoff and deadline</span>
+     *                    <span class="zh-CN">重试配置，为null时使用默认的退避时间和截止时间</span>
+     * @param classifier  <span class="en-US">Classifier of retryable exception</span>
+     *                    <span class="zh-CN">可重试异常的分类器</span>
+     */
+    public RetryPolicy(final int retryCount, final CacheConfig.RetryConfig retryConfig,
+                       final Predicate<RuntimeException> classifier) {
+        this.maxAttempts = Math.max(0, retryCount) + 1;
+        if (retryConfig == null) {
+            this.initialBackoff = CacheGlobals.DEFAULT_INITIAL_BACKOFF;
+            this.maximumBackoff = CacheGlobals.DEFAULT_MAXIMUM_BACKOFF;
+            this.deadline = TimeUnit.MILLISECONDS.toNanos(CacheGlobals.DEFAULT_RETRY_DEADLINE);
+        } else {
+            this.initialBackoff = retryConfig.getInitialBackoff();
+            this.maximumBackoff = Math.max(retryConfig.getInitialBackoff(), retryConfig.getMaximumBackoff());
+            this.deadline = TimeUnit.MILLISECONDS.toNanos(retryConfig.getDeadline());
+        }
+        this.classifier = classifier;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve maximum attempts include the first call</h3>
+     * <h3 class="zh-CN">读取包含首次调用在内的最大尝试次数</h3>
+     *
+     * @return <span class="en-US">Maximum attempts</span>
+     * <span class="zh-CN">最大尝试次数</span>
+     */
+    public int maxAttempts() {
+        return this.maxAttempts;
+    }
+
+    /**
+     * <h3 class="en-US">Execute operation and retry if failed</h3>
+     * <h3 class="zh-CN">执行操作并在失败时重试</h3>
+     *
+     * @param operation  <span class="en-US">Operation</span>
+     *                   <span class="zh-CN">操作</span>
+     * @param idempotent <span class="en-US">Operation is idempotent, only idempotent operation could be retried</span>
+     *                   <span class="zh-CN">操作是否幂等，只有幂等操作可以重试</span>
+     * @param <T>        <span class="en-US">Result type</span>
+     *                   <span class="zh-CN">结果类型</span>
+     * @return <span class="en-US">Operate result</span>
+     * <span class="zh-CN">操作结果</span>
+     * @throws RuntimeException <span class="en-US">Exception of the last attempt if all attempts failed</span>
+     *                          <span class="zh-CN">所有尝试均失败时抛出最后一次尝试的异常</span>
+     */
+    public <T> T execute(final Supplier<T> operation, final boolean idempotent) {
+        final long beginTime = System.nanoTime();
+        int attempt = 1;
+        while (true) {
+            try {
+                return operation.get();
+            } catch (RuntimeException e) {
+                if (!idempotent || attempt >= this.maxAttempts || !this.classifier.test(e)) {
+                    throw e;
+                }
+                long delay = this.backoff(attempt);
+                //  Give up directly if the deadline will exceed before retry
+                if (System.nanoTime() - beginTime + delay >= this.deadline) {
+                    throw e;
+                }
+                if (this.logger.isDebugEnabled()) {
+                    this.logger.debug("Retry_Operate_Cache_Debug", attempt,
+                            TimeUnit.NANOSECONDS.toMillis(delay), e.getMessage());
+                }
+                try {
+                    TimeUnit.NANOSECONDS.sleep(delay);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+                attempt++;
+            }
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Calculate delay before retry, random value between zero and exponential backoff</h3>
+     * <h3 class="zh-CN">计算重试前的延迟，为零到指数退避时间之间的随机值</h3>
+     *
+     * @param attempt <span class="en-US">Failed attempt count</span>
+     *                <span class="zh-CN">已失败的尝试次数</span>
+     * @return <span class="en-US">Delay, unit: nanosecond</span>
+     * <span class="zh-CN">延迟，单位：纳秒</span>
+     */
+    private long backoff(final int attempt) {
+        long backoff = Math.min(this.maximumBackoff, this.initialBackoff << Math.min(attempt - 1, 30));
+        return ThreadLocalRandom.current().nextLong(TimeUnit.MILLISECONDS.toNanos(backoff) + 1L);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.scan;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * <h2 class="en-US">Key scan iterator</h2>
+ * <span class="en-US">
+ *     Merge the SCAN cursors of one or more nodes into one lazy iterator. Nothing was sent before the first call of
+ *     hasNext, each time the buffered keys were consumed, the next page of every unfinished node was requested at
+ *     the same time and the iterator waits for all of them, so only one page of each node was held in memory.
+ *     Same as the SCAN command, a key may be returned more than once.
+ * </span>
+ * <h2 class="zh-CN">键扫描迭代器</h2>
+ * <span class="zh-CN">
+ *     将一个或多个节点的SCAN游标合并为一个延迟加载的迭代器。第一次调用hasNext之前不发送任何命令，每次缓冲的键被消费完后，
+ *     同时请求所有未完成节点的下一页并等待全部返回，因此每个节点在内存中只保留一页数据。与SCAN命令相同，同一个键可能被返回多次。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 11:26:37 $
+ */
+public final class ScanIterator implements Iterator<String> {
+
+    /**
+     * <span class="en-US">Cursor of begin and end of scan</span>
+     * <span class="zh-CN">扫描开始和结束时的游标</span>
+     */
+    public static final String INITIAL_CURSOR = "0";
+
+    /**
+     * <span class="en-US">Node scanner list</span>
+     * <span class="zh-CN">节点扫描器列表</span>
+     */
+    private final List<NodeScanner> nodeScanners;
+    /**
+     * <span class="en-US">Current cursor of each node, null if the node was finished</span>
+     * <span class="zh-CN">每个节点的当前游标，节点扫描完成时为null</span>
+     */
+    private final String[] cursors;
+    /**
+     * <span class="en-US">Timeout of each scan round, unit: millisecond</span>
+     * <span class="zh-CN">每轮扫描的超时时间，单位：毫秒</span>
+     */
+    private final long timeout;
+    private final Deque<String> buffer = new ArrayDeque<>();
+    private int activeCount;
+
+    /**
+     * <h3 class="en-US">Constructor for key scan iterator</h3>
+     * <h3 class="zh-CN">键扫描迭代器的构造方法</h3>
+     *
+     * @param nodeScanners <span class="en-US">Node scanner list, one scanner for each master node</span>
+     *                     <span class="zh-CN">节点扫描器列表，每个主节点一个扫描器</span>
+     * @param timeout      <span class="en-US">Timeout of each scan round, unit: millisecond</span>
+     *                     <span class="zh-CN">每轮扫描的超时时间，单位：毫秒</span>
+     */
+    public ScanIterator(final List<NodeScanner> nodeScanners, final long timeout) {
+        this.nodeScanners = List.copyOf(nodeScanners);
+        this.cursors = new String[this.nodeScanners.size()];
+        Arrays.fill(this.cursors, INITIAL_CURSOR);
+        this.activeCount = this.cursors.length;
+        this.timeout = timeout;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.Iterator#hasNext()
+     */
+    @Override
+    public boolean hasNext() {
+        //  A page may be empty even if the node was not finished, continue until keys found or all nodes finished
+        while (this.buffer.isEmpty() && this.activeCount > 0) {
+            this.scan();
+        }
+        return !this.buffer.isEmpty();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.Iterator#next()
+     */
+    @Override
+    public String next() {
+        if (!this.hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return this.buffer.poll();
+    }
+
+    /**
+     * <h3 class="en-US">Request next page of every unfinished node in parallel</h3>
+     * <h3 class="zh-CN">并行请求所有未完成节点的下一页</h3>
+     *
+     * @throws CompletionException <span class="en-US">If scan timeout, interrupted or failed with checked exception</span>
+     *                             <span class="zh-CN">扫描超时、被中断或因受检异常失败时抛出异常</span>
+     */
+    private void scan() {
+        List<CompletableFuture<Page>> futures = new ArrayList<>(this.cursors.length);
+        for (int i = 0; i < this.cursors.length; i++) {
+            futures.add((this.cursors[i] == null) ? null : this.nodeScanners.get(i).scan(this.cursors[i]));
+        }
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.timeout);
+        try {
+            for (int i = 0; i < this.cursors.length; i++) {
+                if (futures.get(i) == null) {
+                    continue;
+                }
+                Page page = futures.get(i).get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                this.buffer.addAll(page.keys());
+                if (INITIAL_CURSOR.equals(page.cursor())) {
+                    this.cursors[i] = null;
+                    this.activeCount--;
+                } else {
+                    this.cursors[i] = page.cursor();
+                }
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (TimeoutException e) {
+            throw new CompletionException(e);
+        } finally {
+            futures.stream().filter(Objects::nonNull).forEach(future -> future.cancel(Boolean.TRUE));
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Scanner of one node</h2>
+     * <h2 class="zh-CN">单个节点的扫描器</h2>
+     */
+    @FunctionalInterface
+    public interface NodeScanner {
+
+        /**
+         * <h3 class="en-US">Send SCAN command to node</h3>
+         * <h3 class="zh-CN">向节点发送SCAN命令</h3>
+         *
+         * @param cursor <span class="en-US">Current cursor</span>
+         *               <span class="zh-CN">当前游标</span>
+         * @return <span class="en-US">Future of scanned page</span>
+         * <span class="zh-CN">扫描结果页的Future</span>
+         */
+        CompletableFuture<Page> scan(final String cursor);
+    }
+
+    /**
+     * <h2 class="en-US">One page of SCAN result</h2>
+     * <h2 class="zh-CN">SCAN结果的一页</h2>
+     *
+     * @param cursor <span class="en-US">Next cursor, INITIAL_CURSOR if the node was finished</span>
+     *               <span class="zh-CN">下一个游标，节点扫描完成时为INITIAL_CURSOR</span>
+     * @param keys   <span class="en-US">Scanned keys</span>
+     *               <span class="zh-CN">扫描到的键</span>
+     */
+    public record Page(String cursor, Collection<String> keys) {
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.script;
+
+import org.nervousync.cache.commons.CacheGlobals;
+import org.nervousync.commons.Globals;
+
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * <h2 class="en-US">Server-side Lua script</h2>
+ * <span class="en-US">
+ *     SHA1 digest of script body was calculated once when the script was created, providers send EVALSHA by the
+ *     digest and fall back to EVAL only if the server replies NOSCRIPT, EVAL loads the script into server cache.
+ * </span>
+ * <h2 class="zh-CN">服务器端Lua脚本</h2>
+ * <span class="zh-CN">
+ *     脚本内容的SHA1摘要在创建脚本时计算一次，适配器使用摘要发送EVALSHA，仅当服务器返回NOSCRIPT时回退到EVAL，EVAL将脚本加载到服务器缓存中。
+ * </span>
+ *
+ * @param name   <span class="en-US">Script name</span>
+ *               <span class="zh-CN">脚本名称</span>
+ * @param body   <span class="en-US">Lua script body</span>
+ *               <span class="zh-CN">Lua脚本内容</span>
+ * @param digest <span class="en-US">Lower case hex string of SHA1 digest of script body</span>
+ *               <span class="zh-CN">脚本内容SHA1摘要的小写十六进制字符串</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 14:12:08 $
+ */
+public record CacheScript(String name, String body, String digest) {
+
+    /**
+     * <span class="en-US">Compare and set, version is the SHA1 hex digest of current value</span>
+     * <span class="zh-CN">比较并设置，版本为当前数据的SHA1十六进制摘要</span>
+     */
+    public static final CacheScript COMPARE_AND_SET = of(CacheGlobals.SCRIPT_COMPARE_AND_SET,
+            "local value = redis.call('GET', KEYS[1]); "
+                    + "if value == false or redis.sha1hex(value) ~= ARGV[1] then return 0; end; "
+                    + "if tonumber(ARGV[3]) > 0 then redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]); "
+                    + "else redis.call('SET', KEYS[1], ARGV[2]); end; return 1; ");
+    /**
+     * <span class="en-US">Increment and set expire time if the key has none, returns the incremented value</span>
+     * <span class="zh-CN">自增并在键没有过期时间时设置过期时间，返回自增后的数据</span>
+     */
+    public static final CacheScript INCR_WITH_EXPIRE = of(CacheGlobals.SCRIPT_INCR_WITH_EXPIRE,
+            "local value = redis.call('INCRBY', KEYS[1], ARGV[1]); "
+                    + "if tonumber(ARGV[2]) > 0 and redis.call('TTL', KEYS[1]) == -1 then "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[2]); end; "
+                    + "return value; ");
+    /**
+     * <span class="en-US">Set number only if greater than current or the key was not exists, returns 1 if the value was set</span>
+     * <span class="zh-CN">仅当数字大于当前数据或键不存在时设置，数据设置成功返回1</span>
+     */
+    public static final CacheScript SET_IF_GREATER = of(CacheGlobals.SCRIPT_SET_IF_GREATER,
+            "local current = tonumber(redis.call('GET', KEYS[1])); "
+                    + "if current ~= nil and tonumber(ARGV[1]) <= current then return 0; end; "
+                    + "if tonumber(ARGV[2]) > 0 then redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]); "
+                    + "else redis.call('SET', KEYS[1], ARGV[1]); end; return 1; ");
+
+    /**
+     * <h3 class="en-US">Create script and calculate the digest of script body</h3>
+     * <h3 class="zh-CN">创建脚本并计算脚本内容的摘要</h3>
+     *
+     * @param name <span class="en-US">Script name</span>
+     *             <span class="zh-CN">脚本名称</span>
+     * @param body <span class="en-US">Lua script body</span>
+     *             <span class="zh-CN">Lua脚本内容</span>
+     * @return <span class="en-US">Created script</span>
+     * <span class="zh-CN">创建的脚本</span>
+     */
+    public static CacheScript of(final String name, final String body) {
+        return new CacheScript(name, body, sha1(body));
+    }
+
+    /**
+     * <h3 class="en-US">Calculate SHA1 digest of given string, same as redis.sha1hex and the digest of SCRIPT LOAD</h3>
+     * <h3 class="zh-CN">计算给定字符串的SHA1摘要，与redis.sha1hex和SCRIPT LOAD的摘要相同</h3>
+     *
+     * @param value <span class="en-US">String value</span>
+     *              <span class="zh-CN">字符串</span>
+     * @return <span class="en-US">Lower case hex string of SHA1 digest</span>
+     * <span class="zh-CN">SHA1摘要的小写十六进制字符串</span>
+     */
+    public static String sha1(final String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1")
+                    .digest(value.getBytes(Charset.forName(Globals.DEFAULT_ENCODING))));
+        } catch (NoSuchAlgorithmException e) {
+            //  SHA-1 was required by every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.script;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2 class="en-US">Script registry</h2>
+ * <span class="en-US">
+ *     Scripts were registered by name once, built-in scripts were registered when the registry was created.
+ * </span>
+ * <h2 class="zh-CN">脚本注册表</h2>
+ * <span class="zh-CN">
+ *     脚本按名称注册一次，内置脚本在注册表创建时注册。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 14:20:51 $
+ */
+public final class ScriptRegistry {
+
+    /**
+     * <span class="en-US">Registered script mapping by name</span>
+     * <span class="zh-CN">已注册脚本与名称的对应关系</span>
+     */
+    private final Map<String, CacheScript> registeredScripts = new ConcurrentHashMap<>();
+
+    /**
+     * <h3 class="en-US">Constructor for script registry, register built-in scripts</h3>
+     * <h3 class="zh-CN">脚本注册表的构造方法，注册内置脚本</h3>
+     */
+    public ScriptRegistry() {
+        this.register(CacheScript.COMPARE_AND_SET);
+        this.register(CacheScript.INCR_WITH_EXPIRE);
+        this.register(CacheScript.SET_IF_GREATER);
+    }
+
+    /**
+     * <h3 class="en-US">Register script, replace the registered script which has the same name</h3>
+     * <h3 class="zh-CN">注册脚本，替换同名的已注册脚本</h3>
+     *
+     * @param name <span class="en-US">Script name</span>
+     *             <span class="zh-CN">脚本名称</span>
+     * @param body <span class="en-US">Lua script body</span>
+     *             <span class="zh-CN">Lua脚本内容</span>
+     * @return <span class="en-US">Registered script</span>
+     * <span class="zh-CN">注册的脚本</span>
+     */
+    public CacheScript register(final String name, final String body) {
+        return this.register(CacheScript.of(name, body));
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve registered script by name</h3>
+     * <h3 class="zh-CN">根据名称读取已注册的脚本</h3>
+     *
+     * @param name <span class="en-US">Script name</span>
+     *             <span class="zh-CN">脚本名称</span>
+     * @return <span class="en-US">Registered script or null if not registered</span>
+     * <span class="zh-CN">已注册的脚本，如果未注册则返回null</span>
+     */
+    public CacheScript script(final String name) {
+        return this.registeredScripts.get(name);
+    }
+
+    private CacheScript register(final CacheScript cacheScript) {
+        this.registeredScripts.put(cacheScript.name(), cacheScript);
+        return cacheScript;
+    }
+}
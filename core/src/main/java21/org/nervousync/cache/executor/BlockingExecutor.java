@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.executor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * <h2 class="en-US">Executor of blocking cache operations, multi-release variant for JDK 21</h2>
+ * <span class="en-US">
+ *     Every blocking operation was executed in a new virtual thread, the carrier thread was released while the
+ *     operation was blocked by I/O, so tens of thousands of concurrent operations need no thread pool tuning.
+ * </span>
+ * <h2 class="zh-CN">阻塞缓存操作的执行器，JDK 21的多版本实现</h2>
+ * <span class="zh-CN">
+ *     每个阻塞操作在新的虚拟线程中执行，操作被I/O阻塞时释放载体线程，因此数万个并发操作无需调整线程池。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 16:42:37 $
+ */
+public final class BlockingExecutor {
+
+    private BlockingExecutor() {
+    }
+
+    /**
+     * <h3 class="en-US">Check blocking operations were executed in virtual threads</h3>
+     * <h3 class="zh-CN">检查阻塞操作是否在虚拟线程中执行</h3>
+     *
+     * @return <span class="en-US">Boolean.TRUE if virtual threads were used</span>
+     * <span class="zh-CN">使用虚拟线程时返回Boolean.TRUE</span>
+     */
+    public static boolean virtualThreads() {
+        return Boolean.TRUE;
+    }
+
+    /**
+     * <h3 class="en-US">Execute given blocking operation asynchronously</h3>
+     * <h3 class="zh-CN">异步执行给定的阻塞操作</h3>
+     *
+     * @param <T>       <span class="en-US">Result type</span>
+     *                  <span class="zh-CN">结果类型</span>
+     * @param operation <span class="en-US">Blocking operation</span>
+     *                  <span class="zh-CN">阻塞操作</span>
+     * @return <span class="en-US">Future of operation result</span>
+     * <span class="zh-CN">操作结果的Future</span>
+     */
+    public static <T> CompletableFuture<T> supplyAsync(final Supplier<T> operation) {
+        return CompletableFuture.supplyAsync(operation, ExecutorHolder.EXECUTOR);
+    }
+
+    /**
+     * <h3 class="en-US">Execute given blocking operations in parallel and wait for all results</h3>
+     * <span class="en-US">
+     *     The unfinished operations were cancelled and interrupted if one of the operations failed or the timeout was
+     *     reached.
+     * </span>
+     * <h3 class="zh-CN">并行执行给定的阻塞操作并等待所有结果</h3>
+     * <span class="zh-CN">
+     *     如果某个操作失败或到达超时时间，则取消并中断未完成的操作。
+     * </span>
+     *
+     * @param <T>        <span class="en-US">Result type</span>
+     *                   <span class="zh-CN">结果类型</span>
+     * @param operations <span class="en-US">Blocking operations</span>
+     *                   <span class="zh-CN">阻塞操作</span>
+     * @param timeout    <span class="en-US">Timeout of all operations, unit: millisecond</span>
+     *                   <span class="zh-CN">所有操作的超时时间，单位：毫秒</span>
+     * @return <span class="en-US">Results list in the order of given operations</span>
+     * <span class="zh-CN">按给定操作顺序排列的结果列表</span>
+     * @throws CompletionException <span class="en-US">If any operation failed, timeout or interrupted</span>
+     *                             <span class="zh-CN">任一操作失败、超时或被中断时抛出异常</span>
+     */
+    public static <T> List<T> invokeAll(final List<Supplier<T>> operations, final long timeout) {
+        //  Scope of the invocation, closing the scope waits until all cancelled operations were ended
+        try (ExecutorService scope = Executors.newThreadPerTaskExecutor(ExecutorHolder.THREAD_FACTORY)) {
+            List<Future<T>> futures = new ArrayList<>(operations.size());
+            operations.forEach(operation -> futures.add(scope.submit(operation::get)));
+            return join(futures, timeout);
+        }
+    }
+
+    private static <T> List<T> join(final List<? extends Future<T>> futures, final long timeout) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+            }
+            return results;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (TimeoutException e) {
+            throw new CompletionException(e);
+        } finally {
+            futures.forEach(future -> future.cancel(Boolean.TRUE));
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Holder of shared executor, the executor was created when first used</h2>
+     * <h2 class="zh-CN">共享执行器的持有类，执行器在首次使用时创建</h2>
+     */
+    private static final class ExecutorHolder {
+
+        private static final ThreadFactory THREAD_FACTORY = Thread.ofVirtual().name("Cache-Blocking-", 0L).factory();
+        private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(THREAD_FACTORY);
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.test.breaker;
+
+import org.apache.logging.log4j.Level;
+import org.junit.jupiter.api.*;
+import org.nervousync.cache.breaker.CircuitBreaker;
+import org.nervousync.cache.config.CacheConfig;
+import org.nervousync.cache.enumeration.CircuitState;
+import org.nervousync.utils.LoggerUtils;
+
+import java.util.concurrent.TimeUnit;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public final class CircuitBreakerTest {
+
+    static {
+        LoggerUtils.initLoggerConfigure(Level.DEBUG);
+    }
+
+    private static CircuitBreaker newBreaker() {
+        CacheConfig.CircuitBreakerConfig circuitBreakerConfig = new CacheConfig.CircuitBreakerConfig();
+        circuitBreakerConfig.setFailureRateThreshold(50);
+        circuitBreakerConfig.setSlowCallThreshold(100);
+        circuitBreakerConfig.setSlowCallRateThreshold(80);
+        circuitBreakerConfig.setMinimumCalls(10);
+        circuitBreakerConfig.setOpenDuration(200);
+        circuitBreakerConfig.setHalfOpenCalls(2);
+        return new CircuitBreaker(circuitBreakerConfig);
+    }
+
+    @Test
+    @Order(10)
+    public void test000Open() {
+        CircuitBreaker circuitBreaker = newBreaker();
+        for (int i = 0; i < 9; i++) {
+            Assertions.assertTrue(circuitBreaker.tryAcquire());
+            circuitBreaker.failure(0L);
+        }
+        //  Minimum calls not reached
+        Assertions.assertEquals(CircuitState.Closed, circuitBreaker.state());
+        circuitBreaker.failure(0L);
+        Assertions.assertEquals(CircuitState.Open, circuitBreaker.state());
+        Assertions.assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    @Order(20)
+    public void test010SlowCall() {
+        CircuitBreaker circuitBreaker = newBreaker();
+        long slowDuration = TimeUnit.MILLISECONDS.toNanos(150L);
+        for (int i = 0; i < 2; i++) {
+            circuitBreaker.success(0L);
+        }
+        for (int i = 0; i < 8; i++) {
+            circuitBreaker.success(slowDuration);
+        }
+        Assertions.assertEquals(CircuitState.Open, circuitBreaker.state());
+    }
+
+    @Test
+    @Order(30)
+    public void test020HalfOpen() throws InterruptedException {
+        CircuitBreaker circuitBreaker = newBreaker();
+        for (int i = 0; i < 10; i++) {
+            circuitBreaker.failure(0L);
+        }
+        Assertions.assertEquals(CircuitState.Open, circuitBreaker.state());
+        Thread.sleep(250L);
+        //  Only configured probe calls permitted
+        Assertions.assertTrue(circuitBreaker.tryAcquire());
+        Assertions.assertEquals(CircuitState.Half_Open, circuitBreaker.state());
+        Assertions.assertTrue(circuitBreaker.tryAcquire());
+        Assertions.assertFalse(circuitBreaker.tryAcquire());
+        circuitBreaker.failure(0L);
+        Assertions.assertEquals(CircuitState.Open, circuitBreaker.state());
+
+        Thread.sleep(250L);
+        Assertions.assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.success(0L);
+        Assertions.assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.success(0L);
+        Assertions.assertEquals(CircuitState.Closed, circuitBreaker.state());
+        Assertions.assertTrue(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    @Order(40)
+    public void test030ClosedAfterReset() throws InterruptedException {
+        CircuitBreaker circuitBreaker = newBreaker();
+        for (int i = 0; i < 10; i++) {
+            circuitBreaker.failure(0L);
+        }
+        Thread.sleep(250L);
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertTrue(circuitBreaker.tryAcquire());
+            circuitBreaker.success(0L);
+        }
+        Assertions.assertEquals(CircuitState.Closed, circuitBreaker.state());
+        //  Calls before the circuit breaker closed were cleared
+        for (int i = 0; i < 9; i++) {
+            circuitBreaker.failure(0L);
+        }
+        Assertions.assertEquals(CircuitState.Closed, circuitBreaker.state());
+        circuitBreaker.failure(0L);
+        Assertions.assertEquals(CircuitState.Open, circuitBreaker.state());
+    }
+}
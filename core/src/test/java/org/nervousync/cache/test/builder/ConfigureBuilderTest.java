@@ -52,6 +52,10 @@ public final class ConfigureBuilderTest {
                     .providerName(Globals.DEFAULT_VALUE_STRING)
                     .connectTimeout(CacheGlobals.DEFAULT_CONNECTION_TIMEOUT)
                     .expireTime(CacheGlobals.DEFAULT_EXPIRE_TIME)
+                    .expireJitter(10, 30)
+                    .lazyDelete(Boolean.TRUE)
+                    .slidingExpire(Boolean.TRUE)
+                    .lazyConnect(Boolean.TRUE)
                     .retryCount(3)
                     .clientPoolSize(CacheGlobals.DEFAULT_CLIENT_POOL_SIZE)
                     .maximumClient(CacheGlobals.DEFAULT_MAXIMUM_CLIENT)
@@ -73,6 +77,47 @@ public final class ConfigureBuilderTest {
                     .clusterMode(ClusterMode.Cluster)
                     .removeServer("ServerAddress1", 11211)
                     .authorization("userName", "passWord")
+                    .circuitBreakerBuilder()
+                    .failureRateThreshold(CacheGlobals.DEFAULT_FAILURE_RATE_THRESHOLD)
+                    .slowCall(CacheGlobals.DEFAULT_SLOW_CALL_THRESHOLD, CacheGlobals.DEFAULT_SLOW_CALL_RATE_THRESHOLD)
+                    .slidingWindow(CacheGlobals.DEFAULT_WINDOW_SIZE, CacheGlobals.DEFAULT_MINIMUM_CALLS)
+                    .openState(CacheGlobals.DEFAULT_OPEN_DURATION, CacheGlobals.DEFAULT_HALF_OPEN_CALLS)
+                    .writeQueueSize(1024)
+                    .confirm()
+                    .hedgedReadBuilder()
+                    .delay(CacheGlobals.DEFAULT_HEDGE_PERCENTILE, CacheGlobals.DEFAULT_HEDGE_MINIMUM_DELAY)
+                    .budgetRate(CacheGlobals.DEFAULT_HEDGE_BUDGET_RATE)
+                    .confirm()
+                    .timeoutBuilder()
+                    .connectTimeout(200)
+                    .commandTimeout(CacheGlobals.DEFAULT_COMMAND_TIMEOUT)
+                    .poolTimeout(CacheGlobals.DEFAULT_POOL_TIMEOUT)
+                    .operationTimeout(5, Globals.DEFAULT_VALUE_INT)
+                    .confirm()
+                    .retryBuilder()
+                    .backoff(CacheGlobals.DEFAULT_INITIAL_BACKOFF, CacheGlobals.DEFAULT_MAXIMUM_BACKOFF)
+                    .deadline(CacheGlobals.DEFAULT_RETRY_DEADLINE)
+                    .confirm()
+                    .hotKeyBuilder()
+                    .topK(CacheGlobals.DEFAULT_HOT_KEY_TOP_K)
+                    .threshold(CacheGlobals.DEFAULT_HOT_KEY_THRESHOLD, CacheGlobals.DEFAULT_HOT_KEY_DECAY_INTERVAL)
+                    .localCache(CacheGlobals.DEFAULT_LOCAL_CACHE_SIZE, CacheGlobals.DEFAULT_LOCAL_CACHE_EXPIRE)
+                    .confirm()
+                    .valueSizeBuilder()
+                    .topN(CacheGlobals.DEFAULT_BIG_KEY_TOP_N)
+                    .sizeLimit(1024 * 1024, Boolean.FALSE)
+                    .confirm()
+                    .fillLeaseBuilder()
+                    .leaseTime(CacheGlobals.DEFAULT_FILL_LEASE_TIME)
+                    .waitTime(CacheGlobals.DEFAULT_FILL_WAIT_TIME, CacheGlobals.DEFAULT_FILL_POLL_INTERVAL)
+                    .confirm()
+                    .counterBuilder()
+                    .flush(CacheGlobals.DEFAULT_COUNTER_FLUSH_INTERVAL, CacheGlobals.DEFAULT_COUNTER_FLUSH_THRESHOLD)
+                    .confirm()
+                    .warmupBuilder()
+                    .timeout(CacheGlobals.DEFAULT_WARMUP_TIMEOUT)
+                    .prefetchKeys("hotKey")
+                    .confirm()
                     .confirm();
             if (generateResult) {
                 Optional.ofNullable(ConfigureManager.getInstance().readConfigure(CacheConfig.class))
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.test.client;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.cache.api.CacheClient;
+import org.nervousync.cache.client.impl.CacheClientHandle;
+import org.nervousync.cache.executor.BlockingExecutor;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public final class CacheClientHandleTest {
+
+    private static CacheClient client(final String value, final CountDownLatch calling,
+                                      final CountDownLatch release, final CountDownLatch destroyed) {
+        return (CacheClient) Proxy.newProxyInstance(CacheClient.class.getClassLoader(),
+                new Class<?>[]{CacheClient.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "get":
+                            calling.countDown();
+                            //  Block the call until released by test
+                            release.await();
+                            return value;
+                        case "destroy":
+                            destroyed.countDown();
+                            return null;
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private static CacheClient scriptClient(final Map<String, String> scripts) {
+        return (CacheClient) Proxy.newProxyInstance(CacheClient.class.getClassLoader(),
+                new Class<?>[]{CacheClient.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "registerScript" -> scripts.put((String) args[0], (String) args[1]);
+                    //  Returns script body of registered script
+                    case "eval" -> scripts.get((String) args[0]);
+                    default -> null;
+                });
+    }
+
+    @Test
+    @Order(10)
+    public void test000Replace() throws InterruptedException {
+        CountDownLatch calling = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch oldDestroyed = new CountDownLatch(1);
+        CountDownLatch newDestroyed = new CountDownLatch(1);
+        CacheClientHandle clientHandle =
+                new CacheClientHandle("TestCache", client("Old", calling, release, oldDestroyed));
+        CompletableFuture<String> inFlight = BlockingExecutor.supplyAsync(() -> clientHandle.get("key"));
+        Assertions.assertTrue(calling.await(1L, TimeUnit.SECONDS));
+
+        CountDownLatch released = new CountDownLatch(0);
+        clientHandle.replace(client("New", new CountDownLatch(1), released, newDestroyed));
+        //  Calls started after the replacement were delegated to the new client
+        Assertions.assertEquals("New", clientHandle.get("key"));
+        //  Replaced client was not destroyed while the call was still in flight
+        Assertions.assertFalse(oldDestroyed.await(200L, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        Assertions.assertEquals("Old", inFlight.join());
+        Assertions.assertTrue(oldDestroyed.await(1L, TimeUnit.SECONDS));
+        Assertions.assertEquals(1L, newDestroyed.getCount());
+
+        clientHandle.destroy();
+        Assertions.assertEquals(0L, newDestroyed.getCount());
+    }
+
+    @Test
+    @Order(20)
+    public void test010LazyConnect() {
+        CompletableFuture<CacheClient> clientFuture = new CompletableFuture<>();
+        CacheClientHandle clientHandle = new CacheClientHandle("TestCache", clientFuture);
+        Assertions.assertFalse(clientHandle.connected());
+        //  Statistics were not waiting for the client was connected
+        Assertions.assertFalse(clientHandle.statistics().isConnected());
+        Assertions.assertEquals("TestCache", clientHandle.statistics().getCacheName());
+
+        CompletableFuture<String> firstUse = BlockingExecutor.supplyAsync(() -> clientHandle.get("key"));
+        Assertions.assertFalse(firstUse.isDone());
+        CountDownLatch destroyed = new CountDownLatch(1);
+        clientFuture.complete(client("Connected", new CountDownLatch(1), new CountDownLatch(0), destroyed));
+        //  First use waits for the client was connected
+        Assertions.assertEquals("Connected", firstUse.join());
+        Assertions.assertTrue(clientHandle.connected());
+        clientHandle.destroy();
+        Assertions.assertEquals(0L, destroyed.getCount());
+    }
+
+    @Test
+    @Order(30)
+    public void test020RegisterScript() {
+        CacheClientHandle clientHandle =
+                new CacheClientHandle("TestCache", scriptClient(new ConcurrentHashMap<>()));
+        clientHandle.registerScript("script", "return 1");
+        Assertions.assertEquals("return 1", clientHandle.eval("script", List.of(), List.of()));
+        //  Registered script was registered to the new client before the replacement
+        clientHandle.replace(scriptClient(new ConcurrentHashMap<>()));
+        Assertions.assertEquals("return 1", clientHandle.eval("script", List.of(), List.of()));
+        clientHandle.destroy();
+    }
+
+    @Test
+    @Order(40)
+    public void test030Destroy() {
+        CountDownLatch destroyed = new CountDownLatch(1);
+        CacheClientHandle clientHandle = new CacheClientHandle("TestCache",
+                client("Destroy", new CountDownLatch(1), new CountDownLatch(0), destroyed));
+        Assertions.assertEquals("Destroy", clientHandle.get("key"));
+        clientHandle.destroy();
+        Assertions.assertEquals(0L, destroyed.getCount());
+        //  Handle cached by callers fails fast instead of calling the destroyed client
+        Assertions.assertFalse(clientHandle.connected());
+        Assertions.assertThrows(CompletionException.class, () -> clientHandle.get("key"));
+        Assertions.assertFalse(clientHandle.statistics().isConnected());
+    }
+}
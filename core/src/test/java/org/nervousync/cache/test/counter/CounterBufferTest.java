@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.test.counter;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.cache.config.CacheConfig;
+import org.nervousync.cache.counter.CounterBuffer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public final class CounterBufferTest {
+
+    private static CounterBuffer newBuffer(final int flushInterval, final long flushThreshold,
+                                           final Predicate<Map<String, Long>> flusher) {
+        CacheConfig.CounterConfig counterConfig = new CacheConfig.CounterConfig();
+        counterConfig.setFlushInterval(flushInterval);
+        counterConfig.setFlushThreshold(flushThreshold);
+        return new CounterBuffer(counterConfig, flusher);
+    }
+
+    @Test
+    @Order(10)
+    public void test000Batch() {
+        List<Map<String, Long>> batches = new CopyOnWriteArrayList<>();
+        CounterBuffer counterBuffer = newBuffer(60000, 0L, batches::add);
+        IntStream.range(0, 1000).parallel().forEach(i -> counterBuffer.add("Key_1", 1L));
+        counterBuffer.add("Key_2", 5L);
+        counterBuffer.add("Key_2", -2L);
+        counterBuffer.add("Key_3", 0L);
+        //  Nothing was sent before flush
+        Assertions.assertTrue(batches.isEmpty());
+        Assertions.assertEquals(1000L, counterBuffer.pending("Key_1"));
+        counterBuffer.flush();
+        Assertions.assertEquals(List.of(Map.of("Key_1", 1000L, "Key_2", 3L)), batches);
+        Assertions.assertEquals(0L, counterBuffer.pending("Key_1"));
+        //  Flushed counters were removed
+        Assertions.assertEquals(0, counterBuffer.size());
+        //  Counter without pending delta was not sent again
+        counterBuffer.flush();
+        Assertions.assertEquals(1, batches.size());
+        counterBuffer.destroy();
+    }
+
+    @Test
+    @Order(20)
+    public void test010Threshold() {
+        List<Map<String, Long>> batches = new CopyOnWriteArrayList<>();
+        CounterBuffer counterBuffer = newBuffer(60000, 10L, batches::add);
+        counterBuffer.add("Key_1", 9L);
+        counterBuffer.add("Key_2", 1L);
+        Assertions.assertTrue(batches.isEmpty());
+        counterBuffer.add("Key_1", -20L);
+        //  Only the counter which reached the threshold was flushed
+        Assertions.assertEquals(List.of(Map.of("Key_1", -11L)), batches);
+        Assertions.assertEquals(1L, counterBuffer.pending("Key_2"));
+        counterBuffer.destroy();
+        Assertions.assertEquals(Map.of("Key_2", 1L), batches.get(1));
+    }
+
+    @Test
+    @Order(30)
+    public void test020Restore() {
+        AtomicBoolean available = new AtomicBoolean(Boolean.FALSE);
+        List<Map<String, Long>> batches = new CopyOnWriteArrayList<>();
+        CounterBuffer counterBuffer = newBuffer(60000, 0L, deltas -> {
+            if (!available.get()) {
+                return Boolean.FALSE;
+            }
+            return batches.add(deltas);
+        });
+        counterBuffer.add("Key", 3L);
+        counterBuffer.flush();
+        Assertions.assertEquals(3L, counterBuffer.pending("Key"));
+        Assertions.assertEquals(1, counterBuffer.size());
+        available.set(Boolean.TRUE);
+        counterBuffer.add("Key", 1L);
+        counterBuffer.flush();
+        Assertions.assertEquals(List.of(Map.of("Key", 4L)), batches);
+        counterBuffer.destroy();
+    }
+
+    @Test
+    @Order(40)
+    public void test030Scheduled() throws InterruptedException {
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+        CounterBuffer counterBuffer = newBuffer(20, 0L, deltas -> {
+            countDownLatch.countDown();
+            return Boolean.TRUE;
+        });
+        counterBuffer.add("Key", 1L);
+        Assertions.assertTrue(countDownLatch.await(1L, TimeUnit.SECONDS));
+        counterBuffer.destroy();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.test.executor;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.cache.executor.BlockingExecutor;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public final class BlockingExecutorTest {
+
+    private static Supplier<String> sleep(final long millis, final String result) {
+        return () -> {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return result;
+        };
+    }
+
+    @Test
+    @Order(10)
+    public void test000Parallel() {
+        long beginTime = System.nanoTime();
+        //  Results were kept in the order of given operations
+        Assertions.assertEquals(List.of("1", "2", "3", "4"),
+                BlockingExecutor.invokeAll(List.of(sleep(200L, "1"), sleep(100L, "2"),
+                        sleep(200L, "3"), sleep(100L, "4")), 5000L));
+        Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - beginTime) < 600L);
+        Assertions.assertEquals("Async", BlockingExecutor.supplyAsync(() -> "Async").join());
+    }
+
+    @Test
+    @Order(20)
+    public void test010Failure() {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Supplier<String> blocking = () -> {
+            try {
+                Thread.sleep(5000L);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "Blocking";
+        };
+        Supplier<String> failed = () -> {
+            throw new IllegalStateException("Failed");
+        };
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> BlockingExecutor.invokeAll(List.of(failed, blocking), 5000L));
+        CompletionException exception = Assertions.assertThrows(CompletionException.class,
+                () -> BlockingExecutor.invokeAll(List.of(blocking), 100L));
+        Assertions.assertInstanceOf(TimeoutException.class, exception.getCause());
+        //  Unfinished operation was interrupted
+        Assertions.assertDoesNotThrow(() -> Assertions.assertTrue(interrupted.await(1L, TimeUnit.SECONDS)));
+    }
+}
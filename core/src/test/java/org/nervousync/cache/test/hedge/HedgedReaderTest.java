@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.test.hedge;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.cache.config.CacheConfig;
+import org.nervousync.cache.hedge.HedgedReader;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public final class HedgedReaderTest {
+
+    private static HedgedReader newReader(final int budgetRate) {
+        CacheConfig.HedgedReadConfig hedgedReadConfig = new CacheConfig.HedgedReadConfig();
+        hedgedReadConfig.setPercentile(95);
+        hedgedReadConfig.setMinimumDelay(5);
+        hedgedReadConfig.setBudgetRate(budgetRate);
+        HedgedReader hedgedReader = new HedgedReader(hedgedReadConfig);
+        for (int i = 0; i < 256; i++) {
+            hedgedReader.read(() -> CompletableFuture.completedFuture("Primary"),
+                    () -> CompletableFuture.completedFuture("Hedge"), 1000L);
+        }
+        return hedgedReader;
+    }
+
+    @Test
+    @Order(10)
+    public void test000Hedged() {
+        HedgedReader hedgedReader = newReader(10);
+        Assertions.assertTrue(hedgedReader.hedgeDelay() < Long.MAX_VALUE);
+        CompletableFuture<String> primaryFuture = new CompletableFuture<>();
+        Assertions.assertEquals("Hedge", hedgedReader.read(() -> primaryFuture,
+                () -> CompletableFuture.completedFuture("Hedge"), 1000L));
+        //  The loser was cancelled
+        Assertions.assertTrue(primaryFuture.isCancelled());
+        Assertions.assertEquals(1L, hedgedReader.hedgedCount());
+    }
+
+    @Test
+    @Order(20)
+    public void test010Budget() {
+        HedgedReader hedgedReader = newReader(1);
+        for (int i = 0; i < 3; i++) {
+            hedgedReader.read(CompletableFuture::new, () -> CompletableFuture.completedFuture("Hedge"), 1000L);
+        }
+        //  Budget exhausted, wait for primary until timeout
+        Assertions.assertThrows(CompletionException.class, () -> hedgedReader.read(CompletableFuture::new,
+                () -> CompletableFuture.completedFuture("Hedge"), 100L));
+        Assertions.assertEquals(3L, hedgedReader.hedgedCount());
+    }
+
+    @Test
+    @Order(30)
+    public void test020CancelledNotRecorded() {
+        CacheConfig.HedgedReadConfig hedgedReadConfig = new CacheConfig.HedgedReadConfig();
+        hedgedReadConfig.setPercentile(95);
+        hedgedReadConfig.setMinimumDelay(5);
+        hedgedReadConfig.setBudgetRate(10);
+        HedgedReader hedgedReader = new HedgedReader(hedgedReadConfig);
+        for (int i = 0; i < 256; i++) {
+            Assertions.assertThrows(CompletionException.class,
+                    () -> hedgedReader.read(CompletableFuture::new, CompletableFuture::new, 1L));
+        }
+        //  Primary operations were cancelled by timeout, the time of cancellation was not the latency of primary
+        Assertions.assertEquals(Long.MAX_VALUE, hedgedReader.hedgeDelay());
+    }
+}
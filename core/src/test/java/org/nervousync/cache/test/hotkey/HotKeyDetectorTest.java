@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.test.hotkey;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.cache.config.CacheConfig;
+import org.nervousync.cache.hotkey.HotKeyDetector;
+import org.nervousync.cache.stats.CacheStatistics;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public final class HotKeyDetectorTest {
+
+    private static HotKeyDetector newDetector(final int decayInterval) {
+        CacheConfig.HotKeyConfig hotKeyConfig = new CacheConfig.HotKeyConfig();
+        hotKeyConfig.setTopK(2);
+        hotKeyConfig.setThreshold(100);
+        hotKeyConfig.setDecayInterval(decayInterval);
+        hotKeyConfig.setLocalSize(4);
+        hotKeyConfig.setLocalExpire(60000);
+        return new HotKeyDetector(hotKeyConfig);
+    }
+
+    @Test
+    @Order(10)
+    public void test000Promote() {
+        HotKeyDetector hotKeyDetector = newDetector(60000);
+        AtomicInteger serverReads = new AtomicInteger(0);
+        for (int i = 0; i < 1000; i++) {
+            hotKeyDetector.read("Hot_Key", () -> {
+                serverReads.incrementAndGet();
+                return "Hot_Value";
+            });
+            hotKeyDetector.read("Cold_Key_" + i, () -> "Cold_Value");
+        }
+        //  Reads after the key became hot were served from local cache
+        Assertions.assertEquals(100, serverReads.get());
+        Assertions.assertEquals(900L, hotKeyDetector.localHits());
+        List<CacheStatistics.HotKey> hotKeys = hotKeyDetector.hotKeys();
+        Assertions.assertEquals(1, hotKeys.size());
+        Assertions.assertEquals("Hot_Key", hotKeys.get(0).getKey());
+        Assertions.assertTrue(hotKeys.get(0).isPromoted());
+
+        hotKeyDetector.invalidate("Hot_Key");
+        Assertions.assertEquals("New_Value", hotKeyDetector.read("Hot_Key", () -> "New_Value"));
+        Assertions.assertEquals("New_Value", hotKeyDetector.read("Hot_Key", () -> "Server_Value"));
+    }
+
+    @Test
+    @Order(20)
+    public void test010TopK() {
+        HotKeyDetector hotKeyDetector = newDetector(60000);
+        for (int i = 0; i < 300; i++) {
+            hotKeyDetector.read("Key_1", () -> "Value");
+            if (i < 200) {
+                hotKeyDetector.read("Key_2", () -> "Value");
+            }
+            if (i < 150) {
+                hotKeyDetector.read("Key_3", () -> "Value");
+            }
+        }
+        //  Only top 2 keys were tracked
+        List<CacheStatistics.HotKey> hotKeys = hotKeyDetector.hotKeys();
+        Assertions.assertEquals(2, hotKeys.size());
+        Assertions.assertEquals("Key_1", hotKeys.get(0).getKey());
+        Assertions.assertEquals("Key_2", hotKeys.get(1).getKey());
+    }
+
+    @Test
+    @Order(30)
+    public void test020Decay() throws InterruptedException {
+        HotKeyDetector hotKeyDetector = newDetector(50);
+        for (int i = 0; i < 200; i++) {
+            hotKeyDetector.read("Hot_Key", () -> "Value");
+        }
+        Assertions.assertEquals(1, hotKeyDetector.hotKeys().size());
+        Thread.sleep(220L);
+        //  Counts were halved at least 4 times
+        hotKeyDetector.read("Other_Key", () -> "Value");
+        Assertions.assertTrue(hotKeyDetector.hotKeys().isEmpty());
+    }
+
+    @Test
+    @Order(40)
+    public void test030InvalidateDuringRead() {
+        HotKeyDetector hotKeyDetector = newDetector(60000);
+        for (int i = 0; i < 100; i++) {
+            hotKeyDetector.read("Hot_Key", () -> "Value");
+        }
+        hotKeyDetector.invalidate("Hot_Key");
+        //  Key was written by current client while the value was reading from cache server
+        Assertions.assertEquals("Stale_Value", hotKeyDetector.read("Hot_Key", () -> {
+            hotKeyDetector.invalidate("Hot_Key");
+            return "Stale_Value";
+        }));
+        Assertions.assertEquals("New_Value", hotKeyDetector.read("Hot_Key", () -> "New_Value"));
+    }
+
+    @Test
+    @Order(50)
+    public void test040Preload() {
+        HotKeyDetector hotKeyDetector = newDetector(60000);
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertTrue(hotKeyDetector.preload("Prefetch_Key_" + i, "Prefetch_Value"));
+        }
+        //  Local cache was full and missing values were not preloaded
+        Assertions.assertFalse(hotKeyDetector.preload("Prefetch_Key_4", "Prefetch_Value"));
+        Assertions.assertFalse(hotKeyDetector.preload("Prefetch_Key_0", null));
+        Assertions.assertEquals("Prefetch_Value", hotKeyDetector.read("Prefetch_Key_0", () -> "Server_Value"));
+        Assertions.assertEquals(1L, hotKeyDetector.localHits());
+        Assertions.assertEquals(4, hotKeyDetector.localSize());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.test.profile;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.cache.config.CacheConfig;
+import org.nervousync.cache.profile.ValueSizeProfiler;
+import org.nervousync.cache.stats.CacheStatistics;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public final class ValueSizeProfilerTest {
+
+    private static ValueSizeProfiler newProfiler(final int sizeLimit, final boolean rejectOversize) {
+        CacheConfig.ValueSizeConfig valueSizeConfig = new CacheConfig.ValueSizeConfig();
+        valueSizeConfig.setTopN(2);
+        valueSizeConfig.setSizeLimit(sizeLimit);
+        valueSizeConfig.setRejectOversize(rejectOversize);
+        return new ValueSizeProfiler(valueSizeConfig);
+    }
+
+    @Test
+    @Order(10)
+    public void test000SizeOf() {
+        String value = "Value_值_😀";
+        Assertions.assertEquals(value.getBytes(StandardCharsets.UTF_8).length, ValueSizeProfiler.sizeOf(value));
+    }
+
+    @Test
+    @Order(20)
+    public void test010Histogram() {
+        ValueSizeProfiler valueSizeProfiler = newProfiler(0, Boolean.FALSE);
+        valueSizeProfiler.write("set", "Key_1", "a".repeat(100));
+        valueSizeProfiler.write("set", "Key_2", "a".repeat(120));
+        valueSizeProfiler.write("set", "Key_3", "a".repeat(1000));
+        valueSizeProfiler.read("get", "Key_1", "a".repeat(100));
+        valueSizeProfiler.read("get", "Missing_Key", null);
+
+        List<CacheStatistics.ValueSize> valueSizes = valueSizeProfiler.valueSizes();
+        Assertions.assertEquals(2, valueSizes.size());
+        CacheStatistics.ValueSize readSize = valueSizes.get(0);
+        Assertions.assertEquals("get", readSize.getOperation());
+        Assertions.assertEquals(1L, readSize.getCount());
+        CacheStatistics.ValueSize writeSize = valueSizes.get(1);
+        Assertions.assertEquals("set", writeSize.getOperation());
+        Assertions.assertEquals(3L, writeSize.getCount());
+        Assertions.assertEquals(1220L, writeSize.getTotalSize());
+        Assertions.assertEquals(1000L, writeSize.getMaximumSize());
+        //  100 and 120 were in bucket [64, 127], 1000 was in bucket [512, 1023]
+        Assertions.assertEquals(2L, writeSize.getHistogram().get(127L));
+        Assertions.assertEquals(1L, writeSize.getHistogram().get(1023L));
+    }
+
+    @Test
+    @Order(30)
+    public void test020BigKeys() {
+        ValueSizeProfiler valueSizeProfiler = newProfiler(0, Boolean.FALSE);
+        valueSizeProfiler.write("set", "Key_1", "a".repeat(10));
+        valueSizeProfiler.write("set", "Key_2", "a".repeat(30));
+        valueSizeProfiler.read("get", "Key_3", "a".repeat(20));
+        valueSizeProfiler.write("set", "Key_4", "a".repeat(5));
+        //  Only top 2 keys were tracked
+        List<CacheStatistics.BigKey> bigKeys = valueSizeProfiler.bigKeys();
+        Assertions.assertEquals(2, bigKeys.size());
+        Assertions.assertEquals("Key_2", bigKeys.get(0).getKey());
+        Assertions.assertEquals("Key_3", bigKeys.get(1).getKey());
+        Assertions.assertEquals("get", bigKeys.get(1).getOperation());
+        //  Maximum size seen was kept
+        valueSizeProfiler.write("set", "Key_3", "a".repeat(40));
+        valueSizeProfiler.write("set", "Key_3", "a".repeat(1));
+        Assertions.assertEquals("Key_3", valueSizeProfiler.bigKeys().get(0).getKey());
+        Assertions.assertEquals(40L, valueSizeProfiler.bigKeys().get(0).getSize());
+    }
+
+    @Test
+    @Order(40)
+    public void test030SizeLimit() {
+        ValueSizeProfiler warnProfiler = newProfiler(16, Boolean.FALSE);
+        Assertions.assertTrue(warnProfiler.write("set", "Key", "a".repeat(16)));
+        Assertions.assertTrue(warnProfiler.write("set", "Key", "a".repeat(17)));
+        Assertions.assertEquals(1L, warnProfiler.oversizeCount());
+
+        ValueSizeProfiler rejectProfiler = newProfiler(16, Boolean.TRUE);
+        Assertions.assertTrue(rejectProfiler.write("set", "Key", "a".repeat(16)));
+        Assertions.assertFalse(rejectProfiler.write("set", "Key", "a".repeat(17)));
+        Assertions.assertEquals(1L, rejectProfiler.oversizeCount());
+        //  Rejected write was not recorded
+        Assertions.assertEquals(1L, rejectProfiler.valueSizes().get(0).getCount());
+    }
+}
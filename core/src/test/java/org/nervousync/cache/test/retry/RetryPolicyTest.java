@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.test.retry;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.cache.config.CacheConfig;
+import org.nervousync.cache.retry.RetryPolicy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public final class RetryPolicyTest {
+
+    private static RetryPolicy newPolicy(final int retryCount, final int deadline) {
+        CacheConfig.RetryConfig retryConfig = new CacheConfig.RetryConfig();
+        retryConfig.setInitialBackoff(10);
+        retryConfig.setMaximumBackoff(40);
+        retryConfig.setDeadline(deadline);
+        return new RetryPolicy(retryCount, retryConfig, exception -> exception instanceof IllegalStateException);
+    }
+
+    private static String fail(final AtomicInteger counter, final int failedCount, final RuntimeException exception) {
+        if (counter.incrementAndGet() <= failedCount) {
+            throw exception;
+        }
+        return "Succeeded";
+    }
+
+    @Test
+    @Order(10)
+    public void test000Retry() {
+        RetryPolicy retryPolicy = newPolicy(3, 5000);
+        Assertions.assertEquals(4, retryPolicy.maxAttempts());
+        AtomicInteger counter = new AtomicInteger(0);
+        Assertions.assertEquals("Succeeded",
+                retryPolicy.execute(() -> fail(counter, 3, new IllegalStateException()), Boolean.TRUE));
+        Assertions.assertEquals(4, counter.get());
+        //  Maximum attempts reached
+        counter.set(0);
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> retryPolicy.execute(() -> fail(counter, 4, new IllegalStateException()), Boolean.TRUE));
+        Assertions.assertEquals(4, counter.get());
+    }
+
+    @Test
+    @Order(20)
+    public void test010NotRetryable() {
+        RetryPolicy retryPolicy = newPolicy(3, 5000);
+        AtomicInteger counter = new AtomicInteger(0);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> retryPolicy.execute(() -> fail(counter, 1, new IllegalArgumentException()), Boolean.TRUE));
+        Assertions.assertEquals(1, counter.get());
+        //  Non-idempotent operation
+        counter.set(0);
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> retryPolicy.execute(() -> fail(counter, 1, new IllegalStateException()), Boolean.FALSE));
+        Assertions.assertEquals(1, counter.get());
+    }
+
+    @Test
+    @Order(30)
+    public void test020Deadline() {
+        RetryPolicy retryPolicy = newPolicy(100, 200);
+        AtomicInteger counter = new AtomicInteger(0);
+        long beginTime = System.currentTimeMillis();
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> retryPolicy.execute(() -> fail(counter, Integer.MAX_VALUE, new IllegalStateException()), Boolean.TRUE));
+        Assertions.assertTrue(System.currentTimeMillis() - beginTime < 200L);
+        Assertions.assertTrue(counter.get() < 100);
+    }
+}
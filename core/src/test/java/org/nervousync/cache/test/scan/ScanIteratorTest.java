@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.test.scan;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.cache.scan.ScanIterator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public final class ScanIteratorTest {
+
+    /**
+     * Node scanner returns given pages in order, cursor of page N was "N + 1", the last page was finished
+     */
+    private static ScanIterator.NodeScanner nodeScanner(final AtomicInteger scanCount, final List<String>... pages) {
+        return cursor -> {
+            scanCount.incrementAndGet();
+            int index = Integer.parseInt(cursor);
+            String nextCursor = (index == pages.length - 1) ? ScanIterator.INITIAL_CURSOR : String.valueOf(index + 1);
+            return CompletableFuture.completedFuture(new ScanIterator.Page(nextCursor, pages[index]));
+        };
+    }
+
+    @Test
+    @Order(10)
+    public void test000Merge() {
+        AtomicInteger scanCount = new AtomicInteger(0);
+        ScanIterator scanIterator = new ScanIterator(List.of(
+                nodeScanner(scanCount, List.of("Key_1", "Key_2"), List.of(), List.of("Key_3")),
+                nodeScanner(scanCount, List.of("Key_4"))), 1000L);
+        //  Nothing was sent before iterating
+        Assertions.assertEquals(0, scanCount.get());
+        Assertions.assertTrue(scanIterator.hasNext());
+        Assertions.assertEquals(2, scanCount.get());
+        List<String> keys = new ArrayList<>();
+        scanIterator.forEachRemaining(keys::add);
+        Assertions.assertEquals(List.of("Key_1", "Key_2", "Key_4", "Key_3"), keys);
+        //  Finished node was not scanned again, empty page was skipped
+        Assertions.assertEquals(4, scanCount.get());
+        Assertions.assertFalse(scanIterator.hasNext());
+    }
+
+    @Test
+    @Order(20)
+    public void test010Parallel() throws InterruptedException {
+        CountDownLatch countDownLatch = new CountDownLatch(2);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        ScanIterator.NodeScanner nodeScanner = cursor -> CompletableFuture.supplyAsync(() -> {
+            countDownLatch.countDown();
+            try {
+                //  Completed only if the other node was scanned at the same time
+                Assertions.assertTrue(countDownLatch.await(1L, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new CompletionException(e);
+            }
+            return new ScanIterator.Page(ScanIterator.INITIAL_CURSOR, List.of(Thread.currentThread().getName()));
+        }, executorService);
+        ScanIterator scanIterator = new ScanIterator(List.of(nodeScanner, nodeScanner), 2000L);
+        Assertions.assertTrue(scanIterator.hasNext());
+        scanIterator.next();
+        scanIterator.next();
+        Assertions.assertFalse(scanIterator.hasNext());
+        Assertions.assertEquals(0L, countDownLatch.getCount());
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @Order(30)
+    public void test020Timeout() {
+        ScanIterator scanIterator = new ScanIterator(List.of(cursor -> new CompletableFuture<>()), 50L);
+        Assertions.assertThrows(CompletionException.class, scanIterator::hasNext);
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.test.script;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.cache.commons.CacheGlobals;
+import org.nervousync.cache.script.CacheScript;
+import org.nervousync.cache.script.ScriptRegistry;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public final class ScriptRegistryTest {
+
+    @Test
+    @Order(10)
+    public void test000BuiltIn() {
+        ScriptRegistry scriptRegistry = new ScriptRegistry();
+        Assertions.assertSame(CacheScript.COMPARE_AND_SET, scriptRegistry.script(CacheGlobals.SCRIPT_COMPARE_AND_SET));
+        Assertions.assertSame(CacheScript.INCR_WITH_EXPIRE, scriptRegistry.script(CacheGlobals.SCRIPT_INCR_WITH_EXPIRE));
+        Assertions.assertSame(CacheScript.SET_IF_GREATER, scriptRegistry.script(CacheGlobals.SCRIPT_SET_IF_GREATER));
+        Assertions.assertNull(scriptRegistry.script("unknown"));
+    }
+
+    @Test
+    @Order(20)
+    public void test010Digest() {
+        //  Known digest of SCRIPT LOAD "return 1"
+        Assertions.assertEquals("e0e1f9fabfc9d4800c877a703b823ac0578ff8db", CacheScript.sha1("return 1"));
+        CacheScript cacheScript = CacheScript.of("one", "return 1");
+        Assertions.assertEquals(CacheScript.sha1("return 1"), cacheScript.digest());
+    }
+
+    @Test
+    @Order(30)
+    public void test020Register() {
+        ScriptRegistry scriptRegistry = new ScriptRegistry();
+        CacheScript registered = scriptRegistry.register("custom", "return 1");
+        Assertions.assertSame(registered, scriptRegistry.script("custom"));
+        scriptRegistry.register("custom", "return 2");
+        Assertions.assertEquals("return 2", scriptRegistry.script("custom").body());
+    }
+}
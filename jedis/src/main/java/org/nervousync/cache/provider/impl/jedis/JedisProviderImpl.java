@@ -18,20 +18,40 @@ package org.nervousync.cache.provider.impl.jedis;
 
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.nervousync.annotations.provider.Provider;
+import org.nervousync.cache.api.VersionedValue;
 import org.nervousync.cache.config.CacheConfig.ServerConfig;
 import org.nervousync.cache.enumeration.ClusterMode;
+import org.nervousync.cache.executor.BlockingExecutor;
 import org.nervousync.cache.provider.impl.AbstractProvider;
-import org.nervousync.commons.Globals;
+import org.nervousync.cache.scan.ScanIterator;
+import org.nervousync.cache.script.CacheScript;
 import org.nervousync.utils.ConvertUtils;
 import org.nervousync.utils.StringUtils;
 import redis.clients.jedis.*;
+import redis.clients.jedis.args.ExpiryOption;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
+import redis.clients.jedis.params.GetExParams;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.resps.ScanResult;
+import redis.clients.jedis.util.JedisClusterCRC16;
 import redis.clients.jedis.util.Pool;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * <h2 class="en-US">Redis cache provider using Jedis</h2>
@@ -86,8 +106,8 @@ public final class JedisProviderImpl extends AbstractProvider {
      * @see org.nervousync.cache.provider.Provider#add(String, String, int)
      */
     @Override
-    public void add(String key, String value, int expiry) {
-        this.process(key, value, expiry);
+    public boolean add(String key, String value, int expiry) {
+        return this.process(key, value, this.setParams(SetParams.setParams().nx(), expiry));
     }
 
     /*
@@ -95,8 +115,8 @@ public final class JedisProviderImpl extends AbstractProvider {
      * @see org.nervousync.cache.provider.Provider#replace(String, String, int)
      */
     @Override
-    public void replace(String key, String value, int expiry) {
-        this.process(key, value, expiry);
+    public boolean replace(String key, String value, int expiry) {
+        return this.process(key, value, this.setParams(SetParams.setParams().xx(), expiry));
     }
 
     /*
@@ -106,11 +126,7 @@ public final class JedisProviderImpl extends AbstractProvider {
     @Override
     public void expire(String key, int expire) {
         if (this.singleMode) {
-            Optional.ofNullable(this.singleClient())
-                    .ifPresent(jedis -> {
-                        jedis.expire(key, expire);
-                        jedis.close();
-                    });
+            this.singleClient(this.getWriteTimeout(), jedis -> jedis.expire(key, expire));
         } else {
             this.writeCluster.expire(key, expire);
         }
@@ -123,11 +139,7 @@ public final class JedisProviderImpl extends AbstractProvider {
     @Override
     public void touch(String... keys) {
         if (this.singleMode) {
-            Optional.ofNullable(this.singleClient())
-                    .ifPresent(jedis -> {
-                        jedis.touch(keys);
-                        jedis.close();
-                    });
+            this.singleClient(this.getWriteTimeout(), jedis -> jedis.touch(keys));
         } else {
             this.writeCluster.touch(keys);
         }
@@ -140,16 +152,144 @@ public final class JedisProviderImpl extends AbstractProvider {
     @Override
     public void delete(String key) {
         if (this.singleMode) {
-            Optional.ofNullable(this.singleClient())
-                    .ifPresent(jedis -> {
-                        jedis.del(key);
-                        jedis.close();
-                    });
+            this.singleClient(this.getWriteTimeout(), jedis -> this.isLazyDelete() ? jedis.unlink(key) : jedis.del(key));
+        } else if (this.isLazyDelete()) {
+            this.writeCluster.unlink(key);
         } else {
             this.writeCluster.del(key);
         }
     }
 
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#deleteAll(Collection)
+     */
+    @Override
+    public long deleteAll(Collection<String> keys) {
+        final List<Response<Long>> responses = new ArrayList<>();
+        this.pipelined(pipeline ->
+                //  Cluster client was used in all multiple servers mode, keys must be grouped by slot
+                this.deleteGroups(keys, this.singleMode ? null : JedisClusterCRC16::getSlot)
+                        .forEach(deleteGroup -> responses.add(this.isLazyDelete()
+                                ? pipeline.unlink(deleteGroup)
+                                : pipeline.del(deleteGroup))));
+        return responses.stream().mapToLong(Response::get).sum();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#tag(String, int, String...)
+     */
+    @Override
+    public void tag(String key, int expire, String... tags) {
+        final int expireTime = super.expiryTime(expire);
+        this.pipelined(pipeline -> {
+            for (String tag : tags) {
+                String tagKey = tagKey(tag);
+                pipeline.sadd(tagKey, key);
+                if (expireTime > 0) {
+                    //  Set expire time if member set has no expire time, otherwise extend it only if greater
+                    pipeline.expire(tagKey, expireTime, ExpiryOption.NX);
+                    pipeline.expire(tagKey, expireTime, ExpiryOption.GT);
+                }
+            }
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#invalidateTag(String)
+     */
+    @Override
+    public String[] invalidateTag(String tag) {
+        final String tagKey = tagKey(tag);
+        final String[] members;
+        if (this.singleMode) {
+            members = this.singleClient(this.getWriteTimeout(), jedis -> jedis.smembers(tagKey)).toArray(new String[0]);
+        } else {
+            members = this.writeCluster.smembers(tagKey).toArray(new String[0]);
+        }
+        if (members.length > 0) {
+            //  Remove the read members only, keys tagged after read will be removed by next invalidation
+            this.pipelined(pipeline -> {
+                for (String member : members) {
+                    if (this.isLazyDelete()) {
+                        pipeline.unlink(member);
+                    } else {
+                        pipeline.del(member);
+                    }
+                }
+                pipeline.srem(tagKey, members);
+            });
+        }
+        return members;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#acquireLease(String, String, int)
+     */
+    @Override
+    public boolean acquireLease(String key, String token, int leaseTime) {
+        final String leaseKey = leaseKey(key);
+        final SetParams setParams = SetParams.setParams().nx().px(leaseTime);
+        String result;
+        if (this.singleMode) {
+            result = this.singleClient(this.getWriteTimeout(), jedis -> jedis.set(leaseKey, token, setParams));
+        } else {
+            result = this.writeCluster.set(leaseKey, token, setParams);
+        }
+        return "OK".equalsIgnoreCase(result);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#releaseLease(String, String)
+     */
+    @Override
+    public void releaseLease(String key, String token) {
+        final String leaseKey = leaseKey(key);
+        //  Check and delete were not atomic, if the lease expired between them, lease of other client was removed
+        //  and only causes one more load
+        if (this.singleMode) {
+            this.singleClient(this.getWriteTimeout(),
+                    jedis -> token.equals(jedis.get(leaseKey)) ? jedis.del(leaseKey) : 0L);
+        } else if (token.equals(this.writeCluster.get(leaseKey))) {
+            this.writeCluster.del(leaseKey);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#scan(String, int)
+     */
+    @Override
+    public Iterator<String> scan(String pattern, int batchSize) {
+        final ScanParams scanParams = new ScanParams().match(pattern).count(batchSize);
+        List<ScanIterator.NodeScanner> nodeScanners = new ArrayList<>();
+        if (this.singleMode) {
+            nodeScanners.add(cursor -> CompletableFuture.completedFuture(
+                    page(this.singleClient(this.getReadTimeout(), jedis -> jedis.scan(cursor, scanParams)))));
+        } else {
+            //  Jedis client was blocking, roles and pages of each node were requested by blocking executor in parallel
+            final List<ConnectionPool> connectionPools = new ArrayList<>(this.writeCluster.getClusterNodes().values());
+            final List<Boolean> masters = BlockingExecutor.invokeAll(connectionPools.stream()
+                    .map(connectionPool -> (Supplier<Boolean>) () -> master(connectionPool))
+                    .toList(), this.getReadTimeout());
+            for (int i = 0; i < connectionPools.size(); i++) {
+                if (masters.get(i)) {
+                    final ConnectionPool connectionPool = connectionPools.get(i);
+                    nodeScanners.add(cursor -> BlockingExecutor.supplyAsync(() -> {
+                        try (Jedis jedis = new Jedis(connectionPool.getResource())) {
+                            return page(jedis.scan(cursor, scanParams));
+                        }
+                    }));
+                }
+            }
+        }
+        return new ScanIterator(nodeScanners, this.getReadTimeout());
+    }
+
     /*
      * (non-Javadoc)
      * @see org.nervousync.cache.provider.Provider#get(String)
@@ -158,17 +298,58 @@ public final class JedisProviderImpl extends AbstractProvider {
     public String get(String key) {
         byte[] objectData;
         if (this.singleMode) {
-            objectData = Optional.ofNullable(this.singleClient())
-                    .map(jedis -> {
-                        byte[] readData = jedis.get(key.getBytes());
-                        jedis.close();
-                        return readData;
-                    })
-                    .orElse(null);
+            objectData = this.singleClient(this.getReadTimeout(), jedis -> jedis.get(key.getBytes()));
         } else {
             objectData = this.readCluster.get(key.getBytes());
         }
-        return objectData == null ? Globals.DEFAULT_VALUE_STRING : ConvertUtils.toString(objectData);
+        return objectData == null ? null : ConvertUtils.toString(objectData);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getAndTouch(String, int)
+     */
+    @Override
+    public String getAndTouch(String key, int expire) {
+        final int expireTime = super.expiryTime(expire);
+        if (expireTime <= 0) {
+            //  Key without expire time never expires, nothing to reset
+            return this.get(key);
+        }
+        //  GETEX modifies the key, so it was sent to master node even in cluster mode
+        final GetExParams getExParams = GetExParams.getExParams().ex(expireTime);
+        byte[] objectData;
+        if (this.singleMode) {
+            objectData = this.singleClient(this.getWriteTimeout(), jedis -> jedis.getEx(key.getBytes(), getExParams));
+        } else {
+            objectData = this.writeCluster.getEx(key.getBytes(), getExParams);
+        }
+        return objectData == null ? null : ConvertUtils.toString(objectData);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getWithVersion(String)
+     */
+    @Override
+    public VersionedValue getWithVersion(String key) {
+        String value = this.get(key);
+        return (value == null) ? null : new VersionedValue(value, version(value));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#compareAndSet(String, String, String, int)
+     */
+    @Override
+    public boolean compareAndSet(String key, String version, String value, int expire) {
+        if (version == null) {
+            return this.process(key, value, this.setParams(SetParams.setParams().nx(), expire));
+        }
+        final int expireTime = super.expiryTime(expire);
+        Object result = this.eval(CacheScript.COMPARE_AND_SET, List.of(key),
+                List.of(version, value, Integer.toString(expireTime)));
+        return Long.valueOf(1L).equals(result);
     }
 
     /*
@@ -179,13 +360,7 @@ public final class JedisProviderImpl extends AbstractProvider {
     public long incr(String key, long step) {
         long result;
         if (this.singleMode) {
-            result = Optional.ofNullable(this.singleClient())
-                    .map(jedis -> {
-                        long operateResult = jedis.incrBy(key, step);
-                        jedis.close();
-                        return operateResult;
-                    })
-                    .orElse(Globals.DEFAULT_VALUE_LONG);
+            result = this.singleClient(this.getWriteTimeout(), jedis -> jedis.incrBy(key, step));
         } else {
             result = this.readCluster.incrBy(key, step);
         }
@@ -200,19 +375,120 @@ public final class JedisProviderImpl extends AbstractProvider {
     public long decr(String key, long step) {
         long result;
         if (this.singleMode) {
-            result = Optional.ofNullable(this.singleClient())
-                    .map(jedis -> {
-                        long operateResult = jedis.decrBy(key, step);
-                        jedis.close();
-                        return operateResult;
-                    })
-                    .orElse(Globals.DEFAULT_VALUE_LONG);
+            result = this.singleClient(this.getWriteTimeout(), jedis -> jedis.decrBy(key, step));
         } else {
             result = this.readCluster.decrBy(key, step);
         }
         return result;
     }
 
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#incrAll(Map)
+     */
+    @Override
+    public void incrAll(Map<String, Long> deltas) {
+        this.pipelined(pipeline -> deltas.forEach(pipeline::incrBy));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#setField(String, String, String, int)
+     */
+    @Override
+    public void setField(String key, String field, String value, int expire) {
+        final int expireTime = super.expiryTime(expire);
+        this.pipelined(pipeline -> {
+            pipeline.hset(key, field, value);
+            if (expireTime > 0) {
+                pipeline.expire(key, expireTime);
+            }
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getField(String, String)
+     */
+    @Override
+    public String getField(String key, String field) {
+        if (this.singleMode) {
+            return this.singleClient(this.getReadTimeout(), jedis -> jedis.hget(key, field));
+        }
+        return this.readCluster.hget(key, field);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getFields(String, String...)
+     */
+    @Override
+    public Map<String, String> getFields(String key, String... fields) {
+        Map<String, String> fieldValues = new LinkedHashMap<>();
+        if (fields.length == 0) {
+            return fieldValues;
+        }
+        List<String> values;
+        if (this.singleMode) {
+            values = this.singleClient(this.getReadTimeout(), jedis -> jedis.hmget(key, fields));
+        } else {
+            values = this.readCluster.hmget(key, fields);
+        }
+        for (int i = 0; i < fields.length; i++) {
+            if (values.get(i) != null) {
+                fieldValues.put(fields[i], values.get(i));
+            }
+        }
+        return fieldValues;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getAllFields(String)
+     */
+    @Override
+    public Map<String, String> getAllFields(String key) {
+        if (this.singleMode) {
+            return this.singleClient(this.getReadTimeout(), jedis -> jedis.hgetAll(key));
+        }
+        return this.readCluster.hgetAll(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#incrField(String, String, long)
+     */
+    @Override
+    public long incrField(String key, String field, long step) {
+        if (this.singleMode) {
+            return this.singleClient(this.getWriteTimeout(), jedis -> jedis.hincrBy(key, field, step));
+        }
+        return this.writeCluster.hincrBy(key, field, step);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#eval(CacheScript, List, List)
+     */
+    @Override
+    public Object eval(CacheScript cacheScript, List<String> keys, List<String> arguments) {
+        if (this.singleMode) {
+            return this.singleClient(this.getWriteTimeout(), jedis -> {
+                try {
+                    return jedis.evalsha(cacheScript.digest(), keys, arguments);
+                } catch (JedisNoScriptException e) {
+                    //  Script cache of server was flushed or server was restarted, EVAL loads the script again
+                    return jedis.eval(cacheScript.body(), keys, arguments);
+                }
+            });
+        }
+        try {
+            return this.writeCluster.evalsha(cacheScript.digest(), keys, arguments);
+        } catch (JedisNoScriptException e) {
+            return this.writeCluster.eval(cacheScript.body(), keys, arguments);
+        }
+    }
+
     /*
      * (non-Javadoc)
      * @see org.nervousync.cache.provider.Provider#destroy()
@@ -238,27 +514,10 @@ public final class JedisProviderImpl extends AbstractProvider {
      */
     protected void singletonMode(final ServerConfig cachedServer, final String userName, final String passWord) {
         GenericObjectPoolConfig<Jedis> jedisPoolConfig = new GenericObjectPoolConfig<>();
-
-        jedisPoolConfig.setMaxTotal(this.getMaximumClient());
-        jedisPoolConfig.setMaxIdle(this.getClientPoolSize());
-        jedisPoolConfig.setMaxWait(Duration.ofMillis(this.getConnectTimeout() * 1000L));
-        jedisPoolConfig.setTestOnBorrow(Boolean.TRUE);
-        jedisPoolConfig.setTestWhileIdle(Boolean.TRUE);
-
-        int connectTimeout = this.getConnectTimeout() * 1000;
-
-        if (StringUtils.isEmpty(passWord)) {
-            this.jedisPool = new JedisPool(jedisPoolConfig, cachedServer.getServerAddress(),
-                    super.serverPort(cachedServer.getServerPort()), connectTimeout);
-        } else {
-            if (StringUtils.isEmpty(userName)) {
-                this.jedisPool = new JedisPool(jedisPoolConfig, cachedServer.getServerAddress(),
-                        super.serverPort(cachedServer.getServerPort()), connectTimeout, passWord);
-            } else {
-                this.jedisPool = new JedisPool(jedisPoolConfig, cachedServer.getServerAddress(),
-                        super.serverPort(cachedServer.getServerPort()), connectTimeout, userName, passWord);
-            }
-        }
+        this.configPool(jedisPoolConfig);
+        this.jedisPool = new JedisPool(jedisPoolConfig,
+                new HostAndPort(cachedServer.getServerAddress(), super.serverPort(cachedServer.getServerPort())),
+                this.clientConfig(userName, passWord));
         this.singleMode = Boolean.TRUE;
     }
 
@@ -268,26 +527,16 @@ public final class JedisProviderImpl extends AbstractProvider {
      */
     protected void clusterMode(final List<ServerConfig> serverConfigList, final String masterName,
                              final String userName, final String passWord) {
-        int connectTimeout = this.getConnectTimeout() * 1000;
         if (ClusterMode.Sentinel.equals(this.getClusterMode())) {
             JedisPoolConfig jedisPoolConfig = new JedisPoolConfig();
             this.configPool(jedisPoolConfig);
 
-            Set<String> sentinelServers = new HashSet<>();
+            Set<HostAndPort> sentinelServers = new HashSet<>();
             serverConfigList.forEach(serverConfig ->
                     sentinelServers.add(new HostAndPort(serverConfig.getServerAddress(),
-                            serverConfig.getServerPort()).toString()));
-            if (StringUtils.isEmpty(passWord)) {
-                this.jedisPool = new JedisSentinelPool(masterName, sentinelServers, jedisPoolConfig, connectTimeout);
-            } else {
-                if (StringUtils.isEmpty(userName)) {
-                    this.jedisPool = new JedisSentinelPool(masterName, sentinelServers, jedisPoolConfig,
-                            connectTimeout, userName, passWord, Globals.INITIALIZE_INT_VALUE);
-                } else {
-                    this.jedisPool = new JedisSentinelPool(masterName, sentinelServers, jedisPoolConfig,
-                            connectTimeout, passWord);
-                }
-            }
+                            serverConfig.getServerPort())));
+            this.jedisPool = new JedisSentinelPool(masterName, sentinelServers, jedisPoolConfig,
+                    this.clientConfig(userName, passWord), this.clientConfig(null, null));
         } else {
             GenericObjectPoolConfig<Connection> clusterConfig = new GenericObjectPoolConfig<>();
             this.configPool(clusterConfig);
@@ -305,58 +554,161 @@ public final class JedisProviderImpl extends AbstractProvider {
                             .map(serverConfig ->
                                     new HostAndPort(serverConfig.getServerAddress(), serverConfig.getServerPort()))
                             .orElse(null);
-            if (StringUtils.notBlank(passWord)) {
-                DefaultJedisClientConfig.Builder clientBuilder =
-                        DefaultJedisClientConfig.builder().password(passWord)
-                                .connectionTimeoutMillis(connectTimeout);
-                if (StringUtils.notBlank(userName)) {
-                    clientBuilder.clientName(userName);
-                }
-                this.readCluster =
-                        new JedisCluster(readServers, clientBuilder.build(), this.getRetryCount(), clusterConfig);
-                this.writeCluster =
-                        new JedisCluster(masterServer, clientBuilder.build(), this.getRetryCount(), clusterConfig);
-            } else {
-                this.readCluster =
-                        new JedisCluster(readServers, connectTimeout, this.getRetryCount(), clusterConfig);
-                this.writeCluster =
-                        new JedisCluster(masterServer, connectTimeout, this.getRetryCount(), clusterConfig);
-            }
+            JedisClientConfig clientConfig = this.clientConfig(userName, passWord);
+            //  Attempts of cluster client were used for follow slot redirections, failures were retried by retry policy
+            Duration retriesDuration = Duration.ofMillis(this.getCommandTimeout());
+            this.readCluster = new JedisCluster(readServers, clientConfig,
+                    JedisCluster.DEFAULT_MAX_ATTEMPTS, retriesDuration, clusterConfig);
+            this.writeCluster = new JedisCluster(Collections.singleton(masterServer), clientConfig,
+                    JedisCluster.DEFAULT_MAX_ATTEMPTS, retriesDuration, clusterConfig);
         }
         this.singleMode = Boolean.FALSE;
     }
 
-    private Jedis singleClient() {
-        Jedis jedis = this.jedisPool.getResource();
-        int retryCount = 0;
-        while (jedis == null || !jedis.isConnected()) {
-            if (retryCount >= this.getRetryCount()) {
-                break;
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#warmup(int, int)
+     */
+    @Override
+    protected void warmup(final int connections, final int timeout) {
+        List<Supplier<Boolean>> operations = new ArrayList<>();
+        if (this.jedisPool != null) {
+            operations.add(() -> prefill(this.jedisPool, connections, this.jedisPool::getResource));
+        } else {
+            //  Node pools of read cluster and write cluster were separated
+            List<ConnectionPool> connectionPools = new ArrayList<>(this.writeCluster.getClusterNodes().values());
+            connectionPools.addAll(this.readCluster.getClusterNodes().values());
+            connectionPools.forEach(connectionPool ->
+                    operations.add(() -> prefill(connectionPool, connections,
+                            () -> new Jedis(connectionPool.getResource()))));
+        }
+        BlockingExecutor.invokeAll(operations, timeout);
+    }
+
+    private <T> T singleClient(final int timeout, final Function<Jedis, T> operation) {
+        //  Connections were validated when borrowed, broken connection was destroyed when returned
+        try (Jedis jedis = this.jedisPool.getResource()) {
+            if (jedis.getConnection().getSoTimeout() != timeout) {
+                //  Pooled connections keep the timeout of previous operation, update only if different
+                jedis.getConnection().setSoTimeout(timeout);
             }
-            retryCount++;
-            jedis = this.jedisPool.getResource();
+            return operation.apply(jedis);
         }
-        return jedis;
+    }
+
+    private void pipelined(final Consumer<AbstractPipeline> operation) {
+        if (this.singleMode) {
+            this.singleClient(this.getWriteTimeout(), jedis -> {
+                try (Pipeline pipeline = jedis.pipelined()) {
+                    operation.accept(pipeline);
+                    pipeline.sync();
+                }
+                return null;
+            });
+        } else {
+            try (ClusterPipeline pipeline = this.writeCluster.pipelined()) {
+                operation.accept(pipeline);
+                pipeline.sync();
+            }
+        }
+    }
+
+    private static boolean prefill(final Pool<?> pool, final int connections, final Supplier<Jedis> resource) {
+        try {
+            //  Idle connections were created and authenticated before added to the pool
+            pool.addObjects(Math.max(0, connections - pool.getNumIdle()));
+        } catch (Exception e) {
+            throw new JedisConnectionException(e);
+        }
+        try (Jedis jedis = resource.get()) {
+            return "PONG".equalsIgnoreCase(jedis.ping());
+        }
+    }
+
+    private static boolean master(final ConnectionPool connectionPool) {
+        try (Jedis jedis = new Jedis(connectionPool.getResource())) {
+            return jedis.info("replication").contains("role:master");
+        }
+    }
+
+    private static ScanIterator.Page page(final ScanResult<String> scanResult) {
+        return new ScanIterator.Page(scanResult.getCursor(), scanResult.getResult());
     }
 
     private void process(String key, String value, int expiry) {
+        final int expireTime = super.expiryTime(expiry);
+        if (expireTime <= 0) {
+            //  Key without expire time never expires
+            if (this.singleMode) {
+                this.singleClient(this.getWriteTimeout(),
+                        jedis -> jedis.set(key.getBytes(), ConvertUtils.toByteArray(value)));
+            } else {
+                this.writeCluster.set(key.getBytes(), ConvertUtils.toByteArray(value));
+            }
+        } else if (this.singleMode) {
+            this.singleClient(this.getWriteTimeout(),
+                    jedis -> jedis.setex(key.getBytes(), expireTime, ConvertUtils.toByteArray(value)));
+        } else {
+            this.writeCluster.setex(key.getBytes(), expireTime, ConvertUtils.toByteArray(value));
+        }
+    }
+
+    private SetParams setParams(final SetParams setParams, final int expiry) {
+        final int expireTime = super.expiryTime(expiry);
+        //  Key without expire time never expires
+        return (expireTime > 0) ? setParams.ex(expireTime) : setParams;
+    }
+
+    /**
+     * <h3 class="en-US">Conditional set by given parameters, SET replies nil if the condition was not matched</h3>
+     * <h3 class="zh-CN">使用给定的参数条件设置，如果条件不满足SET返回nil</h3>
+     *
+     * @param key       <span class="en-US">Cache key</span>
+     *                  <span class="zh-CN">缓存键值</span>
+     * @param value     <span class="en-US">Cache value</span>
+     *                  <span class="zh-CN">缓存数据</span>
+     * @param setParams <span class="en-US">SET parameters</span>
+     *                  <span class="zh-CN">SET参数</span>
+     * @return <span class="en-US">Boolean.TRUE if the value was set</span>
+     * <span class="zh-CN">数据设置成功时返回Boolean.TRUE</span>
+     */
+    private boolean process(String key, String value, SetParams setParams) {
+        String result;
         if (this.singleMode) {
-            Optional.ofNullable(this.singleClient())
-                    .ifPresent(jedis -> {
-                        jedis.setex(key.getBytes(), expiry, ConvertUtils.toByteArray(value));
-                        jedis.close();
-                    });
+            result = this.singleClient(this.getWriteTimeout(), jedis -> jedis.set(key, value, setParams));
         } else {
-            this.writeCluster.setex(key.getBytes(), expiry, ConvertUtils.toByteArray(value));
+            result = this.writeCluster.set(key, value, setParams);
         }
+        return "OK".equalsIgnoreCase(result);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#retryable(RuntimeException)
+     */
+    @Override
+    protected boolean retryable(final RuntimeException exception) {
+        return exception instanceof JedisConnectionException || super.retryable(exception);
     }
 
     private void configPool(final GenericObjectPoolConfig<?> poolConfig) {
-        int connectTimeout = this.getConnectTimeout() * 1000;
         poolConfig.setMaxTotal(this.getMaximumClient());
         poolConfig.setMaxIdle(this.getClientPoolSize());
-        poolConfig.setMaxWait(Duration.ofMillis(connectTimeout));
+        poolConfig.setMaxWait(Duration.ofMillis(this.getPoolTimeout()));
         poolConfig.setTestOnBorrow(Boolean.TRUE);
         poolConfig.setTestWhileIdle(Boolean.TRUE);
     }
+
+    private JedisClientConfig clientConfig(final String userName, final String passWord) {
+        DefaultJedisClientConfig.Builder clientBuilder = DefaultJedisClientConfig.builder()
+                .connectionTimeoutMillis(this.getConnectTimeoutMillis())
+                .socketTimeoutMillis(this.getCommandTimeout());
+        if (StringUtils.notBlank(passWord)) {
+            clientBuilder.password(passWord);
+            if (StringUtils.notBlank(userName)) {
+                clientBuilder.user(userName);
+            }
+        }
+        return clientBuilder.build();
+    }
 }
@@ -17,9 +17,18 @@
 package org.nervousync.cache.test.jedis;
 
 import org.nervousync.cache.test.core.BaseCacheTest;
+import org.nervousync.cache.test.server.AbstractEmbeddedServer;
+import org.nervousync.cache.test.server.EmbeddedRedisServer;
+
+import java.util.List;
 
 public final class JedisTest extends BaseCacheTest {
 	public JedisTest() {
 		super("JedisProvider");
 	}
+
+	@Override
+	protected List<AbstractEmbeddedServer<?>> embeddedServers() {
+		return List.of(new EmbeddedRedisServer());
+	}
 }
@@ -18,25 +18,61 @@
 package org.nervousync.cache.provider.impl.lettuce;
 
 import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ExpireArgs;
+import io.lettuce.core.GetExArgs;
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.LettuceFutures;
 import io.lettuce.core.ReadFrom;
 import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.RedisConnectionException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.RedisNoScriptException;
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.cluster.ClusterClientOptions;
 import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.SlotHash;
 import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
 import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.masterreplica.MasterReplica;
 import io.lettuce.core.masterreplica.StatefulRedisMasterReplicaConnection;
+import io.lettuce.core.output.ObjectOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
 import org.nervousync.annotations.provider.Provider;
+import org.nervousync.cache.api.VersionedValue;
 import org.nervousync.cache.config.CacheConfig.ServerConfig;
+import org.nervousync.cache.enumeration.ClusterMode;
+import org.nervousync.cache.executor.BlockingExecutor;
 import org.nervousync.cache.provider.impl.AbstractProvider;
+import org.nervousync.cache.scan.ScanIterator;
+import org.nervousync.cache.script.CacheScript;
 import org.nervousync.utils.StringUtils;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 /**
  * <h2 class="en-US">Redis cache provider using Lettuce</h2>
@@ -48,12 +84,30 @@ import java.util.List;
 @Provider(name = "LettuceProvider", titleKey = "lettuce.cache.provider.name")
 public final class LettuceProviderImpl extends AbstractProvider {
 
+    /**
+     * <span class="en-US">Maximum commands count in request queue, commands was rejected immediately when queue was full</span>
+     * <span class="zh-CN">请求队列中的最大命令数，队列已满时命令会被立即拒绝</span>
+     */
+    private static final int REQUEST_QUEUE_SIZE = 65536;
+    /**
+     * <span class="en-US">Read commands, using read timeout, other commands using write timeout</span>
+     * <span class="zh-CN">读命令，使用读超时时间，其他命令使用写超时时间</span>
+     */
+    private static final Set<CommandType> READ_COMMANDS =
+            EnumSet.of(CommandType.GET, CommandType.MGET, CommandType.EXISTS, CommandType.TTL, CommandType.PTTL,
+                    CommandType.SCAN, CommandType.HGET, CommandType.HMGET, CommandType.HGETALL, CommandType.SMEMBERS);
+
     private AbstractRedisClient redisClient;
 
     private StatefulRedisClusterConnection<String, String> clusterConnection = null;
 
     private StatefulRedisConnection<String, String> redisConnection = null;
     private RedisClusterCommands<String, String> redisCommands = null;
+    /**
+     * <span class="en-US">Connection for hedged read, read from another node, null if hedged read was disabled</span>
+     * <span class="zh-CN">对冲读取使用的连接，从另一个节点读取，如果对冲读取未启用则为null</span>
+     */
+    private StatefulRedisMasterReplicaConnection<String, String> hedgeConnection = null;
 
     /**
      * Instantiates a new Lettuce provider.
@@ -80,8 +134,9 @@ public final class LettuceProviderImpl extends AbstractProvider {
      * @see org.nervousync.cache.provider.Provider#add(String, String, int)
      */
     @Override
-    public void add(final String key, final String value, final int expire) {
-        this.process(key, value, expire);
+    public boolean add(final String key, final String value, final int expire) {
+        return "OK".equalsIgnoreCase(this.redisCommands.set(key, value,
+                this.setArgs(SetArgs.Builder.nx(), expire)));
     }
 
     /*
@@ -89,8 +144,9 @@ public final class LettuceProviderImpl extends AbstractProvider {
      * @see org.nervousync.cache.provider.Provider#replace(String, String, int)
      */
     @Override
-    public void replace(final String key, final String value, final int expire) {
-        this.process(key, value, expire);
+    public boolean replace(final String key, final String value, final int expire) {
+        return "OK".equalsIgnoreCase(this.redisCommands.set(key, value,
+                this.setArgs(SetArgs.Builder.xx(), expire)));
     }
 
     /*
@@ -120,7 +176,116 @@ public final class LettuceProviderImpl extends AbstractProvider {
      */
     @Override
     public void delete(final String key) {
-        this.redisCommands.del(key);
+        if (this.isLazyDelete()) {
+            this.redisCommands.unlink(key);
+        } else {
+            this.redisCommands.del(key);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#deleteAll(Collection)
+     */
+    @Override
+    public long deleteAll(final Collection<String> keys) {
+        RedisClusterAsyncCommands<String, String> asyncCommands = this.asyncCommands();
+        List<RedisFuture<Long>> futures = new ArrayList<>();
+        this.deleteGroups(keys, ClusterMode.Cluster.equals(this.getClusterMode()) ? SlotHash::getSlot : null)
+                .forEach(deleteGroup -> futures.add(this.isLazyDelete()
+                        ? asyncCommands.unlink(deleteGroup)
+                        : asyncCommands.del(deleteGroup)));
+        this.awaitAll(new ArrayList<>(futures));
+        return futures.stream().mapToLong(future -> future.toCompletableFuture().join()).sum();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#tag(String, int, String...)
+     */
+    @Override
+    public void tag(final String key, final int expire, final String... tags) {
+        final int expireTime = super.expiryTime(expire);
+        RedisClusterAsyncCommands<String, String> asyncCommands = this.asyncCommands();
+        List<Future<?>> futures = new ArrayList<>();
+        for (String tag : tags) {
+            String tagKey = tagKey(tag);
+            futures.add(asyncCommands.sadd(tagKey, key));
+            if (expireTime > 0) {
+                //  Set expire time if member set has no expire time, otherwise extend it only if greater
+                futures.add(asyncCommands.expire(tagKey, expireTime, ExpireArgs.Builder.nx()));
+                futures.add(asyncCommands.expire(tagKey, expireTime, ExpireArgs.Builder.gt()));
+            }
+        }
+        this.awaitAll(futures);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#invalidateTag(String)
+     */
+    @Override
+    public String[] invalidateTag(final String tag) {
+        final String tagKey = tagKey(tag);
+        String[] members = this.redisCommands.smembers(tagKey).toArray(new String[0]);
+        if (members.length > 0) {
+            RedisClusterAsyncCommands<String, String> asyncCommands = this.asyncCommands();
+            List<Future<?>> futures = new ArrayList<>(members.length + 1);
+            //  Delete one by one, keys may located in different slots in cluster mode
+            for (String member : members) {
+                futures.add(this.isLazyDelete() ? asyncCommands.unlink(member) : asyncCommands.del(member));
+            }
+            //  Remove the read members only, keys tagged after read will be removed by next invalidation
+            futures.add(asyncCommands.srem(tagKey, members));
+            this.awaitAll(futures);
+        }
+        return members;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#acquireLease(String, String, int)
+     */
+    @Override
+    public boolean acquireLease(final String key, final String token, final int leaseTime) {
+        return "OK".equalsIgnoreCase(this.redisCommands.set(leaseKey(key), token, SetArgs.Builder.nx().px(leaseTime)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#releaseLease(String, String)
+     */
+    @Override
+    public void releaseLease(final String key, final String token) {
+        final String leaseKey = leaseKey(key);
+        //  Check and delete were not atomic, if the lease expired between them, lease of other client was removed
+        //  and only causes one more load
+        if (token.equals(this.redisCommands.get(leaseKey))) {
+            this.redisCommands.del(leaseKey);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#scan(String, int)
+     */
+    @Override
+    public Iterator<String> scan(final String pattern, final int batchSize) {
+        final ScanArgs scanArgs = ScanArgs.Builder.matches(pattern).limit(batchSize);
+        List<ScanIterator.NodeScanner> nodeScanners = new ArrayList<>();
+        if (this.clusterConnection == null) {
+            nodeScanners.add(cursor -> page(this.redisConnection.async().scan(ScanCursor.of(cursor), scanArgs)));
+        } else {
+            //  Keys were distributed over masters, scan each master by its own connection
+            this.clusterConnection.getPartitions()
+                    .stream()
+                    .filter(clusterNode -> clusterNode.is(RedisClusterNode.NodeFlag.UPSTREAM))
+                    .map(RedisClusterNode::getNodeId)
+                    .forEach(nodeId -> nodeScanners.add(cursor ->
+                            page(this.clusterConnection.getConnection(nodeId).async()
+                                    .scan(ScanCursor.of(cursor), scanArgs))));
+        }
+        return new ScanIterator(nodeScanners, this.getReadTimeout());
     }
 
     /*
@@ -129,7 +294,53 @@ public final class LettuceProviderImpl extends AbstractProvider {
      */
     @Override
     public String get(final String key) {
-        return this.redisCommands.get(key);
+        if (this.hedgeConnection == null) {
+            return this.redisCommands.get(key);
+        }
+        return this.getHedgedReader().read(
+                () -> this.redisConnection.async().get(key).toCompletableFuture(),
+                () -> this.hedgeConnection.async().get(key).toCompletableFuture(),
+                this.getReadTimeout());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getAndTouch(String, int)
+     */
+    @Override
+    public String getAndTouch(final String key, final int expire) {
+        final int expireTime = super.expiryTime(expire);
+        if (expireTime <= 0) {
+            //  Key without expire time never expires, nothing to reset
+            return this.get(key);
+        }
+        //  GETEX modifies the key, so it was not hedged to the replica connection
+        return this.redisCommands.getex(key, GetExArgs.Builder.ex(expireTime));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getWithVersion(String)
+     */
+    @Override
+    public VersionedValue getWithVersion(final String key) {
+        String value = this.get(key);
+        return (value == null) ? null : new VersionedValue(value, version(value));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#compareAndSet(String, String, String, int)
+     */
+    @Override
+    public boolean compareAndSet(final String key, final String version, final String value, final int expire) {
+        if (version == null) {
+            return "OK".equalsIgnoreCase(this.redisCommands.set(key, value, this.setArgs(SetArgs.Builder.nx(), expire)));
+        }
+        final int expireTime = super.expiryTime(expire);
+        Object result = this.eval(CacheScript.COMPARE_AND_SET, List.of(key),
+                List.of(version, value, Integer.toString(expireTime)));
+        return Long.valueOf(1L).equals(result);
     }
 
     /*
@@ -150,6 +361,93 @@ public final class LettuceProviderImpl extends AbstractProvider {
         return this.redisCommands.decrby(key, step);
     }
 
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#incrAll(Map)
+     */
+    @Override
+    public void incrAll(final Map<String, Long> deltas) {
+        RedisClusterAsyncCommands<String, String> asyncCommands = this.asyncCommands();
+        List<Future<?>> futures = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> futures.add(asyncCommands.incrby(key, delta)));
+        this.awaitAll(futures);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#setField(String, String, String, int)
+     */
+    @Override
+    public void setField(final String key, final String field, final String value, final int expire) {
+        final int expireTime = super.expiryTime(expire);
+        RedisClusterAsyncCommands<String, String> asyncCommands = this.asyncCommands();
+        List<Future<?>> futures = new ArrayList<>(2);
+        futures.add(asyncCommands.hset(key, field, value));
+        if (expireTime > 0) {
+            futures.add(asyncCommands.expire(key, expireTime));
+        }
+        this.awaitAll(futures);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getField(String, String)
+     */
+    @Override
+    public String getField(final String key, final String field) {
+        return this.redisCommands.hget(key, field);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getFields(String, String...)
+     */
+    @Override
+    public Map<String, String> getFields(final String key, final String... fields) {
+        Map<String, String> fieldValues = new LinkedHashMap<>();
+        if (fields.length > 0) {
+            this.redisCommands.hmget(key, fields)
+                    .stream()
+                    .filter(KeyValue::hasValue)
+                    .forEach(keyValue -> fieldValues.put(keyValue.getKey(), keyValue.getValue()));
+        }
+        return fieldValues;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getAllFields(String)
+     */
+    @Override
+    public Map<String, String> getAllFields(final String key) {
+        return this.redisCommands.hgetall(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#incrField(String, String, long)
+     */
+    @Override
+    public long incrField(final String key, final String field, final long step) {
+        return this.redisCommands.hincrby(key, field, step);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#eval(CacheScript, List, List)
+     */
+    @Override
+    public Object eval(final CacheScript cacheScript, final List<String> keys, final List<String> arguments) {
+        final String[] scriptKeys = keys.toArray(new String[0]);
+        final String[] scriptArguments = arguments.toArray(new String[0]);
+        try {
+            return this.eval(CommandType.EVALSHA, cacheScript.digest(), scriptKeys, scriptArguments);
+        } catch (RedisNoScriptException e) {
+            //  Script cache of server was flushed or server was restarted, EVAL loads the script again
+            return this.eval(CommandType.EVAL, cacheScript.body(), scriptKeys, scriptArguments);
+        }
+    }
+
     /*
      * (non-Javadoc)
      * @see org.nervousync.cache.provider.Provider#destroy()
@@ -160,6 +458,10 @@ public final class LettuceProviderImpl extends AbstractProvider {
             this.redisConnection.close();
             this.redisConnection = null;
         }
+        if (this.hedgeConnection != null) {
+            this.hedgeConnection.close();
+            this.hedgeConnection = null;
+        }
         if (this.clusterConnection != null) {
             this.clusterConnection.close();
             this.clusterConnection = null;
@@ -174,6 +476,7 @@ public final class LettuceProviderImpl extends AbstractProvider {
      */
     protected void singletonMode(final ServerConfig serverConfig, final String userName, final String passWord) {
         this.redisClient = RedisClient.create(this.create(serverConfig, userName, passWord));
+        ((RedisClient) this.redisClient).setOptions(this.clientOptions());
         this.redisConnection = ((RedisClient) this.redisClient).connect(StringCodec.UTF8);
         this.redisCommands = this.redisConnection.sync();
     }
@@ -197,9 +500,16 @@ public final class LettuceProviderImpl extends AbstractProvider {
                 RedisURI.Builder sentinelBuilder = this.newBuilder().withSentinelMasterId(masterName);
                 serverConfigList.forEach(serverConfig ->
                         sentinelBuilder.withSentinel(this.create(serverConfig, userName, passWord)));
-                this.redisClient = RedisClient.create(sentinelBuilder.build());
+                RedisURI sentinelURI = sentinelBuilder.build();
+                this.redisClient = RedisClient.create(sentinelURI);
+                ((RedisClient) this.redisClient).setOptions(this.clientOptions());
                 this.redisConnection = ((RedisClient) this.redisClient).connect(StringCodec.UTF8);
                 this.redisCommands = this.redisConnection.sync();
+                if (this.getHedgedReader() != null) {
+                    //  Reads were sent to master, hedged reads were sent to replica
+                    this.hedgeConnection = MasterReplica.connect((RedisClient) this.redisClient, StringCodec.UTF8, sentinelURI);
+                    this.hedgeConnection.setReadFrom(ReadFrom.REPLICA_PREFERRED);
+                }
                 break;
             case Master_Slave:
                 List<RedisURI> masterList = new ArrayList<>(serverConfigList.size());
@@ -215,28 +525,139 @@ public final class LettuceProviderImpl extends AbstractProvider {
                 serverList.addAll(masterList);
                 serverList.addAll(slaveList);
                 this.redisClient = RedisClient.create();
+                ((RedisClient) this.redisClient).setOptions(this.clientOptions());
                 this.redisConnection = MasterReplica.connect((RedisClient) this.redisClient, StringCodec.UTF8, serverList);
                 ((StatefulRedisMasterReplicaConnection<String, String>) this.redisConnection).setReadFrom(ReadFrom.REPLICA);
                 this.redisCommands = this.redisConnection.sync();
+                if (this.getHedgedReader() != null) {
+                    //  Reads were sent to replica, hedged reads were sent to master
+                    this.hedgeConnection = MasterReplica.connect((RedisClient) this.redisClient, StringCodec.UTF8, serverList);
+                    this.hedgeConnection.setReadFrom(ReadFrom.UPSTREAM);
+                }
                 break;
             case Cluster:
                 List<RedisURI> clusterList = new ArrayList<>(serverConfigList.size());
                 serverConfigList.forEach(serverConfig -> clusterList.add(this.create(serverConfig, userName, passWord)));
                 this.redisClient = RedisClusterClient.create(clusterList);
                 ((RedisClusterClient) this.redisClient)
-                        .setOptions(ClusterClientOptions.builder().autoReconnect(Boolean.TRUE).maxRedirects(1).build());
+                        .setOptions(ClusterClientOptions.builder().autoReconnect(Boolean.TRUE).maxRedirects(1)
+                                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                                .requestQueueSize(REQUEST_QUEUE_SIZE)
+                                .socketOptions(this.socketOptions())
+                                .timeoutOptions(this.timeoutOptions())
+                                .build());
                 this.clusterConnection = ((RedisClusterClient) this.redisClient).connect(StringCodec.UTF8);
                 this.redisCommands = this.clusterConnection.sync();
                 break;
         }
     }
 
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#warmup(int, int)
+     */
+    @Override
+    protected void warmup(final int connections, final int timeout) {
+        //  Connections were multiplexed, so only one connection was created for each node
+        List<Supplier<String>> operations = new ArrayList<>();
+        if (this.clusterConnection != null) {
+            //  Node connections of cluster were created when first command was routed to the node
+            this.clusterConnection.getPartitions().forEach(redisNode ->
+                    operations.add(() -> this.clusterConnection.getConnection(redisNode.getNodeId()).sync().ping()));
+        } else {
+            operations.add(() -> this.redisConnection.sync().ping());
+            if (this.hedgeConnection != null) {
+                operations.add(() -> this.hedgeConnection.sync().ping());
+            }
+        }
+        BlockingExecutor.invokeAll(operations, timeout);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#retryable(RuntimeException)
+     */
+    @Override
+    protected boolean retryable(final RuntimeException exception) {
+        return exception instanceof RedisConnectionException || exception instanceof RedisCommandTimeoutException
+                || super.retryable(exception);
+    }
+
+    private RedisClusterAsyncCommands<String, String> asyncCommands() {
+        return (this.clusterConnection == null) ? this.redisConnection.async() : this.clusterConnection.async();
+    }
+
+    private static CompletableFuture<ScanIterator.Page> page(final RedisFuture<KeyScanCursor<String>> future) {
+        return future.toCompletableFuture()
+                .thenApply(keyScanCursor -> new ScanIterator.Page(
+                        keyScanCursor.isFinished() ? ScanIterator.INITIAL_CURSOR : keyScanCursor.getCursor(),
+                        keyScanCursor.getKeys()));
+    }
+
+    private void awaitAll(final List<Future<?>> futures) {
+        //  Commands were sent without waiting for replies, so the batch cost one round trip
+        if (!LettuceFutures.awaitAll(Duration.ofMillis(this.getWriteTimeout()), futures.toArray(new Future<?>[0]))) {
+            throw new RedisCommandTimeoutException();
+        }
+    }
+
     private void process(final String key, final String value, final int expire) {
-        this.redisCommands.setex(key, super.expiryTime(expire), value);
+        final int expireTime = super.expiryTime(expire);
+        if (expireTime > 0) {
+            this.redisCommands.setex(key, expireTime, value);
+        } else {
+            //  Key without expire time never expires
+            this.redisCommands.set(key, value);
+        }
+    }
+
+    private SetArgs setArgs(final SetArgs setArgs, final int expire) {
+        final int expireTime = super.expiryTime(expire);
+        //  Key without expire time never expires
+        return (expireTime > 0) ? setArgs.ex(expireTime) : setArgs;
+    }
+
+    private Object eval(final CommandType commandType, final String script, final String[] keys,
+                        final String[] arguments) {
+        CommandArgs<String, String> commandArgs = new CommandArgs<>(StringCodec.UTF8)
+                .add(script)
+                .add(keys.length)
+                .addKeys(keys)
+                .addValues(arguments);
+        return this.redisCommands.dispatch(commandType, new ScriptOutput(), commandArgs);
+    }
+
+    private ClientOptions clientOptions() {
+        //  Reject commands immediately when connection was lost, let the circuit breaker fail fast
+        return ClientOptions.builder()
+                .autoReconnect(Boolean.TRUE)
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                .requestQueueSize(REQUEST_QUEUE_SIZE)
+                .socketOptions(this.socketOptions())
+                .timeoutOptions(this.timeoutOptions())
+                .build();
+    }
+
+    private SocketOptions socketOptions() {
+        return SocketOptions.builder().connectTimeout(Duration.ofMillis(this.getConnectTimeoutMillis())).build();
+    }
+
+    private TimeoutOptions timeoutOptions() {
+        final long readTimeout = this.getReadTimeout();
+        final long writeTimeout = this.getWriteTimeout();
+        return TimeoutOptions.builder()
+                .timeoutSource(new TimeoutOptions.TimeoutSource() {
+                    @Override
+                    public long getTimeout(final RedisCommand<?, ?, ?> command) {
+                        return (command.getType() instanceof CommandType
+                                && READ_COMMANDS.contains((CommandType) command.getType())) ? readTimeout : writeTimeout;
+                    }
+                })
+                .build();
     }
 
     private RedisURI.Builder newBuilder() {
-        return RedisURI.builder().withTimeout(Duration.ofMillis(this.getConnectTimeout() * 1000L));
+        return RedisURI.builder().withTimeout(Duration.ofMillis(this.getCommandTimeout()));
     }
 
     private RedisURI create(final ServerConfig serverConfig, final String userName, final String passWord) {
@@ -252,4 +673,43 @@ public final class LettuceProviderImpl extends AbstractProvider {
         }
         return serverBuilder.build();
     }
+
+    /**
+     * <h2 class="en-US">Output of script reply</h2>
+     * <span class="en-US">
+     *     Object output wraps top level scalar reply in a list, the scalar was unwrapped as the other providers
+     *     returned, array reply was returned as list even if it contains only one element.
+     * </span>
+     * <h2 class="zh-CN">脚本返回值的输出</h2>
+     * <span class="zh-CN">
+     *     Object输出将顶层标量返回值包装在列表中，标量被解包以与其他适配器的返回值一致，数组返回值即使只包含一个元素也作为列表返回。
+     * </span>
+     */
+    private static final class ScriptOutput extends ObjectOutput<String, String> {
+
+        /**
+         * <span class="en-US">Reply was array, nested arrays were contained in top level array only</span>
+         * <span class="zh-CN">返回值为数组，嵌套数组只存在于顶层数组中</span>
+         */
+        private boolean multi = Boolean.FALSE;
+
+        ScriptOutput() {
+            super(StringCodec.UTF8);
+        }
+
+        @Override
+        public void multi(final int count) {
+            this.multi = Boolean.TRUE;
+            super.multi(count);
+        }
+
+        @Override
+        public Object get() {
+            Object result = super.get();
+            if (!this.multi && result instanceof List<?> resultList && resultList.size() == 1) {
+                return resultList.get(0);
+            }
+            return result;
+        }
+    }
 }
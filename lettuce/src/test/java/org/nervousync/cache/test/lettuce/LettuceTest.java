@@ -17,10 +17,19 @@
 package org.nervousync.cache.test.lettuce;
 
 import org.nervousync.cache.test.core.BaseCacheTest;
+import org.nervousync.cache.test.server.AbstractEmbeddedServer;
+import org.nervousync.cache.test.server.EmbeddedRedisServer;
+
+import java.util.List;
 
 public final class LettuceTest extends BaseCacheTest {
 
 	public LettuceTest() {
 		super("LettuceProvider");
 	}
+
+	@Override
+	protected List<AbstractEmbeddedServer<?>> embeddedServers() {
+		return List.of(new EmbeddedRedisServer());
+	}
 }
@@ -17,18 +17,45 @@
 package org.nervousync.cache.provider.impl.redisson;
 
 import org.nervousync.annotations.provider.Provider;
+import org.nervousync.cache.api.VersionedValue;
 import org.nervousync.cache.config.CacheConfig;
+import org.nervousync.cache.enumeration.ClusterMode;
 import org.nervousync.cache.provider.impl.AbstractProvider;
+import org.nervousync.cache.scan.ScanIterator;
+import org.nervousync.cache.script.CacheScript;
 import org.nervousync.commons.Globals;
 import org.nervousync.utils.StringUtils;
 import org.redisson.Redisson;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucket;
+import org.redisson.api.RFuture;
+import org.redisson.api.RKeysAsync;
+import org.redisson.api.RMap;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RScript;
+import org.redisson.api.RSetAsync;
 import org.redisson.api.RedissonClient;
+import org.redisson.api.redisnode.BaseRedisNodes;
+import org.redisson.api.redisnode.RedisNodes;
+import org.redisson.client.RedisConnectionException;
+import org.redisson.client.RedisException;
+import org.redisson.client.RedisTimeoutException;
 import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.RedisCommands;
+import org.redisson.client.protocol.decoder.ListScanResult;
+import org.redisson.command.CommandAsyncExecutor;
 import org.redisson.config.*;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
  * <h2 class="en-US">Redis cache provider using Redisson</h2>
@@ -41,6 +68,14 @@ import java.util.List;
 public final class RedissonProviderImpl extends AbstractProvider {
 
     private RedissonClient redissonClient = null;
+    /**
+     * <span class="en-US">
+     *     Command executor of current client for hedged read, read from master node by the same connection pools,
+     *     null if hedged read was disabled
+     * </span>
+     * <span class="zh-CN">当前客户端用于对冲读取的命令执行器，使用相同的连接池从主节点读取，如果对冲读取未启用则为null</span>
+     */
+    private CommandAsyncExecutor hedgeExecutor = null;
 
     public RedissonProviderImpl() {
     }
@@ -56,8 +91,14 @@ public final class RedissonProviderImpl extends AbstractProvider {
      */
     @Override
     public void set(final String key, final String value, final int expire) {
-        this.redissonClient.getBucket(key, new StringCodec(Globals.DEFAULT_ENCODING))
-                .set(value, Duration.ofSeconds(this.expiryTime(expire)));
+        final int expireTime = this.expiryTime(expire);
+        RBucket<String> bucket = this.redissonClient.getBucket(key, new StringCodec(Globals.DEFAULT_ENCODING));
+        if (expireTime > 0) {
+            bucket.set(value, Duration.ofSeconds(expireTime));
+        } else {
+            //  Key without expire time never expires
+            bucket.set(value);
+        }
     }
 
     /*
@@ -65,8 +106,11 @@ public final class RedissonProviderImpl extends AbstractProvider {
      * @see org.nervousync.cache.provider.Provider#add(String, String, int)
      */
     @Override
-    public void add(final String key, final String value, final int expire) {
-        this.set(key, value, expire);
+    public boolean add(final String key, final String value, final int expire) {
+        final int expireTime = this.expiryTime(expire);
+        RBucket<String> bucket = this.redissonClient.getBucket(key, new StringCodec(Globals.DEFAULT_ENCODING));
+        //  Key without expire time never expires
+        return (expireTime > 0) ? bucket.setIfAbsent(value, Duration.ofSeconds(expireTime)) : bucket.setIfAbsent(value);
     }
 
     /*
@@ -74,8 +118,11 @@ public final class RedissonProviderImpl extends AbstractProvider {
      * @see org.nervousync.cache.provider.Provider#replace(String, String, int)
      */
     @Override
-    public void replace(final String key, final String value, final int expire) {
-        this.set(key, value, expire);
+    public boolean replace(final String key, final String value, final int expire) {
+        final int expireTime = this.expiryTime(expire);
+        RBucket<String> bucket = this.redissonClient.getBucket(key, new StringCodec(Globals.DEFAULT_ENCODING));
+        //  Key without expire time never expires
+        return (expireTime > 0) ? bucket.setIfExists(value, Duration.ofSeconds(expireTime)) : bucket.setIfExists(value);
     }
 
     /*
@@ -94,7 +141,121 @@ public final class RedissonProviderImpl extends AbstractProvider {
      */
     @Override
     public void delete(final String key) {
-        this.redissonClient.getBucket(key, new StringCodec(Globals.DEFAULT_ENCODING)).delete();
+        if (this.isLazyDelete()) {
+            this.redissonClient.getBucket(key, new StringCodec(Globals.DEFAULT_ENCODING)).unlink();
+        } else {
+            this.redissonClient.getBucket(key, new StringCodec(Globals.DEFAULT_ENCODING)).delete();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#deleteAll(Collection)
+     */
+    @Override
+    public long deleteAll(final Collection<String> keys) {
+        //  Multi-key commands were split by slot and sent to each master node by Redisson batch
+        RBatch batch = this.redissonClient.createBatch();
+        RKeysAsync redisKeys = batch.getKeys();
+        List<RFuture<Long>> futures = deleteGroups(keys)
+                .stream()
+                .map(deleteGroup -> this.isLazyDelete() ? redisKeys.unlinkAsync(deleteGroup) : redisKeys.deleteAsync(deleteGroup))
+                .toList();
+        batch.execute();
+        return futures.stream().mapToLong(future -> future.toCompletableFuture().join()).sum();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#tag(String, int, String...)
+     */
+    @Override
+    public void tag(final String key, final int expire, final String... tags) {
+        final Duration expireTime = Duration.ofSeconds(this.expiryTime(expire));
+        RBatch batch = this.redissonClient.createBatch();
+        for (String tag : tags) {
+            RSetAsync<String> tagSet = batch.getSet(tagKey(tag), new StringCodec(Globals.DEFAULT_ENCODING));
+            tagSet.addAsync(key);
+            if (!expireTime.isNegative() && !expireTime.isZero()) {
+                //  Set expire time if member set has no expire time, otherwise extend it only if greater
+                tagSet.expireIfNotSetAsync(expireTime);
+                tagSet.expireIfGreaterAsync(expireTime);
+            }
+        }
+        batch.execute();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#invalidateTag(String)
+     */
+    @Override
+    public String[] invalidateTag(final String tag) {
+        final String tagKey = tagKey(tag);
+        String[] members = this.redissonClient.<String>getSet(tagKey, new StringCodec(Globals.DEFAULT_ENCODING))
+                .readAll()
+                .toArray(new String[0]);
+        if (members.length > 0) {
+            RBatch batch = this.redissonClient.createBatch();
+            Arrays.stream(members)
+                    .map(member -> batch.getBucket(member, new StringCodec(Globals.DEFAULT_ENCODING)))
+                    .forEach(bucket -> {
+                        if (this.isLazyDelete()) {
+                            bucket.unlinkAsync();
+                        } else {
+                            bucket.deleteAsync();
+                        }
+                    });
+            //  Remove the read members only, keys tagged after read will be removed by next invalidation
+            batch.<String>getSet(tagKey, new StringCodec(Globals.DEFAULT_ENCODING)).removeAllAsync(Arrays.asList(members));
+            batch.execute();
+        }
+        return members;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#acquireLease(String, String, int)
+     */
+    @Override
+    public boolean acquireLease(final String key, final String token, final int leaseTime) {
+        return this.redissonClient.getBucket(leaseKey(key), new StringCodec(Globals.DEFAULT_ENCODING))
+                .setIfAbsent(token, Duration.ofMillis(leaseTime));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#releaseLease(String, String)
+     */
+    @Override
+    public void releaseLease(final String key, final String token) {
+        RBucket<Object> bucket = this.redissonClient.getBucket(leaseKey(key), new StringCodec(Globals.DEFAULT_ENCODING));
+        //  Check and delete were not atomic, if the lease expired between them, lease of other client was removed
+        //  and only causes one more load
+        if (token.equals(bucket.get())) {
+            bucket.delete();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#scan(String, int)
+     */
+    @Override
+    public Iterator<String> scan(final String pattern, final int batchSize) {
+        final CommandAsyncExecutor commandExecutor = ((Redisson) this.redissonClient).getCommandExecutor();
+        List<ScanIterator.NodeScanner> nodeScanners = new ArrayList<>();
+        //  Keys were distributed over master entries, scan each entry by its own connection pools
+        commandExecutor.getConnectionManager()
+                .getEntrySet()
+                .forEach(masterSlaveEntry -> nodeScanners.add(cursor ->
+                        commandExecutor.<ListScanResult<String>, ListScanResult<String>>readAsync(masterSlaveEntry,
+                                        new StringCodec(Globals.DEFAULT_ENCODING), RedisCommands.SCAN,
+                                        cursor, "MATCH", pattern, "COUNT", batchSize)
+                                .toCompletableFuture()
+                                .thenApply(scanResult ->
+                                        new ScanIterator.Page(scanResult.getPos(), scanResult.getValues()))));
+        return new ScanIterator(nodeScanners, this.getReadTimeout());
     }
 
     /*
@@ -103,7 +264,58 @@ public final class RedissonProviderImpl extends AbstractProvider {
      */
     @Override
     public String get(final String key) {
-        return (String) this.redissonClient.getBucket(key, new StringCodec(Globals.DEFAULT_ENCODING)).get();
+        if (this.hedgeExecutor == null) {
+            return (String) this.redissonClient.getBucket(key, new StringCodec(Globals.DEFAULT_ENCODING)).get();
+        }
+        return (String) this.getHedgedReader().read(
+                () -> this.redissonClient.getBucket(key, new StringCodec(Globals.DEFAULT_ENCODING))
+                        .getAsync().toCompletableFuture(),
+                //  GET was routed as write command, so it was sent to the master node of the key
+                () -> this.hedgeExecutor.<Object, Object>writeAsync(key, new StringCodec(Globals.DEFAULT_ENCODING),
+                        RedisCommands.GET, key).toCompletableFuture(),
+                this.getReadTimeout());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getAndTouch(String, int)
+     */
+    @Override
+    public String getAndTouch(final String key, final int expire) {
+        final int expireTime = this.expiryTime(expire);
+        if (expireTime <= 0) {
+            //  Key without expire time never expires, nothing to reset
+            return this.get(key);
+        }
+        return (String) this.redissonClient.getBucket(key, new StringCodec(Globals.DEFAULT_ENCODING))
+                .getAndExpire(Duration.ofSeconds(expireTime));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getWithVersion(String)
+     */
+    @Override
+    public VersionedValue getWithVersion(final String key) {
+        String value = this.get(key);
+        return (value == null) ? null : new VersionedValue(value, version(value));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#compareAndSet(String, String, String, int)
+     */
+    @Override
+    public boolean compareAndSet(final String key, final String version, final String value, final int expire) {
+        final int expireTime = this.expiryTime(expire);
+        if (version == null) {
+            RBucket<String> bucket = this.redissonClient.getBucket(key, new StringCodec(Globals.DEFAULT_ENCODING));
+            //  Key without expire time never expires
+            return (expireTime > 0) ? bucket.setIfAbsent(value, Duration.ofSeconds(expireTime)) : bucket.setIfAbsent(value);
+        }
+        Object result = this.eval(CacheScript.COMPARE_AND_SET, List.of(key),
+                List.of(version, value, Integer.toString(expireTime)));
+        return Long.valueOf(1L).equals(result);
     }
 
     /*
@@ -124,6 +336,104 @@ public final class RedissonProviderImpl extends AbstractProvider {
         return this.redissonClient.getAtomicLong(key).addAndGet(step * -1L);
     }
 
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#incrAll(Map)
+     */
+    @Override
+    public void incrAll(final Map<String, Long> deltas) {
+        RBatch batch = this.redissonClient.createBatch();
+        deltas.forEach((key, delta) -> batch.getAtomicLong(key).addAndGetAsync(delta));
+        batch.execute();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#setField(String, String, String, int)
+     */
+    @Override
+    public void setField(final String key, final String field, final String value, final int expire) {
+        final int expireTime = this.expiryTime(expire);
+        RBatch batch = this.redissonClient.createBatch();
+        RMapAsync<String, String> hash = batch.getMap(key, new StringCodec(Globals.DEFAULT_ENCODING));
+        hash.fastPutAsync(field, value);
+        if (expireTime > 0) {
+            hash.expireAsync(Duration.ofSeconds(expireTime));
+        }
+        batch.execute();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getField(String, String)
+     */
+    @Override
+    public String getField(final String key, final String field) {
+        return this.hash(key).get(field);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getFields(String, String...)
+     */
+    @Override
+    public Map<String, String> getFields(final String key, final String... fields) {
+        if (fields.length == 0) {
+            return new LinkedHashMap<>();
+        }
+        return this.hash(key).getAll(new LinkedHashSet<>(Arrays.asList(fields)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getAllFields(String)
+     */
+    @Override
+    public Map<String, String> getAllFields(final String key) {
+        return this.hash(key).readAllMap();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#incrField(String, String, long)
+     */
+    @Override
+    public long incrField(final String key, final String field, final long step) {
+        //  Redisson increase the field by HINCRBYFLOAT, the result was converted to the type of step
+        return this.redissonClient.<String, Long>getMap(key, new StringCodec(Globals.DEFAULT_ENCODING))
+                .addAndGet(field, step);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#eval(CacheScript, List, List)
+     */
+    @Override
+    public Object eval(final CacheScript cacheScript, final List<String> keys, final List<String> arguments) {
+        RScript script = this.redissonClient.getScript(new StringCodec(Globals.DEFAULT_ENCODING));
+        //  Command was routed by the first key, keys of one script must be located in the same slot
+        final String routingKey = keys.isEmpty() ? null : keys.get(0);
+        final List<Object> scriptKeys = new ArrayList<>(keys);
+        final Object[] scriptArguments = arguments.toArray();
+        try {
+            return (routingKey == null)
+                    ? script.evalSha(RScript.Mode.READ_WRITE, cacheScript.digest(), RScript.ReturnType.MULTI,
+                    scriptKeys, scriptArguments)
+                    : script.evalSha(routingKey, RScript.Mode.READ_WRITE, cacheScript.digest(),
+                    RScript.ReturnType.MULTI, scriptKeys, scriptArguments);
+        } catch (RedisException e) {
+            if (e.getMessage() == null || !e.getMessage().startsWith("NOSCRIPT")) {
+                throw e;
+            }
+            //  Script cache of server was flushed or server was restarted, EVAL loads the script again
+            return (routingKey == null)
+                    ? script.eval(RScript.Mode.READ_WRITE, cacheScript.body(), RScript.ReturnType.MULTI,
+                    scriptKeys, scriptArguments)
+                    : script.eval(routingKey, RScript.Mode.READ_WRITE, cacheScript.body(),
+                    RScript.ReturnType.MULTI, scriptKeys, scriptArguments);
+        }
+    }
+
     /*
      * (non-Javadoc)
      * @see org.nervousync.cache.provider.Provider#destroy()
@@ -155,7 +465,9 @@ public final class RedissonProviderImpl extends AbstractProvider {
         SingleServerConfig singleConfig = config.useSingleServer()
                 .setAddress(this.serverAddress(serverConfig.getServerAddress(), serverConfig.getServerPort()))
                 .setConnectionMinimumIdleSize(this.getClientPoolSize())
-                .setConnectTimeout(this.getConnectTimeout() * 1000)
+                .setConnectTimeout(this.getConnectTimeoutMillis())
+                .setTimeout(this.getCommandTimeout())
+                .setRetryAttempts(Globals.INITIALIZE_INT_VALUE)
                 .setConnectionPoolSize(this.getClientPoolSize())
                 .setDatabase(0);
         if (StringUtils.notBlank(passWord)) {
@@ -174,6 +486,36 @@ public final class RedissonProviderImpl extends AbstractProvider {
      */
     protected void clusterMode(final List<CacheConfig.ServerConfig> serverConfigList,
                              final String masterName, final String userName, final String passWord) {
+        this.redissonClient =
+                Redisson.create(this.clusterConfig(serverConfigList, masterName, userName, passWord, ReadMode.SLAVE));
+        if (this.getHedgedReader() != null) {
+            //  Reads were sent to slave, hedged reads were sent to master without another client and connection pools
+            this.hedgeExecutor = ((Redisson) this.redissonClient).getCommandExecutor();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#warmup(int, int)
+     */
+    @Override
+    protected void warmup(final int connections, final int timeout) {
+        //  Minimum idle connections of each node were created by Redisson when the client was created
+        ping(this.redissonClient, timeout);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#retryable(RuntimeException)
+     */
+    @Override
+    protected boolean retryable(final RuntimeException exception) {
+        return exception instanceof RedisConnectionException || exception instanceof RedisTimeoutException
+                || super.retryable(exception);
+    }
+
+    private Config clusterConfig(final List<CacheConfig.ServerConfig> serverConfigList, final String masterName,
+                                 final String userName, final String passWord, final ReadMode readMode) {
         Config config = new Config();
         switch (this.getClusterMode()) {
             case Sentinel:
@@ -181,10 +523,14 @@ public final class RedissonProviderImpl extends AbstractProvider {
                         .setMasterName(masterName)
                         .setSentinelUsername(StringUtils.notBlank(userName) ? userName : null)
                         .setSentinelPassword(StringUtils.notBlank(passWord) ? userName : null)
-                        .setConnectTimeout(this.getConnectTimeout() * 1000)
-                        .setRetryAttempts(this.getRetryCount())
+                        .setConnectTimeout(this.getConnectTimeoutMillis())
+                        .setTimeout(this.getCommandTimeout())
+                        .setRetryAttempts(Globals.INITIALIZE_INT_VALUE)
                         .setSlaveConnectionPoolSize(this.getClientPoolSize())
-                        .setMasterConnectionPoolSize(this.getClientPoolSize());
+                        .setMasterConnectionPoolSize(this.getClientPoolSize())
+                        .setSlaveConnectionMinimumIdleSize(this.getClientPoolSize())
+                        .setMasterConnectionMinimumIdleSize(this.getClientPoolSize())
+                        .setReadMode(readMode);
                 serverConfigList.forEach(serverConfig ->
                         sentinelConfig.addSentinelAddress(this.serverAddress(serverConfig.getServerAddress(),
                                 serverConfig.getServerPort())));
@@ -193,11 +539,14 @@ public final class RedissonProviderImpl extends AbstractProvider {
                 MasterSlaveServersConfig masterSlaveConfig = config.useMasterSlaveServers()
                         .setUsername(StringUtils.notBlank(userName) ? userName : null)
                         .setPassword(StringUtils.notBlank(passWord) ? userName : null)
-                        .setConnectTimeout(this.getConnectTimeout() * 1000)
-                        .setRetryAttempts(this.getRetryCount())
+                        .setConnectTimeout(this.getConnectTimeoutMillis())
+                        .setTimeout(this.getCommandTimeout())
+                        .setRetryAttempts(Globals.INITIALIZE_INT_VALUE)
                         .setSlaveConnectionPoolSize(this.getClientPoolSize())
                         .setMasterConnectionPoolSize(this.getClientPoolSize())
-                        .setReadMode(ReadMode.SLAVE);
+                        .setSlaveConnectionMinimumIdleSize(this.getClientPoolSize())
+                        .setMasterConnectionMinimumIdleSize(this.getClientPoolSize())
+                        .setReadMode(readMode);
                 serverConfigList.forEach(serverConfig -> {
                     if (serverConfig.getServerAddress().equalsIgnoreCase(masterName)) {
                         masterSlaveConfig.setMasterAddress(this.serverAddress(serverConfig.getServerAddress(),
@@ -212,17 +561,41 @@ public final class RedissonProviderImpl extends AbstractProvider {
                 ClusterServersConfig clusterConfig = config.useClusterServers()
                         .setUsername(StringUtils.notBlank(userName) ? userName : null)
                         .setPassword(StringUtils.notBlank(passWord) ? userName : null)
-                        .setConnectTimeout(this.getConnectTimeout() * 1000)
-                        .setRetryAttempts(this.getRetryCount())
+                        .setConnectTimeout(this.getConnectTimeoutMillis())
+                        .setTimeout(this.getCommandTimeout())
+                        .setRetryAttempts(Globals.INITIALIZE_INT_VALUE)
                         .setSlaveConnectionPoolSize(this.getClientPoolSize())
-                        .setMasterConnectionPoolSize(this.getClientPoolSize());
+                        .setMasterConnectionPoolSize(this.getClientPoolSize())
+                        .setSlaveConnectionMinimumIdleSize(this.getClientPoolSize())
+                        .setMasterConnectionMinimumIdleSize(this.getClientPoolSize());
                 serverConfigList.forEach(serverConfig ->
                         clusterConfig.addNodeAddress(this.serverAddress(serverConfig.getServerAddress(),
                                 serverConfig.getServerPort())));
                 break;
         }
         config.setTransportMode(TransportMode.NIO);
-        this.redissonClient = Redisson.create(config);
+        return config;
+    }
+
+    private static void ping(final RedissonClient redissonClient, final int timeout) {
+        Config config = redissonClient.getConfig();
+        BaseRedisNodes redisNodes;
+        if (config.isClusterConfig()) {
+            redisNodes = redissonClient.getRedisNodes(RedisNodes.CLUSTER);
+        } else if (config.isSentinelConfig()) {
+            redisNodes = redissonClient.getRedisNodes(RedisNodes.SENTINEL_MASTER_SLAVE);
+        } else if (config.isSingleConfig()) {
+            redisNodes = redissonClient.getRedisNodes(RedisNodes.SINGLE);
+        } else {
+            redisNodes = redissonClient.getRedisNodes(RedisNodes.MASTER_SLAVE);
+        }
+        if (!redisNodes.pingAll(timeout, TimeUnit.MILLISECONDS)) {
+            throw new RedisConnectionException("Ping redis nodes failed");
+        }
+    }
+
+    private RMap<String, String> hash(final String key) {
+        return this.redissonClient.getMap(key, new StringCodec(Globals.DEFAULT_ENCODING));
     }
 
     private String serverAddress(final String serverAddress, final int serverPort) {
@@ -17,9 +17,43 @@
 package org.nervousync.cache.test.redisson;
 
 import org.nervousync.cache.test.core.BaseCacheTest;
+import org.nervousync.cache.test.server.AbstractEmbeddedServer;
+import org.nervousync.cache.test.server.EmbeddedRedisServer;
+
+import java.util.List;
 
 public final class RedissonTest extends BaseCacheTest {
     public RedissonTest() {
         super("RedissonProvider");
     }
+
+    @Override
+    protected List<AbstractEmbeddedServer<?>> embeddedServers() {
+        EmbeddedRedisServer redisServer = new EmbeddedRedisServer();
+        //  Emulate the expire scripts which used by RExpirable
+        redisServer.script(expireScript("pexpire"), (server, keys, arguments) -> expire(server, "PEXPIRE", keys, arguments));
+        redisServer.script(expireScript("pexpireat"), (server, keys, arguments) -> expire(server, "PEXPIREAT", keys, arguments));
+        return List.of(redisServer);
+    }
+
+    private static String expireScript(final String command) {
+        return "local result = 0;for j = 1, #KEYS, 1 do local expireSet; if ARGV[2] ~= '' then expireSet = "
+                + "redis.call('" + command + "', KEYS[j], ARGV[1], ARGV[2]); else expireSet = "
+                + "redis.call('" + command + "', KEYS[j], ARGV[1]); end; "
+                + "if expireSet == 1 then result = expireSet;end; end; return result; ";
+    }
+
+    private static long expire(final EmbeddedRedisServer server, final String command,
+                               final List<String> keys, final List<String> arguments) {
+        long result = 0L;
+        for (String key : keys) {
+            Object expireSet = (arguments.size() > 1 && !arguments.get(1).isEmpty())
+                    ? server.call(command, key, arguments.get(0), arguments.get(1))
+                    : server.call(command, key, arguments.get(0));
+            if (Long.valueOf(1L).equals(expireSet)) {
+                result = 1L;
+            }
+        }
+        return result;
+    }
 }
@@ -3,18 +3,36 @@ package org.nervousync.cache.test.core;
 import org.apache.logging.log4j.Level;
 import org.junit.jupiter.api.*;
 import org.nervousync.cache.CacheUtils;
+import org.nervousync.cache.api.CacheClient;
+import org.nervousync.cache.api.CacheCounter;
+import org.nervousync.cache.api.NamespaceClient;
+import org.nervousync.cache.api.VersionedValue;
 import org.nervousync.cache.builder.CacheConfigBuilder;
 import org.nervousync.cache.commons.CacheGlobals;
 import org.nervousync.cache.config.CacheConfig;
+import org.nervousync.cache.enumeration.CircuitState;
 import org.nervousync.cache.exceptions.CacheException;
+import org.nervousync.cache.provider.ProviderManager;
+import org.nervousync.cache.provider.impl.AbstractProvider;
+import org.nervousync.cache.test.server.AbstractEmbeddedServer;
 import org.nervousync.commons.Globals;
 import org.nervousync.configs.ConfigureManager;
 import org.nervousync.exceptions.builder.BuilderException;
 import org.nervousync.utils.LoggerUtils;
+import org.nervousync.utils.ObjectUtils;
 import org.nervousync.utils.PropertiesUtils;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -23,6 +41,7 @@ public abstract class BaseCacheTest {
     private transient final LoggerUtils.Logger logger = LoggerUtils.getLogger(this.getClass());
     private static final Properties PROPERTIES;
     private final String providerName;
+    private final List<AbstractEmbeddedServer<?>> embeddedServers = new ArrayList<>();
 
     static {
         LoggerUtils.initLoggerConfigure(Level.DEBUG);
@@ -45,6 +64,23 @@ public abstract class BaseCacheTest {
                 .ifPresent(configureManager -> configureManager.removeConfigure(CacheConfig.class, "TestCache"));
     }
 
+    @AfterAll
+    public final void shutdown() {
+        this.embeddedServers.forEach(AbstractEmbeddedServer::close);
+        this.embeddedServers.clear();
+    }
+
+    /**
+     * <h3 class="en-US">Create embedded servers, used when authorization file was not found</h3>
+     * <h3 class="zh-CN">创建内嵌服务器，在未找到认证文件时使用</h3>
+     *
+     * @return <span class="en-US">Embedded server list, empty list for skip test</span>
+     * <span class="zh-CN">内嵌服务器列表，空列表则跳过测试</span>
+     */
+    protected List<AbstractEmbeddedServer<?>> embeddedServers() {
+        return List.of();
+    }
+
     @BeforeEach
     public final void init(final TestInfo testInfo) {
         this.logger.info("Execute_Begin_Test",
@@ -59,24 +95,55 @@ public abstract class BaseCacheTest {
 
     @Test
     public final void test() throws BuilderException, CacheException {
-        if (PROPERTIES.isEmpty()) {
-            this.logger.info("No_Auth_File");
-            return;
-        }
-        boolean generateResult = CacheConfigBuilder.newBuilder("TestCache")
+        CacheConfigBuilder configBuilder = CacheConfigBuilder.newBuilder("TestCache")
                 .providerName(this.providerName)
                 .connectTimeout(CacheGlobals.DEFAULT_CONNECTION_TIMEOUT)
                 .expireTime(5)
-                .clientPoolSize(CacheGlobals.DEFAULT_CLIENT_POOL_SIZE)
-                .maximumClient(CacheGlobals.DEFAULT_MAXIMUM_CLIENT)
-                .serverBuilder()
-                .serverConfig(PROPERTIES.getProperty("ServerAddress"), Integer.parseInt(PROPERTIES.getProperty("ServerPort")))
-                .serverWeight(PROPERTIES.containsKey("ServerWeight")
-                        ? Integer.parseInt(PROPERTIES.getProperty("ServerWeight"))
-                        : Globals.DEFAULT_VALUE_INT)
+                .expireJitter(20, 1)
+                .lazyDelete(Boolean.TRUE)
+                .fillLeaseBuilder()
+                .leaseTime(CacheGlobals.DEFAULT_FILL_LEASE_TIME)
+                .waitTime(CacheGlobals.DEFAULT_FILL_WAIT_TIME, CacheGlobals.DEFAULT_FILL_POLL_INTERVAL)
+                .confirm()
+                .counterBuilder()
+                .flush(CacheGlobals.DEFAULT_COUNTER_FLUSH_INTERVAL, 100L)
                 .confirm()
-                .authorization(PROPERTIES.getProperty("UserName"), PROPERTIES.getProperty("PassWord"))
-                .confirm();
+                .warmupBuilder()
+                .timeout(CacheGlobals.DEFAULT_WARMUP_TIMEOUT)
+                .confirm()
+                .clientPoolSize(CacheGlobals.DEFAULT_CLIENT_POOL_SIZE)
+                .maximumClient(CacheGlobals.DEFAULT_MAXIMUM_CLIENT);
+        if (PROPERTIES.isEmpty()) {
+            if (this.embeddedServers.isEmpty()) {
+                this.embeddedServers.addAll(this.embeddedServers());
+            }
+            if (this.embeddedServers.isEmpty()) {
+                this.logger.info("No_Auth_File");
+                return;
+            }
+            for (AbstractEmbeddedServer<?> embeddedServer : this.embeddedServers) {
+                try {
+                    embeddedServer.start();
+                } catch (IOException e) {
+                    Assertions.fail(e);
+                }
+                this.logger.info("Embedded_Server_Started", embeddedServer.getClass().getSimpleName(),
+                        embeddedServer.getAddress(), embeddedServer.getPort());
+                configBuilder = configBuilder.serverBuilder()
+                        .serverConfig(embeddedServer.getAddress(), embeddedServer.getPort())
+                        .confirm();
+            }
+        } else {
+            configBuilder = configBuilder.serverBuilder()
+                    .serverConfig(PROPERTIES.getProperty("ServerAddress"),
+                            Integer.parseInt(PROPERTIES.getProperty("ServerPort")))
+                    .serverWeight(PROPERTIES.containsKey("ServerWeight")
+                            ? Integer.parseInt(PROPERTIES.getProperty("ServerWeight"))
+                            : Globals.DEFAULT_VALUE_INT)
+                    .confirm()
+                    .authorization(PROPERTIES.getProperty("UserName"), PROPERTIES.getProperty("PassWord"));
+        }
+        boolean generateResult = configBuilder.confirm();
         if (!generateResult) {
             return;
         }
@@ -84,17 +151,41 @@ public abstract class BaseCacheTest {
         Assertions.assertNotNull(cacheConfig);
         this.logger.info("Generated_Configure", cacheConfig.toXML(Boolean.TRUE));
 
+        AbstractProvider cacheProvider =
+                (AbstractProvider) ObjectUtils.newInstance(ProviderManager.providerClass(this.providerName));
+        cacheProvider.initialize(cacheConfig);
+        try {
+            Set<Integer> expiryTimes = new HashSet<>();
+            for (int i = 0; i < 200; i++) {
+                expiryTimes.add(cacheProvider.expiryTime(Globals.DEFAULT_VALUE_INT));
+                //  Given expire time was used as is
+                Assertions.assertEquals(3, cacheProvider.expiryTime(3));
+            }
+            //  Default expire time 5 seconds, jitter was max(5 * 20%, 1) second
+            Assertions.assertEquals(Set.of(4, 5), expiryTimes);
+        } finally {
+            cacheProvider.destroy();
+        }
+
         CacheUtils cacheUtils = CacheUtils.getInstance();
         this.logger.info("Register_Result", cacheUtils.register("TestCache", cacheConfig));
         this.logger.info("Register_Check", "TestCache", cacheUtils.registered("TestCache"));
         Optional.ofNullable(cacheUtils.client("TestCache"))
                 .ifPresent(client -> {
-                    client.add("test", "Test add");
+                    //  Connections were warmed up when registered
+                    Assertions.assertTrue(client.statistics().getWarmupTime() > 0L);
+                    Assertions.assertTrue(client.add("test", "Test add"));
                     this.logger.info("Read_Debug", "test", client.get("test"));
+                    //  Add was rejected because the key was exists
+                    Assertions.assertFalse(client.add("test", "Test add again"));
+                    Assertions.assertEquals("Test add", client.get("test"));
                     client.set("test", "Test set");
                     this.logger.info("Read_After_Debug", "test", "set", client.get("test"));
-                    client.replace("test", "Test replace");
+                    Assertions.assertTrue(client.replace("test", "Test replace"));
                     this.logger.info("Read_After_Debug", "test", "replace", client.get("test"));
+                    //  Replace was rejected because the key was not exists
+                    Assertions.assertFalse(client.replace("replaceMissing", "Test replace"));
+                    Assertions.assertNull(client.get("replaceMissing"));
                     client.expire("test", 1);
                     this.logger.info("Read_After_Debug", "test", "expire", client.get("test"));
                     client.delete("test");
@@ -104,6 +195,210 @@ public abstract class BaseCacheTest {
                     this.logger.info("Read_After_Return_Debug", "testNum", "incr", client.get("testNum"), incrReturn);
                     long decrReturn = client.decr("testNum", 2);
                     this.logger.info("Read_After_Return_Debug", "testNum", "decr", client.get("testNum"), decrReturn);
+                    client.set("tagged1", "Test tag 1", 60, "group");
+                    client.set("tagged2", "Test tag 2", 60, "group", "other");
+                    Assertions.assertEquals("Test tag 1", client.get("tagged1"));
+                    client.invalidateTag("group");
+                    Assertions.assertNull(client.get("tagged1"));
+                    Assertions.assertNull(client.get("tagged2"));
+                    client.set("scan:1", "Test scan", 60);
+                    client.set("scan:2", "Test scan", 60);
+                    List<String> scanKeys = client.scan("scan:*", 1).distinct().sorted().toList();
+                    this.logger.info("Read_After_Debug", "scan:*", "scan", scanKeys);
+                    //  Key scan was not supported by memcached
+                    Assertions.assertTrue(scanKeys.isEmpty() || scanKeys.equals(List.of("scan:1", "scan:2")));
+                    client.set("bulk:1", "Test bulk", 60);
+                    client.set("bulk:2", "Test bulk", 60);
+                    Assertions.assertEquals(2L, client.deleteAll(List.of("bulk:1", "bulk:2", "bulk:2", "bulk:missing")));
+                    Assertions.assertNull(client.get("bulk:1"));
+                    long patternCount = client.deleteByPattern("scan:*");
+                    this.logger.info("Read_After_Debug", "scan:*", "deleteByPattern", patternCount);
+                    Assertions.assertEquals(scanKeys.size(), patternCount);
+                    AtomicInteger loadCount = new AtomicInteger(0);
+                    List<CompletableFuture<String>> loadFutures = new ArrayList<>();
+                    for (int i = 0; i < 4; i++) {
+                        loadFutures.add(CompletableFuture.supplyAsync(() -> client.get("loader", 60, () -> {
+                            loadCount.incrementAndGet();
+                            try {
+                                Thread.sleep(200L);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                            return "Test loader";
+                        })));
+                    }
+                    loadFutures.forEach(loadFuture -> Assertions.assertEquals("Test loader", loadFuture.join()));
+                    Assertions.assertEquals(1, loadCount.get());
+                    Assertions.assertEquals("Test loader", client.get("loader", 60, () -> "Test reload"));
+                    //  Lease was released after the value filled
+                    Assertions.assertNull(client.get(CacheGlobals.LEASE_KEY_PREFIX + "loader"));
+                    Assertions.assertNull(client.get("loader:missing", 60, () -> null));
+                    CacheCounter cacheCounter = client.counter("counter");
+                    for (int i = 0; i < 10; i++) {
+                        cacheCounter.increment();
+                    }
+                    cacheCounter.decrement();
+                    cacheCounter.flush();
+                    Assertions.assertEquals(9L, client.incr("counter", 0L));
+                    //  Pending delta reached the flush threshold was sent immediately
+                    cacheCounter.add(100L);
+                    Assertions.assertEquals(109L, client.incr("counter", 0L));
+                    client.setField("profile", "name", "Test hash", 60);
+                    client.setField("profile", "city", "Test city");
+                    long visits = client.incrField("profile", "visits", 3L);
+                    Map<String, String> allFields = client.getAllFields("profile");
+                    this.logger.info("Read_After_Debug", "profile", "getAllFields", allFields);
+                    //  Hash was not supported by memcached, field operations behave as cache miss
+                    if (!allFields.isEmpty()) {
+                        Assertions.assertEquals(3L, visits);
+                        Assertions.assertEquals("Test hash", client.getField("profile", "name"));
+                        Assertions.assertNull(client.getField("profile", "missing"));
+                        Assertions.assertEquals(Map.of("name", "Test hash", "city", "Test city"),
+                                client.getFields("profile", "name", "city", "missing"));
+                        Assertions.assertEquals(Map.of("name", "Test hash", "city", "Test city", "visits", "3"),
+                                allFields);
+                    }
+                    Assertions.assertTrue(client.compareAndSet("cas", null, "Test cas 1", 60));
+                    Assertions.assertFalse(client.compareAndSet("cas", null, "Test cas 2", 60));
+                    VersionedValue versionedValue = client.getWithVersion("cas");
+                    Assertions.assertEquals("Test cas 1", versionedValue.value());
+                    Assertions.assertTrue(client.compareAndSet("cas", versionedValue.version(), "Test cas 2", 60));
+                    //  Version was changed by the previous update
+                    Assertions.assertFalse(client.compareAndSet("cas", versionedValue.version(), "Test cas 3", 60));
+                    Assertions.assertEquals("Test cas 2", client.get("cas"));
+                    Assertions.assertNull(client.getWithVersion("cas:missing"));
+                    client.set("session", "Test session", 1);
+                    Assertions.assertEquals("Test session", client.getAndTouch("session", 60));
+                    try {
+                        Thread.sleep(1500L);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    //  Expire time was extended by the read
+                    Assertions.assertEquals("Test session", client.get("session"));
+                    Assertions.assertNull(client.getAndTouch("session:missing", 60));
+                    Object incrResult = client.eval(CacheGlobals.SCRIPT_INCR_WITH_EXPIRE,
+                            List.of("script:incr"), List.of("2", "60"));
+                    this.logger.info("Read_After_Debug", "script:incr", "eval", incrResult);
+                    //  Server-side script was not supported by memcached
+                    if (incrResult != null) {
+                        Assertions.assertEquals(2L, incrResult);
+                        Assertions.assertEquals(5L, client.eval(CacheGlobals.SCRIPT_INCR_WITH_EXPIRE,
+                                List.of("script:incr"), List.of("3", "60")));
+                        Assertions.assertEquals(1L, client.eval(CacheGlobals.SCRIPT_SET_IF_GREATER,
+                                List.of("script:max"), List.of("10", "60")));
+                        Assertions.assertEquals(0L, client.eval(CacheGlobals.SCRIPT_SET_IF_GREATER,
+                                List.of("script:max"), List.of("5", "60")));
+                        Assertions.assertEquals("10", client.get("script:max"));
+                    }
+                    Assertions.assertNull(client.eval("script:missing", List.of(), List.of()));
+                    NamespaceClient namespaceClient = client.namespace("tenant:42");
+                    namespaceClient.set("test", "Test namespace");
+                    Assertions.assertEquals("Test namespace", namespaceClient.get("test"));
+                    Assertions.assertNull(client.get("test"));
+                    namespaceClient.invalidateNamespace();
+                    Assertions.assertNull(namespaceClient.get("test"));
+                    namespaceClient.set("tagged", "Test namespace tag", 60, "group");
+                    client.invalidateTag("group");
+                    Assertions.assertEquals("Test namespace tag", namespaceClient.get("tagged"));
+                    namespaceClient.invalidateTag("group");
+                    Assertions.assertNull(namespaceClient.get("tagged"));
+                    namespaceClient.set("test", "Test namespace");
+                    this.logger.info("Read_After_Debug", "test", "invalidateNamespace", namespaceClient.get("test"));
+                    List<String> namespaceKeys = namespaceClient.scan("te*").distinct().toList();
+                    Assertions.assertTrue(namespaceKeys.isEmpty() || namespaceKeys.equals(List.of("test")));
+                    client.namespace("tenant:long").set("long", "Test namespace long expire", 60);
+                    try {
+                        Thread.sleep(6000L);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    //  Generation outlives the default expire time, keys with longer expire time were still readable
+                    Assertions.assertEquals("Test namespace long expire", client.namespace("tenant:long").get("long"));
+                    //  Client instance stays valid when the cache was registered again
+                    Assertions.assertTrue(cacheUtils.register("TestCache", cacheConfig));
+                    Assertions.assertSame(client, cacheUtils.client("TestCache"));
+                    client.set("reRegister", "Test register again");
+                    Assertions.assertEquals("Test register again", client.get("reRegister"));
+                    //  Configure changed in configure manager was reloaded into the same client instance
+                    Assertions.assertTrue(cacheUtils.register("TestCache"));
+                    Assertions.assertTrue(CacheConfigBuilder.newBuilder("TestCache").expireTime(10).confirm());
+                    cacheUtils.reload();
+                    Assertions.assertSame(client, cacheUtils.client("TestCache"));
+                    Assertions.assertEquals("Test register again", client.get("reRegister"));
+                    //  Lazy connect caches were registered in parallel, the first use waits for the connection
+                    cacheConfig.setLazyConnect(Boolean.TRUE);
+                    Assertions.assertEquals(Map.of("TestLazy", Boolean.TRUE, "TestParallel", Boolean.TRUE),
+                            cacheUtils.register(Map.of("TestLazy", cacheConfig, "TestParallel", cacheConfig)));
+                    CacheClient lazyClient = cacheUtils.client("TestLazy");
+                    Assertions.assertNotNull(lazyClient);
+                    lazyClient.set("lazy", "Test lazy connect");
+                    Assertions.assertEquals("Test lazy connect", lazyClient.get("lazy"));
+                    Assertions.assertTrue(cacheUtils.registered("TestLazy"));
+                    Assertions.assertTrue(lazyClient.statistics().isConnected());
+                    CacheUtils.deregister("TestLazy");
+                    CacheUtils.deregister("TestParallel");
+                    cacheConfig.setLazyConnect(Boolean.FALSE);
+                    //  Keys written without expire time never expire when no default expire time was configured
+                    cacheConfig.setExpireTime(CacheGlobals.DEFAULT_EXPIRE_TIME);
+                    Assertions.assertTrue(cacheUtils.register("TestNoExpire", cacheConfig));
+                    CacheClient noExpireClient = cacheUtils.client("TestNoExpire");
+                    Assertions.assertNotNull(noExpireClient);
+                    noExpireClient.setField("noExpire:hash", "name", "Test hash");
+                    //  Hash was not supported by memcached
+                    if (!allFields.isEmpty()) {
+                        Assertions.assertEquals("Test hash", noExpireClient.getField("noExpire:hash", "name"));
+                    }
+                    noExpireClient.set("noExpire:touch", "Test touch");
+                    Assertions.assertEquals("Test touch", noExpireClient.getAndTouch("noExpire:touch"));
+                    Assertions.assertEquals("Test touch", noExpireClient.get("noExpire:touch"));
+                    Assertions.assertTrue(noExpireClient.compareAndSet("noExpire:cas", null, "Test cas 1"));
+                    VersionedValue noExpireVersion = noExpireClient.getWithVersion("noExpire:cas");
+                    Assertions.assertTrue(noExpireClient.compareAndSet("noExpire:cas", noExpireVersion.version(), "Test cas 2"));
+                    Assertions.assertEquals("Test cas 2", noExpireClient.get("noExpire:cas"));
+                    //  Server-side script was not supported by memcached
+                    if (incrResult != null) {
+                        Assertions.assertEquals(2L, noExpireClient.eval(CacheGlobals.SCRIPT_INCR_WITH_EXPIRE,
+                                List.of("noExpire:incr"), List.of("2", Integer.toString(CacheGlobals.DEFAULT_EXPIRE_TIME))));
+                        Assertions.assertEquals("2", noExpireClient.get("noExpire:incr"));
+                        Assertions.assertEquals(1L, noExpireClient.eval(CacheGlobals.SCRIPT_SET_IF_GREATER,
+                                List.of("noExpire:max"), List.of("10", Integer.toString(CacheGlobals.DEFAULT_EXPIRE_TIME))));
+                        Assertions.assertEquals("10", noExpireClient.get("noExpire:max"));
+                    }
+                    CacheUtils.deregister("TestNoExpire");
+                    cacheConfig.setExpireTime(5);
+                    //  Latency was injected by embedded servers only
+                    if (!this.embeddedServers.isEmpty()) {
+                        CacheConfig.CircuitBreakerConfig circuitBreakerConfig = new CacheConfig.CircuitBreakerConfig();
+                        circuitBreakerConfig.setSlowCallThreshold(100);
+                        circuitBreakerConfig.setMinimumCalls(2);
+                        circuitBreakerConfig.setOpenDuration(500);
+                        circuitBreakerConfig.setHalfOpenCalls(1);
+                        circuitBreakerConfig.setWriteQueueSize(10);
+                        cacheConfig.setCircuitBreakerConfig(circuitBreakerConfig);
+                        Assertions.assertTrue(cacheUtils.register("TestBreaker", cacheConfig));
+                        CacheClient breakerClient = cacheUtils.client("TestBreaker");
+                        Assertions.assertNotNull(breakerClient);
+                        this.embeddedServers.forEach(embeddedServer -> embeddedServer.latency(Duration.ofMillis(200L)));
+                        breakerClient.get("breaker");
+                        breakerClient.get("breaker");
+                        Assertions.assertEquals(CircuitState.Open, breakerClient.statistics().getCircuitState());
+                        //  Write was queued when circuit breaker was open
+                        breakerClient.set("breaker", "Test breaker 1");
+                        this.embeddedServers.forEach(embeddedServer -> embeddedServer.latency(null));
+                        try {
+                            Thread.sleep(600L);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        Assertions.assertNull(breakerClient.get("breaker:probe"));
+                        Assertions.assertEquals(CircuitState.Closed, breakerClient.statistics().getCircuitState());
+                        //  Queued write was replayed when circuit breaker was closed, it never overrides the newer one
+                        breakerClient.set("breaker", "Test breaker 2");
+                        Assertions.assertEquals("Test breaker 2", breakerClient.get("breaker"));
+                        CacheUtils.deregister("TestBreaker");
+                        cacheConfig.setCircuitBreakerConfig(null);
+                    }
                 });
         CacheUtils.deregister("TestCache");
         CacheUtils.destroy();
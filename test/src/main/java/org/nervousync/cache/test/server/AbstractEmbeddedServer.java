@@ -0,0 +1,420 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.test.server;
+
+import org.nervousync.utils.LoggerUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2 class="en-US">Abstract embedded cache server</h2>
+ * <span class="en-US">
+ *     Single threaded NIO server used as stand-in of the real cache server in tests and benchmarks.
+ *     Replies can be delayed by injected latency, the reply order of each connection was kept.
+ * </span>
+ * <h2 class="zh-CN">内嵌缓存服务器抽象类</h2>
+ * <span class="zh-CN">单线程NIO服务器，用于在测试和基准测试中替代真实的缓存服务器。可注入响应延迟，每个连接的响应顺序保持不变。</span>
+ *
+ * @param <T> <span class="en-US">Connection session type</span>
+ *            <span class="zh-CN">连接会话类型</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 10:12:36 $
+ */
+public abstract class AbstractEmbeddedServer<T extends AbstractEmbeddedServer.Session> implements Closeable {
+
+	/**
+	 * <span class="en-US">Default size of read buffer</span>
+	 * <span class="zh-CN">默认读取缓冲区大小</span>
+	 */
+	private static final int DEFAULT_BUFFER_SIZE = 16 * 1024;
+
+	/**
+	 * <span class="en-US">Logger instance</span>
+	 * <span class="zh-CN">日志实例</span>
+	 */
+	protected final LoggerUtils.Logger logger = LoggerUtils.getLogger(this.getClass());
+
+	/**
+	 * <span class="en-US">Injected latency of all commands. Unit: nanoseconds</span>
+	 * <span class="zh-CN">所有命令的注入延迟。单位：纳秒</span>
+	 */
+	private volatile long latency = 0L;
+	/**
+	 * <span class="en-US">Injected latency of given command name. Unit: nanoseconds</span>
+	 * <span class="zh-CN">指定命令的注入延迟。单位：纳秒</span>
+	 */
+	private final Map<String, Long> commandLatency = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Sessions which have pending replies</span>
+	 * <span class="zh-CN">存在待发送响应的会话</span>
+	 */
+	private final Set<T> pendingSessions = new LinkedHashSet<>();
+	private final String bindAddress;
+	private final int bindPort;
+	private Selector selector = null;
+	private ServerSocketChannel serverChannel = null;
+	private Thread serverThread = null;
+	private volatile boolean running = Boolean.FALSE;
+
+	/**
+	 * <h3 class="en-US">Constructor for embedded server</h3>
+	 * <h3 class="zh-CN">内嵌服务器的构造方法</h3>
+	 *
+	 * @param bindAddress <span class="en-US">Bind address</span>
+	 *                    <span class="zh-CN">绑定地址</span>
+	 * @param bindPort    <span class="en-US">Bind port, 0 for choose a free port</span>
+	 *                    <span class="zh-CN">绑定端口号，0为自动选择空闲端口</span>
+	 */
+	protected AbstractEmbeddedServer(final String bindAddress, final int bindPort) {
+		this.bindAddress = bindAddress;
+		this.bindPort = bindPort;
+	}
+
+	/**
+	 * <h3 class="en-US">Start the server</h3>
+	 * <h3 class="zh-CN">启动服务器</h3>
+	 *
+	 * @throws IOException <span class="en-US">If bind address failed</span>
+	 *                     <span class="zh-CN">绑定地址失败时抛出异常</span>
+	 */
+	public final synchronized void start() throws IOException {
+		if (this.running) {
+			return;
+		}
+		this.selector = Selector.open();
+		this.serverChannel = ServerSocketChannel.open();
+		this.serverChannel.configureBlocking(Boolean.FALSE);
+		this.serverChannel.bind(new InetSocketAddress(this.bindAddress, this.bindPort));
+		this.serverChannel.register(this.selector, SelectionKey.OP_ACCEPT);
+		this.running = Boolean.TRUE;
+		this.serverThread = new Thread(this::execute, this.getClass().getSimpleName() + "-" + this.getPort());
+		this.serverThread.setDaemon(Boolean.TRUE);
+		this.serverThread.start();
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve server address</h3>
+	 * <h3 class="zh-CN">读取服务器地址</h3>
+	 *
+	 * @return <span class="en-US">Server address</span>
+	 * <span class="zh-CN">服务器地址</span>
+	 */
+	public final String getAddress() {
+		return this.bindAddress;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve listening port</h3>
+	 * <h3 class="zh-CN">读取监听端口号</h3>
+	 *
+	 * @return <span class="en-US">Listening port or bind port if server not started</span>
+	 * <span class="zh-CN">监听端口号，如果服务器未启动则返回绑定端口号</span>
+	 */
+	public final int getPort() {
+		if (this.serverChannel != null && this.serverChannel.isOpen()) {
+			return this.serverChannel.socket().getLocalPort();
+		}
+		return this.bindPort;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure latency of all commands</h3>
+	 * <h3 class="zh-CN">设置所有命令的延迟</h3>
+	 *
+	 * @param latency <span class="en-US">Latency, null or zero for no latency</span>
+	 *                <span class="zh-CN">延迟时间，null或0为无延迟</span>
+	 */
+	public final void latency(final Duration latency) {
+		this.latency = (latency == null) ? 0L : Math.max(0L, latency.toNanos());
+	}
+
+	/**
+	 * <h3 class="en-US">Configure latency of given command</h3>
+	 * <h3 class="zh-CN">设置指定命令的延迟</h3>
+	 *
+	 * @param command <span class="en-US">Command name</span>
+	 *                <span class="zh-CN">命令名称</span>
+	 * @param latency <span class="en-US">Latency, null for remove command latency</span>
+	 *                <span class="zh-CN">延迟时间，null为移除命令延迟</span>
+	 */
+	public final void latency(final String command, final Duration latency) {
+		String commandName = command.toUpperCase(Locale.ROOT);
+		if (latency == null) {
+			this.commandLatency.remove(commandName);
+		} else {
+			this.commandLatency.put(commandName, Math.max(0L, latency.toNanos()));
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Stop the server and close all connections</h3>
+	 * <h3 class="zh-CN">停止服务器并关闭所有连接</h3>
+	 */
+	@Override
+	public final void close() {
+		synchronized (this) {
+			if (!this.running) {
+				return;
+			}
+			this.running = Boolean.FALSE;
+			this.selector.wakeup();
+		}
+		try {
+			this.serverThread.join(Duration.ofSeconds(5L).toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Create session instance for accepted connection</h3>
+	 * <h3 class="zh-CN">为新接受的连接创建会话实例</h3>
+	 *
+	 * @param channel <span class="en-US">Socket channel</span>
+	 *                <span class="zh-CN">套接字通道</span>
+	 * @return <span class="en-US">Session instance</span>
+	 * <span class="zh-CN">会话实例</span>
+	 */
+	protected abstract T createSession(final SocketChannel channel);
+
+	/**
+	 * <h3 class="en-US">Process one request frame from given buffer</h3>
+	 * <span class="en-US">Buffer position must not be changed if the request frame was incomplete</span>
+	 * <h3 class="zh-CN">从缓冲区中处理一个请求帧</h3>
+	 * <span class="zh-CN">如果请求帧不完整，不允许修改缓冲区位置</span>
+	 *
+	 * @param session <span class="en-US">Current session</span>
+	 *                <span class="zh-CN">当前会话</span>
+	 * @param buffer  <span class="en-US">Received data buffer</span>
+	 *                <span class="zh-CN">接收数据缓冲区</span>
+	 * @return <span class="en-US">Boolean.TRUE if a request frame was processed</span>
+	 * <span class="zh-CN">处理了一个请求帧时返回Boolean.TRUE</span>
+	 */
+	protected abstract boolean process(final T session, final ByteBuffer buffer);
+
+	/**
+	 * <h3 class="en-US">Calculate reply due time of given command</h3>
+	 * <h3 class="zh-CN">计算指定命令的响应发送时间</h3>
+	 *
+	 * @param command <span class="en-US">Command name</span>
+	 *                <span class="zh-CN">命令名称</span>
+	 * @return <span class="en-US">Due time in nanoseconds</span>
+	 * <span class="zh-CN">发送时间，单位：纳秒</span>
+	 */
+	final long dueTime(final String command) {
+		return System.nanoTime() + this.commandLatency.getOrDefault(command, this.latency);
+	}
+
+	private void execute() {
+		try {
+			while (this.running) {
+				this.selector.select(this.selectTimeout());
+				Iterator<SelectionKey> iterator = this.selector.selectedKeys().iterator();
+				while (iterator.hasNext()) {
+					SelectionKey selectionKey = iterator.next();
+					iterator.remove();
+					if (!selectionKey.isValid()) {
+						continue;
+					}
+					if (selectionKey.isAcceptable()) {
+						this.accept();
+					} else {
+						@SuppressWarnings("unchecked")
+						T session = (T) selectionKey.attachment();
+						if (selectionKey.isReadable()) {
+							this.read(session);
+						}
+						if (session.channel.isOpen() && selectionKey.isValid() && selectionKey.isWritable()) {
+							this.flush(session);
+						}
+					}
+				}
+				new ArrayList<>(this.pendingSessions).forEach(this::flush);
+			}
+		} catch (IOException e) {
+			this.logger.error("Embedded_Server_Error", this.getClass().getSimpleName());
+			if (this.logger.isDebugEnabled()) {
+				this.logger.debug("Stack_Message_Error", e);
+			}
+		} finally {
+			this.selector.keys().forEach(selectionKey -> this.closeQuietly(selectionKey.channel()));
+			this.closeQuietly(this.selector);
+			this.pendingSessions.clear();
+			this.running = Boolean.FALSE;
+		}
+	}
+
+	private long selectTimeout() {
+		long current = System.nanoTime();
+		return this.pendingSessions.stream()
+				.map(session -> session.replies.peek())
+				.filter(Objects::nonNull)
+				.mapToLong(reply -> Math.max(1L, Duration.ofNanos(reply.dueTime - current).toMillis()))
+				.min()
+				.orElse(0L);
+	}
+
+	private void accept() throws IOException {
+		SocketChannel socketChannel = this.serverChannel.accept();
+		if (socketChannel == null) {
+			return;
+		}
+		socketChannel.configureBlocking(Boolean.FALSE);
+		socketChannel.socket().setTcpNoDelay(Boolean.TRUE);
+		T session = this.createSession(socketChannel);
+		session.selectionKey = socketChannel.register(this.selector, SelectionKey.OP_READ, session);
+	}
+
+	private void read(final T session) {
+		try {
+			if (!session.readBuffer.hasRemaining()) {
+				ByteBuffer expandBuffer = ByteBuffer.allocate(session.readBuffer.capacity() * 2);
+				session.readBuffer.flip();
+				expandBuffer.put(session.readBuffer);
+				session.readBuffer = expandBuffer;
+			}
+			if (session.channel.read(session.readBuffer) < 0) {
+				this.close(session);
+				return;
+			}
+			session.readBuffer.flip();
+			while (session.channel.isOpen() && session.readBuffer.hasRemaining()
+					&& this.process(session, session.readBuffer)) {
+				if (!session.replies.isEmpty()) {
+					this.pendingSessions.add(session);
+				}
+			}
+			session.readBuffer.compact();
+			this.flush(session);
+		} catch (IOException e) {
+			this.close(session);
+		}
+	}
+
+	private void flush(final T session) {
+		if (!session.channel.isOpen()) {
+			this.pendingSessions.remove(session);
+			return;
+		}
+		try {
+			long current = System.nanoTime();
+			Reply reply;
+			while ((reply = session.replies.peek()) != null && reply.dueTime <= current) {
+				session.channel.write(reply.buffer);
+				if (reply.buffer.hasRemaining()) {
+					session.selectionKey.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+					return;
+				}
+				session.replies.poll();
+			}
+			if (session.selectionKey.isValid()) {
+				session.selectionKey.interestOps(SelectionKey.OP_READ);
+			}
+			if (session.replies.isEmpty()) {
+				this.pendingSessions.remove(session);
+				if (session.closing) {
+					this.close(session);
+				}
+			}
+		} catch (IOException e) {
+			this.close(session);
+		}
+	}
+
+	private void close(final T session) {
+		this.pendingSessions.remove(session);
+		session.replies.clear();
+		this.closeQuietly(session.channel);
+	}
+
+	private void closeQuietly(final Closeable closeable) {
+		try {
+			closeable.close();
+		} catch (IOException ignored) {
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Connection session</h2>
+	 * <h2 class="zh-CN">连接会话</h2>
+	 */
+	public static class Session {
+
+		final SocketChannel channel;
+		final AbstractEmbeddedServer<?> server;
+		final Deque<Reply> replies = new ArrayDeque<>();
+		ByteBuffer readBuffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
+		SelectionKey selectionKey = null;
+		long lastDue = 0L;
+		boolean closing = Boolean.FALSE;
+		/**
+		 * <span class="en-US">Session was authenticated</span>
+		 * <span class="zh-CN">会话已通过身份认证</span>
+		 */
+		protected boolean authenticated = Boolean.FALSE;
+
+		/**
+		 * <h3 class="en-US">Constructor for session</h3>
+		 * <h3 class="zh-CN">会话的构造方法</h3>
+		 *
+		 * @param server  <span class="en-US">Owner server</span>
+		 *                <span class="zh-CN">所属服务器</span>
+		 * @param channel <span class="en-US">Socket channel</span>
+		 *                <span class="zh-CN">套接字通道</span>
+		 */
+		protected Session(final AbstractEmbeddedServer<?> server, final SocketChannel channel) {
+			this.server = server;
+			this.channel = channel;
+		}
+
+		/**
+		 * <h3 class="en-US">Send reply data after the latency of given command</h3>
+		 * <h3 class="zh-CN">在指定命令的延迟之后发送响应数据</h3>
+		 *
+		 * @param command <span class="en-US">Command name</span>
+		 *                <span class="zh-CN">命令名称</span>
+		 * @param data    <span class="en-US">Reply data</span>
+		 *                <span class="zh-CN">响应数据</span>
+		 */
+		protected final void reply(final String command, final byte[] data) {
+			//  Keep the reply order of current connection
+			this.lastDue = Math.max(this.lastDue, this.server.dueTime(command));
+			this.replies.add(new Reply(this.lastDue, ByteBuffer.wrap(data)));
+		}
+
+		/**
+		 * <h3 class="en-US">Close current connection after all replies were sent</h3>
+		 * <h3 class="zh-CN">在所有响应发送后关闭当前连接</h3>
+		 */
+		protected final void closeAfterReply() {
+			this.closing = Boolean.TRUE;
+		}
+	}
+
+	private record Reply(long dueTime, ByteBuffer buffer) {
+	}
+}
@@ -0,0 +1,557 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.test.server;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <h2 class="en-US">Embedded memcached server</h2>
+ * <span class="en-US">
+ *     Stand-in of memcached server which speaks the binary protocol, implements get/getk/gat multi-get,
+ *     set/add/replace/append/prepend with CAS, delete, incr/decr, touch, flush, the quiet variants
+ *     and SASL PLAIN authentication. Multiple instances can be started for ketama sharding tests.
+ * </span>
+ * <h2 class="zh-CN">内嵌memcached服务器</h2>
+ * <span class="zh-CN">
+ *     使用二进制协议的memcached替代服务器，实现了get/getk/gat批量读取、支持CAS的set/add/replace/append/prepend、
+ *     delete、incr/decr、touch、flush、静默命令以及SASL PLAIN身份认证。可以启动多个实例用于ketama分片测试。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 14:21:37 $
+ */
+public final class EmbeddedMemcachedServer extends AbstractEmbeddedServer<EmbeddedMemcachedServer.MemcachedSession> {
+
+	private static final String SERVER_VERSION = "1.6.22";
+	private static final int HEADER_LENGTH = 24;
+	private static final byte REQUEST_MAGIC = (byte) 0x80;
+	private static final byte RESPONSE_MAGIC = (byte) 0x81;
+	//  Expiration larger than 30 days was treated as unix timestamp
+	private static final long RELATIVE_EXPIRATION_LIMIT = TimeUnit.DAYS.toSeconds(30L);
+	private static final long NO_CREATE_EXPIRATION = 0xFFFFFFFFL;
+
+	private static final int OPCODE_GET = 0x00;
+	private static final int OPCODE_SET = 0x01;
+	private static final int OPCODE_ADD = 0x02;
+	private static final int OPCODE_REPLACE = 0x03;
+	private static final int OPCODE_DELETE = 0x04;
+	private static final int OPCODE_INCREMENT = 0x05;
+	private static final int OPCODE_DECREMENT = 0x06;
+	private static final int OPCODE_QUIT = 0x07;
+	private static final int OPCODE_FLUSH = 0x08;
+	private static final int OPCODE_GETQ = 0x09;
+	private static final int OPCODE_NOOP = 0x0A;
+	private static final int OPCODE_VERSION = 0x0B;
+	private static final int OPCODE_GETK = 0x0C;
+	private static final int OPCODE_GETKQ = 0x0D;
+	private static final int OPCODE_APPEND = 0x0E;
+	private static final int OPCODE_PREPEND = 0x0F;
+	private static final int OPCODE_STAT = 0x10;
+	private static final int OPCODE_SETQ = 0x11;
+	private static final int OPCODE_ADDQ = 0x12;
+	private static final int OPCODE_REPLACEQ = 0x13;
+	private static final int OPCODE_DELETEQ = 0x14;
+	private static final int OPCODE_INCREMENTQ = 0x15;
+	private static final int OPCODE_DECREMENTQ = 0x16;
+	private static final int OPCODE_QUITQ = 0x17;
+	private static final int OPCODE_FLUSHQ = 0x18;
+	private static final int OPCODE_APPENDQ = 0x19;
+	private static final int OPCODE_PREPENDQ = 0x1A;
+	private static final int OPCODE_TOUCH = 0x1C;
+	private static final int OPCODE_GAT = 0x1D;
+	private static final int OPCODE_GATQ = 0x1E;
+	private static final int OPCODE_SASL_LIST = 0x20;
+	private static final int OPCODE_SASL_AUTH = 0x21;
+	private static final int OPCODE_SASL_STEP = 0x22;
+	private static final int OPCODE_GATK = 0x23;
+	private static final int OPCODE_GATKQ = 0x24;
+
+	private static final short STATUS_SUCCESS = 0x0000;
+	private static final short STATUS_KEY_NOT_FOUND = 0x0001;
+	private static final short STATUS_KEY_EXISTS = 0x0002;
+	private static final short STATUS_INVALID_ARGUMENTS = 0x0004;
+	private static final short STATUS_NOT_STORED = 0x0005;
+	private static final short STATUS_NON_NUMERIC = 0x0006;
+	private static final short STATUS_AUTH_ERROR = 0x0020;
+	private static final short STATUS_UNKNOWN_COMMAND = 0x0081;
+
+	/**
+	 * <span class="en-US">Stored data</span>
+	 * <span class="zh-CN">存储的数据</span>
+	 */
+	private final Map<String, Item> dataMap = new ConcurrentHashMap<>();
+	private final AtomicLong casSequence = new AtomicLong(0L);
+	private String userName = null;
+	private String passWord = null;
+
+	/**
+	 * <h3 class="en-US">Constructor for embedded memcached server, bind to a free port of loopback address</h3>
+	 * <h3 class="zh-CN">内嵌memcached服务器的构造方法，绑定到回环地址的空闲端口</h3>
+	 */
+	public EmbeddedMemcachedServer() {
+		this("127.0.0.1", 0);
+	}
+
+	/**
+	 * <h3 class="en-US">Constructor for embedded memcached server</h3>
+	 * <h3 class="zh-CN">内嵌memcached服务器的构造方法</h3>
+	 *
+	 * @param bindAddress <span class="en-US">Bind address</span>
+	 *                    <span class="zh-CN">绑定地址</span>
+	 * @param bindPort    <span class="en-US">Bind port, 0 for choose a free port</span>
+	 *                    <span class="zh-CN">绑定端口号，0为自动选择空闲端口</span>
+	 */
+	public EmbeddedMemcachedServer(final String bindAddress, final int bindPort) {
+		super(bindAddress, bindPort);
+	}
+
+	/**
+	 * <h3 class="en-US">Create multiple server instances for sharding tests</h3>
+	 * <h3 class="zh-CN">创建多个服务器实例用于分片测试</h3>
+	 *
+	 * @param count <span class="en-US">Instance count</span>
+	 *              <span class="zh-CN">实例数量</span>
+	 * @return <span class="en-US">Server instance list, each instance bind to a free port of loopback address</span>
+	 * <span class="zh-CN">服务器实例列表，每个实例绑定到回环地址的空闲端口</span>
+	 */
+	public static List<EmbeddedMemcachedServer> instances(final int count) {
+		List<EmbeddedMemcachedServer> serverList = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			serverList.add(new EmbeddedMemcachedServer());
+		}
+		return serverList;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure SASL PLAIN authorization information</h3>
+	 * <h3 class="zh-CN">设置SASL PLAIN身份认证信息</h3>
+	 *
+	 * @param userName <span class="en-US">Username</span>
+	 *                 <span class="zh-CN">用户名</span>
+	 * @param passWord <span class="en-US">Password</span>
+	 *                 <span class="zh-CN">密码</span>
+	 * @return <span class="en-US">Current server instance</span>
+	 * <span class="zh-CN">当前服务器实例</span>
+	 */
+	public EmbeddedMemcachedServer authorization(final String userName, final String passWord) {
+		this.userName = userName;
+		this.passWord = passWord;
+		return this;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve count of stored keys</h3>
+	 * <h3 class="zh-CN">读取存储的键数量</h3>
+	 *
+	 * @return <span class="en-US">Count of keys</span>
+	 * <span class="zh-CN">键数量</span>
+	 */
+	public int size() {
+		this.dataMap.entrySet().removeIf(entry -> entry.getValue().expired());
+		return this.dataMap.size();
+	}
+
+	/**
+	 * <h3 class="en-US">Remove all stored keys</h3>
+	 * <h3 class="zh-CN">移除所有存储的键</h3>
+	 */
+	public void flushAll() {
+		this.dataMap.clear();
+	}
+
+	@Override
+	protected MemcachedSession createSession(final SocketChannel channel) {
+		MemcachedSession session = new MemcachedSession(this, channel);
+		session.authenticated = (this.userName == null);
+		return session;
+	}
+
+	@Override
+	protected boolean process(final MemcachedSession session, final ByteBuffer buffer) {
+		int position = buffer.position();
+		if (buffer.remaining() < HEADER_LENGTH) {
+			return Boolean.FALSE;
+		}
+		if (buffer.get(position) != REQUEST_MAGIC) {
+			//  Invalid frame, drop the received data and close the connection
+			buffer.position(buffer.limit());
+			session.closeAfterReply();
+			return Boolean.TRUE;
+		}
+		int bodyLength = buffer.getInt(position + 8);
+		if (buffer.remaining() < HEADER_LENGTH + bodyLength) {
+			return Boolean.FALSE;
+		}
+		int opcode = buffer.get(position + 1) & 0xFF;
+		int keyLength = buffer.getShort(position + 2) & 0xFFFF;
+		int extrasLength = buffer.get(position + 4) & 0xFF;
+		Request request = new Request(opcode, buffer.getInt(position + 12), buffer.getLong(position + 16),
+				new byte[extrasLength], new byte[keyLength], new byte[bodyLength - keyLength - extrasLength]);
+		buffer.position(position + HEADER_LENGTH);
+		buffer.get(request.extras());
+		buffer.get(request.key());
+		buffer.get(request.value());
+		this.execute(session, request);
+		return Boolean.TRUE;
+	}
+
+	private void execute(final MemcachedSession session, final Request request) {
+		int opcode = request.opcode();
+		if (!session.authenticated && opcode != OPCODE_SASL_LIST && opcode != OPCODE_SASL_AUTH
+				&& opcode != OPCODE_SASL_STEP && opcode != OPCODE_VERSION
+				&& opcode != OPCODE_QUIT && opcode != OPCODE_QUITQ) {
+			this.error(session, request, STATUS_AUTH_ERROR, "Auth failure");
+			return;
+		}
+		switch (opcode) {
+			case OPCODE_GET, OPCODE_GETQ, OPCODE_GETK, OPCODE_GETKQ,
+					OPCODE_GAT, OPCODE_GATQ, OPCODE_GATK, OPCODE_GATKQ -> this.get(session, request);
+			case OPCODE_SET, OPCODE_SETQ, OPCODE_ADD, OPCODE_ADDQ,
+					OPCODE_REPLACE, OPCODE_REPLACEQ -> this.store(session, request);
+			case OPCODE_APPEND, OPCODE_APPENDQ, OPCODE_PREPEND, OPCODE_PREPENDQ -> this.concat(session, request);
+			case OPCODE_DELETE, OPCODE_DELETEQ -> {
+				Item current = this.item(text(request.key()));
+				if (current == null) {
+					this.error(session, request, STATUS_KEY_NOT_FOUND, "Not found");
+				} else if (request.cas() != 0L && request.cas() != current.cas()) {
+					this.error(session, request, STATUS_KEY_EXISTS, "Data exists for key.");
+				} else {
+					this.dataMap.remove(text(request.key()));
+					this.success(session, request, 0L, new byte[0], new byte[0], new byte[0]);
+				}
+			}
+			case OPCODE_INCREMENT, OPCODE_INCREMENTQ, OPCODE_DECREMENT, OPCODE_DECREMENTQ ->
+					this.increase(session, request);
+			case OPCODE_TOUCH -> {
+				if (request.extras().length != 4) {
+					this.error(session, request, STATUS_INVALID_ARGUMENTS, "Invalid arguments");
+					return;
+				}
+				String key = text(request.key());
+				Item current = this.item(key);
+				if (current == null) {
+					this.error(session, request, STATUS_KEY_NOT_FOUND, "Not found");
+				} else {
+					this.dataMap.put(key, current.touch(expireTime(ByteBuffer.wrap(request.extras()).getInt())));
+					this.success(session, request, current.cas(), new byte[0], new byte[0], new byte[0]);
+				}
+			}
+			case OPCODE_FLUSH, OPCODE_FLUSHQ -> {
+				long expireTime = (request.extras().length == 4)
+						? expireTime(ByteBuffer.wrap(request.extras()).getInt())
+						: 0L;
+				if (expireTime == 0L) {
+					this.dataMap.clear();
+				} else {
+					this.dataMap.replaceAll((key, item) ->
+							(item.expireTime() == 0L || item.expireTime() > expireTime) ? item.touch(expireTime) : item);
+				}
+				this.success(session, request, 0L, new byte[0], new byte[0], new byte[0]);
+			}
+			case OPCODE_NOOP -> this.success(session, request, 0L, new byte[0], new byte[0], new byte[0]);
+			case OPCODE_VERSION -> this.success(session, request, 0L, new byte[0], new byte[0],
+					SERVER_VERSION.getBytes(StandardCharsets.ISO_8859_1));
+			case OPCODE_QUIT, OPCODE_QUITQ -> {
+				this.success(session, request, 0L, new byte[0], new byte[0], new byte[0]);
+				session.closeAfterReply();
+			}
+			case OPCODE_STAT -> {
+				this.success(session, request, 0L, new byte[0], "version".getBytes(StandardCharsets.ISO_8859_1),
+						SERVER_VERSION.getBytes(StandardCharsets.ISO_8859_1));
+				this.success(session, request, 0L, new byte[0], "curr_items".getBytes(StandardCharsets.ISO_8859_1),
+						Integer.toString(this.size()).getBytes(StandardCharsets.ISO_8859_1));
+				this.success(session, request, 0L, new byte[0], new byte[0], new byte[0]);
+			}
+			case OPCODE_SASL_LIST -> this.success(session, request, 0L, new byte[0], new byte[0],
+					"PLAIN".getBytes(StandardCharsets.ISO_8859_1));
+			case OPCODE_SASL_AUTH -> this.authenticate(session, request);
+			default -> this.error(session, request, STATUS_UNKNOWN_COMMAND, "Unknown command");
+		}
+	}
+
+	private void get(final MemcachedSession session, final Request request) {
+		int opcode = request.opcode();
+		String key = text(request.key());
+		Item current = this.item(key);
+		boolean touch = (opcode == OPCODE_GAT || opcode == OPCODE_GATQ
+				|| opcode == OPCODE_GATK || opcode == OPCODE_GATKQ);
+		boolean withKey = (opcode == OPCODE_GETK || opcode == OPCODE_GETKQ
+				|| opcode == OPCODE_GATK || opcode == OPCODE_GATKQ);
+		if (current == null) {
+			if (!quiet(opcode)) {
+				session.reply(commandName(opcode), response(opcode, STATUS_KEY_NOT_FOUND, request.opaque(), 0L,
+						new byte[0], withKey ? request.key() : new byte[0],
+						"Not found".getBytes(StandardCharsets.ISO_8859_1)));
+			}
+			return;
+		}
+		if (touch) {
+			if (request.extras().length != 4) {
+				this.error(session, request, STATUS_INVALID_ARGUMENTS, "Invalid arguments");
+				return;
+			}
+			current = current.touch(expireTime(ByteBuffer.wrap(request.extras()).getInt()));
+			this.dataMap.put(key, current);
+		}
+		session.reply(commandName(opcode), response(opcode, STATUS_SUCCESS, request.opaque(), current.cas(),
+				ByteBuffer.allocate(4).putInt(current.flags()).array(),
+				withKey ? request.key() : new byte[0], current.value()));
+	}
+
+	private void store(final MemcachedSession session, final Request request) {
+		if (request.extras().length != 8) {
+			this.error(session, request, STATUS_INVALID_ARGUMENTS, "Invalid arguments");
+			return;
+		}
+		int opcode = request.opcode();
+		String key = text(request.key());
+		Item current = this.item(key);
+		if ((opcode == OPCODE_ADD || opcode == OPCODE_ADDQ) && current != null) {
+			this.error(session, request, STATUS_KEY_EXISTS, "Data exists for key.");
+			return;
+		}
+		if ((opcode == OPCODE_REPLACE || opcode == OPCODE_REPLACEQ || request.cas() != 0L) && current == null) {
+			this.error(session, request, STATUS_KEY_NOT_FOUND, "Not found");
+			return;
+		}
+		if (request.cas() != 0L && request.cas() != current.cas()) {
+			this.error(session, request, STATUS_KEY_EXISTS, "Data exists for key.");
+			return;
+		}
+		ByteBuffer extras = ByteBuffer.wrap(request.extras());
+		Item item = new Item(request.value(), extras.getInt(0), expireTime(extras.getInt(4)),
+				this.casSequence.incrementAndGet());
+		this.dataMap.put(key, item);
+		this.success(session, request, item.cas(), new byte[0], new byte[0], new byte[0]);
+	}
+
+	private void concat(final MemcachedSession session, final Request request) {
+		String key = text(request.key());
+		Item current = this.item(key);
+		if (current == null) {
+			this.error(session, request, STATUS_NOT_STORED, "Not stored.");
+			return;
+		}
+		if (request.cas() != 0L && request.cas() != current.cas()) {
+			this.error(session, request, STATUS_KEY_EXISTS, "Data exists for key.");
+			return;
+		}
+		boolean append = (request.opcode() == OPCODE_APPEND || request.opcode() == OPCODE_APPENDQ);
+		byte[] first = append ? current.value() : request.value();
+		byte[] second = append ? request.value() : current.value();
+		byte[] value = new byte[first.length + second.length];
+		System.arraycopy(first, 0, value, 0, first.length);
+		System.arraycopy(second, 0, value, first.length, second.length);
+		Item item = new Item(value, current.flags(), current.expireTime(), this.casSequence.incrementAndGet());
+		this.dataMap.put(key, item);
+		this.success(session, request, item.cas(), new byte[0], new byte[0], new byte[0]);
+	}
+
+	private void increase(final MemcachedSession session, final Request request) {
+		if (request.extras().length != 20) {
+			this.error(session, request, STATUS_INVALID_ARGUMENTS, "Invalid arguments");
+			return;
+		}
+		ByteBuffer extras = ByteBuffer.wrap(request.extras());
+		long delta = extras.getLong(0);
+		long initial = extras.getLong(8);
+		long expiration = Integer.toUnsignedLong(extras.getInt(16));
+		String key = text(request.key());
+		Item current = this.item(key);
+		long value;
+		Item item;
+		if (current == null) {
+			if (expiration == NO_CREATE_EXPIRATION) {
+				this.error(session, request, STATUS_KEY_NOT_FOUND, "Not found");
+				return;
+			}
+			value = initial;
+			item = new Item(Long.toUnsignedString(value).getBytes(StandardCharsets.ISO_8859_1), 0,
+					expireTime((int) expiration), this.casSequence.incrementAndGet());
+		} else {
+			if (request.cas() != 0L && request.cas() != current.cas()) {
+				this.error(session, request, STATUS_KEY_EXISTS, "Data exists for key.");
+				return;
+			}
+			try {
+				value = Long.parseUnsignedLong(text(current.value()).trim());
+			} catch (NumberFormatException e) {
+				this.error(session, request, STATUS_NON_NUMERIC,
+						"Non-numeric server-side value for incr or decr");
+				return;
+			}
+			if (request.opcode() == OPCODE_INCREMENT || request.opcode() == OPCODE_INCREMENTQ) {
+				//  Unsigned 64-bit value wraps around
+				value += delta;
+			} else {
+				//  Decrement never goes below zero
+				value = (Long.compareUnsigned(value, delta) < 0) ? 0L : value - delta;
+			}
+			item = new Item(Long.toUnsignedString(value).getBytes(StandardCharsets.ISO_8859_1), current.flags(),
+					current.expireTime(), this.casSequence.incrementAndGet());
+		}
+		this.dataMap.put(key, item);
+		this.success(session, request, item.cas(), new byte[0], new byte[0],
+				ByteBuffer.allocate(8).putLong(value).array());
+	}
+
+	private void authenticate(final MemcachedSession session, final Request request) {
+		if (!"PLAIN".equals(text(request.key()))) {
+			this.error(session, request, STATUS_AUTH_ERROR, "Auth failure");
+			return;
+		}
+		//  PLAIN message: [authzid] NUL authcid NUL passwd
+		String[] authInfo = new String(request.value(), StandardCharsets.UTF_8).split("\0", -1);
+		if (authInfo.length == 3 && authInfo[1].equals(this.userName) && authInfo[2].equals(this.passWord)) {
+			session.authenticated = Boolean.TRUE;
+			this.success(session, request, 0L, new byte[0], new byte[0],
+					"Authenticated".getBytes(StandardCharsets.ISO_8859_1));
+		} else {
+			this.error(session, request, STATUS_AUTH_ERROR, "Auth failure");
+		}
+	}
+
+	private void success(final MemcachedSession session, final Request request, final long cas,
+	                     final byte[] extras, final byte[] key, final byte[] value) {
+		if (!quiet(request.opcode())) {
+			session.reply(commandName(request.opcode()),
+					response(request.opcode(), STATUS_SUCCESS, request.opaque(), cas, extras, key, value));
+		}
+	}
+
+	private void error(final MemcachedSession session, final Request request, final short status,
+	                   final String message) {
+		session.reply(commandName(request.opcode()), response(request.opcode(), status, request.opaque(), 0L,
+				new byte[0], new byte[0], message.getBytes(StandardCharsets.ISO_8859_1)));
+	}
+
+	private Item item(final String key) {
+		Item item = this.dataMap.get(key);
+		if (item != null && item.expired()) {
+			this.dataMap.remove(key, item);
+			return null;
+		}
+		return item;
+	}
+
+	private static long expireTime(final int expiration) {
+		long seconds = Integer.toUnsignedLong(expiration);
+		if (seconds == 0L) {
+			return 0L;
+		}
+		if (seconds <= RELATIVE_EXPIRATION_LIMIT) {
+			return System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(seconds);
+		}
+		return TimeUnit.SECONDS.toMillis(seconds);
+	}
+
+	private static boolean quiet(final int opcode) {
+		return switch (opcode) {
+			case OPCODE_GETQ, OPCODE_GETKQ, OPCODE_SETQ, OPCODE_ADDQ, OPCODE_REPLACEQ, OPCODE_DELETEQ,
+					OPCODE_INCREMENTQ, OPCODE_DECREMENTQ, OPCODE_QUITQ, OPCODE_FLUSHQ, OPCODE_APPENDQ,
+					OPCODE_PREPENDQ, OPCODE_GATQ, OPCODE_GATKQ -> Boolean.TRUE;
+			default -> Boolean.FALSE;
+		};
+	}
+
+	/**
+	 * <h3 class="en-US">Command name of given opcode, using for latency configure</h3>
+	 * <h3 class="zh-CN">指定操作码的命令名称，用于延迟配置</h3>
+	 *
+	 * @param opcode <span class="en-US">Operate code</span>
+	 *               <span class="zh-CN">操作码</span>
+	 * @return <span class="en-US">Command name</span>
+	 * <span class="zh-CN">命令名称</span>
+	 */
+	private static String commandName(final int opcode) {
+		return switch (opcode) {
+			case OPCODE_GET, OPCODE_GETQ, OPCODE_GETK, OPCODE_GETKQ -> "GET";
+			case OPCODE_SET, OPCODE_SETQ -> "SET";
+			case OPCODE_ADD, OPCODE_ADDQ -> "ADD";
+			case OPCODE_REPLACE, OPCODE_REPLACEQ -> "REPLACE";
+			case OPCODE_DELETE, OPCODE_DELETEQ -> "DELETE";
+			case OPCODE_INCREMENT, OPCODE_INCREMENTQ -> "INCR";
+			case OPCODE_DECREMENT, OPCODE_DECREMENTQ -> "DECR";
+			case OPCODE_APPEND, OPCODE_APPENDQ -> "APPEND";
+			case OPCODE_PREPEND, OPCODE_PREPENDQ -> "PREPEND";
+			case OPCODE_TOUCH -> "TOUCH";
+			case OPCODE_GAT, OPCODE_GATQ, OPCODE_GATK, OPCODE_GATKQ -> "GAT";
+			case OPCODE_FLUSH, OPCODE_FLUSHQ -> "FLUSH";
+			case OPCODE_QUIT, OPCODE_QUITQ -> "QUIT";
+			case OPCODE_NOOP -> "NOOP";
+			case OPCODE_VERSION -> "VERSION";
+			case OPCODE_STAT -> "STAT";
+			case OPCODE_SASL_LIST, OPCODE_SASL_AUTH, OPCODE_SASL_STEP -> "SASL";
+			default -> "UNKNOWN";
+		};
+	}
+
+	private static byte[] response(final int opcode, final short status, final int opaque, final long cas,
+	                               final byte[] extras, final byte[] key, final byte[] value) {
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + extras.length + key.length + value.length);
+		buffer.put(RESPONSE_MAGIC)
+				.put((byte) opcode)
+				.putShort((short) key.length)
+				.put((byte) extras.length)
+				.put((byte) 0)
+				.putShort(status)
+				.putInt(extras.length + key.length + value.length)
+				.putInt(opaque)
+				.putLong(cas)
+				.put(extras)
+				.put(key)
+				.put(value);
+		return buffer.array();
+	}
+
+	private static String text(final byte[] data) {
+		return new String(data, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * <h2 class="en-US">Memcached connection session</h2>
+	 * <h2 class="zh-CN">memcached连接会话</h2>
+	 */
+	static final class MemcachedSession extends AbstractEmbeddedServer.Session {
+
+		MemcachedSession(final EmbeddedMemcachedServer server, final SocketChannel channel) {
+			super(server, channel);
+		}
+	}
+
+	private record Request(int opcode, int opaque, long cas, byte[] extras, byte[] key, byte[] value) {
+	}
+
+	private record Item(byte[] value, int flags, long expireTime, long cas) {
+
+		boolean expired() {
+			return this.expireTime != 0L && this.expireTime <= System.currentTimeMillis();
+		}
+
+		Item touch(final long expireTime) {
+			return new Item(this.value, this.flags, expireTime, this.cas);
+		}
+	}
+}
@@ -0,0 +1,1123 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.test.server;
+
+import org.nervousync.cache.script.CacheScript;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * <h2 class="en-US">Embedded Redis server</h2>
+ * <span class="en-US">
+ *     Stand-in of Redis server which speaks RESP2/RESP3, implements the string, set, hash, key and scripting commands
+ *     issued by the Jedis, Lettuce and Redisson providers. Lua was not supported, scripts can be emulated by
+ *     registering a script handler for the script body.
+ *     Keys and arguments were decoded by ISO-8859-1, so the binary data was kept.
+ * </span>
+ * <h2 class="zh-CN">内嵌Redis服务器</h2>
+ * <span class="zh-CN">
+ *     使用RESP2/RESP3协议的Redis替代服务器，实现了Jedis、Lettuce和Redisson适配器使用的字符串、集合、哈希、键和脚本命令。
+ *     不支持Lua，可以通过为脚本内容注册脚本处理器来模拟脚本。键和参数使用ISO-8859-1解码，以保持二进制数据不变。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Oct 18, 2026 10:46:12 $
+ */
+public final class EmbeddedRedisServer extends AbstractEmbeddedServer<EmbeddedRedisServer.RedisSession> {
+
+	private static final String SERVER_VERSION = "7.2.4";
+	private static final byte[] CRLF = {'\r', '\n'};
+	private static final Status OK = new Status("OK");
+
+	/**
+	 * <span class="en-US">Stored data, sorted by key for cursor based scanning</span>
+	 * <span class="zh-CN">存储的数据，按照键排序用于游标扫描</span>
+	 */
+	private final ConcurrentSkipListMap<String, Item> dataMap = new ConcurrentSkipListMap<>();
+	/**
+	 * <span class="en-US">Loaded script body mapping by SHA1 digest</span>
+	 * <span class="zh-CN">已加载的脚本内容与SHA1摘要的对应关系</span>
+	 */
+	private final Map<String, String> loadedScripts = new ConcurrentHashMap<>();
+	/**
+	 * <span class="en-US">Registered script handler mapping by SHA1 digest</span>
+	 * <span class="zh-CN">已注册的脚本处理器与SHA1摘要的对应关系</span>
+	 */
+	private final Map<String, ScriptHandler> scriptHandlers = new ConcurrentHashMap<>();
+	private final Map<Long, String> scanCursors = new ConcurrentHashMap<>();
+	private final AtomicLong cursorSequence = new AtomicLong(0L);
+	private final AtomicLong clientSequence = new AtomicLong(0L);
+	private String userName = null;
+	private String passWord = null;
+
+	/**
+	 * <h3 class="en-US">Constructor for embedded Redis server, bind to a free port of loopback address</h3>
+	 * <h3 class="zh-CN">内嵌Redis服务器的构造方法，绑定到回环地址的空闲端口</h3>
+	 */
+	public EmbeddedRedisServer() {
+		this("127.0.0.1", 0);
+	}
+
+	/**
+	 * <h3 class="en-US">Constructor for embedded Redis server</h3>
+	 * <h3 class="zh-CN">内嵌Redis服务器的构造方法</h3>
+	 *
+	 * @param bindAddress <span class="en-US">Bind address</span>
+	 *                    <span class="zh-CN">绑定地址</span>
+	 * @param bindPort    <span class="en-US">Bind port, 0 for choose a free port</span>
+	 *                    <span class="zh-CN">绑定端口号，0为自动选择空闲端口</span>
+	 */
+	public EmbeddedRedisServer(final String bindAddress, final int bindPort) {
+		super(bindAddress, bindPort);
+		//  Emulate the scripts which used by cache providers
+		this.script(CacheScript.COMPARE_AND_SET.body(), EmbeddedRedisServer::compareAndSet);
+		this.script(CacheScript.INCR_WITH_EXPIRE.body(), EmbeddedRedisServer::incrWithExpire);
+		this.script(CacheScript.SET_IF_GREATER.body(), EmbeddedRedisServer::setIfGreater);
+	}
+
+	/**
+	 * <h3 class="en-US">Configure authorization information, connections must authenticate before execute commands</h3>
+	 * <h3 class="zh-CN">设置身份认证信息，连接在执行命令前必须通过身份认证</h3>
+	 *
+	 * @param userName <span class="en-US">Username, null for default user</span>
+	 *                 <span class="zh-CN">用户名，null为默认用户</span>
+	 * @param passWord <span class="en-US">Password</span>
+	 *                 <span class="zh-CN">密码</span>
+	 * @return <span class="en-US">Current server instance</span>
+	 * <span class="zh-CN">当前服务器实例</span>
+	 */
+	public EmbeddedRedisServer authorization(final String userName, final String passWord) {
+		this.userName = (userName == null || userName.isEmpty()) ? "default" : userName;
+		this.passWord = passWord;
+		return this;
+	}
+
+	/**
+	 * <h3 class="en-US">Register script handler to emulate given Lua script</h3>
+	 * <h3 class="zh-CN">注册脚本处理器用于模拟指定的Lua脚本</h3>
+	 *
+	 * @param script  <span class="en-US">Lua script body</span>
+	 *                <span class="zh-CN">Lua脚本内容</span>
+	 * @param handler <span class="en-US">Script handler</span>
+	 *                <span class="zh-CN">脚本处理器</span>
+	 * @return <span class="en-US">SHA1 digest of script</span>
+	 * <span class="zh-CN">脚本的SHA1摘要</span>
+	 */
+	public String script(final String script, final ScriptHandler handler) {
+		String digest = sha1(script);
+		this.scriptHandlers.put(digest, handler);
+		return digest;
+	}
+
+	/**
+	 * <h3 class="en-US">Execute command, same as redis.call in Lua script</h3>
+	 * <h3 class="zh-CN">执行命令，与Lua脚本中的redis.call相同</h3>
+	 *
+	 * @param command <span class="en-US">Command name and arguments</span>
+	 *                <span class="zh-CN">命令名称和参数</span>
+	 * @return <span class="en-US">Command result</span>
+	 * <span class="zh-CN">命令执行结果</span>
+	 */
+	public Object call(final String... command) {
+		List<byte[]> arguments = new ArrayList<>(command.length);
+		for (String argument : command) {
+			arguments.add(argument.getBytes(StandardCharsets.ISO_8859_1));
+		}
+		Object result = this.execute(null, arguments);
+		if (result instanceof Error error) {
+			throw new IllegalStateException(error.message());
+		}
+		return result;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve count of stored keys</h3>
+	 * <h3 class="zh-CN">读取存储的键数量</h3>
+	 *
+	 * @return <span class="en-US">Count of keys</span>
+	 * <span class="zh-CN">键数量</span>
+	 */
+	public int size() {
+		this.dataMap.entrySet().removeIf(entry -> entry.getValue().expired());
+		return this.dataMap.size();
+	}
+
+	/**
+	 * <h3 class="en-US">Remove all stored keys</h3>
+	 * <h3 class="zh-CN">移除所有存储的键</h3>
+	 */
+	public void flushAll() {
+		this.dataMap.clear();
+	}
+
+	@Override
+	protected RedisSession createSession(final SocketChannel channel) {
+		RedisSession session = new RedisSession(this, channel, this.clientSequence.incrementAndGet());
+		session.authenticated = (this.passWord == null);
+		return session;
+	}
+
+	@Override
+	protected boolean process(final RedisSession session, final ByteBuffer buffer) {
+		int position = buffer.position();
+		List<byte[]> arguments = (buffer.get(position) == '*') ? readArray(buffer) : readInline(buffer);
+		if (arguments == null) {
+			buffer.position(position);
+			return Boolean.FALSE;
+		}
+		if (arguments.isEmpty()) {
+			return Boolean.TRUE;
+		}
+		String command = commandName(arguments);
+		Object result;
+		try {
+			result = this.execute(session, arguments);
+		} catch (RuntimeException e) {
+			result = new Error("ERR " + e.getMessage());
+		}
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		encode(outputStream, result, session.protocol);
+		session.reply(command, outputStream.toByteArray());
+		if ("QUIT".equals(command)) {
+			session.closeAfterReply();
+		}
+		return Boolean.TRUE;
+	}
+
+	private Object execute(final RedisSession session, final List<byte[]> arguments) {
+		String command = commandName(arguments);
+		if (session != null && !session.authenticated && !"AUTH".equals(command) && !"HELLO".equals(command)
+				&& !"QUIT".equals(command)) {
+			return new Error("NOAUTH Authentication required.");
+		}
+		try {
+			return switch (command) {
+				case "PING" -> arguments.size() > 1 ? arguments.get(1) : new Status("PONG");
+				case "ECHO" -> argument(arguments, 1);
+				case "QUIT", "SELECT", "READONLY", "READWRITE", "RESET" -> OK;
+				case "AUTH" -> this.auth(session, arguments);
+				case "HELLO" -> this.hello(session, arguments);
+				case "CLIENT" -> this.client(session, arguments);
+				case "INFO" -> ("# Server\r\nredis_version:" + SERVER_VERSION + "\r\nredis_mode:standalone\r\n"
+						+ "# Replication\r\nrole:master\r\n").getBytes(StandardCharsets.ISO_8859_1);
+				case "COMMAND" -> List.of();
+				case "CONFIG" -> "GET".equalsIgnoreCase(text(argument(arguments, 1))) ? new LinkedHashMap<>() : OK;
+				case "DBSIZE" -> (long) this.size();
+				case "FLUSHDB", "FLUSHALL" -> {
+					this.flushAll();
+					yield OK;
+				}
+				case "GET" -> this.stringValue(key(arguments, 1));
+				case "SET" -> this.set(arguments);
+				case "SETEX", "PSETEX" -> {
+					long expire = number(argument(arguments, 2));
+					if (expire <= 0L) {
+						yield new Error("ERR invalid expire time in '" + command.toLowerCase(Locale.ROOT) + "' command");
+					}
+					this.dataMap.put(key(arguments, 1), new Item(argument(arguments, 3),
+							System.currentTimeMillis() + ("SETEX".equals(command) ? expire * 1000L : expire)));
+					yield OK;
+				}
+				case "SETNX" -> {
+					if (this.item(key(arguments, 1)) != null) {
+						yield 0L;
+					}
+					this.dataMap.put(key(arguments, 1), new Item(argument(arguments, 2), 0L));
+					yield 1L;
+				}
+				case "GETSET" -> {
+					byte[] current = this.stringValue(key(arguments, 1));
+					this.dataMap.put(key(arguments, 1), new Item(argument(arguments, 2), 0L));
+					yield current;
+				}
+				case "GETDEL" -> {
+					byte[] current = this.stringValue(key(arguments, 1));
+					this.dataMap.remove(key(arguments, 1));
+					yield current;
+				}
+				case "GETEX" -> this.getEx(arguments);
+				case "MGET" -> {
+					List<Object> values = new ArrayList<>();
+					for (int i = 1; i < arguments.size(); i++) {
+						Item item = this.item(key(arguments, i));
+						values.add((item != null && item.value instanceof byte[]) ? item.value : null);
+					}
+					yield values;
+				}
+				case "MSET" -> {
+					for (int i = 1; i + 1 < arguments.size(); i += 2) {
+						this.dataMap.put(key(arguments, i), new Item(arguments.get(i + 1), 0L));
+					}
+					yield OK;
+				}
+				case "STRLEN" -> {
+					byte[] current = this.stringValue(key(arguments, 1));
+					yield (current == null) ? 0L : (long) current.length;
+				}
+				case "APPEND" -> {
+					String key = key(arguments, 1);
+					byte[] current = this.stringValue(key);
+					byte[] append = argument(arguments, 2);
+					byte[] value = (current == null) ? append : Arrays.copyOf(current, current.length + append.length);
+					if (current != null) {
+						System.arraycopy(append, 0, value, current.length, append.length);
+					}
+					Item item = this.item(key);
+					this.dataMap.put(key, new Item(value, (item == null) ? 0L : item.expireTime));
+					yield (long) value.length;
+				}
+				case "INCR" -> this.increase(key(arguments, 1), 1L);
+				case "DECR" -> this.increase(key(arguments, 1), -1L);
+				case "INCRBY" -> this.increase(key(arguments, 1), number(argument(arguments, 2)));
+				case "DECRBY" -> this.increase(key(arguments, 1), -number(argument(arguments, 2)));
+				case "DEL", "UNLINK" -> {
+					long count = 0L;
+					for (int i = 1; i < arguments.size(); i++) {
+						if (this.item(key(arguments, i)) != null) {
+							this.dataMap.remove(key(arguments, i));
+							count++;
+						}
+					}
+					yield count;
+				}
+				case "EXISTS", "TOUCH" -> {
+					long count = 0L;
+					for (int i = 1; i < arguments.size(); i++) {
+						if (this.item(key(arguments, i)) != null) {
+							count++;
+						}
+					}
+					yield count;
+				}
+				case "TYPE" -> {
+					Item item = this.item(key(arguments, 1));
+					yield new Status((item == null) ? "none" : item.type());
+				}
+				case "EXPIRE", "PEXPIRE" -> this.expire(arguments, "EXPIRE".equals(command) ? 1000L : 1L);
+				case "EXPIREAT", "PEXPIREAT" -> {
+					Item item = this.item(key(arguments, 1));
+					if (item == null) {
+						yield 0L;
+					}
+					item.expireTime = number(argument(arguments, 2)) * ("EXPIREAT".equals(command) ? 1000L : 1L);
+					yield 1L;
+				}
+				case "PERSIST" -> {
+					Item item = this.item(key(arguments, 1));
+					if (item == null || item.expireTime == 0L) {
+						yield 0L;
+					}
+					item.expireTime = 0L;
+					yield 1L;
+				}
+				case "TTL", "PTTL" -> {
+					Item item = this.item(key(arguments, 1));
+					if (item == null) {
+						yield -2L;
+					}
+					if (item.expireTime == 0L) {
+						yield -1L;
+					}
+					long remain = Math.max(0L, item.expireTime - System.currentTimeMillis());
+					yield "TTL".equals(command) ? (remain + 500L) / 1000L : remain;
+				}
+				case "SADD" -> {
+					String key = key(arguments, 1);
+					Set<String> members = this.setValue(key);
+					if (members == null) {
+						members = new LinkedHashSet<>();
+						this.dataMap.put(key, new Item(members, 0L));
+					}
+					long count = 0L;
+					for (int i = 2; i < arguments.size(); i++) {
+						if (members.add(key(arguments, i))) {
+							count++;
+						}
+					}
+					yield count;
+				}
+				case "SREM" -> {
+					String key = key(arguments, 1);
+					Set<String> members = this.setValue(key);
+					long count = 0L;
+					if (members != null) {
+						for (int i = 2; i < arguments.size(); i++) {
+							if (members.remove(key(arguments, i))) {
+								count++;
+							}
+						}
+						if (members.isEmpty()) {
+							this.dataMap.remove(key);
+						}
+					}
+					yield count;
+				}
+				case "SMEMBERS" -> {
+					Set<String> members = this.setValue(key(arguments, 1));
+					yield (members == null) ? Set.of() : new LinkedHashSet<>(members);
+				}
+				case "SCARD" -> {
+					Set<String> members = this.setValue(key(arguments, 1));
+					yield (members == null) ? 0L : (long) members.size();
+				}
+				case "SISMEMBER" -> {
+					Set<String> members = this.setValue(key(arguments, 1));
+					yield members != null && members.contains(key(arguments, 2));
+				}
+				case "HSET", "HMSET" -> {
+					String key = key(arguments, 1);
+					if (arguments.size() < 4 || arguments.size() % 2 != 0) {
+						throw new CommandException("ERR wrong number of arguments for '"
+								+ command.toLowerCase(Locale.ROOT) + "' command");
+					}
+					Map<String, String> fields = this.hashValue(key);
+					if (fields == null) {
+						fields = new LinkedHashMap<>();
+						this.dataMap.put(key, new Item(fields, 0L));
+					}
+					long count = 0L;
+					for (int i = 2; i < arguments.size(); i += 2) {
+						if (fields.put(key(arguments, i), key(arguments, i + 1)) == null) {
+							count++;
+						}
+					}
+					yield "HMSET".equals(command) ? OK : count;
+				}
+				case "HGET" -> {
+					Map<String, String> fields = this.hashValue(key(arguments, 1));
+					yield (fields == null) ? null : fields.get(key(arguments, 2));
+				}
+				case "HMGET" -> {
+					Map<String, String> fields = this.hashValue(key(arguments, 1));
+					List<Object> values = new ArrayList<>();
+					for (int i = 2; i < arguments.size(); i++) {
+						values.add((fields == null) ? null : fields.get(key(arguments, i)));
+					}
+					yield values;
+				}
+				case "HGETALL" -> {
+					Map<String, String> fields = this.hashValue(key(arguments, 1));
+					yield (fields == null) ? Map.of() : new LinkedHashMap<>(fields);
+				}
+				case "HDEL" -> {
+					String key = key(arguments, 1);
+					Map<String, String> fields = this.hashValue(key);
+					long count = 0L;
+					if (fields != null) {
+						for (int i = 2; i < arguments.size(); i++) {
+							if (fields.remove(key(arguments, i)) != null) {
+								count++;
+							}
+						}
+						if (fields.isEmpty()) {
+							this.dataMap.remove(key);
+						}
+					}
+					yield count;
+				}
+				case "HLEN" -> {
+					Map<String, String> fields = this.hashValue(key(arguments, 1));
+					yield (fields == null) ? 0L : (long) fields.size();
+				}
+				case "HEXISTS" -> {
+					Map<String, String> fields = this.hashValue(key(arguments, 1));
+					yield fields != null && fields.containsKey(key(arguments, 2));
+				}
+				case "HINCRBY" -> Long.parseLong(this.increaseField(key(arguments, 1), key(arguments, 2),
+						BigDecimal.valueOf(number(argument(arguments, 3))), Boolean.TRUE));
+				case "HINCRBYFLOAT" -> this.increaseField(key(arguments, 1), key(arguments, 2),
+						decimal(argument(arguments, 3)), Boolean.FALSE);
+				case "SCAN" -> this.scan(arguments);
+				case "EVAL" -> {
+					String script = text(argument(arguments, 1));
+					String digest = sha1(script);
+					this.loadedScripts.put(digest, script);
+					yield this.evaluate(digest, arguments);
+				}
+				case "EVALSHA" -> {
+					String digest = text(argument(arguments, 1)).toLowerCase(Locale.ROOT);
+					if (!this.loadedScripts.containsKey(digest)) {
+						yield new Error("NOSCRIPT No matching script. Please use EVAL.");
+					}
+					yield this.evaluate(digest, arguments);
+				}
+				case "SCRIPT" -> this.script(arguments);
+				default -> new Error("ERR unknown command '" + command.toLowerCase(Locale.ROOT) + "'");
+			};
+		} catch (CommandException e) {
+			return new Error(e.getMessage());
+		}
+	}
+
+	private Object auth(final RedisSession session, final List<byte[]> arguments) {
+		String authUser = (arguments.size() > 2) ? text(arguments.get(1)) : "default";
+		String authPass = text(argument(arguments, arguments.size() > 2 ? 2 : 1));
+		if (this.passWord == null) {
+			return new Error("ERR AUTH <password> called without any password configured for the default user.");
+		}
+		if (this.userName.equals(authUser) && this.passWord.equals(authPass)) {
+			session.authenticated = Boolean.TRUE;
+			return OK;
+		}
+		return new Error("WRONGPASS invalid username-password pair or user is disabled.");
+	}
+
+	private Object hello(final RedisSession session, final List<byte[]> arguments) {
+		int protocol = session.protocol;
+		int index = 1;
+		if (arguments.size() > 1) {
+			long version = number(arguments.get(1));
+			if (version != 2L && version != 3L) {
+				return new Error("NOPROTO unsupported protocol version");
+			}
+			protocol = (int) version;
+			index++;
+		}
+		while (index < arguments.size()) {
+			String option = text(arguments.get(index)).toUpperCase(Locale.ROOT);
+			if ("AUTH".equals(option)) {
+				Object result = this.auth(session,
+						List.of("AUTH".getBytes(StandardCharsets.ISO_8859_1),
+								argument(arguments, index + 1), argument(arguments, index + 2)));
+				if (result instanceof Error) {
+					return result;
+				}
+				index += 3;
+			} else if ("SETNAME".equals(option)) {
+				index += 2;
+			} else {
+				return new Error("ERR Syntax error in HELLO option '" + option + "'");
+			}
+		}
+		if (!session.authenticated) {
+			return new Error("NOAUTH HELLO must be called with the client already authenticated, "
+					+ "otherwise the HELLO <proto> AUTH <user> <pass> option can be used to authenticate the client "
+					+ "and select the RESP protocol version at the same time");
+		}
+		session.protocol = protocol;
+		Map<String, Object> serverInfo = new LinkedHashMap<>();
+		serverInfo.put("server", "redis");
+		serverInfo.put("version", SERVER_VERSION);
+		serverInfo.put("proto", (long) protocol);
+		serverInfo.put("id", session.clientId);
+		serverInfo.put("mode", "standalone");
+		serverInfo.put("role", "master");
+		serverInfo.put("modules", List.of());
+		return serverInfo;
+	}
+
+	private Object client(final RedisSession session, final List<byte[]> arguments) {
+		String subCommand = text(argument(arguments, 1)).toUpperCase(Locale.ROOT);
+		return switch (subCommand) {
+			case "ID" -> (session == null) ? 0L : session.clientId;
+			case "GETNAME" -> (session == null) ? null : session.clientName;
+			case "SETNAME" -> {
+				if (session != null) {
+					session.clientName = argument(arguments, 2);
+				}
+				yield OK;
+			}
+			default -> OK;
+		};
+	}
+
+	private Object set(final List<byte[]> arguments) {
+		String key = key(arguments, 1);
+		byte[] value = argument(arguments, 2);
+		long expireTime = 0L;
+		boolean keepTTL = Boolean.FALSE, onlyAbsent = Boolean.FALSE, onlyExists = Boolean.FALSE, returnOld = Boolean.FALSE;
+		for (int i = 3; i < arguments.size(); i++) {
+			String option = text(arguments.get(i)).toUpperCase(Locale.ROOT);
+			switch (option) {
+				case "EX" -> expireTime = this.expireTime(number(argument(arguments, ++i)) * 1000L, "set");
+				case "PX" -> expireTime = this.expireTime(number(argument(arguments, ++i)), "set");
+				case "EXAT" -> expireTime = number(argument(arguments, ++i)) * 1000L;
+				case "PXAT" -> expireTime = number(argument(arguments, ++i));
+				case "NX" -> onlyAbsent = Boolean.TRUE;
+				case "XX" -> onlyExists = Boolean.TRUE;
+				case "KEEPTTL" -> keepTTL = Boolean.TRUE;
+				case "GET" -> returnOld = Boolean.TRUE;
+				default -> throw new CommandException("ERR syntax error");
+			}
+		}
+		Item current = this.item(key);
+		byte[] oldValue = null;
+		if (returnOld && current != null) {
+			if (!(current.value instanceof byte[])) {
+				throw wrongType();
+			}
+			oldValue = (byte[]) current.value;
+		}
+		if ((onlyAbsent && current != null) || (onlyExists && current == null)) {
+			return returnOld ? oldValue : null;
+		}
+		if (keepTTL && current != null) {
+			expireTime = current.expireTime;
+		}
+		this.dataMap.put(key, new Item(value, expireTime));
+		return returnOld ? oldValue : OK;
+	}
+
+	private Object getEx(final List<byte[]> arguments) {
+		String key = key(arguments, 1);
+		byte[] value = this.stringValue(key);
+		if (value == null || arguments.size() < 3) {
+			return value;
+		}
+		Item item = this.item(key);
+		String option = text(arguments.get(2)).toUpperCase(Locale.ROOT);
+		switch (option) {
+			case "EX" -> item.expireTime = this.expireTime(number(argument(arguments, 3)) * 1000L, "getex");
+			case "PX" -> item.expireTime = this.expireTime(number(argument(arguments, 3)), "getex");
+			case "EXAT" -> item.expireTime = number(argument(arguments, 3)) * 1000L;
+			case "PXAT" -> item.expireTime = number(argument(arguments, 3));
+			case "PERSIST" -> item.expireTime = 0L;
+			default -> throw new CommandException("ERR syntax error");
+		}
+		return value;
+	}
+
+	private Object expire(final List<byte[]> arguments, final long unit) {
+		Item item = this.item(key(arguments, 1));
+		if (item == null) {
+			return 0L;
+		}
+		long expireTime = System.currentTimeMillis() + number(argument(arguments, 2)) * unit;
+		if (arguments.size() > 3) {
+			String option = text(arguments.get(3)).toUpperCase(Locale.ROOT);
+			boolean apply = switch (option) {
+				case "NX" -> item.expireTime == 0L;
+				case "XX" -> item.expireTime != 0L;
+				//  Key without expire time was treated as infinite TTL
+				case "GT" -> item.expireTime != 0L && expireTime > item.expireTime;
+				case "LT" -> item.expireTime == 0L || expireTime < item.expireTime;
+				default -> throw new CommandException("ERR Unsupported option " + option);
+			};
+			if (!apply) {
+				return 0L;
+			}
+		}
+		if (expireTime <= System.currentTimeMillis()) {
+			this.dataMap.remove(key(arguments, 1));
+		} else {
+			item.expireTime = expireTime;
+		}
+		return 1L;
+	}
+
+	private Object scan(final List<byte[]> arguments) {
+		long cursor = number(argument(arguments, 1));
+		Pattern pattern = null;
+		String type = null;
+		int count = 10;
+		for (int i = 2; i < arguments.size(); i++) {
+			String option = text(arguments.get(i)).toUpperCase(Locale.ROOT);
+			switch (option) {
+				case "MATCH" -> pattern = globPattern(key(arguments, ++i));
+				case "COUNT" -> count = (int) Math.max(1L, number(argument(arguments, ++i)));
+				case "TYPE" -> type = text(argument(arguments, ++i)).toLowerCase(Locale.ROOT);
+				default -> throw new CommandException("ERR syntax error");
+			}
+		}
+		NavigableMap<String, Item> scanMap;
+		if (cursor == 0L) {
+			scanMap = this.dataMap;
+		} else {
+			String lastKey = this.scanCursors.remove(cursor);
+			if (lastKey == null) {
+				return List.of("0", List.of());
+			}
+			scanMap = this.dataMap.tailMap(lastKey, Boolean.FALSE);
+		}
+		List<Object> keys = new ArrayList<>();
+		String lastKey = null;
+		int scanned = 0;
+		for (Map.Entry<String, Item> entry : scanMap.entrySet()) {
+			if (scanned++ >= count) {
+				break;
+			}
+			lastKey = entry.getKey();
+			Item item = entry.getValue();
+			if (item.expired() || (type != null && !type.equals(item.type()))
+					|| (pattern != null && !pattern.matcher(lastKey).matches())) {
+				continue;
+			}
+			keys.add(lastKey);
+		}
+		String nextCursor = "0";
+		if (lastKey != null && this.dataMap.higherKey(lastKey) != null) {
+			long cursorId = this.cursorSequence.incrementAndGet();
+			this.scanCursors.put(cursorId, lastKey);
+			nextCursor = Long.toString(cursorId);
+		}
+		return List.of(nextCursor, keys);
+	}
+
+	private Object evaluate(final String digest, final List<byte[]> arguments) {
+		ScriptHandler scriptHandler = this.scriptHandlers.get(digest);
+		if (scriptHandler == null) {
+			return new Error("ERR Error running script, no emulation was registered for script " + digest);
+		}
+		int keyCount = (int) number(argument(arguments, 2));
+		if (keyCount < 0 || keyCount > arguments.size() - 3) {
+			return new Error("ERR Number of keys can't be greater than number of args");
+		}
+		List<String> keys = new ArrayList<>(keyCount);
+		List<String> values = new ArrayList<>();
+		for (int i = 3; i < arguments.size(); i++) {
+			if (i < 3 + keyCount) {
+				keys.add(key(arguments, i));
+			} else {
+				values.add(key(arguments, i));
+			}
+		}
+		try {
+			return scriptHandler.execute(this, keys, values);
+		} catch (RuntimeException e) {
+			return new Error("ERR Error running script: " + e.getMessage());
+		}
+	}
+
+	private Object script(final List<byte[]> arguments) {
+		String subCommand = text(argument(arguments, 1)).toUpperCase(Locale.ROOT);
+		return switch (subCommand) {
+			case "LOAD" -> {
+				String script = text(argument(arguments, 2));
+				String digest = sha1(script);
+				this.loadedScripts.put(digest, script);
+				yield digest;
+			}
+			case "EXISTS" -> {
+				List<Object> results = new ArrayList<>();
+				for (int i = 2; i < arguments.size(); i++) {
+					results.add(this.loadedScripts.containsKey(text(arguments.get(i)).toLowerCase(Locale.ROOT)) ? 1L : 0L);
+				}
+				yield results;
+			}
+			case "FLUSH" -> {
+				this.loadedScripts.clear();
+				yield OK;
+			}
+			default -> new Error("ERR unknown subcommand '" + subCommand + "'");
+		};
+	}
+
+	private long increase(final String key, final long step) {
+		byte[] current = this.stringValue(key);
+		long value;
+		try {
+			value = (current == null) ? 0L : Long.parseLong(text(current));
+		} catch (NumberFormatException e) {
+			throw new CommandException("ERR value is not an integer or out of range");
+		}
+		value = Math.addExact(value, step);
+		Item item = this.item(key);
+		this.dataMap.put(key, new Item(Long.toString(value).getBytes(StandardCharsets.ISO_8859_1),
+				(item == null) ? 0L : item.expireTime));
+		return value;
+	}
+
+	private String increaseField(final String key, final String field, final BigDecimal step, final boolean integer) {
+		Map<String, String> fields = this.hashValue(key);
+		if (fields == null) {
+			fields = new LinkedHashMap<>();
+			this.dataMap.put(key, new Item(fields, 0L));
+		}
+		String current = fields.get(field);
+		BigDecimal value;
+		try {
+			value = (current == null) ? BigDecimal.ZERO : new BigDecimal(current);
+		} catch (NumberFormatException e) {
+			throw new CommandException(integer
+					? "ERR hash value is not an integer"
+					: "ERR hash value is not a float");
+		}
+		if (integer && value.scale() > 0) {
+			throw new CommandException("ERR hash value is not an integer");
+		}
+		String result = value.add(step).stripTrailingZeros().toPlainString();
+		fields.put(field, result);
+		return result;
+	}
+
+	private long expireTime(final long expireMillis, final String command) {
+		if (expireMillis <= 0L) {
+			throw new CommandException("ERR invalid expire time in '" + command + "' command");
+		}
+		return System.currentTimeMillis() + expireMillis;
+	}
+
+	private Item item(final String key) {
+		Item item = this.dataMap.get(key);
+		if (item != null && item.expired()) {
+			this.dataMap.remove(key, item);
+			return null;
+		}
+		return item;
+	}
+
+	private byte[] stringValue(final String key) {
+		Item item = this.item(key);
+		if (item == null) {
+			return null;
+		}
+		if (item.value instanceof byte[] bytes) {
+			return bytes;
+		}
+		throw wrongType();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Set<String> setValue(final String key) {
+		Item item = this.item(key);
+		if (item == null) {
+			return null;
+		}
+		if (item.value instanceof Set<?> members) {
+			return (Set<String>) members;
+		}
+		throw wrongType();
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<String, String> hashValue(final String key) {
+		Item item = this.item(key);
+		if (item == null) {
+			return null;
+		}
+		if (item.value instanceof Map<?, ?> fields) {
+			return (Map<String, String>) fields;
+		}
+		throw wrongType();
+	}
+
+	private static CommandException wrongType() {
+		return new CommandException("WRONGTYPE Operation against a key holding the wrong kind of value");
+	}
+
+	private static String commandName(final List<byte[]> arguments) {
+		return text(arguments.get(0)).toUpperCase(Locale.ROOT);
+	}
+
+	private static byte[] argument(final List<byte[]> arguments, final int index) {
+		if (index >= arguments.size()) {
+			throw new CommandException("ERR wrong number of arguments for '"
+					+ text(arguments.get(0)).toLowerCase(Locale.ROOT) + "' command");
+		}
+		return arguments.get(index);
+	}
+
+	private static String key(final List<byte[]> arguments, final int index) {
+		return text(argument(arguments, index));
+	}
+
+	private static String text(final byte[] data) {
+		return new String(data, StandardCharsets.ISO_8859_1);
+	}
+
+	private static long number(final byte[] data) {
+		try {
+			return Long.parseLong(text(data));
+		} catch (NumberFormatException e) {
+			throw new CommandException("ERR value is not an integer or out of range");
+		}
+	}
+
+	private static BigDecimal decimal(final byte[] data) {
+		try {
+			return new BigDecimal(text(data));
+		} catch (NumberFormatException e) {
+			throw new CommandException("ERR value is not a valid float");
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Convert Redis glob-style pattern to regular expression</h3>
+	 * <h3 class="zh-CN">将Redis的glob风格匹配模式转换为正则表达式</h3>
+	 *
+	 * @param glob <span class="en-US">Glob-style pattern</span>
+	 *             <span class="zh-CN">glob风格匹配模式</span>
+	 * @return <span class="en-US">Compiled pattern</span>
+	 * <span class="zh-CN">编译后的正则表达式</span>
+	 */
+	static Pattern globPattern(final String glob) {
+		StringBuilder regex = new StringBuilder();
+		boolean inClass = Boolean.FALSE;
+		for (int i = 0; i < glob.length(); i++) {
+			char character = glob.charAt(i);
+			if (character == '\\' && i + 1 < glob.length()) {
+				regex.append(Pattern.quote(String.valueOf(glob.charAt(++i))));
+			} else if (inClass) {
+				if (character == ']') {
+					inClass = Boolean.FALSE;
+					regex.append(']');
+				} else if (character == '^' && glob.charAt(i - 1) == '[') {
+					regex.append('^');
+				} else if (character == '-') {
+					regex.append('-');
+				} else {
+					regex.append(Pattern.quote(String.valueOf(character)));
+				}
+			} else {
+				switch (character) {
+					case '*' -> regex.append(".*");
+					case '?' -> regex.append('.');
+					case '[' -> {
+						inClass = Boolean.TRUE;
+						regex.append('[');
+					}
+					default -> regex.append(Pattern.quote(String.valueOf(character)));
+				}
+			}
+		}
+		return Pattern.compile(regex.toString(), Pattern.DOTALL);
+	}
+
+	private static Object compareAndSet(final EmbeddedRedisServer server, final List<String> keys,
+										final List<String> arguments) {
+		if (server.call("GET", keys.get(0)) instanceof byte[] value && sha1(value).equals(arguments.get(0))) {
+			if (Long.parseLong(arguments.get(2)) > 0L) {
+				server.call("SET", keys.get(0), arguments.get(1), "EX", arguments.get(2));
+			} else {
+				server.call("SET", keys.get(0), arguments.get(1));
+			}
+			return 1L;
+		}
+		return 0L;
+	}
+
+	private static Object incrWithExpire(final EmbeddedRedisServer server, final List<String> keys,
+										 final List<String> arguments) {
+		Object value = server.call("INCRBY", keys.get(0), arguments.get(0));
+		if (Long.parseLong(arguments.get(1)) > 0L && Long.valueOf(-1L).equals(server.call("TTL", keys.get(0)))) {
+			server.call("EXPIRE", keys.get(0), arguments.get(1));
+		}
+		return value;
+	}
+
+	private static Object setIfGreater(final EmbeddedRedisServer server, final List<String> keys,
+									   final List<String> arguments) {
+		if (server.call("GET", keys.get(0)) instanceof byte[] current
+				&& new BigDecimal(arguments.get(0)).compareTo(new BigDecimal(text(current))) <= 0) {
+			return 0L;
+		}
+		if (Long.parseLong(arguments.get(1)) > 0L) {
+			server.call("SET", keys.get(0), arguments.get(0), "EX", arguments.get(1));
+		} else {
+			server.call("SET", keys.get(0), arguments.get(0));
+		}
+		return 1L;
+	}
+
+	private static String sha1(final String script) {
+		return sha1(script.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String sha1(final byte[] data) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-1").digest(data));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static List<byte[]> readArray(final ByteBuffer buffer) {
+		buffer.get();
+		String header = readLine(buffer);
+		if (header == null) {
+			return null;
+		}
+		int count = Integer.parseInt(header);
+		List<byte[]> arguments = new ArrayList<>(Math.max(count, 0));
+		for (int i = 0; i < count; i++) {
+			if (!buffer.hasRemaining()) {
+				return null;
+			}
+			if (buffer.get() != '$') {
+				throw new IllegalStateException("Protocol error: expected '$'");
+			}
+			String length = readLine(buffer);
+			if (length == null) {
+				return null;
+			}
+			int dataLength = Integer.parseInt(length);
+			if (buffer.remaining() < dataLength + CRLF.length) {
+				return null;
+			}
+			byte[] data = new byte[dataLength];
+			buffer.get(data);
+			buffer.position(buffer.position() + CRLF.length);
+			arguments.add(data);
+		}
+		return arguments;
+	}
+
+	private static List<byte[]> readInline(final ByteBuffer buffer) {
+		String line = readLine(buffer);
+		if (line == null) {
+			return null;
+		}
+		List<byte[]> arguments = new ArrayList<>();
+		for (String argument : line.trim().split("\\s+")) {
+			if (!argument.isEmpty()) {
+				arguments.add(argument.getBytes(StandardCharsets.ISO_8859_1));
+			}
+		}
+		return arguments;
+	}
+
+	private static String readLine(final ByteBuffer buffer) {
+		for (int i = buffer.position(); i < buffer.limit(); i++) {
+			if (buffer.get(i) == '\n') {
+				int length = i - buffer.position();
+				byte[] data = new byte[length];
+				buffer.get(data);
+				buffer.get();
+				return text(data).replace("\r", "");
+			}
+		}
+		return null;
+	}
+
+	private static void encode(final ByteArrayOutputStream outputStream, final Object result, final int protocol) {
+		if (result == null) {
+			write(outputStream, (protocol == 3) ? "_" : "$-1");
+		} else if (result instanceof Status status) {
+			write(outputStream, "+" + status.message());
+		} else if (result instanceof Error error) {
+			write(outputStream, "-" + error.message());
+		} else if (result instanceof Long || result instanceof Integer) {
+			write(outputStream, ":" + result);
+		} else if (result instanceof Boolean bool) {
+			write(outputStream, ":" + (bool ? 1 : 0));
+		} else if (result instanceof byte[] data) {
+			write(outputStream, "$" + data.length);
+			outputStream.writeBytes(data);
+			outputStream.writeBytes(CRLF);
+		} else if (result instanceof String string) {
+			encode(outputStream, string.getBytes(StandardCharsets.ISO_8859_1), protocol);
+		} else if (result instanceof Collection<?> collection) {
+			write(outputStream, ((protocol == 3 && collection instanceof Set) ? "~" : "*") + collection.size());
+			collection.forEach(element -> encode(outputStream, element, protocol));
+		} else if (result instanceof Map<?, ?> map) {
+			write(outputStream, ((protocol == 3) ? "%" : "*") + ((protocol == 3) ? map.size() : map.size() * 2));
+			map.forEach((key, value) -> {
+				encode(outputStream, key, protocol);
+				encode(outputStream, value, protocol);
+			});
+		} else {
+			encode(outputStream, result.toString(), protocol);
+		}
+	}
+
+	private static void write(final ByteArrayOutputStream outputStream, final String line) {
+		outputStream.writeBytes(line.getBytes(StandardCharsets.ISO_8859_1));
+		outputStream.writeBytes(CRLF);
+	}
+
+	/**
+	 * <h2 class="en-US">Script handler, emulate the Lua script by Java code</h2>
+	 * <h2 class="zh-CN">脚本处理器，使用Java代码模拟Lua脚本</h2>
+	 */
+	@FunctionalInterface
+	public interface ScriptHandler {
+
+		/**
+		 * <h3 class="en-US">Execute script</h3>
+		 * <h3 class="zh-CN">执行脚本</h3>
+		 *
+		 * @param server    <span class="en-US">Current server, use call method same as redis.call</span>
+		 *                  <span class="zh-CN">当前服务器，使用call方法与redis.call相同</span>
+		 * @param keys      <span class="en-US">KEYS of script</span>
+		 *                  <span class="zh-CN">脚本的KEYS</span>
+		 * @param arguments <span class="en-US">ARGV of script</span>
+		 *                  <span class="zh-CN">脚本的ARGV</span>
+		 * @return <span class="en-US">Script result, supports null, Long, String, byte[] and List</span>
+		 * <span class="zh-CN">脚本结果，支持null、Long、String、byte[]和List</span>
+		 */
+		Object execute(final EmbeddedRedisServer server, final List<String> keys, final List<String> arguments);
+	}
+
+	/**
+	 * <h2 class="en-US">Redis connection session</h2>
+	 * <h2 class="zh-CN">Redis连接会话</h2>
+	 */
+	static final class RedisSession extends AbstractEmbeddedServer.Session {
+
+		private final long clientId;
+		private int protocol = 2;
+		private byte[] clientName = null;
+
+		RedisSession(final EmbeddedRedisServer server, final SocketChannel channel, final long clientId) {
+			super(server, channel);
+			this.clientId = clientId;
+		}
+	}
+
+	/**
+	 * <h2 class="en-US">Stored item</h2>
+	 * <h2 class="zh-CN">存储的数据项</h2>
+	 */
+	private static final class Item {
+
+		private final Object value;
+		private volatile long expireTime;
+
+		Item(final Object value, final long expireTime) {
+			this.value = value;
+			this.expireTime = expireTime;
+		}
+
+		boolean expired() {
+			return this.expireTime != 0L && this.expireTime <= System.currentTimeMillis();
+		}
+
+		String type() {
+			if (this.value instanceof byte[]) {
+				return "string";
+			}
+			if (this.value instanceof Map) {
+				return "hash";
+			}
+			return (this.value instanceof Set) ? "set" : "none";
+		}
+	}
+
+	private record Status(String message) {
+	}
+
+	private record Error(String message) {
+	}
+
+	private static final class CommandException extends RuntimeException {
+
+		CommandException(final String message) {
+			super(message, null, Boolean.FALSE, Boolean.FALSE);
+		}
+	}
+}
@@ -16,6 +16,7 @@
  */
 package org.nervousync.cache.provider.impl.xmemcached;
 
+import net.rubyeye.xmemcached.GetsResponse;
 import net.rubyeye.xmemcached.MemcachedClient;
 import net.rubyeye.xmemcached.MemcachedClientBuilder;
 import net.rubyeye.xmemcached.XMemcachedClientBuilder;
@@ -25,19 +26,27 @@ import net.rubyeye.xmemcached.exception.MemcachedException;
 import net.rubyeye.xmemcached.impl.KetamaMemcachedSessionLocator;
 import net.rubyeye.xmemcached.utils.AddrUtil;
 import org.nervousync.annotations.provider.Provider;
+import org.nervousync.cache.api.VersionedValue;
 import org.nervousync.cache.commons.CacheGlobals;
 import org.nervousync.cache.config.CacheConfig.ServerConfig;
 import org.nervousync.cache.exceptions.CacheException;
 import org.nervousync.cache.provider.impl.AbstractProvider;
+import org.nervousync.cache.script.CacheScript;
 import org.nervousync.commons.Globals;
 import org.nervousync.utils.StringUtils;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -50,6 +59,15 @@ import java.util.concurrent.TimeoutException;
 @Provider(name = "XMemcachedProvider", titleKey = "xmemcached.cache.provider.name")
 public class XMemcachedProviderImpl extends AbstractProvider {
 
+	/**
+	 * Separator of tag member list
+	 */
+	private static final String TAG_MEMBER_SEPARATOR = " ";
+	/**
+	 * Maximum attempts of updating tag member list by CAS
+	 */
+	private static final int TAG_CAS_ATTEMPTS = 3;
+
 	/**
 	 * Memcached client object
 	 */
@@ -73,12 +91,17 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 	@Override
 	public void set(final String key, final String value, final int expire) {
 		try {
-			this.memcachedClient.set(key, super.expiryTime(expire), value);
+			this.memcachedClient.set(key, this.exptime(expire), value, this.getWriteTimeout());
 		} catch (InterruptedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "set");
 			this.printStackMessage(e);
 			Thread.currentThread().interrupt();
-		} catch (TimeoutException | MemcachedException e) {
+		} catch (TimeoutException e) {
+			this.logger.error("Data_Operate_Cache_Error", "set");
+			this.printStackMessage(e);
+			//  Timeout was transient failure, thrown to the retry policy and circuit breaker
+			throw new CompletionException(e);
+		} catch (MemcachedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "set");
 			this.printStackMessage(e);
 		}
@@ -89,17 +112,22 @@ public class XMemcachedProviderImpl extends AbstractProvider {
      * @see org.nervousync.cache.provider.Provider#add(String, String, int)
      */
 	@Override
-	public void add(final String key, final String value, final int expire) {
+	public boolean add(final String key, final String value, final int expire) {
 		try {
-			this.memcachedClient.add(key, super.expiryTime(expire), value);
+			return this.memcachedClient.add(key, this.exptime(expire), value, this.getWriteTimeout());
 		} catch (InterruptedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "add");
 			this.printStackMessage(e);
 			Thread.currentThread().interrupt();
-		} catch (TimeoutException | MemcachedException e) {
+		} catch (TimeoutException e) {
+			this.logger.error("Data_Operate_Cache_Error", "add");
+			this.printStackMessage(e);
+			throw new CompletionException(e);
+		} catch (MemcachedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "add");
 			this.printStackMessage(e);
 		}
+		return Boolean.FALSE;
 	}
 
     /*
@@ -107,17 +135,22 @@ public class XMemcachedProviderImpl extends AbstractProvider {
      * @see org.nervousync.cache.provider.Provider#replace(String, String, int)
      */
 	@Override
-	public void replace(final String key, final String value, final int expire) {
+	public boolean replace(final String key, final String value, final int expire) {
 		try {
-			this.memcachedClient.replace(key, super.expiryTime(expire), value);
+			return this.memcachedClient.replace(key, this.exptime(expire), value, this.getWriteTimeout());
 		} catch (InterruptedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "replace");
 			this.printStackMessage(e);
 			Thread.currentThread().interrupt();
-		} catch (TimeoutException | MemcachedException e) {
+		} catch (TimeoutException e) {
+			this.logger.error("Data_Operate_Cache_Error", "replace");
+			this.printStackMessage(e);
+			throw new CompletionException(e);
+		} catch (MemcachedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "replace");
 			this.printStackMessage(e);
 		}
+		return Boolean.FALSE;
 	}
 
     /*
@@ -127,12 +160,16 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 	@Override
 	public void expire(final String key, final int expire) {
 		try {
-			this.memcachedClient.touch(key, super.expiryTime(expire));
+			this.memcachedClient.touch(key, this.exptime(expire), this.getWriteTimeout());
 		} catch (InterruptedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "expire");
 			this.printStackMessage(e);
 			Thread.currentThread().interrupt();
-		} catch (TimeoutException | MemcachedException e) {
+		} catch (TimeoutException e) {
+			this.logger.error("Data_Operate_Cache_Error", "expire");
+			this.printStackMessage(e);
+			throw new CompletionException(e);
+		} catch (MemcachedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "expire");
 			this.printStackMessage(e);
 		}
@@ -146,13 +183,17 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 	public void touch(final String... keys) {
 		try {
 			for (String key : keys) {
-				this.memcachedClient.touch(key, super.expiryTime(Globals.DEFAULT_VALUE_INT));
+				this.memcachedClient.touch(key, this.exptime(Globals.DEFAULT_VALUE_INT), this.getWriteTimeout());
 			}
 		} catch (InterruptedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "touch");
 			this.printStackMessage(e);
 			Thread.currentThread().interrupt();
-		} catch (TimeoutException | MemcachedException e) {
+		} catch (TimeoutException e) {
+			this.logger.error("Data_Operate_Cache_Error", "touch");
+			this.printStackMessage(e);
+			throw new CompletionException(e);
+		} catch (MemcachedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "touch");
 			this.printStackMessage(e);
 		}
@@ -165,17 +206,183 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 	@Override
 	public void delete(final String key) {
 		try {
-			this.memcachedClient.delete(key);
+			this.memcachedClient.delete(key, this.getWriteTimeout());
 		} catch (InterruptedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "delete");
 			this.printStackMessage(e);
 			Thread.currentThread().interrupt();
-		} catch (TimeoutException | MemcachedException e) {
+		} catch (TimeoutException e) {
+			this.logger.error("Data_Operate_Cache_Error", "delete");
+			this.printStackMessage(e);
+			throw new CompletionException(e);
+		} catch (MemcachedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "delete");
 			this.printStackMessage(e);
 		}
 	}
 
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#deleteAll(Collection)
+     */
+	@Override
+	public long deleteAll(final Collection<String> keys) {
+		long count = 0L;
+		try {
+			//  Memcached has no multi-key delete, replies were required for the removed count
+			for (String key : keys.stream().distinct().toList()) {
+				if (this.memcachedClient.delete(key, this.getWriteTimeout())) {
+					count++;
+				}
+			}
+		} catch (InterruptedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "deleteAll");
+			this.printStackMessage(e);
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException e) {
+			this.logger.error("Data_Operate_Cache_Error", "deleteAll");
+			this.printStackMessage(e);
+			throw new CompletionException(e);
+		} catch (MemcachedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "deleteAll");
+			this.printStackMessage(e);
+		}
+		return count;
+	}
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#tag(String, int, String...)
+     */
+	@Override
+	public void tag(final String key, final int expire, final String... tags) {
+		final int expireTime = super.expiryTime(expire);
+		try {
+			for (String tag : tags) {
+				try {
+					if (!this.tag(tagKey(tag), key, expireTime)) {
+						this.logger.warn("Tag_Untracked_Cache_Warn", key, tag);
+					}
+				} catch (MemcachedException e) {
+					//  Member list reached the item size limit
+					this.logger.warn("Tag_Untracked_Cache_Warn", key, tag);
+					this.printStackMessage(e);
+				}
+			}
+		} catch (InterruptedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "tag");
+			this.printStackMessage(e);
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException e) {
+			this.logger.error("Data_Operate_Cache_Error", "tag");
+			this.printStackMessage(e);
+			throw new CompletionException(e);
+		}
+	}
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#invalidateTag(String)
+     */
+	@Override
+	public String[] invalidateTag(final String tag) {
+		final String tagKey = tagKey(tag);
+		try {
+			GetsResponse<String> response = this.memcachedClient.gets(tagKey, this.getReadTimeout());
+			if (response == null || StringUtils.isEmpty(response.getValue())) {
+				return new String[0];
+			}
+			//  The first token was the expire timestamp of member list
+			String[] members = Arrays.stream(response.getValue().split(TAG_MEMBER_SEPARATOR))
+					.skip(1)
+					.filter(StringUtils::notBlank)
+					.distinct()
+					.toArray(String[]::new);
+			//  No reply deletes were sent without waiting for each response
+			for (String member : members) {
+				this.memcachedClient.deleteWithNoReply(member);
+			}
+			//  Keep the member list if it was appended after read, the read members will be removed again next time
+			this.memcachedClient.delete(tagKey, response.getCas(), this.getWriteTimeout());
+			return members;
+		} catch (InterruptedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "invalidateTag");
+			this.printStackMessage(e);
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException e) {
+			this.logger.error("Data_Operate_Cache_Error", "invalidateTag");
+			this.printStackMessage(e);
+			throw new CompletionException(e);
+		} catch (MemcachedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "invalidateTag");
+			this.printStackMessage(e);
+		}
+		return new String[0];
+	}
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#acquireLease(String, String, int)
+     */
+	@Override
+	public boolean acquireLease(final String key, final String token, final int leaseTime) {
+		try {
+			//  Expire time of memcached was in seconds, round up the lease time
+			int expire = (int) TimeUnit.MILLISECONDS.toSeconds(leaseTime + 999L);
+			return this.memcachedClient.add(leaseKey(key), expire, token, this.getWriteTimeout());
+		} catch (InterruptedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "acquireLease");
+			this.printStackMessage(e);
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException e) {
+			this.logger.error("Data_Operate_Cache_Error", "acquireLease");
+			this.printStackMessage(e);
+			throw new CompletionException(e);
+		} catch (MemcachedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "acquireLease");
+			this.printStackMessage(e);
+		}
+		return Boolean.FALSE;
+	}
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#releaseLease(String, String)
+     */
+	@Override
+	public void releaseLease(final String key, final String token) {
+		final String leaseKey = leaseKey(key);
+		try {
+			GetsResponse<String> response = this.memcachedClient.gets(leaseKey, this.getReadTimeout());
+			if (response != null && token.equals(response.getValue())) {
+				//  Delete with cas, the lease acquired by other client after expired was kept
+				this.memcachedClient.delete(leaseKey, response.getCas(), this.getWriteTimeout());
+			}
+		} catch (InterruptedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "releaseLease");
+			this.printStackMessage(e);
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException e) {
+			this.logger.error("Data_Operate_Cache_Error", "releaseLease");
+			this.printStackMessage(e);
+			throw new CompletionException(e);
+		} catch (MemcachedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "releaseLease");
+			this.printStackMessage(e);
+		}
+	}
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#scan(String, int)
+     */
+	@Override
+	public Iterator<String> scan(final String pattern, final int batchSize) {
+		//  Memcached has no cursor based key iteration, stats cachedump was limited and not supported by binary protocol
+		this.logger.warn("Scan_Not_Supported_Cache_Warn");
+		return Collections.emptyIterator();
+	}
+
     /*
      * (non-Javadoc)
      * @see org.nervousync.cache.provider.Provider#get(String)
@@ -183,18 +390,106 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 	@Override
 	public String get(final String key) {
 		try {
-			return this.memcachedClient.get(key);
+			return this.memcachedClient.get(key, this.getReadTimeout());
 		} catch (InterruptedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "get");
 			this.printStackMessage(e);
 			Thread.currentThread().interrupt();
-		} catch (TimeoutException | MemcachedException e) {
+		} catch (TimeoutException e) {
+			this.logger.error("Data_Operate_Cache_Error", "get");
+			this.printStackMessage(e);
+			throw new CompletionException(e);
+		} catch (MemcachedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "get");
 			this.printStackMessage(e);
 		}
 		return null;
 	}
 
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getAndTouch(String, int)
+     */
+	@Override
+	public String getAndTouch(final String key, final int expire) {
+		final int expireTime = super.expiryTime(expire);
+		if (expireTime <= 0) {
+			//  Negative expire time expires the item immediately, key without expire time never expires
+			return this.get(key);
+		}
+		try {
+			return this.memcachedClient.getAndTouch(key, expireTime, this.getReadTimeout());
+		} catch (InterruptedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "getAndTouch");
+			this.printStackMessage(e);
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException e) {
+			this.logger.error("Data_Operate_Cache_Error", "getAndTouch");
+			this.printStackMessage(e);
+			throw new CompletionException(e);
+		} catch (MemcachedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "getAndTouch");
+			this.printStackMessage(e);
+		}
+		return null;
+	}
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getWithVersion(String)
+     */
+	@Override
+	public VersionedValue getWithVersion(final String key) {
+		try {
+			GetsResponse<String> response = this.memcachedClient.gets(key, this.getReadTimeout());
+			return (response == null)
+					? null
+					: new VersionedValue(response.getValue(), Long.toString(response.getCas()));
+		} catch (InterruptedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "getWithVersion");
+			this.printStackMessage(e);
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException e) {
+			this.logger.error("Data_Operate_Cache_Error", "getWithVersion");
+			this.printStackMessage(e);
+			throw new CompletionException(e);
+		} catch (MemcachedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "getWithVersion");
+			this.printStackMessage(e);
+		}
+		return null;
+	}
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#compareAndSet(String, String, String, int)
+     */
+	@Override
+	public boolean compareAndSet(final String key, final String version, final String value, final int expire) {
+		try {
+			if (version == null) {
+				return this.memcachedClient.add(key, this.exptime(expire), value, this.getWriteTimeout());
+			}
+			return this.memcachedClient.cas(key, this.exptime(expire), value, this.getWriteTimeout(),
+					Long.parseLong(version));
+		} catch (NumberFormatException e) {
+			//  Version was not generated by memcached, never matches the current CAS unique
+			return Boolean.FALSE;
+		} catch (InterruptedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "compareAndSet");
+			this.printStackMessage(e);
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException e) {
+			this.logger.error("Data_Operate_Cache_Error", "compareAndSet");
+			this.printStackMessage(e);
+			throw new CompletionException(e);
+		} catch (MemcachedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "compareAndSet");
+			this.printStackMessage(e);
+		}
+		return Boolean.FALSE;
+	}
+
     /*
      * (non-Javadoc)
      * @see org.nervousync.cache.provider.Provider#incr(String, long)
@@ -202,12 +497,16 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 	@Override
 	public long incr(final String key, final long step) {
 		try {
-			return this.memcachedClient.incr(key, step);
+			return this.memcachedClient.incr(key, step, Globals.INITIALIZE_INT_VALUE, this.getWriteTimeout());
 		} catch (InterruptedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "incr");
 			this.printStackMessage(e);
 			Thread.currentThread().interrupt();
-		} catch (TimeoutException | MemcachedException e) {
+		} catch (TimeoutException e) {
+			this.logger.error("Data_Operate_Cache_Error", "incr");
+			this.printStackMessage(e);
+			throw new CompletionException(e);
+		} catch (MemcachedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "incr");
 			this.printStackMessage(e);
 		}
@@ -221,18 +520,114 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 	@Override
 	public long decr(final String key, final long step) {
 		try {
-			return this.memcachedClient.decr(key, step);
+			return this.memcachedClient.decr(key, step, Globals.INITIALIZE_INT_VALUE, this.getWriteTimeout());
 		} catch (InterruptedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "decr");
 			this.printStackMessage(e);
 			Thread.currentThread().interrupt();
-		} catch (TimeoutException | MemcachedException e) {
+		} catch (TimeoutException e) {
+			this.logger.error("Data_Operate_Cache_Error", "decr");
+			this.printStackMessage(e);
+			throw new CompletionException(e);
+		} catch (MemcachedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "decr");
 			this.printStackMessage(e);
 		}
 		return Globals.DEFAULT_VALUE_LONG;
 	}
 
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#incrAll(Map)
+     */
+	@Override
+	public void incrAll(final Map<String, Long> deltas) {
+		try {
+			//  Missing counter was initialized by the delta, so the first batch was not lost
+			for (Map.Entry<String, Long> entry : deltas.entrySet()) {
+				if (entry.getValue() > 0L) {
+					this.memcachedClient.incr(entry.getKey(), entry.getValue(), entry.getValue(), this.getWriteTimeout());
+				} else {
+					//  Memcached counter never decreases below zero
+					this.memcachedClient.decr(entry.getKey(), -entry.getValue(), Globals.INITIALIZE_INT_VALUE,
+							this.getWriteTimeout());
+				}
+			}
+		} catch (InterruptedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "incrAll");
+			this.printStackMessage(e);
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException e) {
+			this.logger.error("Data_Operate_Cache_Error", "incrAll");
+			this.printStackMessage(e);
+			throw new CompletionException(e);
+		} catch (MemcachedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "incrAll");
+			this.printStackMessage(e);
+		}
+	}
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#setField(String, String, String, int)
+     */
+	@Override
+	public void setField(final String key, final String field, final String value, final int expire) {
+		//  Memcached has no hash type, emulation by rewriting the whole value gives no benefit, the field was dropped
+		this.logger.warn("Hash_Not_Supported_Cache_Warn", "setField");
+	}
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getField(String, String)
+     */
+	@Override
+	public String getField(final String key, final String field) {
+		this.logger.warn("Hash_Not_Supported_Cache_Warn", "getField");
+		return null;
+	}
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getFields(String, String...)
+     */
+	@Override
+	public Map<String, String> getFields(final String key, final String... fields) {
+		this.logger.warn("Hash_Not_Supported_Cache_Warn", "getFields");
+		return Collections.emptyMap();
+	}
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getAllFields(String)
+     */
+	@Override
+	public Map<String, String> getAllFields(final String key) {
+		this.logger.warn("Hash_Not_Supported_Cache_Warn", "getAllFields");
+		return Collections.emptyMap();
+	}
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#incrField(String, String, long)
+     */
+	@Override
+	public long incrField(final String key, final String field, final long step) {
+		this.logger.warn("Hash_Not_Supported_Cache_Warn", "incrField");
+		return Globals.DEFAULT_VALUE_LONG;
+	}
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#eval(CacheScript, List, List)
+     */
+	@Override
+	public Object eval(final CacheScript cacheScript, final List<String> keys, final List<String> arguments) {
+		//  Memcached has no server-side script
+		this.logger.warn("Script_Not_Supported_Cache_Warn", cacheScript.name());
+		return null;
+	}
+
     /*
      * (non-Javadoc)
      * @see org.nervousync.cache.provider.Provider#destroy()
@@ -251,6 +646,99 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 		}
 	}
 
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#warmup(int, int)
+     */
+	@Override
+	protected void warmup(final int connections, final int timeout) {
+		//  Connections of each server were created by XMemcached when the client was built
+		try {
+			this.memcachedClient.getVersions(timeout);
+		} catch (TimeoutException | MemcachedException e) {
+			throw new CompletionException(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CompletionException(e);
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Resolve expire time to memcached exptime</h3>
+	 * <span class="en-US">Memcached rejects negative exptime, key without expire time was stored with exptime 0</span>
+	 * <h3 class="zh-CN">将过期时间转换为Memcached的过期时间</h3>
+	 * <span class="zh-CN">Memcached拒绝负数的过期时间，没有过期时间的键使用过期时间0存储</span>
+	 *
+	 * @param expire <span class="en-US">Expire time</span>
+	 *               <span class="zh-CN">过期时间</span>
+	 * @return <span class="en-US">Memcached exptime, 0 for never expire</span>
+	 * <span class="zh-CN">Memcached的过期时间，0为永不过期</span>
+	 */
+	private int exptime(final int expire) {
+		return Math.max(super.expiryTime(expire), 0);
+	}
+
+	/**
+	 * <h3 class="en-US">Add given key to member list of given tag key</h3>
+	 * <span class="en-US">
+	 *     The first token of member list was the expire timestamp in seconds, 0 for never expire. Memcached can not
+	 *     compare expire time, so the member list was updated by CAS and the expire time was extended only if
+	 *     greater, the member list never expires before its longest-lived member.
+	 * </span>
+	 * <h3 class="zh-CN">将给定的键添加到给定标签键的成员列表</h3>
+	 * <span class="zh-CN">
+	 *     成员列表的第一个元素为以秒为单位的过期时间戳，0为永不过期。Memcached无法比较过期时间，因此使用CAS更新成员列表，
+	 *     并且仅在更大时延长过期时间，成员列表永远不会早于其存活时间最长的成员过期。
+	 * </span>
+	 *
+	 * @param tagKey     <span class="en-US">Cache key of member list</span>
+	 *                   <span class="zh-CN">成员列表的缓存键值</span>
+	 * @param key        <span class="en-US">Cache key</span>
+	 *                   <span class="zh-CN">缓存键值</span>
+	 * @param expireTime <span class="en-US">Expire time of cache key</span>
+	 *                   <span class="zh-CN">缓存键值的过期时间</span>
+	 * @return <span class="en-US">Boolean.TRUE if the key was tracked by the member list</span>
+	 * <span class="zh-CN">键被成员列表跟踪时返回Boolean.TRUE</span>
+	 * @throws InterruptedException <span class="en-US">If the operate was interrupted</span>
+	 *                              <span class="zh-CN">如果操作被中断</span>
+	 * @throws TimeoutException     <span class="en-US">If the operate was timeout</span>
+	 *                              <span class="zh-CN">如果操作超时</span>
+	 * @throws MemcachedException   <span class="en-US">If the operate was rejected by memcached</span>
+	 *                              <span class="zh-CN">如果操作被Memcached拒绝</span>
+	 */
+	private boolean tag(final String tagKey, final String key, final int expireTime)
+			throws InterruptedException, TimeoutException, MemcachedException {
+		final long currentTime = TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+		final long expireTimestamp = (expireTime > 0) ? currentTime + expireTime : 0L;
+		for (int i = 0; i < TAG_CAS_ATTEMPTS; i++) {
+			GetsResponse<String> response = this.memcachedClient.gets(tagKey, this.getReadTimeout());
+			if (response == null || StringUtils.isEmpty(response.getValue())) {
+				if (this.memcachedClient.add(tagKey, Math.max(expireTime, 0),
+						expireTimestamp + TAG_MEMBER_SEPARATOR + key, this.getWriteTimeout())) {
+					return Boolean.TRUE;
+				}
+				//  Member list was created by other client between gets and add
+				continue;
+			}
+			String value = response.getValue();
+			int index = value.indexOf(TAG_MEMBER_SEPARATOR);
+			long timestamp = Long.parseLong((index < 0) ? value : value.substring(0, index));
+			if (timestamp > 0L) {
+				timestamp = (expireTimestamp == 0L) ? 0L : Math.max(timestamp, expireTimestamp);
+			}
+			String members = (index < 0) ? Globals.DEFAULT_VALUE_STRING : value.substring(index);
+			//  Member list was separated by blank, memcached key can not contain blank
+			if (!(members + TAG_MEMBER_SEPARATOR).contains(TAG_MEMBER_SEPARATOR + key + TAG_MEMBER_SEPARATOR)) {
+				members += (TAG_MEMBER_SEPARATOR + key);
+			}
+			if (this.memcachedClient.cas(tagKey, (timestamp == 0L) ? 0 : (int) (timestamp - currentTime),
+					timestamp + members, this.getWriteTimeout(), response.getCas())) {
+				return Boolean.TRUE;
+			}
+		}
+		return Boolean.FALSE;
+	}
+
 	private void printStackMessage(final Exception e) {
 		if (this.logger.isDebugEnabled()) {
 			this.logger.debug("Utils", "Stack_Message_Error", e);
@@ -304,6 +792,8 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 				new XMemcachedClientBuilder(serverList, serverWeights);
 		//  Using binary protocol instead of text protocol, if we use memcached 1.4.0 or later
 		clientBuilder.setCommandFactory(new BinaryCommandFactory());
+		clientBuilder.setConnectTimeout(this.getConnectTimeoutMillis());
+		clientBuilder.setOpTimeout(this.getCommandTimeout());
 
 		if (serverList.size() > 1) {
 			//  Consistent Hash
@@ -17,10 +17,21 @@
 package org.nervousync.cache.test.xmemcached;
 
 import org.nervousync.cache.test.core.BaseCacheTest;
+import org.nervousync.cache.test.server.AbstractEmbeddedServer;
+import org.nervousync.cache.test.server.EmbeddedMemcachedServer;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public final class XmemcachedTest extends BaseCacheTest {
 
 	public XmemcachedTest() {
 		super("XMemcachedProvider");
 	}
+
+	@Override
+	protected List<AbstractEmbeddedServer<?>> embeddedServers() {
+		//  Two instances for verify the ketama sharding
+		return new ArrayList<>(EmbeddedMemcachedServer.instances(2));
+	}
 }